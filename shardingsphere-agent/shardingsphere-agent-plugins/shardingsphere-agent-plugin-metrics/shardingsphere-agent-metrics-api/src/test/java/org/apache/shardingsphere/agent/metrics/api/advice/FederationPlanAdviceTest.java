@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.fixture.FixtureWrapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class FederationPlanAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final FederationPlanAdvice federationPlanAdvice = new FederationPlanAdvice();
+    
+    @Mock
+    private Method prepareStatement;
+    
+    @Test
+    public void assertPlanLatency() throws InterruptedException {
+        MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
+        federationPlanAdvice.beforeMethod(targetObject, prepareStatement, new Object[]{}, new MethodInvocationResult());
+        Thread.sleep(50L);
+        federationPlanAdvice.afterMethod(targetObject, prepareStatement, new Object[]{}, new MethodInvocationResult());
+        assertTrue(MetricsPool.get(MetricIds.FEDERATION_PLAN_LATENCY_MILLIS).isPresent());
+        FixtureWrapper planWrapper = (FixtureWrapper) MetricsPool.get(MetricIds.FEDERATION_PLAN_LATENCY_MILLIS).get();
+        assertThat(planWrapper.getFixtureValue(), greaterThan(0.0));
+    }
+}
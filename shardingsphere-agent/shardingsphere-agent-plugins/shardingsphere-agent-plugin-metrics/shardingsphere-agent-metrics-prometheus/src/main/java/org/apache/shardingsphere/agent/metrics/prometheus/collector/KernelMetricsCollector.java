@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.infra.metrics.KernelMetricsRegistry;
+import org.apache.shardingsphere.infra.metrics.KernelStage;
+import org.apache.shardingsphere.infra.metrics.LatencyHistogram;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kernel metrics collector.
+ */
+public final class KernelMetricsCollector extends Collector {
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        Optional<GaugeMetricFamily> kernelMetrics = FACTORY.createGaugeMetricFamily(MetricIds.KERNEL_METRICS);
+        KernelMetricsRegistry registry = KernelMetricsRegistry.getInstance();
+        if (!kernelMetrics.isPresent() || !registry.isEnabled()) {
+            return Collections.emptyList();
+        }
+        for (KernelStage each : KernelStage.values()) {
+            addMetrics(kernelMetrics.get(), "stage", each.name(), registry.getStageHistogram(each));
+        }
+        for (Entry<String, Map<String, LatencyHistogram>> entry : registry.getDataSourceHistograms().entrySet()) {
+            for (Entry<String, LatencyHistogram> each : entry.getValue().entrySet()) {
+                addMetrics(kernelMetrics.get(), "data_source", String.join(".", entry.getKey(), each.getKey()), each.getValue());
+            }
+        }
+        return Collections.singletonList(kernelMetrics.get());
+    }
+    
+    private void addMetrics(final GaugeMetricFamily kernelMetrics, final String type, final String name, final LatencyHistogram histogram) {
+        kernelMetrics.addMetric(Arrays.asList(type, name, "count"), histogram.getCount());
+        kernelMetrics.addMetric(Arrays.asList(type, name, "mean_us"), TimeUnit.NANOSECONDS.toMicros(histogram.getMeanNanos()));
+        kernelMetrics.addMetric(Arrays.asList(type, name, "p50_us"), TimeUnit.NANOSECONDS.toMicros(histogram.getPercentileNanos(0.5D)));
+        kernelMetrics.addMetric(Arrays.asList(type, name, "p99_us"), TimeUnit.NANOSECONDS.toMicros(histogram.getPercentileNanos(0.99D)));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector.MetricFamilySamples;
+import org.apache.shardingsphere.infra.metrics.KernelMetricsRegistry;
+import org.apache.shardingsphere.infra.metrics.KernelStage;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class KernelMetricsCollectorTest {
+    
+    @After
+    public void tearDown() {
+        KernelMetricsRegistry.getInstance().setEnabled(false);
+        KernelMetricsRegistry.getInstance().reset();
+    }
+    
+    @Test
+    public void assertCollectWhenDisabled() {
+        KernelMetricsRegistry.getInstance().setEnabled(false);
+        assertTrue(new KernelMetricsCollector().collect().isEmpty());
+    }
+    
+    @Test
+    public void assertCollect() {
+        KernelMetricsRegistry.getInstance().reset();
+        KernelMetricsRegistry.getInstance().setEnabled(true);
+        KernelMetricsRegistry.getInstance().recordStage(KernelStage.PARSE, System.nanoTime());
+        KernelMetricsRegistry.getInstance().recordExecution("foo_db", "ds_0", System.nanoTime());
+        List<MetricFamilySamples> actual = new KernelMetricsCollector().collect();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).samples.size(), is((KernelStage.values().length + 1) * 4));
+        assertThat(actual.get(0).samples.get(0).labelValues.toString(), is("[stage, PARSE, count]"));
+        assertThat(actual.get(0).samples.get(0).value, is(1D));
+    }
+}
@@ -77,7 +77,9 @@ public enum MySQLCapabilityFlag {
     
     CLIENT_SESSION_TRACK(0x00800000),
     
-    CLIENT_DEPRECATE_EOF(0x01000000);
+    CLIENT_DEPRECATE_EOF(0x01000000),
+    
+    CLIENT_OPTIONAL_RESULTSET_METADATA(0x02000000);
     
     private final int value;
     
@@ -97,7 +99,7 @@ public enum MySQLCapabilityFlag {
      * @return handshake capability flags upper bit
      */
     public static int calculateHandshakeCapabilityFlagsUpper() {
-        return calculateCapabilityFlags(CLIENT_PLUGIN_AUTH) >> 16;
+        return calculateCapabilityFlags(CLIENT_PLUGIN_AUTH, CLIENT_OPTIONAL_RESULTSET_METADATA) >> 16;
     }
     
     /**
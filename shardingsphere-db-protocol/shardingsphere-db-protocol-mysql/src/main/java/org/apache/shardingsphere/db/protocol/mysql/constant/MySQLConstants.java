@@ -30,4 +30,6 @@ public final class MySQLConstants {
     public static final AttributeKey<MySQLCharacterSet> MYSQL_CHARACTER_SET_ATTRIBUTE_KEY = AttributeKey.valueOf(MySQLCharacterSet.class.getName());
     
     public static final AttributeKey<Integer> MYSQL_OPTION_MULTI_STATEMENTS = AttributeKey.valueOf("MYSQL_OPTION_MULTI_STATEMENTS");
+    
+    public static final AttributeKey<Boolean> MYSQL_OPTIONAL_RESULTSET_METADATA = AttributeKey.valueOf("MYSQL_OPTIONAL_RESULTSET_METADATA");
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.db.protocol.mysql.packet.command.query;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
@@ -35,6 +36,12 @@ public final class MySQLFieldCountPacket implements MySQLPacket {
     
     private final int columnCount;
     
+    private final MySQLResultSetMetadata resultSetMetadata;
+    
+    public MySQLFieldCountPacket(final int sequenceId, final int columnCount) {
+        this(sequenceId, columnCount, null);
+    }
+    
     public MySQLFieldCountPacket(final MySQLPacketPayload payload) {
         this(payload.readInt1(), payload.readInt1());
     }
@@ -42,5 +49,8 @@ public final class MySQLFieldCountPacket implements MySQLPacket {
     @Override
     public void write(final MySQLPacketPayload payload) {
         payload.writeIntLenenc(columnCount);
+        if (null != resultSetMetadata) {
+            payload.writeInt1(resultSetMetadata.getValue());
+        }
     }
 }
@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Binary prepared statement for MySQL.
@@ -36,4 +39,43 @@ public final class MySQLPreparedStatement {
     private final int parameterCount;
     
     private List<MySQLPreparedStatementParameterType> parameterTypes;
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile CachedColumnDefinitions cachedColumnDefinitions;
+    
+    /**
+     * Find column definitions built from query headers.
+     *
+     * <p>Query headers are cached per parameter types and meta data version, so column definitions are only reused for the same query headers instance.</p>
+     *
+     * @param queryHeaders query headers which column definitions built from
+     * @param characterSet MySQL character set id
+     * @return column definitions
+     */
+    public Optional<List<MySQLColumnDefinition41Packet>> findColumnDefinitions(final List<?> queryHeaders, final int characterSet) {
+        CachedColumnDefinitions result = cachedColumnDefinitions;
+        return null != result && queryHeaders == result.queryHeaders && characterSet == result.characterSet ? Optional.of(result.columnDefinitions) : Optional.empty();
+    }
+    
+    /**
+     * Cache column definitions built from query headers.
+     *
+     * @param queryHeaders query headers which column definitions built from
+     * @param characterSet MySQL character set id
+     * @param columnDefinitions column definitions
+     */
+    public void cacheColumnDefinitions(final List<?> queryHeaders, final int characterSet, final List<MySQLColumnDefinition41Packet> columnDefinitions) {
+        cachedColumnDefinitions = new CachedColumnDefinitions(queryHeaders, characterSet, columnDefinitions);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CachedColumnDefinitions {
+        
+        private final List<?> queryHeaders;
+        
+        private final int characterSet;
+        
+        private final List<MySQLColumnDefinition41Packet> columnDefinitions;
+    }
 }
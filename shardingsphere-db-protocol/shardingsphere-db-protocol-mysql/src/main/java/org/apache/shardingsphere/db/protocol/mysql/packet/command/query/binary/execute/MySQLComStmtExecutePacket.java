@@ -50,6 +50,7 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     
     private final int statementId;
     
+    @Getter
     private final MySQLPreparedStatement preparedStatement;
     
     private final int flags;
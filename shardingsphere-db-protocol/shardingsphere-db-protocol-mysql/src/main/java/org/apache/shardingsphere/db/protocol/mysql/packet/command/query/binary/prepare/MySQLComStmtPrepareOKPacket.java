@@ -19,6 +19,7 @@ package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
@@ -43,6 +44,12 @@ public final class MySQLComStmtPrepareOKPacket implements MySQLPacket {
     
     private final int warningCount;
     
+    private final MySQLResultSetMetadata resultSetMetadata;
+    
+    public MySQLComStmtPrepareOKPacket(final int sequenceId, final int statementId, final int columnCount, final int parameterCount, final int warningCount) {
+        this(sequenceId, statementId, columnCount, parameterCount, warningCount, null);
+    }
+    
     @Override
     public void write(final MySQLPacketPayload payload) {
         payload.writeInt1(STATUS);
@@ -52,5 +59,8 @@ public final class MySQLComStmtPrepareOKPacket implements MySQLPacket {
         payload.writeInt2(parameterCount);
         payload.writeReserved(1);
         payload.writeInt2(warningCount);
+        if (null != resultSetMetadata) {
+            payload.writeInt1(resultSetMetadata.getValue());
+        }
     }
 }
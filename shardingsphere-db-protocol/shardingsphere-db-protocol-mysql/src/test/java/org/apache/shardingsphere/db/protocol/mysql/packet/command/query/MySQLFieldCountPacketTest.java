@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query;
 
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -25,6 +26,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,5 +45,13 @@ public final class MySQLFieldCountPacketTest {
         assertThat(actual.getColumnCount(), is(3));
         actual.write(payload);
         verify(payload).writeIntLenenc(3);
+        verify(payload, never()).writeInt1(anyInt());
+    }
+    
+    @Test
+    public void assertWriteWithResultSetMetadata() {
+        new MySQLFieldCountPacket(1, 3, MySQLResultSetMetadata.RESULTSET_METADATA_NONE).write(payload);
+        verify(payload).writeIntLenenc(3);
+        verify(payload).writeInt1(MySQLResultSetMetadata.RESULTSET_METADATA_NONE.getValue());
     }
 }
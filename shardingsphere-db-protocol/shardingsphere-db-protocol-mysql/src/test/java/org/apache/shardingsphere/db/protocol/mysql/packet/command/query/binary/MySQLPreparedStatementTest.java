@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
+
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class MySQLPreparedStatementTest {
+    
+    @Test
+    public void assertFindColumnDefinitions() {
+        MySQLPreparedStatement preparedStatement = new MySQLPreparedStatement("SELECT id FROM t_order WHERE id = ?", 1);
+        List<Object> queryHeaders = Collections.singletonList(new Object());
+        assertFalse(preparedStatement.findColumnDefinitions(queryHeaders, 33).isPresent());
+        List<MySQLColumnDefinition41Packet> columnDefinitions = Collections.singletonList(mock(MySQLColumnDefinition41Packet.class));
+        preparedStatement.cacheColumnDefinitions(queryHeaders, 33, columnDefinitions);
+        Optional<List<MySQLColumnDefinition41Packet>> actual = preparedStatement.findColumnDefinitions(queryHeaders, 33);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(columnDefinitions));
+    }
+    
+    @Test
+    public void assertFindColumnDefinitionsWithOtherQueryHeaders() {
+        MySQLPreparedStatement preparedStatement = new MySQLPreparedStatement("SELECT id FROM t_order WHERE id = ?", 1);
+        Object queryHeader = new Object();
+        preparedStatement.cacheColumnDefinitions(Collections.singletonList(queryHeader), 33, Collections.singletonList(mock(MySQLColumnDefinition41Packet.class)));
+        assertFalse(preparedStatement.findColumnDefinitions(Collections.singletonList(queryHeader), 33).isPresent());
+    }
+    
+    @Test
+    public void assertFindColumnDefinitionsWithChangedCharacterSet() {
+        MySQLPreparedStatement preparedStatement = new MySQLPreparedStatement("SELECT id FROM t_order WHERE id = ?", 1);
+        List<Object> queryHeaders = Collections.singletonList(new Object());
+        preparedStatement.cacheColumnDefinitions(queryHeaders, 33, Collections.singletonList(mock(MySQLColumnDefinition41Packet.class)));
+        assertFalse(preparedStatement.findColumnDefinitions(queryHeaders, 255).isPresent());
+    }
+}
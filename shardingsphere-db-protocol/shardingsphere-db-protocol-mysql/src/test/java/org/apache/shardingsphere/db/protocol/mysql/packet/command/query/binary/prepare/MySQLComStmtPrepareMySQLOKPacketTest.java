@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.prepare;
 
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -45,4 +46,12 @@ public final class MySQLComStmtPrepareMySQLOKPacketTest {
         verify(payload).writeInt4(1);
         verify(payload).writeReserved(1);
     }
+    
+    @Test
+    public void assertWriteWithResultSetMetadata() {
+        MySQLComStmtPrepareOKPacket actual = new MySQLComStmtPrepareOKPacket(1, 1, 0, 1, 0, MySQLResultSetMetadata.RESULTSET_METADATA_FULL);
+        actual.write(payload);
+        verify(payload).writeInt1(0x00);
+        verify(payload).writeInt1(MySQLResultSetMetadata.RESULTSET_METADATA_FULL.getValue());
+    }
 }
@@ -179,6 +179,10 @@ METADATA
     : M E T A D A T A
     ;
 
+STATISTICS
+    : S T A T I S T I C S
+    ;
+
 SQL_PARSER
     : S Q L UL_ P A R S E R
     ;
@@ -314,3 +318,11 @@ APPLY
 DISCARD
     : D I S C A R D
     ;
+
+KERNEL
+    : K E R N E L
+    ;
+
+METRICS
+    : M E T R I C S
+    ;
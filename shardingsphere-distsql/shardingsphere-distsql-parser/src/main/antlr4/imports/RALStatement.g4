@@ -59,6 +59,14 @@ showTableMetadata
     : SHOW TABLE METADATA tableName (COMMA tableName*)? (FROM schemaName)?
     ;
 
+refreshTableStatistics
+    : REFRESH TABLE STATISTICS (tableName (COMMA tableName)*)?
+    ;
+
+showTableStatistics
+    : SHOW TABLE STATISTICS (tableName (COMMA tableName)*)? (FROM schemaName)?
+    ;
+
 showAuthorityRule
     : SHOW AUTHORITY RULE
     ;
@@ -83,6 +91,10 @@ showInstanceMode
     : SHOW INSTANCE MODE
     ;
 
+showKernelMetrics
+    : SHOW KERNEL METRICS
+    ;
+
 createTrafficRule
     : CREATE TRAFFIC RULE trafficRuleDefinition (COMMA trafficRuleDefinition)* 
     ;
@@ -33,6 +33,7 @@ execute
     | disableInstance
     | showInstance
     | showInstanceMode
+    | showKernelMetrics
     | labelInstance
     | unlabelInstance
     | countInstanceRules
@@ -48,6 +49,8 @@ execute
     | dropDefaultSingleTableRule
     | refreshTableMetadata
     | showTableMetadata
+    | refreshTableStatistics
+    | showTableStatistics
     | showSQLParserRule
     | alterSQLParserRule
     | showAuthorityRule
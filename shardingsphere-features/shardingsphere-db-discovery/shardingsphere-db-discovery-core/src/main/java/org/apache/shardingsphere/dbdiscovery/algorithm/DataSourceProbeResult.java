@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.dbdiscovery.algorithm;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.dbdiscovery.spi.ReplicaDataSourceStatus;
+
+/**
+ * Data source probe result.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+final class DataSourceProbeResult {
+    
+    private final boolean primary;
+    
+    private final ReplicaDataSourceStatus replicaStatus;
+    
+    private final long probedMillis;
+    
+    /**
+     * Create probe result of primary data source.
+     *
+     * @return probe result
+     */
+    public static DataSourceProbeResult primary() {
+        return new DataSourceProbeResult(true, null, 0L);
+    }
+    
+    /**
+     * Create probe result of replica data source.
+     *
+     * @param replicaStatus replica status
+     * @param probedMillis milliseconds when probe started
+     * @return probe result
+     */
+    public static DataSourceProbeResult replica(final ReplicaDataSourceStatus replicaStatus, final long probedMillis) {
+        return new DataSourceProbeResult(false, replicaStatus, probedMillis);
+    }
+    
+    /**
+     * Create probe result of unreachable data source.
+     *
+     * @return probe result
+     */
+    public static DataSourceProbeResult unreachable() {
+        return new DataSourceProbeResult(false, new ReplicaDataSourceStatus(false, 0L), 0L);
+    }
+}
@@ -17,7 +17,7 @@
 
 package org.apache.shardingsphere.dbdiscovery.algorithm;
 
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.dbdiscovery.spi.DatabaseDiscoveryProviderAlgorithm;
 import org.apache.shardingsphere.dbdiscovery.spi.ReplicaDataSourceStatus;
@@ -25,7 +25,10 @@ import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.schema.QualifiedDatabase;
+import org.apache.shardingsphere.mode.metadata.storage.ReplicationDelayObservation;
+import org.apache.shardingsphere.mode.metadata.storage.ReplicationDelayObservationRegistry;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeDataSource;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeRole;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeStatus;
@@ -36,21 +39,73 @@ import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
  * Database discovery engine.
+ * 
+ * <p>Data sources are probed concurrently with timeout on a bounded pool owned by the engine, a probe still running since last heartbeat is awaited instead of being submitted again.
+ * Data source disabled events are posted only if status of replica changed since last heartbeat, which includes crossing the replication delay threshold.
+ * Replication delay of online replica is renewed in memory on every probe with the time probe started, so it is never taken as current when heartbeat stops.
+ * Engine is closed with its rule, nothing is posted by a heartbeat which ends after the engine closed.</p>
  */
-@RequiredArgsConstructor
 @Slf4j
-public final class DatabaseDiscoveryEngine {
+public final class DatabaseDiscoveryEngine implements AutoCloseable {
+    
+    public static final long DEFAULT_PROBE_TIMEOUT_MILLISECONDS = 1000L;
+    
+    private static final int DEFAULT_MAX_PROBE_THREADS = 8;
+    
+    private static final long PROBE_THREAD_KEEP_ALIVE_SECONDS = 60L;
     
     private final DatabaseDiscoveryProviderAlgorithm databaseDiscoveryProviderAlgorithm;
     
+    private final long probeTimeoutMilliseconds;
+    
+    private final ExecutorService probeExecutor;
+    
+    private final Map<String, Future<DataSourceProbeResult>> runningProbes = new ConcurrentHashMap<>();
+    
+    private final Map<String, StorageNodeDataSource> postedReplicaDataSources = new ConcurrentHashMap<>();
+    
+    @Getter
+    private final Map<String, Long> probeLatencyMilliseconds = new ConcurrentHashMap<>();
+    
+    public DatabaseDiscoveryEngine(final DatabaseDiscoveryProviderAlgorithm databaseDiscoveryProviderAlgorithm) {
+        this(databaseDiscoveryProviderAlgorithm, DEFAULT_PROBE_TIMEOUT_MILLISECONDS);
+    }
+    
+    public DatabaseDiscoveryEngine(final DatabaseDiscoveryProviderAlgorithm databaseDiscoveryProviderAlgorithm, final long probeTimeoutMilliseconds) {
+        this(databaseDiscoveryProviderAlgorithm, probeTimeoutMilliseconds, DEFAULT_MAX_PROBE_THREADS);
+    }
+    
+    public DatabaseDiscoveryEngine(final DatabaseDiscoveryProviderAlgorithm databaseDiscoveryProviderAlgorithm, final long probeTimeoutMilliseconds, final int maxProbeThreads) {
+        this.databaseDiscoveryProviderAlgorithm = databaseDiscoveryProviderAlgorithm;
+        this.probeTimeoutMilliseconds = probeTimeoutMilliseconds;
+        probeExecutor = createProbeExecutor(maxProbeThreads);
+    }
+    
+    private ExecutorService createProbeExecutor(final int maxProbeThreads) {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(maxProbeThreads, maxProbeThreads, PROBE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), ExecutorThreadFactoryBuilder.build("DatabaseDiscovery-Probe-%d"));
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
     /**
      * Check environment of database cluster.
      *
@@ -79,46 +134,57 @@ public final class DatabaseDiscoveryEngine {
      */
     public String changePrimaryDataSource(final String databaseName, final String groupName, final String originalPrimaryDataSourceName,
                                           final Map<String, DataSource> dataSourceMap, final Collection<String> disabledDataSourceNames) {
-        Optional<String> newPrimaryDataSourceName = findPrimaryDataSourceName(dataSourceMap, disabledDataSourceNames);
+        Map<String, DataSourceProbeResult> probeResults = probe(dataSourceMap, disabledDataSourceNames);
+        if (probeExecutor.isShutdown()) {
+            return originalPrimaryDataSourceName;
+        }
+        Optional<String> newPrimaryDataSourceName = findPrimaryDataSourceName(originalPrimaryDataSourceName, probeResults);
         if (newPrimaryDataSourceName.isPresent() && !newPrimaryDataSourceName.get().equals(originalPrimaryDataSourceName)) {
             ShardingSphereEventBus.getInstance().post(new PrimaryDataSourceChangedEvent(new QualifiedDatabase(databaseName, groupName, newPrimaryDataSourceName.get())));
         }
         String result = newPrimaryDataSourceName.orElse(originalPrimaryDataSourceName);
-        postReplicaDataSourceDisabledEvent(databaseName, groupName, result, dataSourceMap);
+        postReplicaDataSourceDisabledEvent(databaseName, groupName, result, probeResults);
         return result;
     }
     
-    private Optional<String> findPrimaryDataSourceName(final Map<String, DataSource> dataSourceMap, final Collection<String> disabledDataSourceNames) {
-        for (Entry<String, DataSource> entry : getActiveDataSourceMap(dataSourceMap, disabledDataSourceNames).entrySet()) {
-            try {
-                if (databaseDiscoveryProviderAlgorithm.isPrimaryInstance(entry.getValue())) {
-                    return Optional.of(entry.getKey());
-                }
-            } catch (final SQLException ex) {
-                log.error("An exception occurred while judge primary data source: ", ex);
+    private Map<String, DataSourceProbeResult> probe(final Map<String, DataSource> dataSourceMap, final Collection<String> disabledDataSourceNames) {
+        Map<String, Future<DataSourceProbeResult>> futures = new LinkedHashMap<>(dataSourceMap.size(), 1);
+        try {
+            for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
+                futures.put(entry.getKey(), submitProbe(entry.getKey(), entry.getValue(), !disabledDataSourceNames.contains(entry.getKey())));
             }
+        } catch (final RejectedExecutionException ex) {
+            return Collections.emptyMap();
         }
-        return Optional.empty();
-    }
-    
-    private Map<String, DataSource> getActiveDataSourceMap(final Map<String, DataSource> dataSourceMap, final Collection<String> disabledDataSourceNames) {
-        Map<String, DataSource> result = new HashMap<>(dataSourceMap);
-        if (!disabledDataSourceNames.isEmpty()) {
-            result.entrySet().removeIf(each -> disabledDataSourceNames.contains(each.getKey()));
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(probeTimeoutMilliseconds);
+        Map<String, DataSourceProbeResult> result = new LinkedHashMap<>(futures.size(), 1);
+        for (Entry<String, Future<DataSourceProbeResult>> entry : futures.entrySet()) {
+            result.put(entry.getKey(), getProbeResult(entry.getKey(), entry.getValue(), deadlineNanos));
         }
         return result;
     }
     
-    private void postReplicaDataSourceDisabledEvent(final String databaseName, final String groupName, final String primaryDataSourceName, final Map<String, DataSource> dataSourceMap) {
-        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
-            if (!entry.getKey().equals(primaryDataSourceName)) {
-                ShardingSphereEventBus.getInstance().post(new DataSourceDisabledEvent(databaseName, groupName, entry.getKey(), createStorageNodeDataSource(loadReplicaStatus(entry.getValue()))));
-            }
+    private Future<DataSourceProbeResult> submitProbe(final String dataSourceName, final DataSource dataSource, final boolean active) {
+        return runningProbes.compute(dataSourceName,
+                (key, running) -> null == running || running.isDone() ? probeExecutor.submit(() -> probeDataSource(dataSourceName, dataSource, active)) : running);
+    }
+    
+    private DataSourceProbeResult probeDataSource(final String dataSourceName, final DataSource dataSource, final boolean active) {
+        long startMillis = System.currentTimeMillis();
+        try {
+            return active && isPrimaryInstance(dataSource) ? DataSourceProbeResult.primary() : DataSourceProbeResult.replica(loadReplicaStatus(dataSource), startMillis);
+        } finally {
+            probeLatencyMilliseconds.put(dataSourceName, System.currentTimeMillis() - startMillis);
         }
     }
     
-    private StorageNodeDataSource createStorageNodeDataSource(final ReplicaDataSourceStatus replicaStatus) {
-        return new StorageNodeDataSource(StorageNodeRole.MEMBER, replicaStatus.isOnline() ? StorageNodeStatus.ENABLED : StorageNodeStatus.DISABLED, replicaStatus.getReplicationDelayMilliseconds());
+    private boolean isPrimaryInstance(final DataSource dataSource) {
+        try {
+            return databaseDiscoveryProviderAlgorithm.isPrimaryInstance(dataSource);
+        } catch (final SQLException ex) {
+            log.error("An exception occurred while judge primary data source: ", ex);
+            return false;
+        }
     }
     
     private ReplicaDataSourceStatus loadReplicaStatus(final DataSource replicaDataSource) {
@@ -129,4 +195,65 @@ public final class DatabaseDiscoveryEngine {
             return new ReplicaDataSourceStatus(false, 0L);
         }
     }
+    
+    private DataSourceProbeResult getProbeResult(final String dataSourceName, final Future<DataSourceProbeResult> future, final long deadlineNanos) {
+        try {
+            return future.get(Math.max(deadlineNanos - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException ex) {
+            log.warn("Probe data source `{}` timeout after {} milliseconds.", dataSourceName, probeTimeoutMilliseconds);
+            probeLatencyMilliseconds.merge(dataSourceName, probeTimeoutMilliseconds, Math::max);
+        } catch (final CancellationException ex) {
+            log.warn("Probe data source `{}` is cancelled.", dataSourceName);
+        } catch (final ExecutionException ex) {
+            log.error("Probe data source `{}` error: ", dataSourceName, ex.getCause());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return DataSourceProbeResult.unreachable();
+    }
+    
+    private Optional<String> findPrimaryDataSourceName(final String originalPrimaryDataSourceName, final Map<String, DataSourceProbeResult> probeResults) {
+        DataSourceProbeResult originalPrimaryProbeResult = probeResults.get(originalPrimaryDataSourceName);
+        if (null != originalPrimaryProbeResult && originalPrimaryProbeResult.isPrimary()) {
+            return Optional.of(originalPrimaryDataSourceName);
+        }
+        return probeResults.entrySet().stream().filter(entry -> entry.getValue().isPrimary()).map(Entry::getKey).findFirst();
+    }
+    
+    private void postReplicaDataSourceDisabledEvent(final String databaseName, final String groupName, final String primaryDataSourceName, final Map<String, DataSourceProbeResult> probeResults) {
+        postedReplicaDataSources.remove(primaryDataSourceName);
+        ReplicationDelayObservationRegistry.getInstance().remove(databaseName, primaryDataSourceName);
+        for (Entry<String, DataSourceProbeResult> entry : probeResults.entrySet()) {
+            if (entry.getKey().equals(primaryDataSourceName)) {
+                continue;
+            }
+            // Another primary instance which is not selected means split brain, it is disabled because it does not replicate from selected primary.
+            ReplicaDataSourceStatus replicaStatus = entry.getValue().isPrimary() ? new ReplicaDataSourceStatus(false, 0L) : entry.getValue().getReplicaStatus();
+            renewReplicationDelayObservation(databaseName, entry.getKey(), replicaStatus, entry.getValue().getProbedMillis());
+            StorageNodeDataSource storageNodeDataSource = createStorageNodeDataSource(replicaStatus);
+            StorageNodeDataSource posted = postedReplicaDataSources.get(entry.getKey());
+            if (null == posted || !posted.getStatus().equals(storageNodeDataSource.getStatus())) {
+                postedReplicaDataSources.put(entry.getKey(), storageNodeDataSource);
+                ShardingSphereEventBus.getInstance().post(new DataSourceDisabledEvent(databaseName, groupName, entry.getKey(), storageNodeDataSource));
+            }
+        }
+    }
+    
+    private void renewReplicationDelayObservation(final String databaseName, final String dataSourceName, final ReplicaDataSourceStatus replicaStatus, final long probedMillis) {
+        if (replicaStatus.isOnline()) {
+            ReplicationDelayObservationRegistry.getInstance().renew(databaseName, dataSourceName, new ReplicationDelayObservation(replicaStatus.getReplicationDelayMilliseconds(), probedMillis));
+        } else {
+            ReplicationDelayObservationRegistry.getInstance().remove(databaseName, dataSourceName);
+        }
+    }
+    
+    private StorageNodeDataSource createStorageNodeDataSource(final ReplicaDataSourceStatus replicaStatus) {
+        return new StorageNodeDataSource(StorageNodeRole.MEMBER, replicaStatus.isOnline() ? StorageNodeStatus.ENABLED : StorageNodeStatus.DISABLED, replicaStatus.getReplicationDelayMilliseconds());
+    }
+    
+    @Override
+    public void close() {
+        probeExecutor.shutdownNow();
+        runningProbes.clear();
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.dbdiscovery.rule;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import lombok.Getter;
+import org.apache.shardingsphere.dbdiscovery.algorithm.DatabaseDiscoveryEngine;
 import org.apache.shardingsphere.dbdiscovery.api.config.rule.DatabaseDiscoveryDataSourceRuleConfiguration;
 import org.apache.shardingsphere.dbdiscovery.spi.DatabaseDiscoveryProviderAlgorithm;
 
@@ -38,6 +39,8 @@ import java.util.stream.Collectors;
 @Getter
 public final class DatabaseDiscoveryDataSourceRule {
     
+    private static final String PROBE_TIMEOUT_MILLISECONDS_KEY = "probe-timeout-milliseconds";
+    
     private final String groupName;
     
     private final List<String> dataSourceNames;
@@ -46,6 +49,8 @@ public final class DatabaseDiscoveryDataSourceRule {
     
     private final DatabaseDiscoveryProviderAlgorithm databaseDiscoveryProviderAlgorithm;
     
+    private final DatabaseDiscoveryEngine databaseDiscoveryEngine;
+    
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
     private volatile String primaryDataSourceName;
@@ -57,6 +62,8 @@ public final class DatabaseDiscoveryDataSourceRule {
         dataSourceNames = config.getDataSourceNames();
         this.heartbeatProps = props;
         this.databaseDiscoveryProviderAlgorithm = databaseDiscoveryProviderAlgorithm;
+        long probeTimeoutMilliseconds = Long.parseLong(props.getProperty(PROBE_TIMEOUT_MILLISECONDS_KEY, String.valueOf(DatabaseDiscoveryEngine.DEFAULT_PROBE_TIMEOUT_MILLISECONDS)));
+        databaseDiscoveryEngine = new DatabaseDiscoveryEngine(databaseDiscoveryProviderAlgorithm, probeTimeoutMilliseconds, dataSourceNames.size());
     }
     
     private void checkConfiguration(final DatabaseDiscoveryDataSourceRuleConfiguration config) {
@@ -60,7 +60,7 @@ import java.util.stream.Collectors;
 /**
  * Database discovery rule.
  */
-public final class DatabaseDiscoveryRule implements SchemaRule, DataSourceContainedRule, StatusContainedRule, ExportableRule, InstanceAwareRule {
+public final class DatabaseDiscoveryRule implements SchemaRule, DataSourceContainedRule, StatusContainedRule, ExportableRule, InstanceAwareRule, AutoCloseable {
     
     private final Map<String, DatabaseDiscoveryProviderAlgorithm> discoveryTypes;
     
@@ -111,7 +111,7 @@ public final class DatabaseDiscoveryRule implements SchemaRule, DataSourceContai
         for (Entry<String, DatabaseDiscoveryDataSourceRule> entry : dataSourceRules.entrySet()) {
             String groupName = entry.getKey();
             DatabaseDiscoveryDataSourceRule dataSourceRule = entry.getValue();
-            DatabaseDiscoveryEngine engine = new DatabaseDiscoveryEngine(dataSourceRule.getDatabaseDiscoveryProviderAlgorithm());
+            DatabaseDiscoveryEngine engine = dataSourceRule.getDatabaseDiscoveryEngine();
             Map<String, DataSource> originalDataSourceMap = new HashMap<>(dataSourceMap);
             try {
                 engine.checkEnvironment(databaseName, originalDataSourceMap);
@@ -194,7 +194,7 @@ public final class DatabaseDiscoveryRule implements SchemaRule, DataSourceContai
                         .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
                 String jobName = rule.getDatabaseDiscoveryProviderAlgorithm().getType() + "-" + databaseName + "-" + rule.getGroupName();
                 CronJob job = new CronJob(jobName, each -> new HeartbeatJob(databaseName, rule.getGroupName(), rule.getPrimaryDataSourceName(), dataSources,
-                        rule.getDatabaseDiscoveryProviderAlgorithm(), rule.getDisabledDataSourceNames()).execute(null), rule.getHeartbeatProps().getProperty("keep-alive-cron"));
+                        rule.getDatabaseDiscoveryEngine(), rule.getDisabledDataSourceNames()).execute(null), rule.getHeartbeatProps().getProperty("keep-alive-cron"));
                 modeScheduleContext.get().startCronJob(job);
             }
         }
@@ -209,4 +209,9 @@ public final class DatabaseDiscoveryRule implements SchemaRule, DataSourceContai
     public void setInstanceContext(final InstanceContext instanceContext) {
         initHeartBeatJobs(instanceContext);
     }
+    
+    @Override
+    public void close() {
+        dataSourceRules.values().forEach(each -> each.getDatabaseDiscoveryEngine().close());
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.dbdiscovery.algorithm;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.dbdiscovery.spi.DatabaseDiscoveryProviderAlgorithm;
+import org.apache.shardingsphere.dbdiscovery.spi.ReplicaDataSourceStatus;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.mode.metadata.storage.ReplicationDelayObservation;
+import org.apache.shardingsphere.mode.metadata.storage.ReplicationDelayObservationRegistry;
+import org.apache.shardingsphere.mode.metadata.storage.event.DataSourceDisabledEvent;
+import org.apache.shardingsphere.mode.metadata.storage.event.PrimaryDataSourceChangedEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class DatabaseDiscoveryEngineTest {
+    
+    @Mock
+    private DatabaseDiscoveryProviderAlgorithm databaseDiscoveryProviderAlgorithm;
+    
+    private final Collection<Object> postedEvents = new LinkedList<>();
+    
+    private final Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(3, 1);
+    
+    @Before
+    public void setUp() throws SQLException {
+        ShardingSphereEventBus.getInstance().register(this);
+        dataSourceMap.put("primary_ds", mock(DataSource.class));
+        dataSourceMap.put("replica_ds_0", mock(DataSource.class));
+        dataSourceMap.put("replica_ds_1", mock(DataSource.class));
+        when(databaseDiscoveryProviderAlgorithm.isPrimaryInstance(dataSourceMap.get("primary_ds"))).thenReturn(true);
+    }
+    
+    @After
+    public void tearDown() {
+        ShardingSphereEventBus.getInstance().unregister(this);
+    }
+    
+    @Subscribe
+    private void collect(final Object event) {
+        postedEvents.add(event);
+    }
+    
+    @Test
+    public void assertChangePrimaryDataSource() throws SQLException {
+        when(databaseDiscoveryProviderAlgorithm.loadReplicaStatus(dataSourceMap.get("replica_ds_0"))).thenReturn(new ReplicaDataSourceStatus(true, 0L));
+        when(databaseDiscoveryProviderAlgorithm.loadReplicaStatus(dataSourceMap.get("replica_ds_1"))).thenReturn(new ReplicaDataSourceStatus(true, 0L));
+        DatabaseDiscoveryEngine engine = new DatabaseDiscoveryEngine(databaseDiscoveryProviderAlgorithm);
+        assertThat(engine.changePrimaryDataSource("db", "group", "replica_ds_0", dataSourceMap, Collections.emptyList()), is("primary_ds"));
+        assertThat(countEvents(PrimaryDataSourceChangedEvent.class), is(1L));
+        assertThat(countEvents(DataSourceDisabledEvent.class), is(2L));
+        assertThat(engine.getProbeLatencyMilliseconds().size(), is(3));
+    }
+    
+    @Test
+    public void assertChangePrimaryDataSourcePostsDisabledEventOnlyOnChange() throws SQLException {
+        when(databaseDiscoveryProviderAlgorithm.loadReplicaStatus(dataSourceMap.get("replica_ds_0"))).thenReturn(new ReplicaDataSourceStatus(true, 0L));
+        when(databaseDiscoveryProviderAlgorithm.loadReplicaStatus(dataSourceMap.get("replica_ds_1")))
+                .thenReturn(new ReplicaDataSourceStatus(true, 0L), new ReplicaDataSourceStatus(true, 0L), new ReplicaDataSourceStatus(false, 0L));
+        DatabaseDiscoveryEngine engine = new DatabaseDiscoveryEngine(databaseDiscoveryProviderAlgorithm);
+        engine.changePrimaryDataSource("db", "group", "primary_ds", dataSourceMap, Collections.emptyList());
+        assertThat(countEvents(DataSourceDisabledEvent.class), is(2L));
+        engine.changePrimaryDataSource("db", "group", "primary_ds", dataSourceMap, Collections.emptyList());
+        assertThat(countEvents(DataSourceDisabledEvent.class), is(2L));
+        engine.changePrimaryDataSource("db", "group", "primary_ds", dataSourceMap, Collections.emptyList());
+        assertThat(countEvents(DataSourceDisabledEvent.class), is(3L));
+        assertThat(countEvents(PrimaryDataSourceChangedEvent.class), is(0L));
+    }
+    
+    @Test
+    public void assertChangePrimaryDataSourceRenewsReplicationDelayObservationOnEveryProbe() throws SQLException, InterruptedException {
+        when(databaseDiscoveryProviderAlgorithm.loadReplicaStatus(dataSourceMap.get("replica_ds_0"))).thenReturn(new ReplicaDataSourceStatus(true, 0L));
+        when(databaseDiscoveryProviderAlgorithm.loadReplicaStatus(dataSourceMap.get("replica_ds_1")))
+                .thenReturn(new ReplicaDataSourceStatus(true, 1000L), new ReplicaDataSourceStatus(true, 1000L), new ReplicaDataSourceStatus(false, 0L));
+        DatabaseDiscoveryEngine engine = new DatabaseDiscoveryEngine(databaseDiscoveryProviderAlgorithm);
+        engine.changePrimaryDataSource("observed_db", "group", "primary_ds", dataSourceMap, Collections.emptyList());
+        ReplicationDelayObservation firstObservation = ReplicationDelayObservationRegistry.getInstance().findObservation("observed_db", "replica_ds_1").get();
+        assertThat(firstObservation.getReplicationDelayMilliseconds(), is(1000L));
+        Thread.sleep(10L);
+        engine.changePrimaryDataSource("observed_db", "group", "primary_ds", dataSourceMap, Collections.emptyList());
+        ReplicationDelayObservation secondObservation = ReplicationDelayObservationRegistry.getInstance().findObservation("observed_db", "replica_ds_1").get();
+        assertThat(secondObservation.getReplicationDelayMilliseconds(), is(1000L));
+        assertTrue(secondObservation.getObservedMillis() > firstObservation.getObservedMillis());
+        assertThat(countEvents(DataSourceDisabledEvent.class), is(2L));
+        assertFalse(ReplicationDelayObservationRegistry.getInstance().findObservation("observed_db", "primary_ds").isPresent());
+        engine.changePrimaryDataSource("observed_db", "group", "primary_ds", dataSourceMap, Collections.emptyList());
+        assertFalse(ReplicationDelayObservationRegistry.getInstance().findObservation("observed_db", "replica_ds_1").isPresent());
+    }
+    
+    @Test
+    public void assertChangePrimaryDataSourceWithOtherPrimaryInstance() throws SQLException {
+        when(databaseDiscoveryProviderAlgorithm.isPrimaryInstance(dataSourceMap.get("replica_ds_0"))).thenReturn(true);
+        when(databaseDiscoveryProviderAlgorithm.loadReplicaStatus(dataSourceMap.get("replica_ds_1"))).thenReturn(new ReplicaDataSourceStatus(true, 0L));
+        DatabaseDiscoveryEngine engine = new DatabaseDiscoveryEngine(databaseDiscoveryProviderAlgorithm);
+        assertThat(engine.changePrimaryDataSource("split_brain_db", "group", "primary_ds", dataSourceMap, Collections.emptyList()), is("primary_ds"));
+        assertTrue(postedEvents.stream().anyMatch(each -> each instanceof DataSourceDisabledEvent
+                && "replica_ds_0".equals(((DataSourceDisabledEvent) each).getDataSourceName()) && "disabled".equals(((DataSourceDisabledEvent) each).getStorageNodeDataSource().getStatus())));
+        assertFalse(ReplicationDelayObservationRegistry.getInstance().findObservation("split_brain_db", "replica_ds_0").isPresent());
+    }
+    
+    @Test
+    public void assertChangePrimaryDataSourceAfterClosed() {
+        DatabaseDiscoveryEngine engine = new DatabaseDiscoveryEngine(databaseDiscoveryProviderAlgorithm);
+        assertThat(engine.changePrimaryDataSource("db", "group", "primary_ds", dataSourceMap, Collections.emptyList()), is("primary_ds"));
+        int postedEventCount = postedEvents.size();
+        engine.close();
+        assertThat(engine.changePrimaryDataSource("db", "group", "replica_ds_0", dataSourceMap, Collections.emptyList()), is("replica_ds_0"));
+        assertThat(postedEvents.size(), is(postedEventCount));
+    }
+    
+    @Test
+    public void assertChangePrimaryDataSourceWithHungReplica() throws SQLException {
+        when(databaseDiscoveryProviderAlgorithm.loadReplicaStatus(dataSourceMap.get("replica_ds_0"))).thenReturn(new ReplicaDataSourceStatus(true, 0L));
+        when(databaseDiscoveryProviderAlgorithm.loadReplicaStatus(dataSourceMap.get("replica_ds_1"))).thenAnswer(invocation -> {
+            Thread.sleep(2000L);
+            return new ReplicaDataSourceStatus(true, 0L);
+        });
+        DatabaseDiscoveryEngine engine = new DatabaseDiscoveryEngine(databaseDiscoveryProviderAlgorithm, 100L);
+        long startMillis = System.currentTimeMillis();
+        assertThat(engine.changePrimaryDataSource("db", "group", "primary_ds", dataSourceMap, Collections.emptyList()), is("primary_ds"));
+        assertTrue(System.currentTimeMillis() - startMillis < 1000L);
+        assertTrue(postedEvents.stream().anyMatch(each -> each instanceof DataSourceDisabledEvent
+                && "replica_ds_1".equals(((DataSourceDisabledEvent) each).getDataSourceName()) && "disabled".equals(((DataSourceDisabledEvent) each).getStorageNodeDataSource().getStatus())));
+        assertTrue(engine.getProbeLatencyMilliseconds().get("replica_ds_1") >= 100L);
+    }
+    
+    private long countEvents(final Class<?> eventClass) {
+        return postedEvents.stream().filter(eventClass::isInstance).count();
+    }
+}
@@ -25,14 +25,13 @@ import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -47,10 +46,16 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     
     private byte[] secretKey;
     
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    private ThreadLocal<Cipher> decryptCipher;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
         secretKey = createSecretKey(props);
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
     }
     
     private byte[] createSecretKey(final Properties props) {
@@ -59,29 +64,44 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     }
     
     @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode) {
+        Cipher result = Cipher.getInstance(getType());
+        result.init(cipherMode, new SecretKeySpec(secretKey, getType()));
+        return result;
+    }
+    
     @Override
     public String encrypt(final Object plainValue, final EncryptContext encryptContext) {
-        if (null == plainValue) {
-            return null;
+        return null == plainValue ? null : encrypt(encryptCipher.get(), plainValue);
+    }
+    
+    private String encrypt(final Cipher cipher, final Object plainValue) {
+        return Base64.getEncoder().encodeToString(doFinal(cipher, encryptCipher, String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    @Override
+    public List<String> batchEncrypt(final List<Object> plainValues, final EncryptContext encryptContext) {
+        Cipher cipher = encryptCipher.get();
+        List<String> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(null == each ? null : encrypt(cipher, each));
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
-        return Base64.getEncoder().encodeToString(result);
+        return result;
     }
     
-    @SneakyThrows(GeneralSecurityException.class)
     @Override
     public Object decrypt(final String cipherValue, final EncryptContext encryptContext) {
-        if (null == cipherValue) {
-            return null;
-        }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue));
-        return new String(result, StandardCharsets.UTF_8);
+        return null == cipherValue ? null : new String(doFinal(decryptCipher.get(), decryptCipher, Base64.getDecoder().decode(cipherValue)), StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
-        return result;
+    @SneakyThrows(GeneralSecurityException.class)
+    private byte[] doFinal(final Cipher cipher, final ThreadLocal<Cipher> cachedCipher, final byte[] input) {
+        try {
+            return cipher.doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            cachedCipher.remove();
+            throw ex;
+        }
     }
     
     @Override
@@ -20,10 +20,12 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.PrimitiveValueUtil;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Optional;
 
@@ -37,6 +39,12 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private boolean[] resolvedColumns = new boolean[0];
+    
+    private EncryptAlgorithm<?, ?>[] encryptAlgorithms = new EncryptAlgorithm<?, ?>[0];
+    
+    private EncryptContext[] encryptContexts = new EncryptContext[0];
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -45,16 +53,59 @@ public final class EncryptMergedResult implements MergedResult {
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<EncryptContext> encryptContext = metaData.findEncryptContext(columnIndex);
-        if (!encryptContext.isPresent() || !metaData.isQueryWithCipherColumn(encryptContext.get().getTableName())) {
-            return mergedResult.getValue(columnIndex, type);
+        if (columnIndex >= resolvedColumns.length || !resolvedColumns[columnIndex]) {
+            resolveColumn(columnIndex);
         }
-        Optional<EncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(encryptContext.get().getTableName(), encryptContext.get().getColumnName());
-        if (!encryptAlgorithm.isPresent()) {
+        EncryptAlgorithm encryptAlgorithm = encryptAlgorithms[columnIndex];
+        if (null == encryptAlgorithm) {
             return mergedResult.getValue(columnIndex, type);
         }
         Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        return null == cipherValue ? null : encryptAlgorithm.get().decrypt(cipherValue, encryptContext.get());
+        return null == cipherValue ? null : encryptAlgorithm.decrypt(cipherValue, encryptContexts[columnIndex]);
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return isEncryptColumn(columnIndex) ? PrimitiveValueUtil.toInt(getValue(columnIndex, int.class)) : mergedResult.getInt(columnIndex);
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return isEncryptColumn(columnIndex) ? PrimitiveValueUtil.toLong(getValue(columnIndex, long.class)) : mergedResult.getLong(columnIndex);
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return isEncryptColumn(columnIndex) ? PrimitiveValueUtil.toDouble(getValue(columnIndex, double.class)) : mergedResult.getDouble(columnIndex);
+    }
+    
+    @Override
+    public boolean isNull(final int columnIndex) throws SQLException {
+        return isEncryptColumn(columnIndex) ? null == getValue(columnIndex, Object.class) : mergedResult.isNull(columnIndex);
+    }
+    
+    private boolean isEncryptColumn(final int columnIndex) {
+        if (columnIndex >= resolvedColumns.length || !resolvedColumns[columnIndex]) {
+            resolveColumn(columnIndex);
+        }
+        return null != encryptAlgorithms[columnIndex];
+    }
+    
+    private void resolveColumn(final int columnIndex) {
+        if (columnIndex >= resolvedColumns.length) {
+            resolvedColumns = Arrays.copyOf(resolvedColumns, columnIndex + 1);
+            encryptAlgorithms = Arrays.copyOf(encryptAlgorithms, columnIndex + 1);
+            encryptContexts = Arrays.copyOf(encryptContexts, columnIndex + 1);
+        }
+        Optional<EncryptContext> encryptContext = metaData.findEncryptContext(columnIndex);
+        if (encryptContext.isPresent() && metaData.isQueryWithCipherColumn(encryptContext.get().getTableName())) {
+            Optional<EncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(encryptContext.get().getTableName(), encryptContext.get().getColumnName());
+            if (encryptAlgorithm.isPresent()) {
+                encryptAlgorithms[columnIndex] = encryptAlgorithm.get();
+                encryptContexts[columnIndex] = encryptContext.get();
+            }
+        }
+        resolvedColumns[columnIndex] = true;
     }
     
     @Override
@@ -33,7 +33,6 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
 
@@ -72,24 +71,29 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
         }
     }
     
+    @SuppressWarnings({"rawtypes", "unchecked"})
     private void encryptInsertValues(final GroupedParameterBuilder parameterBuilder, final InsertStatementContext insertStatementContext,
-                                     final EncryptAlgorithm<?, ?> encryptAlgorithm, final EncryptContext encryptContext) {
+                                     final EncryptAlgorithm encryptAlgorithm, final EncryptContext encryptContext) {
         int columnIndex = getColumnIndex(parameterBuilder, insertStatementContext, encryptContext.getColumnName());
+        List<Integer> encryptedRowIndexes = new ArrayList<>(insertStatementContext.getGroupedParameters().size());
+        List<Object> originalValues = new ArrayList<>(insertStatementContext.getGroupedParameters().size());
         int count = 0;
         for (List<Object> each : insertStatementContext.getGroupedParameters()) {
-            int parameterIndex = insertStatementContext.getInsertValueContexts().get(count).getParameterIndex(columnIndex);
-            if (!each.isEmpty()) {
-                StandardParameterBuilder standardParameterBuilder = parameterBuilder.getParameterBuilders().get(count);
-                ExpressionSegment expressionSegment = insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex);
-                if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
-                    encryptInsertValue(
-                            encryptAlgorithm, parameterIndex, insertStatementContext.getInsertValueContexts().get(count).getValue(columnIndex)
-                                    .orElseThrow(() -> new ShardingSphereException("Not support for encrypt!")),
-                            standardParameterBuilder, encryptContext);
-                }
+            if (!each.isEmpty() && insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex) instanceof ParameterMarkerExpressionSegment) {
+                encryptedRowIndexes.add(count);
+                originalValues.add(insertStatementContext.getInsertValueContexts().get(count).getValue(columnIndex).orElseThrow(() -> new ShardingSphereException("Not support for encrypt!")));
             }
             count++;
         }
+        if (originalValues.isEmpty()) {
+            return;
+        }
+        List<Object> cipherValues = encryptAlgorithm.batchEncrypt(originalValues, encryptContext);
+        for (int i = 0; i < encryptedRowIndexes.size(); i++) {
+            int rowIndex = encryptedRowIndexes.get(i);
+            int parameterIndex = insertStatementContext.getInsertValueContexts().get(rowIndex).getParameterIndex(columnIndex);
+            encryptInsertValue(encryptAlgorithm, parameterIndex, originalValues.get(i), cipherValues.get(i), parameterBuilder.getParameterBuilders().get(rowIndex), encryptContext);
+        }
     }
     
     private int getColumnIndex(final GroupedParameterBuilder parameterBuilder, final InsertStatementContext insertStatementContext, final String encryptLogicColumnName) {
@@ -104,9 +108,9 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
     }
     
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private void encryptInsertValue(final EncryptAlgorithm encryptAlgorithm, final int parameterIndex,
-                                    final Object originalValue, final StandardParameterBuilder parameterBuilder, final EncryptContext encryptContext) {
-        parameterBuilder.addReplacedParameters(parameterIndex, encryptAlgorithm.encrypt(originalValue, encryptContext));
+    private void encryptInsertValue(final EncryptAlgorithm encryptAlgorithm, final int parameterIndex, final Object originalValue, final Object cipherValue,
+                                    final StandardParameterBuilder parameterBuilder, final EncryptContext encryptContext) {
+        parameterBuilder.addReplacedParameters(parameterIndex, cipherValue);
         Collection<Object> addedParameters = new LinkedList<>();
         if (encryptAlgorithm instanceof QueryAssistedEncryptAlgorithm) {
             Optional<String> assistedColumnName = encryptRule.findAssistedQueryColumn(encryptContext.getTableName(), encryptContext.getColumnName());
@@ -38,13 +38,17 @@ import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Encrypt rule.
@@ -194,10 +198,14 @@ public final class EncryptRule implements SchemaRule, TableContainedRule {
     
     @SuppressWarnings({"rawtypes", "unchecked"})
     private List<Object> getEncryptValues(final EncryptAlgorithm encryptor, final List<Object> originalValues, final EncryptContext encryptContext) {
-        List<Object> result = new LinkedList<>();
+        if (originalValues.stream().noneMatch(Objects::isNull)) {
+            return encryptor.batchEncrypt(originalValues, encryptContext);
+        }
+        List<Object> nonNullValues = originalValues.stream().filter(Objects::nonNull).collect(Collectors.toList());
+        Iterator<Object> encryptValues = ((List<Object>) encryptor.batchEncrypt(nonNullValues, encryptContext)).iterator();
+        List<Object> result = new ArrayList<>(originalValues.size());
         for (Object each : originalValues) {
-            Object encryptValue = null == each ? null : encryptor.encrypt(each, encryptContext);
-            result.add(encryptValue);
+            result.add(null == each ? null : encryptValues.next());
         }
         return result;
     }
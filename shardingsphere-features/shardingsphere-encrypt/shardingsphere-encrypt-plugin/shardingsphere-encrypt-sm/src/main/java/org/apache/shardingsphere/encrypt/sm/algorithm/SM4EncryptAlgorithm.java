@@ -29,10 +29,12 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Security;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Optional;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 
@@ -70,6 +72,10 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     
     private String sm4ModePadding;
     
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    private ThreadLocal<Cipher> decryptCipher;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
@@ -78,6 +84,8 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         sm4ModePadding = "SM4/" + sm4Mode + "/" + sm4Padding;
         sm4Key = createSm4Key(props);
         sm4Iv = createSm4Iv(props, sm4Mode);
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
     }
     
     private String createSm4Mode(final Properties props) {
@@ -112,36 +120,50 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         return result;
     }
     
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int mode) {
+        Cipher result = Cipher.getInstance(sm4ModePadding, BouncyCastleProvider.PROVIDER_NAME);
+        SecretKeySpec secretKeySpec = new SecretKeySpec(sm4Key, "SM4");
+        if (null == sm4Iv) {
+            result.init(mode, secretKeySpec);
+        } else {
+            result.init(mode, secretKeySpec, new IvParameterSpec(sm4Iv));
+        }
+        return result;
+    }
+    
     @Override
     public String encrypt(final Object plainValue, final EncryptContext encryptContext) {
-        return null == plainValue ? null : ByteUtils.toHexString(encrypt(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8)));
+        return null == plainValue ? null : encrypt(encryptCipher.get(), plainValue);
     }
     
-    private byte[] encrypt(final byte[] plainValue) {
-        return handle(plainValue, Cipher.ENCRYPT_MODE);
+    private String encrypt(final Cipher cipher, final Object plainValue) {
+        return ByteUtils.toHexString(handle(cipher, encryptCipher, String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8)));
     }
     
-    @SneakyThrows
     @Override
-    public Object decrypt(final String cipherValue, final EncryptContext encryptContext) {
-        return null == cipherValue ? null : new String(decrypt(ByteUtils.fromHexString(cipherValue)), StandardCharsets.UTF_8);
+    public List<String> batchEncrypt(final List<Object> plainValues, final EncryptContext encryptContext) {
+        Cipher cipher = encryptCipher.get();
+        List<String> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(null == each ? null : encrypt(cipher, each));
+        }
+        return result;
     }
     
-    private byte[] decrypt(final byte[] cipherValue) {
-        return handle(cipherValue, Cipher.DECRYPT_MODE);
+    @Override
+    public Object decrypt(final String cipherValue, final EncryptContext encryptContext) {
+        return null == cipherValue ? null : new String(handle(decryptCipher.get(), decryptCipher, ByteUtils.fromHexString(cipherValue)), StandardCharsets.UTF_8);
     }
     
-    @SneakyThrows
-    private byte[] handle(final byte[] input, final int mode) {
-        Cipher cipher = Cipher.getInstance(sm4ModePadding, BouncyCastleProvider.PROVIDER_NAME);
-        SecretKeySpec secretKeySpec = new SecretKeySpec(sm4Key, "SM4");
-        Optional<byte[]> sm4Iv = Optional.ofNullable(this.sm4Iv);
-        if (sm4Iv.isPresent()) {
-            cipher.init(mode, secretKeySpec, new IvParameterSpec(sm4Iv.get()));
-        } else {
-            cipher.init(mode, secretKeySpec);
+    @SneakyThrows(GeneralSecurityException.class)
+    private byte[] handle(final Cipher cipher, final ThreadLocal<Cipher> cachedCipher, final byte[] input) {
+        try {
+            return cipher.doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            cachedCipher.remove();
+            throw ex;
         }
-        return cipher.doFinal(input);
     }
     
     @Override
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -89,6 +90,13 @@ public final class SM4EncryptAlgorithmTest {
         assertThat(algorithm.decrypt("dca2127b57ba8cac36a0914e0208dc11", mock(EncryptContext.class)).toString(), is("test"));
     }
     
+    @Test
+    public void assertBatchEncryptWithCBCMode() {
+        EncryptAlgorithm<Object, String> algorithm = EncryptAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("SM4", createCBCProperties()));
+        assertThat(algorithm.batchEncrypt(Arrays.asList("test", null, "test"), mock(EncryptContext.class)),
+                is(Arrays.asList("dca2127b57ba8cac36a0914e0208dc11", null, "dca2127b57ba8cac36a0914e0208dc11")));
+    }
+    
     private Properties createCBCProperties() {
         Properties result = new Properties();
         result.setProperty("sm4-key", "f201326119911788cFd30575b81059ac");
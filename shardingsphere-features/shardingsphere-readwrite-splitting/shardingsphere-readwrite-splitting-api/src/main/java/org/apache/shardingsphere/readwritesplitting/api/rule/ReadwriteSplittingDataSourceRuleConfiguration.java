@@ -64,4 +64,13 @@ public final class ReadwriteSplittingDataSourceRuleConfiguration {
     public Optional<String> getReadDataSourceNames() {
         return Optional.ofNullable(props.getProperty("read-data-source-names"));
     }
+    
+    /**
+     * Judge whether read your writes consistency is enabled.
+     *
+     * @return enabled or not
+     */
+    public boolean isReadYourWritesEnabled() {
+        return null != props && Boolean.parseBoolean(props.getProperty("read-your-writes-enabled"));
+    }
 }
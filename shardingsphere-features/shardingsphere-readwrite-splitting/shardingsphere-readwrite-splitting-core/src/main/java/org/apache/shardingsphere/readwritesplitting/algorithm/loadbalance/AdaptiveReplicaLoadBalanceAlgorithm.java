@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.readwritesplitting.spi.ReplicaLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatistics;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatisticsRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Adaptive replica load-balance algorithm.
+ * 
+ * <p>Replicas are chosen randomly with probability inversely proportional to their cost,
+ * which is the observed query latency plus weighted replication delay, so slow replicas shed load gradually.
+ * Replicas lagging behind more than max replication delay are excluded, write data source is used if none remains.</p>
+ */
+public final class AdaptiveReplicaLoadBalanceAlgorithm implements ReplicaLoadBalanceAlgorithm {
+    
+    private static final String MAX_REPLICATION_DELAY_MILLISECONDS_KEY = "max-replication-delay-milliseconds";
+    
+    private static final String REPLICATION_DELAY_WEIGHT_KEY = "replication-delay-weight";
+    
+    private static final double DEFAULT_LATENCY_MILLIS = 1D;
+    
+    @Getter
+    private Properties props;
+    
+    private long maxReplicationDelayMilliseconds;
+    
+    private double replicationDelayWeight;
+    
+    @Setter
+    private String databaseName = DefaultDatabase.LOGIC_NAME;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        maxReplicationDelayMilliseconds = Long.parseLong(props.getProperty(MAX_REPLICATION_DELAY_MILLISECONDS_KEY, "0"));
+        replicationDelayWeight = Double.parseDouble(props.getProperty(REPLICATION_DELAY_WEIGHT_KEY, "1"));
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        List<String> candidates = new ArrayList<>(readDataSourceNames.size());
+        List<ReplicaStatistics> candidateStatistics = new ArrayList<>(readDataSourceNames.size());
+        for (String each : readDataSourceNames) {
+            ReplicaStatistics statistics = ReplicaStatisticsRegistry.getInstance().getStatistics(databaseName, each);
+            if (maxReplicationDelayMilliseconds <= 0L || statistics.getReplicationDelayMilliseconds() <= maxReplicationDelayMilliseconds) {
+                candidates.add(each);
+                candidateStatistics.add(statistics);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return writeDataSourceName;
+        }
+        return 1 == candidates.size() ? candidates.get(0) : candidates.get(chooseIndex(candidateStatistics));
+    }
+    
+    private int chooseIndex(final List<ReplicaStatistics> candidateStatistics) {
+        double defaultLatencyMillis = getAverageLatencyMillis(candidateStatistics);
+        double[] weights = new double[candidateStatistics.size()];
+        double sum = 0D;
+        for (int i = 0; i < weights.length; i++) {
+            ReplicaStatistics statistics = candidateStatistics.get(i);
+            double cost = statistics.getLatencyMillis().orElse(defaultLatencyMillis) + replicationDelayWeight * statistics.getReplicationDelayMilliseconds();
+            weights[i] = 1D / (Math.max(cost, 0D) + 1D);
+            sum += weights[i];
+        }
+        double random = ThreadLocalRandom.current().nextDouble(sum);
+        for (int i = 0; i < weights.length; i++) {
+            random -= weights[i];
+            if (random < 0D) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+    
+    private double getAverageLatencyMillis(final List<ReplicaStatistics> candidateStatistics) {
+        double sum = 0D;
+        int count = 0;
+        for (ReplicaStatistics each : candidateStatistics) {
+            OptionalDouble latencyMillis = each.getLatencyMillis();
+            if (latencyMillis.isPresent()) {
+                sum += latencyMillis.getAsDouble();
+                count++;
+            }
+        }
+        return 0 == count ? DEFAULT_LATENCY_MILLIS : sum / count;
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+}
@@ -21,20 +21,30 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.session.ReadYourWritesContext;
+import org.apache.shardingsphere.mode.metadata.storage.ReplicationDelayObservationRegistry;
 import org.apache.shardingsphere.transaction.TransactionHolder;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 /**
  * Data source router for readwrite-splitting.
  */
 @RequiredArgsConstructor
 public final class ReadwriteSplittingDataSourceRouter {
     
+    private final String databaseName;
+    
     private final ReadwriteSplittingDataSourceRule rule;
     
+    private final ReadYourWritesContext readYourWritesContext;
+    
     /**
      * Route.
      * 
@@ -43,12 +53,37 @@ public final class ReadwriteSplittingDataSourceRouter {
      */
     public String route(final SQLStatementContext<?> sqlStatementContext) {
         if (isPrimaryRoute(sqlStatementContext)) {
+            if (rule.isReadYourWritesEnabled() && !(sqlStatementContext.getSqlStatement() instanceof SelectStatement)) {
+                readYourWritesContext.markWritten(rule.getName());
+            }
             return rule.getReadwriteSplittingStrategy().getWriteDataSource();
         }
-        if (1 == rule.getReadDataSourceNames().size()) {
-            return rule.getReadDataSourceNames().get(0);
+        List<String> readDataSourceNames = rule.isReadYourWritesEnabled() ? getAppliedReadDataSourceNames() : rule.getReadDataSourceNames();
+        if (readDataSourceNames.isEmpty()) {
+            return rule.getWriteDataSource();
+        }
+        if (1 == readDataSourceNames.size()) {
+            return readDataSourceNames.get(0);
+        }
+        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), readDataSourceNames);
+    }
+    
+    private List<String> getAppliedReadDataSourceNames() {
+        List<String> readDataSourceNames = rule.getReadDataSourceNames();
+        Optional<Long> writtenTimestamp = readYourWritesContext.findWrittenTimestamp(rule.getName());
+        if (!writtenTimestamp.isPresent()) {
+            return readDataSourceNames;
+        }
+        List<String> result = readDataSourceNames.stream()
+                .filter(each -> isApplied(each, writtenTimestamp.get())).collect(Collectors.toList());
+        if (result.size() == readDataSourceNames.size()) {
+            readYourWritesContext.remove(rule.getName());
         }
-        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), rule.getReadDataSourceNames());
+        return result;
+    }
+    
+    private boolean isApplied(final String readDataSourceName, final long writtenTimestamp) {
+        return ReplicationDelayObservationRegistry.getInstance().findObservation(databaseName, readDataSourceName).map(optional -> optional.isApplied(writtenTimestamp)).orElse(false);
     }
     
     private boolean isPrimaryRoute(final SQLStatementContext<?> sqlStatementContext) {
@@ -24,6 +24,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.distsql.constant.ExportableConstants;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.spi.ReplicaLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatisticsRegistry;
 import org.apache.shardingsphere.readwritesplitting.strategy.ReadwriteSplittingStrategy;
 import org.apache.shardingsphere.readwritesplitting.strategy.ReadwriteSplittingStrategyFactory;
 
@@ -47,6 +48,8 @@ public final class ReadwriteSplittingDataSourceRule {
     
     private final ReadwriteSplittingStrategy readwriteSplittingStrategy;
     
+    private final boolean readYourWritesEnabled;
+    
     @Getter(AccessLevel.NONE)
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
@@ -55,6 +58,11 @@ public final class ReadwriteSplittingDataSourceRule {
         name = config.getName();
         this.loadBalancer = loadBalancer;
         readwriteSplittingStrategy = ReadwriteSplittingStrategyFactory.newInstance(config.getType(), config.getProps());
+        readYourWritesEnabled = config.isReadYourWritesEnabled();
+        if (readYourWritesEnabled) {
+            // subscribe replication delay reported by heartbeat before first read
+            ReplicaStatisticsRegistry.getInstance();
+        }
     }
     
     /**
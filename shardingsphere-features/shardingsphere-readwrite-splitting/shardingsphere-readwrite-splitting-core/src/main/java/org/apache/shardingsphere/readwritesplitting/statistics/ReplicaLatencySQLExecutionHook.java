@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.statistics;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SQL execution hook for recording replica query latency.
+ */
+public final class ReplicaLatencySQLExecutionHook implements SQLExecutionHook {
+    
+    private ReplicaStatistics statistics;
+    
+    private long startNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> parameters,
+                      final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        Object databaseName = shardingExecuteDataMap.get(ExecuteProcessConstants.DATABASE_NAME.name());
+        Optional<ReplicaStatistics> replicaStatistics = ReplicaStatisticsRegistry.getInstance().findStatistics(null == databaseName ? null : databaseName.toString(), dataSourceName);
+        if (replicaStatistics.isPresent()) {
+            statistics = replicaStatistics.get();
+            startNanos = System.nanoTime();
+        }
+    }
+    
+    @Override
+    public void finishSuccess() {
+        record();
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        record();
+    }
+    
+    private void record() {
+        if (null != statistics) {
+            statistics.recordLatency((System.nanoTime() - startNanos) / 1000000D);
+            statistics = null;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.statistics;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.mode.metadata.storage.ReplicationDelayObservation;
+import org.apache.shardingsphere.mode.metadata.storage.ReplicationDelayObservationRegistry;
+
+import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runtime statistics of replica.
+ */
+@RequiredArgsConstructor
+public final class ReplicaStatistics {
+    
+    private static final double LATENCY_SMOOTHING_FACTOR = 0.3D;
+    
+    private static final long NO_LATENCY_SAMPLE = Double.doubleToLongBits(-1D);
+    
+    private final String databaseName;
+    
+    private final String dataSourceName;
+    
+    private final AtomicLong latencyMillisBits = new AtomicLong(NO_LATENCY_SAMPLE);
+    
+    /**
+     * Record query latency into exponentially weighted moving average.
+     *
+     * @param latencyMillis latency milliseconds of one query
+     */
+    public void recordLatency(final double latencyMillis) {
+        long current;
+        long next;
+        do {
+            current = latencyMillisBits.get();
+            double previous = Double.longBitsToDouble(current);
+            next = Double.doubleToLongBits(previous < 0D ? latencyMillis : previous + LATENCY_SMOOTHING_FACTOR * (latencyMillis - previous));
+        } while (!latencyMillisBits.compareAndSet(current, next));
+    }
+    
+    /**
+     * Get replication delay last observed by heartbeat.
+     *
+     * @return replication delay milliseconds, 0 if replication delay has not been observed yet
+     */
+    public long getReplicationDelayMilliseconds() {
+        return ReplicationDelayObservationRegistry.getInstance().findObservation(databaseName, dataSourceName).map(ReplicationDelayObservation::getReplicationDelayMilliseconds).orElse(0L);
+    }
+    
+    /**
+     * Get exponentially weighted moving average of query latency.
+     *
+     * @return latency milliseconds, empty if no query has been recorded yet
+     */
+    public OptionalDouble getLatencyMillis() {
+        double result = Double.longBitsToDouble(latencyMillisBits.get());
+        return result < 0D ? OptionalDouble.empty() : OptionalDouble.of(result);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replica statistics registry.
+ * 
+ * <p>Only data sources which are balanced by latency aware load-balance algorithm are tracked, other data sources are ignored when recording latency.
+ * Statistics are kept per logic database, because data source names are only unique inside one logic database.
+ * Replication delay is not kept by statistics, it is read from replication delay observations renewed by heartbeat of database discovery.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReplicaStatisticsRegistry {
+    
+    private static final ReplicaStatisticsRegistry INSTANCE = new ReplicaStatisticsRegistry();
+    
+    private final Map<String, Map<String, ReplicaStatistics>> replicaStatistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Get replica statistics registry.
+     *
+     * @return replica statistics registry
+     */
+    public static ReplicaStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get statistics of replica, start tracking it if absent.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return replica statistics
+     */
+    public ReplicaStatistics getStatistics(final String databaseName, final String dataSourceName) {
+        return replicaStatistics.computeIfAbsent(databaseName, unused -> new ConcurrentHashMap<>()).computeIfAbsent(dataSourceName, unused -> new ReplicaStatistics(databaseName, dataSourceName));
+    }
+    
+    /**
+     * Find statistics of tracked replica.
+     *
+     * @param databaseName database name, nullable when the executing SQL is not bound to a logic database
+     * @param dataSourceName data source name, nullable when the SQL execution is not bound to a data source name
+     * @return replica statistics
+     */
+    public Optional<ReplicaStatistics> findStatistics(final String databaseName, final String dataSourceName) {
+        if (null == databaseName || null == dataSourceName) {
+            return Optional.empty();
+        }
+        Map<String, ReplicaStatistics> databaseStatistics = replicaStatistics.get(databaseName);
+        return null == databaseStatistics ? Optional.empty() : Optional.ofNullable(databaseStatistics.get(dataSourceName));
+    }
+}
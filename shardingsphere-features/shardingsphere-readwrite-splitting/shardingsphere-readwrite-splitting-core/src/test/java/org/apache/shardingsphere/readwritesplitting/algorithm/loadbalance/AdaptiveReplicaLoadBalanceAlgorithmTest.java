@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.mode.metadata.storage.ReplicationDelayObservation;
+import org.apache.shardingsphere.mode.metadata.storage.ReplicationDelayObservationRegistry;
+import org.apache.shardingsphere.readwritesplitting.factory.ReplicaLoadBalanceAlgorithmFactory;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatisticsRegistry;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class AdaptiveReplicaLoadBalanceAlgorithmTest {
+    
+    @Test
+    public void assertGetDataSourcePrefersFastReplica() {
+        ReplicaLoadBalanceAlgorithmFixtureHolder holder = new ReplicaLoadBalanceAlgorithmFixtureHolder("fast_read_ds", "slow_read_ds", new Properties());
+        recordLatency("fast_read_ds", 1D);
+        recordLatency("slow_read_ds", 100D);
+        int fastCount = holder.countFirst(1000);
+        assertTrue(fastCount > 900);
+        assertTrue(fastCount < 1000);
+    }
+    
+    @Test
+    public void assertGetDataSourceShedsLoadGradually() {
+        ReplicaLoadBalanceAlgorithmFixtureHolder holder = new ReplicaLoadBalanceAlgorithmFixtureHolder("stable_read_ds", "degrading_read_ds", new Properties());
+        recordLatency("stable_read_ds", 5D);
+        recordLatency("degrading_read_ds", 5D);
+        int balancedCount = holder.countFirst(2000);
+        recordLatency("degrading_read_ds", 15D);
+        int degradedCount = holder.countFirst(2000);
+        assertTrue(balancedCount > 800 && balancedCount < 1200);
+        assertTrue(degradedCount > balancedCount);
+        assertTrue(degradedCount < 2000);
+    }
+    
+    @Test
+    public void assertGetDataSourceWithReplicationDelay() {
+        ReplicaLoadBalanceAlgorithmFixtureHolder holder = new ReplicaLoadBalanceAlgorithmFixtureHolder("fresh_read_ds", "lagging_read_ds", new Properties());
+        observeReplicationDelay("lagging_read_ds", 1000L);
+        assertTrue(holder.countFirst(1000) > 990);
+    }
+    
+    @Test
+    public void assertGetDataSourceExcludesStaleReplica() {
+        Properties props = new Properties();
+        props.setProperty("max-replication-delay-milliseconds", "500");
+        ReplicaLoadBalanceAlgorithmFixtureHolder holder = new ReplicaLoadBalanceAlgorithmFixtureHolder("bounded_read_ds", "stale_read_ds", props);
+        observeReplicationDelay("stale_read_ds", 501L);
+        assertThat(holder.countFirst(100), is(100));
+    }
+    
+    @Test
+    public void assertGetDataSourceFallbackToWriteDataSourceWhenAllReplicasStale() {
+        Properties props = new Properties();
+        props.setProperty("max-replication-delay-milliseconds", "500");
+        ReplicaLoadBalanceAlgorithmFixtureHolder holder = new ReplicaLoadBalanceAlgorithmFixtureHolder("stale_read_ds_0", "stale_read_ds_1", props);
+        observeReplicationDelay("stale_read_ds_0", 600L);
+        observeReplicationDelay("stale_read_ds_1", 700L);
+        assertThat(holder.getDataSource(), is("test_write_ds"));
+    }
+    
+    private void recordLatency(final String dataSourceName, final double latencyMillis) {
+        for (int i = 0; i < 20; i++) {
+            ReplicaStatisticsRegistry.getInstance().getStatistics("db", dataSourceName).recordLatency(latencyMillis);
+        }
+    }
+    
+    private void observeReplicationDelay(final String dataSourceName, final long replicationDelayMilliseconds) {
+        ReplicationDelayObservationRegistry.getInstance().renew("db", dataSourceName, new ReplicationDelayObservation(replicationDelayMilliseconds, System.currentTimeMillis()));
+    }
+    
+    private static final class ReplicaLoadBalanceAlgorithmFixtureHolder {
+        
+        private final AdaptiveReplicaLoadBalanceAlgorithm algorithm;
+        
+        private final List<String> readDataSourceNames;
+        
+        ReplicaLoadBalanceAlgorithmFixtureHolder(final String firstReadDataSourceName, final String secondReadDataSourceName, final Properties props) {
+            algorithm = (AdaptiveReplicaLoadBalanceAlgorithm) ReplicaLoadBalanceAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("ADAPTIVE", props));
+            algorithm.setDatabaseName("db");
+            readDataSourceNames = Arrays.asList(firstReadDataSourceName, secondReadDataSourceName);
+        }
+        
+        String getDataSource() {
+            return algorithm.getDataSource("ds", "test_write_ds", readDataSourceNames);
+        }
+        
+        int countFirst(final int times) {
+            int result = 0;
+            for (int i = 0; i < times; i++) {
+                if (readDataSourceNames.get(0).equals(getDataSource())) {
+                    result++;
+                }
+            }
+            return result;
+        }
+    }
+}
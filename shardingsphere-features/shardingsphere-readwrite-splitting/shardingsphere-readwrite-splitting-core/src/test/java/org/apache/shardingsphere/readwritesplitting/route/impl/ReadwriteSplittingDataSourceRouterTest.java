@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.impl;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.session.ReadYourWritesContext;
+import org.apache.shardingsphere.mode.metadata.storage.ReplicationDelayObservation;
+import org.apache.shardingsphere.mode.metadata.storage.ReplicationDelayObservationRegistry;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.RandomReplicaLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ReadwriteSplittingDataSourceRouterTest {
+    
+    private static final String WRITE_DATASOURCE = "write_ds";
+    
+    private final ReadYourWritesContext readYourWritesContext = new ReadYourWritesContext();
+    
+    @Test
+    public void assertRouteReadAfterWriteWithoutReadYourWrites() {
+        ReadwriteSplittingDataSourceRouter router = createRouter("eventual_read_ds", false);
+        assertThat(router.route(mockSQLStatementContext(new MySQLInsertStatement())), is(WRITE_DATASOURCE));
+        assertThat(router.route(mockSQLStatementContext(new MySQLSelectStatement())), is("eventual_read_ds"));
+    }
+    
+    @Test
+    public void assertRouteReadWithoutWriteWithReadYourWrites() {
+        ReadwriteSplittingDataSourceRouter router = createRouter("unwritten_read_ds", true);
+        assertThat(router.route(mockSQLStatementContext(new MySQLSelectStatement())), is("unwritten_read_ds"));
+    }
+    
+    @Test
+    public void assertRouteReadAfterWriteToPrimaryBeforeReplicaApplied() {
+        ReadwriteSplittingDataSourceRouter router = createRouter("lagging_consistent_read_ds", true);
+        assertThat(router.route(mockSQLStatementContext(new MySQLInsertStatement())), is(WRITE_DATASOURCE));
+        assertThat(router.route(mockSQLStatementContext(new MySQLSelectStatement())), is(WRITE_DATASOURCE));
+        observeReplicationDelay("lagging_consistent_read_ds", 60000L, System.currentTimeMillis());
+        assertThat(router.route(mockSQLStatementContext(new MySQLSelectStatement())), is(WRITE_DATASOURCE));
+    }
+    
+    @Test
+    public void assertRouteReadAfterWriteToPrimaryWithinReplicationDelayPrecision() {
+        ReadwriteSplittingDataSourceRouter router = createRouter("imprecise_consistent_read_ds", true, mockReadYourWritesContext(System.currentTimeMillis() - 500L));
+        observeReplicationDelay("imprecise_consistent_read_ds", 0L, System.currentTimeMillis());
+        assertThat(router.route(mockSQLStatementContext(new MySQLSelectStatement())), is(WRITE_DATASOURCE));
+    }
+    
+    @Test
+    public void assertRouteReadAfterWriteToReplicaAfterReplicaApplied() {
+        ReadYourWritesContext appliedReadYourWritesContext = mockReadYourWritesContext(System.currentTimeMillis() - 2000L);
+        ReadwriteSplittingDataSourceRouter router = createRouter("applied_consistent_read_ds", true, appliedReadYourWritesContext);
+        observeReplicationDelay("applied_consistent_read_ds", 0L, System.currentTimeMillis());
+        assertThat(router.route(mockSQLStatementContext(new MySQLSelectStatement())), is("applied_consistent_read_ds"));
+        verify(appliedReadYourWritesContext).remove("readwrite_ds");
+    }
+    
+    @Test
+    public void assertRouteReadAfterWriteToPrimaryWhenReplicationDelayObservedBeforeWrite() {
+        long writtenTimestamp = System.currentTimeMillis() - 2000L;
+        ReadwriteSplittingDataSourceRouter router = createRouter("stale_consistent_read_ds", true, mockReadYourWritesContext(writtenTimestamp));
+        observeReplicationDelay("stale_consistent_read_ds", 0L, writtenTimestamp - 1000L);
+        assertThat(router.route(mockSQLStatementContext(new MySQLSelectStatement())), is(WRITE_DATASOURCE));
+    }
+    
+    @Test
+    public void assertRouteReadAfterWriteOfOtherConnection() {
+        ReadwriteSplittingDataSourceRouter writeRouter = createRouter("isolated_consistent_read_ds", true);
+        assertThat(writeRouter.route(mockSQLStatementContext(new MySQLInsertStatement())), is(WRITE_DATASOURCE));
+        ReadwriteSplittingDataSourceRouter readRouter = createRouter("isolated_consistent_read_ds", true, new ReadYourWritesContext());
+        assertThat(readRouter.route(mockSQLStatementContext(new MySQLSelectStatement())), is("isolated_consistent_read_ds"));
+    }
+    
+    private ReadYourWritesContext mockReadYourWritesContext(final long writtenTimestamp) {
+        ReadYourWritesContext result = mock(ReadYourWritesContext.class);
+        when(result.findWrittenTimestamp("readwrite_ds")).thenReturn(Optional.of(writtenTimestamp));
+        return result;
+    }
+    
+    private ReadwriteSplittingDataSourceRouter createRouter(final String readDataSourceName, final boolean readYourWritesEnabled) {
+        return createRouter(readDataSourceName, readYourWritesEnabled, readYourWritesContext);
+    }
+    
+    private ReadwriteSplittingDataSourceRouter createRouter(final String readDataSourceName, final boolean readYourWritesEnabled, final ReadYourWritesContext context) {
+        Properties props = new Properties();
+        props.setProperty("write-data-source-name", WRITE_DATASOURCE);
+        props.setProperty("read-data-source-names", readDataSourceName);
+        props.setProperty("read-your-writes-enabled", String.valueOf(readYourWritesEnabled));
+        return new ReadwriteSplittingDataSourceRouter("db",
+                new ReadwriteSplittingDataSourceRule(new ReadwriteSplittingDataSourceRuleConfiguration("readwrite_ds", "Static", props, ""), new RandomReplicaLoadBalanceAlgorithm()), context);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private SQLStatementContext<SQLStatement> mockSQLStatementContext(final SQLStatement sqlStatement) {
+        SQLStatementContext<SQLStatement> result = mock(SQLStatementContext.class);
+        when(result.getSqlStatement()).thenReturn(sqlStatement);
+        return result;
+    }
+    
+    private void observeReplicationDelay(final String dataSourceName, final long replicationDelayMilliseconds, final long observedMillis) {
+        ReplicationDelayObservationRegistry.getInstance().renew("db", dataSourceName, new ReplicationDelayObservation(replicationDelayMilliseconds, observedMillis));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.statistics;
+
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class ReplicaLatencySQLExecutionHookTest {
+    
+    @Test
+    public void assertRecordLatencyOfTrackedReplica() throws InterruptedException {
+        final ReplicaStatistics statistics = ReplicaStatisticsRegistry.getInstance().getStatistics("foo_db", "tracked_read_ds");
+        ReplicaLatencySQLExecutionHook hook = new ReplicaLatencySQLExecutionHook();
+        hook.start("tracked_read_ds", "SELECT 1", Collections.emptyList(), null, true, createDataMap("foo_db"));
+        Thread.sleep(20L);
+        hook.finishSuccess();
+        assertTrue(statistics.getLatencyMillis().getAsDouble() >= 20D);
+    }
+    
+    @Test
+    public void assertIgnoreUntrackedDataSource() {
+        ReplicaLatencySQLExecutionHook hook = new ReplicaLatencySQLExecutionHook();
+        hook.start("untracked_ds", "SELECT 1", Collections.emptyList(), null, true, createDataMap("foo_db"));
+        hook.finishFailure(new RuntimeException());
+        assertFalse(ReplicaStatisticsRegistry.getInstance().findStatistics("foo_db", "untracked_ds").isPresent());
+    }
+    
+    @Test
+    public void assertIgnoreSameNameDataSourceOfOtherDatabase() {
+        ReplicaStatisticsRegistry.getInstance().getStatistics("foo_db", "same_name_read_ds");
+        ReplicaLatencySQLExecutionHook hook = new ReplicaLatencySQLExecutionHook();
+        hook.start("same_name_read_ds", "SELECT 1", Collections.emptyList(), null, true, createDataMap("bar_db"));
+        hook.finishSuccess();
+        assertFalse(ReplicaStatisticsRegistry.getInstance().getStatistics("foo_db", "same_name_read_ds").getLatencyMillis().isPresent());
+        assertFalse(ReplicaStatisticsRegistry.getInstance().findStatistics("bar_db", "same_name_read_ds").isPresent());
+    }
+    
+    @Test
+    public void assertIgnoreWithoutDatabaseName() {
+        ReplicaStatisticsRegistry.getInstance().getStatistics("foo_db", "unbound_read_ds");
+        ReplicaLatencySQLExecutionHook hook = new ReplicaLatencySQLExecutionHook();
+        hook.start("unbound_read_ds", "SELECT 1", Collections.emptyList(), null, true, Collections.emptyMap());
+        hook.finishSuccess();
+        assertFalse(ReplicaStatisticsRegistry.getInstance().getStatistics("foo_db", "unbound_read_ds").getLatencyMillis().isPresent());
+    }
+    
+    @Test
+    public void assertIgnoreWithoutDataSourceName() {
+        ReplicaLatencySQLExecutionHook hook = new ReplicaLatencySQLExecutionHook();
+        hook.start(null, "SELECT 1", Collections.emptyList(), null, true, createDataMap("foo_db"));
+        hook.finishSuccess();
+        assertFalse(ReplicaStatisticsRegistry.getInstance().findStatistics("foo_db", null).isPresent());
+    }
+    
+    private Map<String, Object> createDataMap(final String databaseName) {
+        return Collections.singletonMap(ExecuteProcessConstants.DATABASE_NAME.name(), databaseName);
+    }
+}
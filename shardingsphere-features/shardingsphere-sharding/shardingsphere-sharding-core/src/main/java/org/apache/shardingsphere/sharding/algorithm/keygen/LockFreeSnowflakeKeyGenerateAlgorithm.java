@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.config.algorithm.InstanceAwareAlgorithm;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock free snowflake key generate algorithm.
+ * 
+ * <p>
+ * Keys have the same layout as {@link SnowflakeKeyGenerateAlgorithm}.
+ * Timestamp offset and sequence of the last leased key are kept in one atomic counter, so keys are leased by compare and set instead of a global lock.
+ * When sequence of current millisecond runs out, keys are leased from following milliseconds, as long as they are not ahead of clock beyond max tolerate time difference.
+ * Bulk leases which would exceed that are split, and the rest is leased when the clock catches up.
+ * </p>
+ */
+public final class LockFreeSnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceAwareAlgorithm {
+    
+    private static final String MAX_VIBRATION_OFFSET_KEY = "max-vibration-offset";
+    
+    private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY = "max-tolerate-time-difference-milliseconds";
+    
+    private static final long SEQUENCE_BITS = 12L;
+    
+    private static final long WORKER_ID_BITS = 10L;
+    
+    private static final long SEQUENCE_MASK = (1 << SEQUENCE_BITS) - 1;
+    
+    private static final long WORKER_ID_LEFT_SHIFT_BITS = SEQUENCE_BITS;
+    
+    private static final long TIMESTAMP_LEFT_SHIFT_BITS = WORKER_ID_LEFT_SHIFT_BITS + WORKER_ID_BITS;
+    
+    private static final long WORKER_ID_MAX_VALUE = 1L << WORKER_ID_BITS;
+    
+    private static final int DEFAULT_VIBRATION_VALUE = 1;
+    
+    private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS = 10;
+    
+    private static final long DEFAULT_WORKER_ID = 0;
+    
+    @Setter
+    private static TimeService timeService = new TimeService();
+    
+    @Getter
+    private Properties props;
+    
+    private int maxVibrationOffset;
+    
+    private int maxTolerateTimeDifferenceMilliseconds;
+    
+    private final AtomicInteger sequenceOffset = new AtomicInteger();
+    
+    private final AtomicLong lastLeasedSequence = new AtomicLong(-1L);
+    
+    private volatile long lastMilliseconds;
+    
+    @Setter
+    private InstanceContext instanceContext;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        maxVibrationOffset = getMaxVibrationOffset(props);
+        maxTolerateTimeDifferenceMilliseconds = getMaxTolerateTimeDifferenceMilliseconds(props);
+    }
+    
+    private int getMaxVibrationOffset(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(MAX_VIBRATION_OFFSET_KEY, DEFAULT_VIBRATION_VALUE).toString());
+        Preconditions.checkArgument(result >= 0 && result <= SEQUENCE_MASK, "Illegal max vibration offset.");
+        return result;
+    }
+    
+    private int getMaxTolerateTimeDifferenceMilliseconds(final Properties props) {
+        return Integer.parseInt(props.getOrDefault(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY, MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS).toString());
+    }
+    
+    @Override
+    public Long generateKey() {
+        return toKey(lease(1).firstSequence, getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS);
+    }
+    
+    @Override
+    public Collection<Comparable<?>> generateKeys(final int count) {
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        if (count <= 0) {
+            return result;
+        }
+        long workerIdBits = getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS;
+        while (result.size() < count) {
+            LeasedSequences leasedSequences = lease(count - result.size());
+            for (int i = 0; i < leasedSequences.count; i++) {
+                result.add(toKey(leasedSequences.firstSequence + i, workerIdBits));
+            }
+        }
+        return result;
+    }
+    
+    private LeasedSequences lease(final int maxCount) {
+        while (true) {
+            long currentTimestamp = getCurrentMilliseconds() - SnowflakeKeyGenerateAlgorithm.EPOCH;
+            long lastSequence = lastLeasedSequence.get();
+            long firstSequence = (lastSequence >> SEQUENCE_BITS) < currentTimestamp ? currentTimestamp << SEQUENCE_BITS | vibrateSequenceOffset() : lastSequence + 1;
+            long maxSequence = (currentTimestamp + maxTolerateTimeDifferenceMilliseconds) << SEQUENCE_BITS | SEQUENCE_MASK;
+            if (firstSequence > maxSequence) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1L));
+                continue;
+            }
+            int count = (int) Math.min(maxCount, maxSequence - firstSequence + 1);
+            if (lastLeasedSequence.compareAndSet(lastSequence, firstSequence + count - 1)) {
+                return new LeasedSequences(firstSequence, count);
+            }
+        }
+    }
+    
+    private long getCurrentMilliseconds() {
+        long result = timeService.getCurrentMillis();
+        long lastMilliseconds = this.lastMilliseconds;
+        if (result >= lastMilliseconds) {
+            this.lastMilliseconds = result;
+            return result;
+        }
+        Preconditions.checkState(lastMilliseconds - result < maxTolerateTimeDifferenceMilliseconds,
+                "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastMilliseconds, result);
+        return result;
+    }
+    
+    private long vibrateSequenceOffset() {
+        return Math.floorMod(sequenceOffset.getAndIncrement(), maxVibrationOffset + 1);
+    }
+    
+    private long toKey(final long sequence, final long workerIdBits) {
+        return (sequence >> SEQUENCE_BITS) << TIMESTAMP_LEFT_SHIFT_BITS | workerIdBits | sequence & SEQUENCE_MASK;
+    }
+    
+    private long getWorkerId() {
+        if (null == instanceContext) {
+            return DEFAULT_WORKER_ID;
+        }
+        long result = instanceContext.getWorkerId();
+        Preconditions.checkArgument(result >= 0L && result < WORKER_ID_MAX_VALUE, "Illegal worker id.");
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "LOCK_FREE_SNOWFLAKE";
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LeasedSequences {
+        
+        private final long firstSequence;
+        
+        private final int count;
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.PrimitiveValueUtil;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 
 import java.sql.SQLException;
@@ -131,6 +132,26 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         return result;
     }
     
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return PrimitiveValueUtil.toInt(getValue(columnIndex, int.class));
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return PrimitiveValueUtil.toLong(getValue(columnIndex, long.class));
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return PrimitiveValueUtil.toDouble(getValue(columnIndex, double.class));
+    }
+    
+    @Override
+    public boolean isNull(final int columnIndex) {
+        return null == getValue(columnIndex, Object.class);
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
         Object result = currentRow.get(columnIndex - 1);
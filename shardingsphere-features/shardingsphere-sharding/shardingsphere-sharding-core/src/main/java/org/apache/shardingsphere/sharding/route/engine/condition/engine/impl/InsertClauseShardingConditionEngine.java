@@ -44,8 +44,6 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Sharding condition engine for insert clause.
@@ -68,11 +66,20 @@ public final class InsertClauseShardingConditionEngine implements ShardingCondit
     
     private List<ShardingCondition> createShardingConditionsWithInsertValues(final InsertStatementContext sqlStatementContext, final List<Object> parameters) {
         String tableName = sqlStatementContext.getSqlStatement().getTable().getTableName().getIdentifier().getValue();
-        Collection<String> columnNames = getColumnNames(sqlStatementContext);
+        String[] shardingColumns = getShardingColumns(tableName, getColumnNames(sqlStatementContext));
         List<InsertValueContext> insertValueContexts = sqlStatementContext.getInsertValueContexts();
         List<ShardingCondition> result = new ArrayList<>(insertValueContexts.size());
         for (InsertValueContext each : insertValueContexts) {
-            result.add(createShardingCondition(tableName, columnNames.iterator(), each, parameters));
+            result.add(createShardingCondition(tableName, shardingColumns, each, parameters));
+        }
+        return result;
+    }
+    
+    private String[] getShardingColumns(final String tableName, final Collection<String> columnNames) {
+        String[] result = new String[columnNames.size()];
+        int index = 0;
+        for (String each : columnNames) {
+            result[index++] = shardingRule.findShardingColumn(each, tableName).orElse(null);
         }
         return result;
     }
@@ -87,21 +94,22 @@ public final class InsertClauseShardingConditionEngine implements ShardingCondit
         return insertStatementContext.getColumnNames();
     }
     
-    private ShardingCondition createShardingCondition(final String tableName, final Iterator<String> columnNames, final InsertValueContext insertValueContext, final List<Object> parameters) {
+    private ShardingCondition createShardingCondition(final String tableName, final String[] shardingColumns, final InsertValueContext insertValueContext, final List<Object> parameters) {
         ShardingCondition result = new ShardingCondition();
         DatetimeService datetimeService = null;
+        int index = 0;
         for (ExpressionSegment each : insertValueContext.getValueExpressions()) {
-            Optional<String> shardingColumn = shardingRule.findShardingColumn(columnNames.next(), tableName);
-            if (!shardingColumn.isPresent()) {
+            String shardingColumn = shardingColumns[index++];
+            if (null == shardingColumn) {
                 continue;
             }
             if (each instanceof SimpleExpressionSegment) {
-                result.getValues().add(new ListShardingConditionValue<>(shardingColumn.get(), tableName, Collections.singletonList(getShardingValue((SimpleExpressionSegment) each, parameters))));
+                result.getValues().add(new ListShardingConditionValue<>(shardingColumn, tableName, Collections.singletonList(getShardingValue((SimpleExpressionSegment) each, parameters))));
             } else if (ExpressionConditionUtils.isNowExpression(each)) {
                 if (null == datetimeService) {
                     datetimeService = DatetimeServiceFactory.getInstance();
                 }
-                result.getValues().add(new ListShardingConditionValue<>(shardingColumn.get(), tableName, Collections.singletonList(datetimeService.getDatetime())));
+                result.getValues().add(new ListShardingConditionValue<>(shardingColumn, tableName, Collections.singletonList(datetimeService.getDatetime())));
             } else if (ExpressionConditionUtils.isNullExpression(each)) {
                 throw new ShardingSphereException("Insert clause sharding column can't be null.");
             }
@@ -130,17 +138,13 @@ public final class InsertClauseShardingConditionEngine implements ShardingCondit
         Optional<GeneratedKeyContext> generatedKey = sqlStatementContext.getGeneratedKeyContext();
         String tableName = sqlStatementContext.getSqlStatement().getTable().getTableName().getIdentifier().getValue();
         if (generatedKey.isPresent() && generatedKey.get().isGenerated() && shardingRule.findTableRule(tableName).isPresent()) {
-            generatedKey.get().getGeneratedValues().addAll(generateKeys(tableName, sqlStatementContext.getValueListCount()));
+            generatedKey.get().getGeneratedValues().addAll(shardingRule.generateKeys(tableName, sqlStatementContext.getValueListCount()));
             if (shardingRule.findShardingColumn(generatedKey.get().getColumnName(), tableName).isPresent()) {
                 appendGeneratedKeyCondition(generatedKey.get(), tableName, shardingConditions);
             }
         }
     }
     
-    private Collection<Comparable<?>> generateKeys(final String tableName, final int valueListCount) {
-        return IntStream.range(0, valueListCount).mapToObj(each -> shardingRule.generateKey(tableName)).collect(Collectors.toList());
-    }
-    
     private void appendGeneratedKeyCondition(final GeneratedKeyContext generatedKey, final String tableName, final List<ShardingCondition> shardingConditions) {
         Iterator<Comparable<?>> generatedValuesIterator = generatedKey.getGeneratedValues().iterator();
         for (ShardingCondition each : shardingConditions) {
@@ -202,7 +202,7 @@ public final class ShardingRouteEngineFactory {
             return new ShardingStandardRoutingEngine(getLogicTableName(shardingConditions, tableNames), shardingConditions, props);
         }
         // TODO config for cartesian set
-        return new ShardingComplexRoutingEngine(shardingConditions, props, tableNames);
+        return new ShardingComplexRoutingEngine(shardingConditions, props, tableNames, shardingRule.getCoPartitionedTableGroups(database, sqlStatementContext, tableNames));
     }
     
     private static String getLogicTableName(final ShardingConditions shardingConditions, final Collection<String> tableNames) {
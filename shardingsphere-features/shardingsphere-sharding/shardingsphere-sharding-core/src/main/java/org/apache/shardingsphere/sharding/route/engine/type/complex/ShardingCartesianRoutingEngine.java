@@ -27,6 +27,7 @@ import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -45,13 +46,19 @@ public final class ShardingCartesianRoutingEngine implements ShardingRouteEngine
     
     private final Collection<RouteContext> routeContexts;
     
+    private final Collection<Collection<String>> coPartitionedTableGroups;
+    
+    public ShardingCartesianRoutingEngine(final Collection<RouteContext> routeContexts) {
+        this(routeContexts, Collections.emptyList());
+    }
+    
     @Override
     public RouteContext route(final ShardingRule shardingRule) {
         RouteContext result = new RouteContext();
         for (Entry<String, Set<String>> entry : getDataSourceLogicTablesMap().entrySet()) {
             List<Set<String>> actualTableGroups = getActualTableGroups(entry.getKey(), entry.getValue());
             List<Set<RouteMapper>> routingTableGroups = toRoutingTableGroups(entry.getKey(), actualTableGroups);
-            result.getRouteUnits().addAll(getRouteUnits(entry.getKey(), Sets.cartesianProduct(routingTableGroups)));
+            result.getRouteUnits().addAll(getRouteUnits(shardingRule, entry.getKey(), Sets.cartesianProduct(routingTableGroups)));
         }
         return result;
     }
@@ -108,11 +115,33 @@ public final class ShardingCartesianRoutingEngine implements ShardingRouteEngine
         throw new IllegalStateException(String.format("Cannot found routing table factor, data source: %s, actual table: %s", dataSource, actualTable));
     }
     
-    private Collection<RouteUnit> getRouteUnits(final String dataSource, final Set<List<RouteMapper>> cartesianRoutingTableGroups) {
+    private Collection<RouteUnit> getRouteUnits(final ShardingRule shardingRule, final String dataSource, final Set<List<RouteMapper>> cartesianRoutingTableGroups) {
         Collection<RouteUnit> result = new LinkedHashSet<>();
         for (List<RouteMapper> each : cartesianRoutingTableGroups) {
-            result.add(new RouteUnit(new RouteMapper(dataSource, dataSource), each));
+            if (isCoPartitioned(shardingRule, each)) {
+                result.add(new RouteUnit(new RouteMapper(dataSource, dataSource), each));
+            }
         }
         return result;
     }
+    
+    private boolean isCoPartitioned(final ShardingRule shardingRule, final List<RouteMapper> tableMappers) {
+        for (Collection<String> each : coPartitionedTableGroups) {
+            String actualTableSuffix = null;
+            for (RouteMapper tableMapper : tableMappers) {
+                if (!each.contains(tableMapper.getLogicName())) {
+                    continue;
+                }
+                Optional<String> suffix = shardingRule.findTableRule(tableMapper.getLogicName()).flatMap(optional -> optional.findActualTableSuffix(tableMapper.getActualName()));
+                if (!suffix.isPresent()) {
+                    continue;
+                }
+                if (null != actualTableSuffix && !actualTableSuffix.equals(suffix.get())) {
+                    return false;
+                }
+                actualTableSuffix = suffix.get();
+            }
+        }
+        return true;
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.rule;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
@@ -30,6 +31,7 @@ import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.identifier.scope.SchemaRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.ColocatedTableRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.InstanceAwareRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
@@ -66,8 +68,10 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -76,7 +80,7 @@ import java.util.stream.Collectors;
  * Sharding rule.
  */
 @Getter
-public final class ShardingRule implements SchemaRule, DataNodeContainedRule, TableContainedRule, InstanceAwareRule {
+public final class ShardingRule implements SchemaRule, DataNodeContainedRule, TableContainedRule, InstanceAwareRule, ColocatedTableRule {
     
     private static final String EQUAL = "=";
     
@@ -102,6 +106,9 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
     
     private final Map<String, Collection<DataNode>> shardingTableDataNodes;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<TableRule>> actualTableRules;
+    
     public ShardingRule(final ShardingRuleConfiguration config, final Collection<String> dataSourceNames) {
         this.dataSourceNames = getDataSourceNames(config.getTables(), config.getAutoTables(), dataSourceNames);
         config.getShardingAlgorithms().forEach((key, value) -> shardingAlgorithms.put(key, ShardingAlgorithmFactory.newInstance(value)));
@@ -117,6 +124,7 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
                 : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = config.getDefaultShardingColumn();
         shardingTableDataNodes = createShardingTableDataNodes(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
         Preconditions.checkArgument(isValidBindingTableConfiguration(config.getBindingTableGroups()), "Invalid binding table configuration in ShardingRuleConfiguration.");
     }
     
@@ -135,6 +143,7 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
                 : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = config.getDefaultShardingColumn();
         shardingTableDataNodes = createShardingTableDataNodes(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
         Preconditions.checkArgument(isValidBindingTableConfiguration(config.getBindingTableGroups()), "Invalid binding table configuration in ShardingRuleConfiguration.");
     }
     
@@ -146,6 +155,16 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
         return result;
     }
     
+    private Map<String, Collection<TableRule>> createActualTableRules(final Map<String, TableRule> tableRules) {
+        Map<String, Collection<TableRule>> result = new HashMap<>();
+        for (TableRule each : tableRules.values()) {
+            for (String actualTable : each.getActualTables()) {
+                result.computeIfAbsent(actualTable.toLowerCase(), key -> new LinkedList<>()).add(each);
+            }
+        }
+        return result;
+    }
+    
     private Collection<String> getDataSourceNames(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs,
                                                   final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigs, final Collection<String> dataSourceNames) {
         if (tableRuleConfigs.isEmpty() && autoTableRuleConfigs.isEmpty()) {
@@ -327,12 +346,8 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules.values()) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
+        Collection<TableRule> result = actualTableRules.get(actualTableName.toLowerCase());
+        return null == result ? Optional.empty() : Optional.of(result.iterator().next());
     }
     
     /**
@@ -358,6 +373,7 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
      * @param logicTableNames logic table names
      * @return whether logic table is all binding tables or not
      */
+    @Override
     public boolean isAllBindingTables(final Collection<String> logicTableNames) {
         if (logicTableNames.isEmpty()) {
             return false;
@@ -449,6 +465,7 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
      * @param logicTableName logic table name
      * @return whether logic table is sharding table or not
      */
+    @Override
     public boolean isShardingTable(final String logicTableName) {
         return tableRules.containsKey(logicTableName.toLowerCase());
     }
@@ -459,6 +476,7 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
      * @param logicTableName logic table name
      * @return whether logic table is broadcast table or not
      */
+    @Override
     public boolean isBroadcastTable(final String logicTableName) {
         return broadcastTables.contains(logicTableName);
     }
@@ -475,6 +493,172 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
         return 1 == dataSourceNames.size();
     }
     
+    @Override
+    public boolean isColocatedJoin(final String leftTableName, final List<String> leftColumnNames, final String rightTableName, final List<String> rightColumnNames) {
+        if (!isAllBindingTables(Arrays.asList(leftTableName, rightTableName))) {
+            return false;
+        }
+        TableRule leftTableRule = getTableRule(leftTableName);
+        TableRule rightTableRule = getTableRule(rightTableName);
+        return isJoinedOnShardingColumns(getDatabaseShardingStrategyConfiguration(leftTableRule), getDatabaseShardingStrategyConfiguration(rightTableRule), leftColumnNames, rightColumnNames)
+                && isJoinedOnShardingColumns(getTableShardingStrategyConfiguration(leftTableRule), getTableShardingStrategyConfiguration(rightTableRule), leftColumnNames, rightColumnNames);
+    }
+    
+    @Override
+    public boolean isDataNodeDeterminedByColumn(final String logicTableName, final String columnName) {
+        Optional<TableRule> tableRule = findTableRule(logicTableName);
+        if (!tableRule.isPresent()) {
+            return false;
+        }
+        boolean multipleDataSources = tableRule.get().getActualDatasourceNames().size() > 1;
+        boolean multipleTables = tableRule.get().getActualDatasourceNames().stream().anyMatch(each -> tableRule.get().getActualTableNames(each).size() > 1);
+        return isShardedByColumn(getDatabaseShardingStrategyConfiguration(tableRule.get()), columnName, multipleDataSources)
+                && isShardedByColumn(getTableShardingStrategyConfiguration(tableRule.get()), columnName, multipleTables);
+    }
+    
+    private boolean isShardedByColumn(final ShardingStrategyConfiguration shardingStrategyConfig, final String columnName, final boolean multipleTargets) {
+        return !multipleTargets || shardingStrategyConfig instanceof StandardShardingStrategyConfiguration && findShardingColumn(shardingStrategyConfig, columnName).isPresent();
+    }
+    
+    private boolean isJoinedOnShardingColumns(final ShardingStrategyConfiguration leftConfig, final ShardingStrategyConfiguration rightConfig,
+                                              final List<String> leftColumnNames, final List<String> rightColumnNames) {
+        if (!(leftConfig instanceof StandardShardingStrategyConfiguration)) {
+            return true;
+        }
+        for (int i = 0; i < leftColumnNames.size(); i++) {
+            if (findShardingColumn(leftConfig, leftColumnNames.get(i)).isPresent() && findShardingColumn(rightConfig, rightColumnNames.get(i)).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get co-partitioned table groups.
+     *
+     * <p>Tables in same group are joined by equi-join conditions on their table sharding columns with sharding algorithms of same type and props,
+     * and have identical actual table suffixes in every data source, so only actual tables with same suffix in same data source can match each other.
+     * Only join conditions and where condition of top level select are analyzed, because conditions of subqueries do not join tables of top level select.</p>
+     *
+     * @param database database
+     * @param sqlStatementContext SQL statement context
+     * @param logicTableNames logic table names
+     * @return co-partitioned table groups
+     */
+    public Collection<Collection<String>> getCoPartitionedTableGroups(final ShardingSphereDatabase database, final SQLStatementContext<?> sqlStatementContext,
+                                                                      final Collection<String> logicTableNames) {
+        if (logicTableNames.size() < 2 || !(sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isContainsJoinQuery())) {
+            return Collections.emptyList();
+        }
+        String defaultSchema = sqlStatementContext.getDatabaseType().getDefaultSchema(database.getName());
+        ShardingSphereSchema schema = sqlStatementContext.getTablesContext().getSchemaName()
+                .map(optional -> database.getSchemas().get(optional)).orElseGet(() -> database.getSchemas().get(defaultSchema));
+        SelectStatementContext select = (SelectStatementContext) sqlStatementContext;
+        Collection<WhereSegment> whereSegments = new LinkedList<>(WhereExtractUtil.getJoinWhereSegments(select.getSqlStatement()));
+        select.getSqlStatement().getWhere().ifPresent(whereSegments::add);
+        Collection<Collection<String>> result = new LinkedList<>();
+        for (WhereSegment each : whereSegments) {
+            Collection<AndPredicate> andPredicates = ExpressionExtractUtil.getAndPredicates(each.getExpr());
+            if (1 != andPredicates.size()) {
+                continue;
+            }
+            for (ExpressionSegment predicate : andPredicates.iterator().next().getPredicates()) {
+                findCoPartitionedJoinTables(schema, select, predicate).ifPresent(optional -> mergeCoPartitionedTables(result, optional));
+            }
+        }
+        return result;
+    }
+    
+    private Optional<Collection<String>> findCoPartitionedJoinTables(final ShardingSphereSchema schema, final SelectStatementContext select, final ExpressionSegment predicate) {
+        if (!isJoinConditionExpression(predicate)) {
+            return Optional.empty();
+        }
+        ColumnSegment leftColumn = (ColumnSegment) ((BinaryOperationExpression) predicate).getLeft();
+        ColumnSegment rightColumn = (ColumnSegment) ((BinaryOperationExpression) predicate).getRight();
+        Map<String, String> columnExpressionTableNames = select.getTablesContext().findTableNamesByColumnSegment(Arrays.asList(leftColumn, rightColumn), schema);
+        String leftTableName = columnExpressionTableNames.get(leftColumn.getExpression());
+        String rightTableName = columnExpressionTableNames.get(rightColumn.getExpression());
+        if (null == leftTableName || null == rightTableName || leftTableName.equalsIgnoreCase(rightTableName)) {
+            return Optional.empty();
+        }
+        Optional<TableRule> leftTableRule = findTableRule(leftTableName);
+        Optional<TableRule> rightTableRule = findTableRule(rightTableName);
+        if (!leftTableRule.isPresent() || !rightTableRule.isPresent()
+                || !isCoPartitioned(leftTableRule.get(), leftColumn.getIdentifier().getValue(), rightTableRule.get(), rightColumn.getIdentifier().getValue())) {
+            return Optional.empty();
+        }
+        return Optional.of(Arrays.asList(leftTableRule.get().getLogicTable(), rightTableRule.get().getLogicTable()));
+    }
+    
+    private boolean isCoPartitioned(final TableRule leftTableRule, final String leftColumnName, final TableRule rightTableRule, final String rightColumnName) {
+        ShardingStrategyConfiguration leftConfig = getTableShardingStrategyConfiguration(leftTableRule);
+        ShardingStrategyConfiguration rightConfig = getTableShardingStrategyConfiguration(rightTableRule);
+        if (!(leftConfig instanceof StandardShardingStrategyConfiguration) || !(rightConfig instanceof StandardShardingStrategyConfiguration)) {
+            return false;
+        }
+        return findShardingColumn(leftConfig, leftColumnName).isPresent() && findShardingColumn(rightConfig, rightColumnName).isPresent()
+                && isSameActualTableSuffixes(leftTableRule, rightTableRule)
+                && isCompatibleShardingAlgorithm(leftTableRule.getLogicTable(), leftConfig.getShardingAlgorithmName(), rightTableRule.getLogicTable(), rightConfig.getShardingAlgorithmName());
+    }
+    
+    private boolean isSameActualTableSuffixes(final TableRule leftTableRule, final TableRule rightTableRule) {
+        if (!new HashSet<>(leftTableRule.getActualDatasourceNames()).equals(new HashSet<>(rightTableRule.getActualDatasourceNames()))) {
+            return false;
+        }
+        for (String each : leftTableRule.getActualDatasourceNames()) {
+            Optional<Collection<String>> leftSuffixes = findActualTableSuffixes(leftTableRule, each);
+            if (!leftSuffixes.isPresent() || !leftSuffixes.equals(findActualTableSuffixes(rightTableRule, each))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Optional<Collection<String>> findActualTableSuffixes(final TableRule tableRule, final String dataSourceName) {
+        Collection<String> result = new HashSet<>();
+        for (String each : tableRule.getActualTableNames(dataSourceName)) {
+            Optional<String> suffix = tableRule.findActualTableSuffix(each);
+            if (!suffix.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(suffix.get());
+        }
+        return Optional.of(result);
+    }
+    
+    private boolean isCompatibleShardingAlgorithm(final String leftLogicTable, final String leftAlgorithmName, final String rightLogicTable, final String rightAlgorithmName) {
+        ShardingAlgorithm leftAlgorithm = null == leftAlgorithmName ? null : shardingAlgorithms.get(leftAlgorithmName);
+        ShardingAlgorithm rightAlgorithm = null == rightAlgorithmName ? null : shardingAlgorithms.get(rightAlgorithmName);
+        if (null == leftAlgorithm || null == rightAlgorithm || null == leftAlgorithm.getProps() || null == rightAlgorithm.getProps()
+                || !leftAlgorithm.getType().equalsIgnoreCase(rightAlgorithm.getType())) {
+            return false;
+        }
+        return getLogicTableIndependentProps(leftAlgorithm.getProps(), leftLogicTable).equals(getLogicTableIndependentProps(rightAlgorithm.getProps(), rightLogicTable));
+    }
+    
+    private Map<String, String> getLogicTableIndependentProps(final Properties props, final String logicTable) {
+        Map<String, String> result = new HashMap<>(props.size(), 1);
+        for (Entry<Object, Object> entry : props.entrySet()) {
+            String value = String.valueOf(entry.getValue()).trim();
+            result.put(String.valueOf(entry.getKey()), value.toLowerCase().startsWith(logicTable.toLowerCase()) ? value.substring(logicTable.length()) : value);
+        }
+        return result;
+    }
+    
+    private void mergeCoPartitionedTables(final Collection<Collection<String>> tableGroups, final Collection<String> joinTables) {
+        Collection<String> mergedGroup = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        mergedGroup.addAll(joinTables);
+        Iterator<Collection<String>> iterator = tableGroups.iterator();
+        while (iterator.hasNext()) {
+            Collection<String> each = iterator.next();
+            if (joinTables.stream().anyMatch(each::contains)) {
+                mergedGroup.addAll(each);
+                iterator.remove();
+            }
+        }
+        tableGroups.add(mergedGroup);
+    }
+    
     /**
      * Judge whether a table rule exists for logic tables.
      *
@@ -560,12 +744,26 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys of logic table.
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys
+     * @return generated keys
+     */
+    public Collection<Comparable<?>> generateKeys(final String logicTableName, final int count) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKeys(count);
+    }
+    
+    private KeyGenerateAlgorithm getKeyGenerateAlgorithm(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingSphereConfigurationException("Cannot find strategy for generate keys.");
         }
-        KeyGenerateAlgorithm keyGenerator = null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
-        return keyGenerator.generateKey();
+        return null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
     }
     
     /**
@@ -627,7 +825,7 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
      * @return logic tables
      */
     public Collection<String> getLogicTablesByActualTable(final String actualTable) {
-        return tableRules.values().stream().filter(each -> each.isExisted(actualTable)).map(TableRule::getLogicTable).collect(Collectors.toSet());
+        return actualTableRules.getOrDefault(actualTable.toLowerCase(), Collections.emptyList()).stream().map(TableRule::getLogicTable).collect(Collectors.toCollection(LinkedHashSet::new));
     }
     
     @Override
@@ -237,6 +237,16 @@ public final class TableRule {
         return datasourceToTablesMap.getOrDefault(targetDataSource, Collections.emptySet());
     }
     
+    /**
+     * Find actual table suffix, which is the part of actual table name after logic table name.
+     *
+     * @param actualTableName actual table name
+     * @return actual table suffix in lower case, empty if actual table name does not start with logic table name
+     */
+    public Optional<String> findActualTableSuffix(final String actualTableName) {
+        return actualTableName.toLowerCase().startsWith(logicTable.toLowerCase()) ? Optional.of(actualTableName.substring(logicTable.length()).toLowerCase()) : Optional.empty();
+    }
+    
     int findActualTableIndex(final String dataSourceName, final String actualTableName) {
         return dataNodeIndexMap.getOrDefault(new DataNode(dataSourceName, actualTableName), -1);
     }
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.sharding.algorithm.keygen.fixture.FixedTimeService;
+import org.apache.shardingsphere.sharding.factory.KeyGenerateAlgorithmFactory;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LockFreeSnowflakeKeyGenerateAlgorithmTest {
+    
+    private static final int DEFAULT_KEY_AMOUNT = 10;
+    
+    @Test
+    public void assertGenerateKeyWithMultipleThreads() throws ExecutionException, InterruptedException {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("LOCK_FREE_SNOWFLAKE", new Properties()));
+        Collection<Future<Collection<Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit((Callable<Collection<Comparable<?>>>) () -> generateKeys(algorithm, 1000)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(threadNumber * 1000, 1);
+        for (Future<Collection<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 1000));
+    }
+    
+    private List<Comparable<?>> generateKeys(final KeyGenerateAlgorithm algorithm, final int count) {
+        List<Comparable<?>> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(algorithm.generateKey());
+        }
+        return result;
+    }
+    
+    @Test
+    public void assertGenerateKeyWithSingleThread() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("LOCK_FREE_SNOWFLAKE", new Properties()));
+        List<Comparable<?>> expected = Arrays.asList(0L, 4194305L, 4194306L, 8388608L, 8388609L, 12582913L, 12582914L, 16777216L, 16777217L, 20971521L);
+        assertThat(generateKeys(algorithm, DEFAULT_KEY_AMOUNT), is(expected));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(Integer.MAX_VALUE));
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("LOCK_FREE_SNOWFLAKE", new Properties()));
+        List<Comparable<?>> actual = new ArrayList<>(algorithm.generateKeys(5000));
+        assertThat(actual.size(), is(5000));
+        assertThat((Long) actual.get(4095), is(4095L));
+        assertThat((Long) actual.get(4096), is(4194304L));
+        assertThat(algorithm.generateKey(), is(4194304L + 5000 - 4096));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxTolerateTimeDifference() {
+        TimeService timeService = new TimeService() {
+            
+            private long current = SnowflakeKeyGenerateAlgorithm.EPOCH;
+            
+            @Override
+            public long getCurrentMillis() {
+                return current++;
+            }
+        };
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("LOCK_FREE_SNOWFLAKE", new Properties()));
+        List<Comparable<?>> actual = new ArrayList<>(algorithm.generateKeys(12 * 4096));
+        assertThat(new HashSet<>(actual).size(), is(12 * 4096));
+        assertThat((Long) actual.get(11 * 4096 - 1), is(10L << 22 | 4095L));
+        assertThat((Long) actual.get(11 * 4096), is(11L << 22));
+        long lastClockTimestamp = timeService.getCurrentMillis() - 1L - SnowflakeKeyGenerateAlgorithm.EPOCH;
+        assertTrue(((Long) actual.get(actual.size() - 1) >> 22) - lastClockTimestamp <= 10L);
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGenerateKeyWithClockCallBackBeyondTolerateTime() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService() {
+            
+            private long current = SnowflakeKeyGenerateAlgorithm.EPOCH + 100L;
+            
+            @Override
+            public long getCurrentMillis() {
+                current -= 20L;
+                return current;
+            }
+        });
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("LOCK_FREE_SNOWFLAKE", new Properties()));
+        algorithm.generateKey();
+        algorithm.generateKey();
+    }
+    
+    @Test
+    public void assertGenerateKeyWithClockCallBackInTolerateTime() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService() {
+            
+            private long current = SnowflakeKeyGenerateAlgorithm.EPOCH + 100L;
+            
+            @Override
+            public long getCurrentMillis() {
+                current -= 1L;
+                return current;
+            }
+        });
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("LOCK_FREE_SNOWFLAKE", new Properties()));
+        long first = (Long) algorithm.generateKey();
+        long second = (Long) algorithm.generateKey();
+        assertTrue(second > first);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetMaxVibrationOffsetFailureWhenOutOfRange() {
+        Properties props = new Properties();
+        props.setProperty("max-vibration-offset", String.valueOf(4096));
+        KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("LOCK_FREE_SNOWFLAKE", props));
+    }
+}
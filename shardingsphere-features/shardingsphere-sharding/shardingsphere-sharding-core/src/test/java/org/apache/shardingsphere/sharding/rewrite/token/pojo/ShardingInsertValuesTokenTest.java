@@ -29,6 +29,7 @@ import org.junit.Test;
 import java.util.List;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -62,4 +63,16 @@ public final class ShardingInsertValuesTokenTest {
     public void assertToString() {
         assertThat(shardingInsertValuesToken.toString(routeUnit), is("('shardingsphere', 'test')"));
     }
+    
+    @Test
+    public void assertToStringWithDataNodes() {
+        ShardingInsertValuesToken token = new ShardingInsertValuesToken(0, 2);
+        token.getInsertValues().add(new ShardingInsertValue(
+                Collections.singletonList(new LiteralExpressionSegment(0, 0, 1)), Collections.singletonList(new DataNode("logic_ds", "tbl_0"))));
+        token.getInsertValues().add(new ShardingInsertValue(
+                Collections.singletonList(new LiteralExpressionSegment(0, 0, 2)), Collections.singletonList(new DataNode("logic_ds", "tbl_2"))));
+        token.getInsertValues().add(new ShardingInsertValue(
+                Collections.singletonList(new LiteralExpressionSegment(0, 0, 3)), Collections.singletonList(new DataNode("logic_ds", "tbl_1"))));
+        assertThat(token.toString(routeUnit), is("(1), (3)"));
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.route.engine.type.complex;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.route.engine.fixture.AbstractRoutingEngineTest;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -63,6 +64,28 @@ public final class ShardingComplexRoutingEngineTest extends AbstractRoutingEngin
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_order"));
     }
     
+    @Test
+    public void assertRoutingForNonBindingTablesWithoutCoPartitionedTables() {
+        ShardingComplexRoutingEngine complexRoutingEngine = new ShardingComplexRoutingEngine(createShardingConditions("t_order"),
+                new ConfigurationProperties(new Properties()), Arrays.asList("t_order", "t_order_item"));
+        RouteContext routeContext = complexRoutingEngine.route(createNonBindingShardingRule());
+        assertThat(routeContext.getRouteUnits().size(), is(2));
+    }
+    
+    @Test
+    public void assertRoutingForNonBindingTablesWithCoPartitionedTables() {
+        ShardingComplexRoutingEngine complexRoutingEngine = new ShardingComplexRoutingEngine(createShardingConditions("t_order"),
+                new ConfigurationProperties(new Properties()), Arrays.asList("t_order", "t_order_item"), Collections.singleton(Arrays.asList("t_order", "t_order_item")));
+        RouteContext routeContext = complexRoutingEngine.route(createNonBindingShardingRule());
+        List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
+        assertThat(routeContext.getRouteUnits().size(), is(1));
+        assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_1"));
+        List<RouteMapper> tableMappers = new ArrayList<>(routeUnits.get(0).getTableMappers());
+        assertThat(tableMappers.size(), is(2));
+        assertThat(tableMappers.get(0).getActualName(), is("t_order_1"));
+        assertThat(tableMappers.get(1).getActualName(), is("t_order_item_1"));
+    }
+    
     @Test(expected = ShardingSphereException.class)
     public void assertRoutingForNonLogicTable() {
         ShardingComplexRoutingEngine complexRoutingEngine = new ShardingComplexRoutingEngine(createShardingConditions("t_order"),
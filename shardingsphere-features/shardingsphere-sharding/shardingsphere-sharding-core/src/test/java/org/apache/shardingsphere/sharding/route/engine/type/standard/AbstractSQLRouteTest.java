@@ -57,7 +57,10 @@ public abstract class AbstractSQLRouteTest extends AbstractRoutingEngineTest {
     }
     
     protected final RouteContext assertRoute(final String sql, final List<Object> parameters, final int routeUnitSize) {
-        ShardingRule shardingRule = createAllShardingRule();
+        return assertRoute(sql, parameters, createAllShardingRule());
+    }
+    
+    protected final RouteContext assertRoute(final String sql, final List<Object> parameters, final ShardingRule shardingRule) {
         SingleTableRule singleTableRule = createSingleTableRule(Collections.singletonList(shardingRule));
         Map<String, ShardingSphereSchema> schemas = buildSchemas();
         ConfigurationProperties props = new ConfigurationProperties(new Properties());
@@ -18,13 +18,33 @@
 package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
 import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
 public final class SubqueryRouteTest extends AbstractSQLRouteTest {
     
+    @Test
+    public void assertNonBindingTablesJoinedByTableShardingColumn() {
+        String sql = "select o.order_id from t_order o join t_order_item i on o.order_id = i.order_id where o.user_id = ?";
+        RouteContext actual = assertRoute(sql, Collections.singletonList(1), createNonBindingShardingRule());
+        assertThat(actual.getRouteUnits().size(), is(2));
+    }
+    
+    @Test
+    public void assertNonBindingTablesCorrelatedByTableShardingColumnInSubquery() {
+        String sql = "select o.order_id from t_order o join t_order_item i on o.user_id = i.user_id where o.user_id = ? "
+                + "and exists (select 1 from t_order_item i2 where i2.order_id = o.order_id)";
+        RouteContext actual = assertRoute(sql, Collections.singletonList(1), createNonBindingShardingRule());
+        assertThat(actual.getRouteUnits().size(), is(4));
+    }
+    
     @Test
     public void assertOneTableDifferentConditionWithFederation() {
         String sql = "select (select max(id) from t_order b where b.user_id =? ) from t_order a where user_id = ? ";
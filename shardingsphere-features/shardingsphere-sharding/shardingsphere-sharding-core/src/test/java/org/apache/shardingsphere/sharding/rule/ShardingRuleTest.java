@@ -115,6 +115,13 @@ public final class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().findTableRuleByActualTable("table_0").isPresent());
     }
     
+    @Test
+    public void assertFindTableRuleByActualTableIgnoreCase() {
+        Optional<TableRule> actual = createMaximumShardingRule().findTableRuleByActualTable("TABLE_0");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLogicTable(), is("LOGIC_TABLE"));
+    }
+    
     @Test
     public void assertNotFindTableRuleByActualTable() {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
@@ -621,6 +628,95 @@ public final class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().isAllBindingTables(database, sqlStatementContext, Arrays.asList("logic_Table", "sub_Logic_Table")));
     }
     
+    @Test
+    public void assertGetCoPartitionedTableGroupsWithTableJoinCondition() {
+        Collection<Collection<String>> actual = getCoPartitionedTableGroups(createCoPartitionedShardingRule("ds_${0..1}.sub_logic_table_${0..1}", "sub_logic_table_inline"), "order_id");
+        assertThat(actual.size(), is(1));
+        Collection<String> tableGroup = actual.iterator().next();
+        assertThat(tableGroup.size(), is(2));
+        assertTrue(tableGroup.contains("logic_table"));
+        assertTrue(tableGroup.contains("sub_logic_table"));
+    }
+    
+    @Test
+    public void assertGetCoPartitionedTableGroupsWithDatabaseJoinConditionOnly() {
+        assertTrue(getCoPartitionedTableGroups(createCoPartitionedShardingRule("ds_${0..1}.sub_logic_table_${0..1}", "sub_logic_table_inline"), "user_id").isEmpty());
+    }
+    
+    @Test
+    public void assertGetCoPartitionedTableGroupsWithMismatchedActualTableSuffixes() {
+        assertTrue(getCoPartitionedTableGroups(createCoPartitionedShardingRule("ds_${0..1}.sub_logic_table_${1..2}", "sub_logic_table_inline"), "order_id").isEmpty());
+    }
+    
+    @Test
+    public void assertGetCoPartitionedTableGroupsWithMismatchedDataSources() {
+        assertTrue(getCoPartitionedTableGroups(createCoPartitionedShardingRule("ds_0.sub_logic_table_${0..1}", "sub_logic_table_inline"), "order_id").isEmpty());
+    }
+    
+    @Test
+    public void assertGetCoPartitionedTableGroupsWithSameShardingAlgorithmName() {
+        assertTrue(getCoPartitionedTableGroups(createCoPartitionedShardingRule("ds_${0..1}.sub_logic_table_${0..1}", "logic_table_inline"), "order_id").isEmpty());
+    }
+    
+    private Collection<Collection<String>> getCoPartitionedTableGroups(final ShardingRule shardingRule, final String joinColumnName) {
+        ColumnSegment leftJoin = createColumnSegment(joinColumnName, "logic_Table");
+        ColumnSegment rightJoin = createColumnSegment(joinColumnName, "sub_Logic_Table");
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        SelectStatementContext sqlStatementContext = createJoinSelectStatementContext(createBinaryOperationExpression(leftJoin, rightJoin, EQUAL));
+        when(sqlStatementContext.getTablesContext().findTableNamesByColumnSegment(Arrays.asList(leftJoin, rightJoin), schema)).thenReturn(createColumnTableNameMap());
+        return shardingRule.getCoPartitionedTableGroups(createDatabase(schema), sqlStatementContext, Arrays.asList("logic_Table", "sub_Logic_Table"));
+    }
+    
+    private ShardingRule createCoPartitionedShardingRule(final String subActualDataNodes, final String subTableShardingAlgorithmName) {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createCoPartitionedTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.logic_table_${0..1}", "logic_table_inline"));
+        shardingRuleConfig.getTables().add(createCoPartitionedTableRuleConfiguration("SUB_LOGIC_TABLE", subActualDataNodes, subTableShardingAlgorithmName));
+        shardingRuleConfig.getShardingAlgorithms().put("database_inline", createInlineShardingAlgorithmConfiguration("ds_${user_id % 2}"));
+        shardingRuleConfig.getShardingAlgorithms().put("logic_table_inline", createInlineShardingAlgorithmConfiguration("logic_table_${order_id % 2}"));
+        shardingRuleConfig.getShardingAlgorithms().put("sub_logic_table_inline", createInlineShardingAlgorithmConfiguration("sub_logic_table_${order_id % 2}"));
+        return new ShardingRule(shardingRuleConfig, createDataSourceNames());
+    }
+    
+    private ShardingTableRuleConfiguration createCoPartitionedTableRuleConfiguration(final String logicTableName, final String actualDataNodes, final String tableShardingAlgorithmName) {
+        ShardingTableRuleConfiguration result = new ShardingTableRuleConfiguration(logicTableName, actualDataNodes);
+        result.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+        result.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", tableShardingAlgorithmName));
+        return result;
+    }
+    
+    private ShardingSphereAlgorithmConfiguration createInlineShardingAlgorithmConfiguration(final String algorithmExpression) {
+        Properties props = new Properties();
+        props.setProperty("algorithm-expression", algorithmExpression);
+        return new ShardingSphereAlgorithmConfiguration("INLINE", props);
+    }
+    
+    @Test
+    public void assertGetCoPartitionedTableGroupsWithoutJoinQuery() {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class);
+        assertTrue(createMaximumShardingRule().getCoPartitionedTableGroups(
+                mock(ShardingSphereDatabase.class), sqlStatementContext, Arrays.asList("logic_Table", "sub_Logic_Table")).isEmpty());
+    }
+    
+    private SelectStatementContext createJoinSelectStatementContext(final BinaryOperationExpression condition) {
+        JoinTableSegment joinTable = mock(JoinTableSegment.class);
+        when(joinTable.getCondition()).thenReturn(condition);
+        MySQLSelectStatement selectStatement = mock(MySQLSelectStatement.class);
+        when(selectStatement.getFrom()).thenReturn(joinTable);
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(selectStatement);
+        when(result.isContainsJoinQuery()).thenReturn(true);
+        when(result.getDatabaseType()).thenReturn(new MySQLDatabaseType());
+        when(result.getTablesContext().getSchemaName()).thenReturn(Optional.empty());
+        return result;
+    }
+    
+    private ShardingSphereDatabase createDatabase(final ShardingSphereSchema schema) {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn(DefaultDatabase.LOGIC_NAME);
+        when(result.getSchemas().get(DefaultDatabase.LOGIC_NAME)).thenReturn(schema);
+        return result;
+    }
+    
     @Test
     public void assertIsAllTablesInSameDataSource() {
         Collection<String> logicTableNames = new LinkedHashSet<>();
@@ -633,6 +729,44 @@ public final class ShardingRuleTest {
         assertTrue(shardingRule.isAllTablesInSameDataSource(logicTableNames));
     }
     
+    @Test
+    public void assertIsColocatedJoinWithDatabaseAndTableShardingColumns() {
+        assertTrue(createMaximumShardingRule().isColocatedJoin("logic_Table", Arrays.asList("user_id", "order_id"), "sub_Logic_Table", Arrays.asList("user_id", "order_id")));
+    }
+    
+    @Test
+    public void assertIsDataNodeDeterminedByColumn() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration shardingTableRuleConfig = new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
+        shardingTableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "database_inline"));
+        shardingTableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "table_inline"));
+        shardingRuleConfig.getTables().add(shardingTableRuleConfig);
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, createDataSourceNames());
+        assertTrue(shardingRule.isDataNodeDeterminedByColumn("logic_table", "order_id"));
+        assertFalse(shardingRule.isDataNodeDeterminedByColumn("logic_table", "user_id"));
+    }
+    
+    @Test
+    public void assertIsDataNodeNotDeterminedByColumnOfTableShardingOnly() {
+        assertFalse(createMaximumShardingRule().isDataNodeDeterminedByColumn("logic_table", "order_id"));
+        assertFalse(createMaximumShardingRule().isDataNodeDeterminedByColumn("new_table", "order_id"));
+    }
+    
+    @Test
+    public void assertIsNotColocatedJoinWithoutTableShardingColumn() {
+        assertFalse(createMaximumShardingRule().isColocatedJoin("logic_Table", Collections.singletonList("user_id"), "sub_Logic_Table", Collections.singletonList("user_id")));
+    }
+    
+    @Test
+    public void assertIsNotColocatedJoinWithDifferentShardingColumns() {
+        assertFalse(createMaximumShardingRule().isColocatedJoin("logic_Table", Arrays.asList("user_id", "order_id"), "sub_Logic_Table", Arrays.asList("order_id", "user_id")));
+    }
+    
+    @Test
+    public void assertIsNotColocatedJoinWithoutBindingTables() {
+        assertFalse(createMaximumShardingRule().isColocatedJoin("logic_Table", Arrays.asList("user_id", "order_id"), "broadcast_table", Arrays.asList("user_id", "order_id")));
+    }
+    
     private BinaryOperationExpression createBinaryOperationExpression(final ExpressionSegment left, final ExpressionSegment right, final String operator) {
         BinaryOperationExpression result = mock(BinaryOperationExpression.class);
         when(result.getLeft()).thenReturn(left);
@@ -662,6 +796,7 @@ public final class ShardingRuleTest {
     public void assertGetLogicTablesByActualTable() {
         assertThat(createShardingRuleWithSameActualTablesButDifferentLogicTables().getLogicTablesByActualTable("table_0"),
                 is(new LinkedHashSet<>(Arrays.asList("ID_STRATEGY_LOGIC_TABLE", "HINT_STRATEGY_LOGIC_TABLE"))));
+        assertTrue(createShardingRuleWithSameActualTablesButDifferentLogicTables().getLogicTablesByActualTable("table_3").isEmpty());
     }
     
     private ShardingRule createShardingRuleWithSameActualTablesButDifferentLogicTables() {
@@ -113,7 +113,7 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
     }
     
     private List<InsertValueContext> getInsertValueContexts(final List<Object> parameters, final AtomicInteger parametersOffset, final List<List<ExpressionSegment>> valueExpressions) {
-        List<InsertValueContext> result = new LinkedList<>();
+        List<InsertValueContext> result = new ArrayList<>(valueExpressions.size());
         for (Collection<ExpressionSegment> each : valueExpressions) {
             InsertValueContext insertValueContext = new InsertValueContext(each, parameters, parametersOffset.get());
             result.add(insertValueContext);
@@ -160,7 +160,7 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
      * @return grouped parameters
      */
     public List<List<Object>> getGroupedParameters() {
-        List<List<Object>> result = new LinkedList<>();
+        List<List<Object>> result = new ArrayList<>(insertValueContexts.size() + 1);
         for (InsertValueContext each : insertValueContexts) {
             result.add(each.getParameters());
         }
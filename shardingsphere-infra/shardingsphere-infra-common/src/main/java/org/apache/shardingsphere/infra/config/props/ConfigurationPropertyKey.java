@@ -132,7 +132,17 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * Proxy Netty backlog size.
      */
-    PROXY_NETTY_BACKLOG("proxy-netty-backlog", "1024", int.class, false);
+    PROXY_NETTY_BACKLOG("proxy-netty-backlog", "1024", int.class, false),
+    
+    /**
+     * Whether start compute node from meta data snapshot persisted in repository, actual meta data will be verified in background.
+     */
+    METADATA_SNAPSHOT_ENABLED("metadata-snapshot-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Whether record latency histograms of kernel stages and data sources.
+     */
+    KERNEL_METRICS_ENABLED("kernel-metrics-enabled", String.valueOf(Boolean.FALSE), boolean.class, false);
     
     private final String key;
     
@@ -52,6 +52,12 @@ public final class OnRuleAlteredActionConfiguration {
         private final Integer shardingSize;
         
         private final ShardingSphereAlgorithmConfiguration rateLimiter;
+        
+        private final String decodingPlugin;
+        
+        public InputConfiguration(final Integer workerThread, final Integer batchSize, final Integer shardingSize, final ShardingSphereAlgorithmConfiguration rateLimiter) {
+            this(workerThread, batchSize, shardingSize, rateLimiter, null);
+        }
     }
     
     @RequiredArgsConstructor
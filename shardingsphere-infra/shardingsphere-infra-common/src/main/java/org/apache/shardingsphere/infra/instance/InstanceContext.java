@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.instance;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
 import org.apache.shardingsphere.infra.instance.definition.InstanceId;
@@ -26,10 +27,15 @@ import org.apache.shardingsphere.infra.lock.LockContext;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Instance context.
@@ -47,6 +53,9 @@ public final class InstanceContext {
     
     private final Collection<ComputeNodeInstance> computeNodeInstances = new LinkedList<>();
     
+    @Getter(AccessLevel.NONE)
+    private volatile Map<InstanceType, Map<Set<String>, List<InstanceId>>> computeNodeInstanceIdsIndex = new ConcurrentHashMap<>();
+    
     public InstanceContext(final ComputeNodeInstance instance, final WorkerIdGenerator workerIdGenerator, final ModeConfiguration modeConfiguration, final LockContext lockContext) {
         this.instance = instance;
         this.workerIdGenerator = workerIdGenerator;
@@ -99,6 +108,7 @@ public final class InstanceContext {
             instance.setLabels(labels);
         }
         computeNodeInstances.stream().filter(each -> each.getInstanceDefinition().getInstanceId().getId().equals(instanceId)).forEach(each -> each.setLabels(labels));
+        computeNodeInstanceIdsIndex = new ConcurrentHashMap<>();
     }
     
     /**
@@ -133,6 +143,7 @@ public final class InstanceContext {
     public void addComputeNodeInstance(final ComputeNodeInstance instance) {
         computeNodeInstances.removeIf(each -> each.getInstanceDefinition().getInstanceId().getId().equalsIgnoreCase(instance.getInstanceDefinition().getInstanceId().getId()));
         computeNodeInstances.add(instance);
+        computeNodeInstanceIdsIndex = new ConcurrentHashMap<>();
     }
     
     /**
@@ -142,16 +153,29 @@ public final class InstanceContext {
      */
     public void deleteComputeNodeInstance(final ComputeNodeInstance instance) {
         computeNodeInstances.removeIf(each -> each.getInstanceDefinition().getInstanceId().getId().equalsIgnoreCase(instance.getInstanceDefinition().getInstanceId().getId()));
+        computeNodeInstanceIdsIndex = new ConcurrentHashMap<>();
     }
     
     /**
      * Get compute node instances by instance type and labels.
+     * 
+     * <p>Results are indexed by instance type and labels until compute node instances or their labels change.</p>
      *
      * @param instanceType instance type
      * @param labels collection of contained label
      * @return compute node instances
      */
     public List<InstanceId> getComputeNodeInstanceIds(final InstanceType instanceType, final Collection<String> labels) {
+        Map<Set<String>, List<InstanceId>> instanceIds = computeNodeInstanceIdsIndex.computeIfAbsent(instanceType, key -> new ConcurrentHashMap<>());
+        List<InstanceId> result = instanceIds.get(labels instanceof Set ? labels : new HashSet<>(labels));
+        if (null == result) {
+            result = Collections.unmodifiableList(loadComputeNodeInstanceIds(instanceType, labels));
+            instanceIds.put(new HashSet<>(labels), result);
+        }
+        return result;
+    }
+    
+    private List<InstanceId> loadComputeNodeInstanceIds(final InstanceType instanceType, final Collection<String> labels) {
         List<InstanceId> result = new ArrayList<>(computeNodeInstances.size());
         for (ComputeNodeInstance each : computeNodeInstances) {
             if (each.getInstanceDefinition().getInstanceType() == instanceType && labels.stream().anyMatch(((Collection<String>) each.getLabels())::contains)) {
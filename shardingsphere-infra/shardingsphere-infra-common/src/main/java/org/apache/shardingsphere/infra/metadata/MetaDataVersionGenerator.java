@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Meta data version generator.
+ * 
+ * <p>Versions are unique and increasing across databases and schemas of current compute node.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetaDataVersionGenerator {
+    
+    private static final AtomicLong VERSION = new AtomicLong();
+    
+    /**
+     * Generate next meta data version.
+     * 
+     * @return next meta data version
+     */
+    public static long nextVersion() {
+        return VERSION.incrementAndGet();
+    }
+}
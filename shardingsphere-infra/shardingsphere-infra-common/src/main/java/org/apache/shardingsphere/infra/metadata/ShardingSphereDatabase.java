@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.metadata;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
@@ -56,6 +57,9 @@ public final class ShardingSphereDatabase {
     
     private final Map<String, ShardingSphereSchema> schemas;
     
+    @Getter(AccessLevel.NONE)
+    private final long version = MetaDataVersionGenerator.nextVersion();
+    
     /**
      * Create database meta data.
      * 
@@ -76,6 +80,26 @@ public final class ShardingSphereDatabase {
         return create(name, protocolType, databaseConfig, databaseRules, schemas);
     }
     
+    /**
+     * Create database meta data from persisted schemas snapshot.
+     *
+     * @param name database name
+     * @param protocolType database protocol type
+     * @param storageType storage type
+     * @param databaseConfig database configuration
+     * @param props configuration properties
+     * @param snapshotSchemas persisted snapshot schemas
+     * @return database meta data
+     */
+    public static ShardingSphereDatabase create(final String name, final DatabaseType protocolType, final DatabaseType storageType, final DatabaseConfiguration databaseConfig,
+                                                final ConfigurationProperties props, final Map<String, ShardingSphereSchema> snapshotSchemas) {
+        Collection<ShardingSphereRule> databaseRules = DatabaseRulesBuilder.build(name, databaseConfig, props);
+        Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>();
+        schemas.putAll(SchemaLoader.load(name, protocolType, storageType, databaseConfig.getDataSources(), databaseRules, props, snapshotSchemas));
+        schemas.putAll(SystemSchemaBuilder.build(name, protocolType));
+        return create(name, protocolType, databaseConfig, databaseRules, schemas);
+    }
+    
     /**
      * Create system database meta data.
      * 
@@ -109,6 +133,22 @@ public final class ShardingSphereDatabase {
         return !ruleMetaData.getRules().isEmpty() && !resource.getDataSources().isEmpty();
     }
     
+    /**
+     * Get meta data version.
+     * 
+     * <p>Versions of database and schemas are unique and increase whenever any database or schema is created or altered.
+     * Rule changes always create a new database, so the max one changes with both rules and schemas of the database.</p>
+     *
+     * @return meta data version
+     */
+    public long getMetaDataVersion() {
+        long result = version;
+        for (ShardingSphereSchema each : schemas.values()) {
+            result = Math.max(result, each.getVersion());
+        }
+        return result;
+    }
+    
     /**
      * Determine whether there is a data source.
      *
@@ -17,15 +17,21 @@
 
 package org.apache.shardingsphere.infra.metadata.schema;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.metadata.MetaDataVersionGenerator;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * ShardingSphere schema.
@@ -35,6 +41,14 @@ public final class ShardingSphereSchema {
     
     private final Map<String, TableMetaData> tables;
     
+    private volatile long version = MetaDataVersionGenerator.nextVersion();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Function<String, Optional<TableMetaData>>> lazyLoadedTables = new ConcurrentHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private volatile Consumer<TableMetaData> lazyLoadedTableListener;
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema() {
         tables = new ConcurrentHashMap<>();
@@ -51,7 +65,12 @@ public final class ShardingSphereSchema {
      * @return all table names
      */
     public Collection<String> getAllTableNames() {
-        return tables.keySet();
+        if (lazyLoadedTables.isEmpty()) {
+            return tables.keySet();
+        }
+        Collection<String> result = new HashSet<>(tables.keySet());
+        result.addAll(lazyLoadedTables.keySet());
+        return result;
     }
     
     /**
@@ -61,7 +80,28 @@ public final class ShardingSphereSchema {
      * @return table meta data
      */
     public TableMetaData get(final String tableName) {
-        return tables.get(tableName.toLowerCase());
+        String lowerCaseTableName = tableName.toLowerCase();
+        TableMetaData result = tables.get(lowerCaseTableName);
+        return null == result && lazyLoadedTables.containsKey(lowerCaseTableName) ? loadLazyLoadedTable(lowerCaseTableName) : result;
+    }
+    
+    private TableMetaData loadLazyLoadedTable(final String tableName) {
+        Function<String, Optional<TableMetaData>> loader = lazyLoadedTables.get(tableName);
+        if (null == loader) {
+            return tables.get(tableName);
+        }
+        Optional<TableMetaData> loadedTableMetaData = loader.apply(tableName);
+        TableMetaData result = loadedTableMetaData.map(optional -> tables.putIfAbsent(tableName, optional)).orElseGet(() -> tables.get(tableName));
+        lazyLoadedTables.remove(tableName, loader);
+        if (null != result || !loadedTableMetaData.isPresent()) {
+            return result;
+        }
+        version = MetaDataVersionGenerator.nextVersion();
+        Consumer<TableMetaData> listener = lazyLoadedTableListener;
+        if (null != listener) {
+            listener.accept(loadedTableMetaData.get());
+        }
+        return loadedTableMetaData.get();
     }
     
     /**
@@ -71,7 +111,9 @@ public final class ShardingSphereSchema {
      * @param tableMetaData table meta data
      */
     public void put(final String tableName, final TableMetaData tableMetaData) {
+        lazyLoadedTables.remove(tableName.toLowerCase());
         tables.put(tableName.toLowerCase(), tableMetaData);
+        version = MetaDataVersionGenerator.nextVersion();
     }
     
     /**
@@ -85,13 +127,38 @@ public final class ShardingSphereSchema {
         }
     }
     
+    /**
+     * Add lazy loaded tables, which are loaded by loader on first access.
+     *
+     * @param tableNames table names
+     * @param loader table meta data loader
+     */
+    public void putLazyLoadedTables(final Collection<String> tableNames, final Function<String, Optional<TableMetaData>> loader) {
+        for (String each : tableNames) {
+            if (!tables.containsKey(each.toLowerCase())) {
+                lazyLoadedTables.put(each.toLowerCase(), loader);
+            }
+        }
+    }
+    
+    /**
+     * Set lazy loaded table listener, which is notified with table meta data after a lazy loaded table is loaded.
+     *
+     * @param lazyLoadedTableListener lazy loaded table listener
+     */
+    public void setLazyLoadedTableListener(final Consumer<TableMetaData> lazyLoadedTableListener) {
+        this.lazyLoadedTableListener = lazyLoadedTableListener;
+    }
+    
     /**
      * Remove table meta data.
      *
      * @param tableName table name
      */
     public void remove(final String tableName) {
+        lazyLoadedTables.remove(tableName.toLowerCase());
         tables.remove(tableName.toLowerCase());
+        version = MetaDataVersionGenerator.nextVersion();
     }
     
     /**
@@ -101,7 +168,7 @@ public final class ShardingSphereSchema {
      * @return contains table from table meta data or not
      */
     public boolean containsTable(final String tableName) {
-        return tables.containsKey(tableName.toLowerCase());
+        return null != get(tableName);
     }
     
     /**
@@ -17,12 +17,14 @@
 
 package org.apache.shardingsphere.infra.metadata.schema.loader;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
 import org.apache.shardingsphere.infra.metadata.schema.builder.TableMetaDataBuilder;
 import org.apache.shardingsphere.infra.metadata.schema.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 
@@ -32,12 +34,15 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * Schema loader.
  */
+@Slf4j
 public final class SchemaLoader {
     
     /**
@@ -67,6 +72,38 @@ public final class SchemaLoader {
         return result;
     }
     
+    /**
+     * Load schema from persisted snapshot, tables missing from snapshot will be loaded on first access.
+     *
+     * @param databaseName database name
+     * @param protocolType protocol type
+     * @param storageType storage type
+     * @param dataSourceMap data source map
+     * @param rules rules
+     * @param props configuration properties
+     * @param snapshotSchemas persisted snapshot schemas
+     * @return loaded schema
+     */
+    public static Map<String, ShardingSphereSchema> load(final String databaseName, final DatabaseType protocolType, final DatabaseType storageType, final Map<String, DataSource> dataSourceMap,
+                                                         final Collection<ShardingSphereRule> rules, final ConfigurationProperties props, final Map<String, ShardingSphereSchema> snapshotSchemas) {
+        String defaultSchemaName = protocolType.getDefaultSchema(databaseName);
+        Map<String, ShardingSphereSchema> result = new ConcurrentHashMap<>();
+        snapshotSchemas.forEach((key, value) -> result.put(key.toLowerCase(), value));
+        ShardingSphereSchema defaultSchema = result.computeIfAbsent(defaultSchemaName, key -> new ShardingSphereSchema());
+        SchemaBuilderMaterials materials = new SchemaBuilderMaterials(protocolType, storageType, dataSourceMap, rules, props, defaultSchemaName);
+        defaultSchema.putLazyLoadedTables(getAllTableNames(rules), tableName -> loadTable(tableName, materials));
+        return result;
+    }
+    
+    private static Optional<TableMetaData> loadTable(final String tableName, final SchemaBuilderMaterials materials) {
+        try {
+            return TableMetaDataBuilder.load(Collections.singletonList(tableName), materials).values().stream().map(each -> each.getTables().get(tableName)).filter(Objects::nonNull).findFirst();
+        } catch (final SQLException ex) {
+            log.error("Lazy load meta data of table `{}` failed", tableName, ex);
+            return Optional.empty();
+        }
+    }
+    
     private static Collection<String> getAllTableNames(final Collection<ShardingSphereRule> rules) {
         return rules.stream().filter(each -> each instanceof TableContainedRule).flatMap(each -> ((TableContainedRule) each).getTables().stream()).collect(Collectors.toSet());
     }
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datanode.DataNodes;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableStatistics;
+import org.apache.shardingsphere.infra.metadata.schema.statistics.spi.DialectTableStatisticsLoader;
+import org.apache.shardingsphere.infra.metadata.schema.statistics.spi.DialectTableStatisticsLoaderFactory;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.ColocatedTableRule;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Table statistics loader engine.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableStatisticsLoaderEngine {
+    
+    /**
+     * Load statistics of logic tables, which are aggregated from statistics of all actual tables.
+     *
+     * <p>Unique columns are only reported when they are unique across actual tables,
+     * which means logic table has single data node, or column is unique in every actual table and decides data node of rows alone.</p>
+     *
+     * @param tableNames logic table names
+     * @param storageType storage type
+     * @param dataSourceMap data source map
+     * @param rules rules
+     * @return table statistics map, key is logic table name
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, TableStatistics> load(final Collection<String> tableNames, final DatabaseType storageType,
+                                                    final Map<String, DataSource> dataSourceMap, final Collection<ShardingSphereRule> rules) throws SQLException {
+        Optional<DialectTableStatisticsLoader> loader = DialectTableStatisticsLoaderFactory.findInstance(storageType);
+        if (!loader.isPresent() || dataSourceMap.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        DataNodes dataNodes = new DataNodes(rules);
+        Map<String, Collection<TableStatistics>> actualTableStatistics = new LinkedHashMap<>(tableNames.size(), 1);
+        for (Entry<String, Map<String, Collection<String>>> entry : getDataSourceTableGroups(tableNames, dataSourceMap, dataNodes).entrySet()) {
+            Map<String, TableStatistics> loaded = loader.get().load(dataSourceMap.get(entry.getKey()), entry.getValue().keySet());
+            for (Entry<String, TableStatistics> each : loaded.entrySet()) {
+                for (String logicTable : entry.getValue().getOrDefault(each.getKey(), Collections.emptyList())) {
+                    actualTableStatistics.computeIfAbsent(logicTable, key -> new LinkedList<>()).add(each.getValue());
+                }
+            }
+        }
+        Map<String, TableStatistics> result = new LinkedHashMap<>(actualTableStatistics.size(), 1);
+        for (Entry<String, Collection<TableStatistics>> entry : actualTableStatistics.entrySet()) {
+            boolean singleDataNode = dataNodes.getDataNodes(entry.getKey()).size() <= 1;
+            result.put(entry.getKey(), merge(entry.getKey(), entry.getValue(), singleDataNode, rules));
+        }
+        return result;
+    }
+    
+    private static Map<String, Map<String, Collection<String>>> getDataSourceTableGroups(final Collection<String> tableNames,
+                                                                                         final Map<String, DataSource> dataSourceMap, final DataNodes dataNodes) {
+        Map<String, Map<String, Collection<String>>> result = new LinkedHashMap<>();
+        for (String each : tableNames) {
+            Collection<DataNode> tableDataNodes = dataNodes.getDataNodes(each);
+            if (tableDataNodes.isEmpty()) {
+                addDataSourceTableGroup(result, dataSourceMap.keySet().iterator().next(), each, each);
+                continue;
+            }
+            for (DataNode dataNode : tableDataNodes) {
+                String dataSourceName = dataNode.getDataSourceName().contains(".") ? dataNode.getDataSourceName().split("\\.")[0] : dataNode.getDataSourceName();
+                if (dataSourceMap.containsKey(dataSourceName)) {
+                    addDataSourceTableGroup(result, dataSourceName, dataNode.getTableName(), each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static void addDataSourceTableGroup(final Map<String, Map<String, Collection<String>>> dataSourceTableGroups, final String dataSourceName,
+                                                final String actualTableName, final String logicTableName) {
+        dataSourceTableGroups.computeIfAbsent(dataSourceName, key -> new LinkedHashMap<>()).computeIfAbsent(actualTableName, key -> new LinkedList<>()).add(logicTableName);
+    }
+    
+    private static TableStatistics merge(final String logicTableName, final Collection<TableStatistics> actualTableStatistics,
+                                         final boolean singleDataNode, final Collection<ShardingSphereRule> rules) {
+        long rowCount = 0L;
+        Map<String, Long> columnDistinctCounts = new LinkedHashMap<>();
+        Collection<String> uniqueColumns = null;
+        for (TableStatistics each : actualTableStatistics) {
+            rowCount += each.getRowCount();
+            each.getColumnDistinctCounts().forEach((key, value) -> columnDistinctCounts.merge(key, value, Long::sum));
+            if (null == uniqueColumns) {
+                uniqueColumns = new LinkedHashSet<>(each.getUniqueColumns());
+            } else {
+                uniqueColumns.retainAll(each.getUniqueColumns());
+            }
+        }
+        long totalRowCount = rowCount;
+        columnDistinctCounts.replaceAll((key, value) -> Math.min(value, totalRowCount));
+        if (null == uniqueColumns) {
+            return new TableStatistics(logicTableName, rowCount, columnDistinctCounts, Collections.emptySet());
+        }
+        if (!singleDataNode) {
+            uniqueColumns.removeIf(each -> !isDataNodeDeterminedByColumn(logicTableName, each, rules));
+        }
+        return new TableStatistics(logicTableName, rowCount, columnDistinctCounts, uniqueColumns);
+    }
+    
+    private static boolean isDataNodeDeterminedByColumn(final String logicTableName, final String columnName, final Collection<ShardingSphereRule> rules) {
+        return rules.stream().anyMatch(each -> each instanceof ColocatedTableRule && ((ColocatedTableRule) each).isDataNodeDeterminedByColumn(logicTableName, columnName));
+    }
+}
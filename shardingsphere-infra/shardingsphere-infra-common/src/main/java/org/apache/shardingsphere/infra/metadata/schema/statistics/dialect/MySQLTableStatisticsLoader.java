@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.statistics.dialect;
+
+import org.apache.shardingsphere.infra.metadata.schema.model.TableStatistics;
+import org.apache.shardingsphere.infra.metadata.schema.statistics.spi.DialectTableStatisticsLoader;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+/**
+ * Table statistics loader for MySQL.
+ */
+public final class MySQLTableStatisticsLoader implements DialectTableStatisticsLoader {
+    
+    private static final String ROW_COUNT_SQL = "SELECT TABLE_NAME, TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA=? AND TABLE_NAME IN (%s)";
+    
+    private static final String INDEX_STATISTICS_SQL = "SELECT TABLE_NAME, INDEX_NAME, COLUMN_NAME, SEQ_IN_INDEX, NON_UNIQUE, CARDINALITY FROM information_schema.STATISTICS "
+            + "WHERE TABLE_SCHEMA=? AND TABLE_NAME IN (%s)";
+    
+    @Override
+    public Map<String, TableStatistics> load(final DataSource dataSource, final Collection<String> tables) throws SQLException {
+        if (tables.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, TableStatistics> result = new LinkedHashMap<>(tables.size(), 1);
+        try (Connection connection = dataSource.getConnection()) {
+            Map<String, Long> rowCounts = loadRowCounts(connection, tables);
+            Map<String, Map<String, Long>> columnDistinctCounts = new HashMap<>(rowCounts.size(), 1);
+            Map<String, Collection<String>> uniqueColumns = new HashMap<>(rowCounts.size(), 1);
+            loadIndexStatistics(connection, tables, columnDistinctCounts, uniqueColumns);
+            for (Entry<String, Long> entry : rowCounts.entrySet()) {
+                result.put(entry.getKey(), new TableStatistics(entry.getKey(), entry.getValue(),
+                        columnDistinctCounts.getOrDefault(entry.getKey(), Collections.emptyMap()), uniqueColumns.getOrDefault(entry.getKey(), Collections.emptyList())));
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Long> loadRowCounts(final Connection connection, final Collection<String> tables) throws SQLException {
+        Map<String, Long> result = new LinkedHashMap<>(tables.size(), 1);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format(ROW_COUNT_SQL, getTableNamesCondition(tables)))) {
+            preparedStatement.setString(1, connection.getCatalog());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.put(resultSet.getString("TABLE_NAME"), resultSet.getLong("TABLE_ROWS"));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private void loadIndexStatistics(final Connection connection, final Collection<String> tables,
+                                     final Map<String, Map<String, Long>> columnDistinctCounts, final Map<String, Collection<String>> uniqueColumns) throws SQLException {
+        Map<String, Collection<String>> indexColumns = new LinkedHashMap<>();
+        Map<String, String> uniqueIndexTables = new HashMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format(INDEX_STATISTICS_SQL, getTableNamesCondition(tables)))) {
+            preparedStatement.setString(1, connection.getCatalog());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String tableName = resultSet.getString("TABLE_NAME");
+                    String columnName = resultSet.getString("COLUMN_NAME").toLowerCase();
+                    String indexKey = tableName + "." + resultSet.getString("INDEX_NAME");
+                    indexColumns.computeIfAbsent(indexKey, key -> new LinkedList<>()).add(columnName);
+                    if (0 == resultSet.getInt("NON_UNIQUE")) {
+                        uniqueIndexTables.put(indexKey, tableName);
+                    }
+                    if (1 == resultSet.getInt("SEQ_IN_INDEX")) {
+                        long cardinality = resultSet.getLong("CARDINALITY");
+                        columnDistinctCounts.computeIfAbsent(tableName, key -> new LinkedHashMap<>()).merge(columnName, cardinality, Math::max);
+                    }
+                }
+            }
+        }
+        for (Entry<String, String> entry : uniqueIndexTables.entrySet()) {
+            Collection<String> columns = indexColumns.get(entry.getKey());
+            if (1 == columns.size()) {
+                uniqueColumns.computeIfAbsent(entry.getValue(), key -> new LinkedHashSet<>()).addAll(columns);
+            }
+        }
+    }
+    
+    private String getTableNamesCondition(final Collection<String> tables) {
+        return tables.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(","));
+    }
+    
+    @Override
+    public String getType() {
+        return "MySQL";
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.statistics.dialect;
+
+import org.apache.shardingsphere.infra.metadata.schema.model.TableStatistics;
+import org.apache.shardingsphere.infra.metadata.schema.statistics.spi.DialectTableStatisticsLoader;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+/**
+ * Table statistics loader for PostgreSQL.
+ */
+public final class PostgreSQLTableStatisticsLoader implements DialectTableStatisticsLoader {
+    
+    private static final String ROW_COUNT_SQL = "SELECT c.relname, c.reltuples FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace"
+            + " WHERE n.nspname = current_schema() AND c.relkind IN ('r', 'p') AND c.relname IN (%s)";
+    
+    private static final String DISTINCT_COUNT_SQL = "SELECT tablename, attname, n_distinct FROM pg_stats WHERE schemaname = current_schema() AND tablename IN (%s)";
+    
+    private static final String UNIQUE_COLUMN_SQL = "SELECT t.relname, a.attname FROM pg_index i JOIN pg_class t ON t.oid = i.indrelid JOIN pg_namespace n ON n.oid = t.relnamespace"
+            + " JOIN pg_attribute a ON a.attrelid = t.oid AND a.attnum = i.indkey[0] WHERE i.indisunique AND i.indnatts = 1 AND n.nspname = current_schema() AND t.relname IN (%s)";
+    
+    @Override
+    public Map<String, TableStatistics> load(final DataSource dataSource, final Collection<String> tables) throws SQLException {
+        if (tables.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, TableStatistics> result = new LinkedHashMap<>(tables.size(), 1);
+        try (Connection connection = dataSource.getConnection()) {
+            Map<String, Long> rowCounts = loadRowCounts(connection, tables);
+            Map<String, Map<String, Long>> columnDistinctCounts = loadColumnDistinctCounts(connection, tables, rowCounts);
+            Map<String, Collection<String>> uniqueColumns = loadUniqueColumns(connection, tables);
+            for (Entry<String, Long> entry : rowCounts.entrySet()) {
+                result.put(entry.getKey(), new TableStatistics(entry.getKey(), entry.getValue(),
+                        columnDistinctCounts.getOrDefault(entry.getKey(), Collections.emptyMap()), uniqueColumns.getOrDefault(entry.getKey(), Collections.emptyList())));
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Long> loadRowCounts(final Connection connection, final Collection<String> tables) throws SQLException {
+        Map<String, Long> result = new LinkedHashMap<>(tables.size(), 1);
+        try (
+                PreparedStatement preparedStatement = connection.prepareStatement(String.format(ROW_COUNT_SQL, getTableNamesCondition(tables)));
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                double rowCount = resultSet.getDouble("reltuples");
+                // reltuples is negative when the table has never been analyzed
+                if (rowCount >= 0) {
+                    result.put(resultSet.getString("relname"), (long) rowCount);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Map<String, Long>> loadColumnDistinctCounts(final Connection connection, final Collection<String> tables, final Map<String, Long> rowCounts) throws SQLException {
+        Map<String, Map<String, Long>> result = new HashMap<>(tables.size(), 1);
+        try (
+                PreparedStatement preparedStatement = connection.prepareStatement(String.format(DISTINCT_COUNT_SQL, getTableNamesCondition(tables)));
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                String tableName = resultSet.getString("tablename");
+                if (!rowCounts.containsKey(tableName)) {
+                    continue;
+                }
+                long distinctCount = getDistinctCount(resultSet.getDouble("n_distinct"), rowCounts.get(tableName));
+                result.computeIfAbsent(tableName, key -> new LinkedHashMap<>()).merge(resultSet.getString("attname").toLowerCase(), distinctCount, Math::max);
+            }
+        }
+        return result;
+    }
+    
+    private long getDistinctCount(final double distinct, final long rowCount) {
+        // negative n_distinct is the negated fraction of distinct values in rows
+        return distinct < 0 ? Math.round(-distinct * rowCount) : (long) distinct;
+    }
+    
+    private Map<String, Collection<String>> loadUniqueColumns(final Connection connection, final Collection<String> tables) throws SQLException {
+        Map<String, Collection<String>> result = new HashMap<>(tables.size(), 1);
+        try (
+                PreparedStatement preparedStatement = connection.prepareStatement(String.format(UNIQUE_COLUMN_SQL, getTableNamesCondition(tables)));
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                result.computeIfAbsent(resultSet.getString("relname"), key -> new LinkedHashSet<>()).add(resultSet.getString("attname").toLowerCase());
+            }
+        }
+        return result;
+    }
+    
+    private String getTableNamesCondition(final Collection<String> tables) {
+        return tables.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(","));
+    }
+    
+    @Override
+    public String getType() {
+        return "PostgreSQL";
+    }
+}
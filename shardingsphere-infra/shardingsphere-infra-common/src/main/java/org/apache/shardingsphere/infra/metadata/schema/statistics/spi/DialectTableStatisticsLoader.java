@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.statistics.spi;
+
+import org.apache.shardingsphere.infra.metadata.schema.model.TableStatistics;
+import org.apache.shardingsphere.spi.annotation.SingletonSPI;
+import org.apache.shardingsphere.spi.type.typed.TypedSPI;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Dialect table statistics loader.
+ */
+@SingletonSPI
+public interface DialectTableStatisticsLoader extends TypedSPI {
+    
+    /**
+     * Load table statistics of actual tables.
+     *
+     * @param dataSource data source
+     * @param tables actual table names
+     * @return table statistics map, key is actual table name
+     * @throws SQLException SQL exception
+     */
+    Map<String, TableStatistics> load(DataSource dataSource, Collection<String> tables) throws SQLException;
+}
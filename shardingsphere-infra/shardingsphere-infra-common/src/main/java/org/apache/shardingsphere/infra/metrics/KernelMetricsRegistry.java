@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kernel metrics registry.
+ * 
+ * <p>Latencies are recorded for each kernel stage and for each physical data source executed by kernel,
+ * failed executions are recorded too. Nothing is recorded unless kernel metrics are enabled.</p>
+ */
+public final class KernelMetricsRegistry {
+    
+    private static final KernelMetricsRegistry INSTANCE = new KernelMetricsRegistry();
+    
+    private final Map<KernelStage, LatencyHistogram> stageHistograms = new EnumMap<>(KernelStage.class);
+    
+    private final Map<String, Map<String, LatencyHistogram>> dataSourceHistograms = new ConcurrentHashMap<>();
+    
+    private volatile boolean enabled;
+    
+    private KernelMetricsRegistry() {
+        for (KernelStage each : KernelStage.values()) {
+            stageHistograms.put(each, new LatencyHistogram());
+        }
+    }
+    
+    /**
+     * Get kernel metrics registry.
+     *
+     * @return kernel metrics registry
+     */
+    public static KernelMetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Set whether kernel metrics are enabled.
+     *
+     * @param enabled whether kernel metrics are enabled
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    /**
+     * Judge whether kernel metrics are enabled.
+     *
+     * @return kernel metrics are enabled or not
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Record latency of kernel stage.
+     *
+     * @param stage kernel stage
+     * @param startNanos start time in nanoseconds
+     */
+    public void recordStage(final KernelStage stage, final long startNanos) {
+        if (enabled) {
+            stageHistograms.get(stage).record(System.nanoTime() - startNanos);
+        }
+    }
+    
+    /**
+     * Record elapsed latency of kernel stage.
+     *
+     * @param stage kernel stage
+     * @param elapsedNanos elapsed time in nanoseconds
+     */
+    public void recordStageElapsed(final KernelStage stage, final long elapsedNanos) {
+        if (enabled) {
+            stageHistograms.get(stage).record(elapsedNanos);
+        }
+    }
+    
+    /**
+     * Record latency of execution on data source.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param startNanos start time in nanoseconds
+     */
+    public void recordExecution(final String databaseName, final String dataSourceName, final long startNanos) {
+        if (!enabled || null == databaseName || null == dataSourceName) {
+            return;
+        }
+        long nanos = System.nanoTime() - startNanos;
+        Map<String, LatencyHistogram> histograms = dataSourceHistograms.get(databaseName);
+        if (null == histograms) {
+            histograms = dataSourceHistograms.computeIfAbsent(databaseName, key -> new ConcurrentHashMap<>());
+        }
+        LatencyHistogram histogram = histograms.get(dataSourceName);
+        if (null == histogram) {
+            histogram = histograms.computeIfAbsent(dataSourceName, key -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+    
+    /**
+     * Get latency histogram of kernel stage.
+     *
+     * @param stage kernel stage
+     * @return latency histogram
+     */
+    public LatencyHistogram getStageHistogram(final KernelStage stage) {
+        return stageHistograms.get(stage);
+    }
+    
+    /**
+     * Get latency histograms of data sources.
+     *
+     * @return latency histograms, key is database name, value is latency histograms of data sources in the database keyed by data source name
+     */
+    public Map<String, Map<String, LatencyHistogram>> getDataSourceHistograms() {
+        return Collections.unmodifiableMap(dataSourceHistograms);
+    }
+    
+    /**
+     * Remove latency histograms of data sources.
+     *
+     * @param databaseName database name
+     * @param dataSourceNames data source names
+     */
+    public void removeDataSources(final String databaseName, final Collection<String> dataSourceNames) {
+        Map<String, LatencyHistogram> histograms = dataSourceHistograms.get(databaseName);
+        if (null != histograms) {
+            histograms.keySet().removeAll(dataSourceNames);
+        }
+    }
+    
+    /**
+     * Remove latency histograms of all data sources in database.
+     *
+     * @param databaseName database name
+     */
+    public void removeDatabase(final String databaseName) {
+        dataSourceHistograms.remove(databaseName);
+    }
+    
+    /**
+     * Reset all recorded latencies.
+     */
+    public void reset() {
+        stageHistograms.values().forEach(LatencyHistogram::reset);
+        dataSourceHistograms.clear();
+    }
+}
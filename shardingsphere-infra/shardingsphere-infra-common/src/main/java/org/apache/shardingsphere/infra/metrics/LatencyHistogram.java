@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram.
+ * 
+ * <p>Latencies are counted in buckets of power of two nanoseconds, recording does not lock and does not allocate once buckets are warmed up.
+ * Percentiles are reported as upper bound of the matched bucket.</p>
+ */
+public final class LatencyHistogram {
+    
+    private static final int BUCKET_COUNT = Long.SIZE;
+    
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    
+    private final LongAdder totalNanos = new LongAdder();
+    
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+    
+    /**
+     * Record latency.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    public void record(final long nanos) {
+        buckets[getBucketIndex(nanos)].increment();
+        totalNanos.add(Math.max(nanos, 0L));
+    }
+    
+    private int getBucketIndex(final long nanos) {
+        return nanos <= 0L ? 0 : Math.min(BUCKET_COUNT - 1, Long.SIZE - Long.numberOfLeadingZeros(nanos));
+    }
+    
+    /**
+     * Get count of recorded latencies.
+     *
+     * @return count of recorded latencies
+     */
+    public long getCount() {
+        long result = 0L;
+        for (LongAdder each : buckets) {
+            result += each.sum();
+        }
+        return result;
+    }
+    
+    /**
+     * Get mean latency.
+     *
+     * @return mean latency in nanoseconds
+     */
+    public long getMeanNanos() {
+        long count = getCount();
+        return 0L == count ? 0L : totalNanos.sum() / count;
+    }
+    
+    /**
+     * Get percentile latency.
+     *
+     * @param percentile percentile between 0 and 1
+     * @return upper bound of percentile latency in nanoseconds
+     */
+    public long getPercentileNanos(final double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (0L == total) {
+            return 0L;
+        }
+        long threshold = Math.max(1L, (long) Math.ceil(total * percentile));
+        long accumulated = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            accumulated += counts[i];
+            if (accumulated >= threshold) {
+                return getBucketUpperBound(i);
+            }
+        }
+        return getBucketUpperBound(BUCKET_COUNT - 1);
+    }
+    
+    private long getBucketUpperBound(final int bucketIndex) {
+        return bucketIndex >= BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << bucketIndex) - 1L;
+    }
+    
+    /**
+     * Reset recorded latencies.
+     */
+    public void reset() {
+        for (LongAdder each : buckets) {
+            each.reset();
+        }
+        totalNanos.reset();
+    }
+}
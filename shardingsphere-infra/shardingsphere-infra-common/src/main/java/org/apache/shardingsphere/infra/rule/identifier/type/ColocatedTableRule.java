@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rule.identifier.type;
+
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ShardingSphere rule which contains colocated tables, rows of colocated tables which can be joined are stored in same data node.
+ */
+public interface ColocatedTableRule extends ShardingSphereRule {
+    
+    /**
+     * Judge whether logic table is sharding table or not.
+     *
+     * @param logicTableName logic table name
+     * @return whether logic table is sharding table or not
+     */
+    boolean isShardingTable(String logicTableName);
+    
+    /**
+     * Judge whether logic table is broadcast table or not.
+     *
+     * @param logicTableName logic table name
+     * @return whether logic table is broadcast table or not
+     */
+    boolean isBroadcastTable(String logicTableName);
+    
+    /**
+     * Judge whether logic table is all binding tables or not.
+     *
+     * @param logicTableNames logic table names
+     * @return whether logic table is all binding tables or not
+     */
+    boolean isAllBindingTables(Collection<String> logicTableNames);
+    
+    /**
+     * Judge whether join of two logic tables is colocated, which means rows joined are always stored in same data node.
+     *
+     * @param leftTableName left logic table name
+     * @param leftColumnNames left join column names
+     * @param rightTableName right logic table name
+     * @param rightColumnNames right join column names, each one is equal to the left join column with same index
+     * @return whether join of two logic tables is colocated or not
+     */
+    boolean isColocatedJoin(String leftTableName, List<String> leftColumnNames, String rightTableName, List<String> rightColumnNames);
+    
+    /**
+     * Judge whether data node of rows in logic table is decided by value of the column alone.
+     *
+     * @param logicTableName logic table name
+     * @param columnName column name
+     * @return whether data node of rows in logic table is decided by value of the column alone or not
+     */
+    boolean isDataNodeDeterminedByColumn(String logicTableName, String columnName);
+}
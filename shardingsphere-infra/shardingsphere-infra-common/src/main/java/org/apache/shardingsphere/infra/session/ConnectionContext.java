@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.session;
+
+import lombok.Getter;
+
+/**
+ * Connection context.
+ * 
+ * <p>Holds states bound to one client connection, which must not be kept in thread local because connections may be served by different threads.</p>
+ */
+@Getter
+public final class ConnectionContext {
+    
+    private final ReadYourWritesContext readYourWritesContext = new ReadYourWritesContext();
+    
+    /**
+     * Handle transaction end, no matter committed or rolled back.
+     */
+    public void endTransaction() {
+        readYourWritesContext.resolvePendingWrites();
+    }
+    
+    /**
+     * Clear states when connection closed.
+     */
+    public void clear() {
+        readYourWritesContext.clear();
+    }
+}
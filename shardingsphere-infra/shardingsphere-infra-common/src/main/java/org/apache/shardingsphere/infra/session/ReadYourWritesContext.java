@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.session;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read your writes context.
+ * 
+ * <p>Write is marked pending when routed, and resolved to current timestamp when the transaction ends or the next read is routed outside transaction,
+ * both of which are later than the commit of the write.</p>
+ */
+public final class ReadYourWritesContext {
+    
+    private static final long PENDING = -1L;
+    
+    private final Map<String, Long> writtenTimestamps = new ConcurrentHashMap<>();
+    
+    /**
+     * Mark written.
+     *
+     * @param name readwrite-splitting data source rule name
+     */
+    public void markWritten(final String name) {
+        writtenTimestamps.put(name, PENDING);
+    }
+    
+    /**
+     * Find timestamp after which all writes of current connection have been committed.
+     *
+     * @param name readwrite-splitting data source rule name
+     * @return written timestamp milliseconds, empty if nothing written
+     */
+    public Optional<Long> findWrittenTimestamp(final String name) {
+        Long result = writtenTimestamps.get(name);
+        if (null == result) {
+            return Optional.empty();
+        }
+        if (PENDING == result) {
+            result = System.currentTimeMillis();
+            writtenTimestamps.put(name, result);
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Resolve pending writes to current timestamp.
+     */
+    public void resolvePendingWrites() {
+        long now = System.currentTimeMillis();
+        writtenTimestamps.replaceAll((key, value) -> PENDING == value ? now : value);
+    }
+    
+    /**
+     * Remove written timestamp after all replicas caught up.
+     *
+     * @param name readwrite-splitting data source rule name
+     */
+    public void remove(final String name) {
+        writtenTimestamps.remove(name);
+    }
+    
+    /**
+     * Clear written timestamps.
+     */
+    public void clear() {
+        writtenTimestamps.clear();
+    }
+}
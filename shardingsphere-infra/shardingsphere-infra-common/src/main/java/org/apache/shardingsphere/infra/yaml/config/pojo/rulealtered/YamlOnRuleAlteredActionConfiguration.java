@@ -59,6 +59,8 @@ public final class YamlOnRuleAlteredActionConfiguration implements YamlConfigura
         
         private YamlShardingSphereAlgorithmConfiguration rateLimiter;
         
+        private String decodingPlugin;
+        
         /**
          * Build with default value.
          *
@@ -76,6 +76,7 @@ public final class OnRuleAlteredActionConfigurationYamlSwapper implements YamlCo
             result.setBatchSize(data.getBatchSize());
             result.setShardingSize(data.getShardingSize());
             result.setRateLimiter(ALGORITHM_CONFIG_YAML_SWAPPER.swapToYamlConfiguration(data.getRateLimiter()));
+            result.setDecodingPlugin(data.getDecodingPlugin());
             return result;
         }
         
@@ -85,7 +86,7 @@ public final class OnRuleAlteredActionConfigurationYamlSwapper implements YamlCo
                 return null;
             }
             return new InputConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), yamlConfig.getShardingSize(),
-                    ALGORITHM_CONFIG_YAML_SWAPPER.swapToObject(yamlConfig.getRateLimiter()));
+                    ALGORITHM_CONFIG_YAML_SWAPPER.swapToObject(yamlConfig.getRateLimiter()), yamlConfig.getDecodingPlugin());
         }
     }
     
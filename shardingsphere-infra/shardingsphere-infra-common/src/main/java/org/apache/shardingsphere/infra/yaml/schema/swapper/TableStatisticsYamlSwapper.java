@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.yaml.schema.swapper;
+
+import org.apache.shardingsphere.infra.metadata.schema.model.TableStatistics;
+import org.apache.shardingsphere.infra.yaml.config.swapper.YamlConfigurationSwapper;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlTableStatistics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+
+/**
+ * Table statistics YAML swapper.
+ */
+public final class TableStatisticsYamlSwapper implements YamlConfigurationSwapper<YamlTableStatistics, TableStatistics> {
+    
+    @Override
+    public YamlTableStatistics swapToYamlConfiguration(final TableStatistics data) {
+        YamlTableStatistics result = new YamlTableStatistics();
+        result.setName(data.getName());
+        result.setRowCount(data.getRowCount());
+        result.setColumnDistinctCounts(new LinkedHashMap<>(data.getColumnDistinctCounts()));
+        result.setUniqueColumns(new LinkedList<>(data.getUniqueColumns()));
+        return result;
+    }
+    
+    @Override
+    public TableStatistics swapToObject(final YamlTableStatistics yamlConfig) {
+        return new TableStatistics(yamlConfig.getName(), yamlConfig.getRowCount(),
+                null == yamlConfig.getColumnDistinctCounts() ? Collections.emptyMap() : new LinkedHashMap<>(yamlConfig.getColumnDistinctCounts()),
+                null == yamlConfig.getUniqueColumns() ? Collections.emptySet() : new LinkedHashSet<>(yamlConfig.getUniqueColumns()));
+    }
+}
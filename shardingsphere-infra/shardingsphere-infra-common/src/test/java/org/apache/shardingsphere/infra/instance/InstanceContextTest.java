@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.instance;
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
 import org.apache.shardingsphere.infra.instance.definition.InstanceDefinition;
 import org.apache.shardingsphere.infra.instance.definition.InstanceId;
+import org.apache.shardingsphere.infra.instance.definition.InstanceType;
 import org.apache.shardingsphere.infra.instance.fixture.WorkerIdGeneratorFixture;
 import org.apache.shardingsphere.infra.lock.LockContext;
 import org.apache.shardingsphere.infra.state.StateContext;
@@ -36,6 +37,7 @@ import java.util.Set;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -83,6 +85,23 @@ public final class InstanceContextTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    public void assertGetComputeNodeInstanceIdsAfterMembershipChanged() {
+        InstanceDefinition instanceDefinition = mock(InstanceDefinition.class);
+        when(instanceDefinition.getInstanceId()).thenReturn(new InstanceId("127.0.0.1@3308"));
+        InstanceContext context = new InstanceContext(new ComputeNodeInstance(instanceDefinition), new WorkerIdGeneratorFixture(Long.MIN_VALUE), modeConfig, lockContext);
+        ComputeNodeInstance computeNodeInstance = new ComputeNodeInstance(new InstanceDefinition(InstanceType.PROXY, "127.0.0.1@3307"));
+        computeNodeInstance.setLabels(Collections.singleton("OLAP"));
+        context.addComputeNodeInstance(computeNodeInstance);
+        assertThat(context.getComputeNodeInstanceIds(InstanceType.PROXY, Arrays.asList("OLAP", "OLTP")).get(0).getId(), is("127.0.0.1@3307"));
+        assertTrue(context.getComputeNodeInstanceIds(InstanceType.JDBC, Collections.singleton("OLAP")).isEmpty());
+        context.updateLabel("127.0.0.1@3307", Collections.singleton("OLTP"));
+        assertTrue(context.getComputeNodeInstanceIds(InstanceType.PROXY, Collections.singleton("OLAP")).isEmpty());
+        assertThat(context.getComputeNodeInstanceIds(InstanceType.PROXY, new LinkedHashSet<>(Arrays.asList("OLTP", "OLAP"))).size(), is(1));
+        context.deleteComputeNodeInstance(computeNodeInstance);
+        assertTrue(context.getComputeNodeInstanceIds(InstanceType.PROXY, Arrays.asList("OLAP", "OLTP")).isEmpty());
+    }
+    
     @Test
     public void assertGetInstance() {
         ComputeNodeInstance expected = new ComputeNodeInstance(mock(InstanceDefinition.class));
@@ -21,13 +21,17 @@ import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.test.mock.MockedDataSource;
 import org.junit.Test;
 
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -53,4 +57,23 @@ public final class ShardingSphereDatabaseTest {
         ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.singleton(mock(RuleConfiguration.class)), Collections.singleton(mock(ShardingSphereRule.class)));
         assertFalse(new ShardingSphereDatabase("foo_db", mock(DatabaseType.class), resource, ruleMetaData, Collections.emptyMap()).isComplete());
     }
+    
+    @Test
+    public void assertGetMetaDataVersion() {
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", mock(DatabaseType.class), mock(ShardingSphereResource.class),
+                mock(ShardingSphereRuleMetaData.class), Collections.singletonMap("foo_db", schema));
+        long expected = database.getMetaDataVersion();
+        schema.put("foo_tbl", mock(TableMetaData.class));
+        assertThat(database.getMetaDataVersion(), not(expected));
+    }
+    
+    @Test
+    public void assertGetMetaDataVersionWithChangedRules() {
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        ShardingSphereResource resource = mock(ShardingSphereResource.class);
+        long expected = new ShardingSphereDatabase("foo_db", mock(DatabaseType.class), resource, mock(ShardingSphereRuleMetaData.class), Collections.singletonMap("foo_db", schema)).getMetaDataVersion();
+        ShardingSphereDatabase actual = new ShardingSphereDatabase("foo_db", mock(DatabaseType.class), resource, mock(ShardingSphereRuleMetaData.class), Collections.singletonMap("foo_db", schema));
+        assertThat(actual.getMetaDataVersion(), not(expected));
+    }
 }
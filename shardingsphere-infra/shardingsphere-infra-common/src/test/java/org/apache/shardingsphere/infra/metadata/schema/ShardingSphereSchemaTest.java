@@ -21,10 +21,17 @@ import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -58,6 +65,42 @@ public final class ShardingSphereSchemaTest {
         assertNull(actual.get("tbl"));
     }
     
+    @Test
+    public void assertGetLazyLoadedTable() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap());
+        TableMetaData tableMetaData = mock(TableMetaData.class);
+        AtomicInteger loadedCount = new AtomicInteger();
+        actual.putLazyLoadedTables(Collections.singleton("TBL"), tableName -> {
+            loadedCount.incrementAndGet();
+            return Optional.of(tableMetaData);
+        });
+        Collection<TableMetaData> loadedTables = new LinkedList<>();
+        actual.setLazyLoadedTableListener(loadedTables::add);
+        assertThat(actual.getAllTableNames(), is(new HashSet<>(Collections.singleton("tbl"))));
+        assertThat(actual.get("tbl"), is(tableMetaData));
+        assertThat(actual.get("tbl"), is(tableMetaData));
+        assertThat(loadedCount.get(), is(1));
+        assertThat(loadedTables, is(Collections.singletonList(tableMetaData)));
+        assertThat(actual.getAllTableNames(), is(new HashSet<>(Collections.singleton("tbl"))));
+    }
+    
+    @Test
+    public void assertGetLazyLoadedTableWhichAccessesSchemaOnLoading() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap());
+        TableMetaData tableMetaData = mock(TableMetaData.class);
+        actual.putLazyLoadedTables(Arrays.asList("foo_tbl", "bar_tbl"), tableName -> "foo_tbl".equals(tableName) && actual.containsTable("bar_tbl") ? Optional.of(tableMetaData) : Optional.of(mock(TableMetaData.class)));
+        assertThat(actual.get("foo_tbl"), is(tableMetaData));
+        assertTrue(actual.containsTable("bar_tbl"));
+    }
+    
+    @Test
+    public void assertGetLazyLoadedTableWhenNotExisted() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap());
+        actual.putLazyLoadedTables(Collections.singleton("tbl"), tableName -> Optional.empty());
+        assertFalse(actual.containsTable("tbl"));
+        assertNull(actual.get("tbl"));
+    }
+    
     @Test
     public void assertContainsTable() {
         assertTrue(new ShardingSphereSchema(Collections.singletonMap("tbl", mock(TableMetaData.class))).containsTable("tbl"));
@@ -80,4 +123,23 @@ public final class ShardingSphereSchemaTest {
         TableMetaData tableMetaData = new TableMetaData("tbl", Collections.singletonList(new ColumnMetaData("col", 0, false, false, false)), Collections.emptyList(), Collections.emptyList());
         assertThat(new ShardingSphereSchema(Collections.singletonMap("tbl1", tableMetaData)).getAllColumnNames("tbl2"), is(Collections.<String>emptyList()));
     }
+    
+    @Test
+    public void assertVersionChangedAfterPutAndRemove() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap());
+        long initialVersion = actual.getVersion();
+        actual.put("tbl", mock(TableMetaData.class));
+        long putVersion = actual.getVersion();
+        assertThat(putVersion, not(initialVersion));
+        actual.remove("tbl");
+        assertThat(actual.getVersion(), not(putVersion));
+    }
+    
+    @Test
+    public void assertVersionUnchangedAfterGet() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.singletonMap("tbl", mock(TableMetaData.class)));
+        long expected = actual.getVersion();
+        actual.get("tbl");
+        assertThat(actual.getVersion(), is(expected));
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.statistics;
+
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableStatistics;
+import org.apache.shardingsphere.infra.rule.identifier.type.ColocatedTableRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public final class TableStatisticsLoaderEngineTest {
+    
+    @Test
+    public void assertLoadWithoutDialectLoader() throws SQLException {
+        assertTrue(TableStatisticsLoaderEngine.load(Collections.singletonList("t_order"), new H2DatabaseType(),
+                Collections.singletonMap("ds_0", mock(DataSource.class)), Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertLoadWithShardingTable() throws SQLException {
+        DataNodeContainedRule rule = mock(DataNodeContainedRule.class);
+        when(rule.getDataNodesByTableName("t_order")).thenReturn(Arrays.asList(new DataNode("ds_0", "t_order_0"), new DataNode("ds_1", "t_order_1")));
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(2, 1);
+        dataSourceMap.put("ds_0", mockDataSource("t_order_0", 60L, 50L, 3L));
+        dataSourceMap.put("ds_1", mockDataSource("t_order_1", 40L, 40L, 2L));
+        Map<String, TableStatistics> actual = TableStatisticsLoaderEngine.load(Collections.singletonList("t_order"), new MySQLDatabaseType(), dataSourceMap, Collections.singletonList(rule));
+        assertThat(actual.size(), is(1));
+        TableStatistics statistics = actual.get("t_order");
+        assertThat(statistics.getName(), is("t_order"));
+        assertThat(statistics.getRowCount(), is(100L));
+        assertThat(statistics.getColumnDistinctCounts().get("order_id"), is(90L));
+        assertThat(statistics.getColumnDistinctCounts().get("status"), is(5L));
+        assertTrue(statistics.getUniqueColumns().isEmpty());
+    }
+    
+    @Test
+    public void assertLoadWithShardingTableShardedByUniqueColumn() throws SQLException {
+        DataNodeContainedRule rule = mock(DataNodeContainedRule.class, withSettings().extraInterfaces(ColocatedTableRule.class));
+        when(rule.getDataNodesByTableName("t_order")).thenReturn(Arrays.asList(new DataNode("ds_0", "t_order_0"), new DataNode("ds_1", "t_order_1")));
+        when(((ColocatedTableRule) rule).isDataNodeDeterminedByColumn("t_order", "order_id")).thenReturn(true);
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(2, 1);
+        dataSourceMap.put("ds_0", mockDataSource("t_order_0", 60L, 50L, 3L));
+        dataSourceMap.put("ds_1", mockDataSource("t_order_1", 40L, 40L, 2L));
+        Map<String, TableStatistics> actual = TableStatisticsLoaderEngine.load(Collections.singletonList("t_order"), new MySQLDatabaseType(), dataSourceMap, Collections.singletonList(rule));
+        assertThat(actual.get("t_order").getUniqueColumns(), is(Collections.singleton("order_id")));
+    }
+    
+    @Test
+    public void assertLoadWithSingleTable() throws SQLException {
+        Map<String, TableStatistics> actual = TableStatisticsLoaderEngine.load(Collections.singletonList("t_order"), new MySQLDatabaseType(),
+                Collections.singletonMap("ds_0", mockDataSource("t_order", 10L, 10L, 5L)), Collections.emptyList());
+        assertThat(actual.get("t_order").getRowCount(), is(10L));
+        assertThat(actual.get("t_order").getColumnDistinctCounts().get("order_id"), is(10L));
+        assertThat(actual.get("t_order").getUniqueColumns(), is(Collections.singleton("order_id")));
+    }
+    
+    private DataSource mockDataSource(final String tableName, final long rowCount, final long orderIdCardinality, final long statusCardinality) throws SQLException {
+        DataSource result = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        ResultSet rowCountResultSet = mock(ResultSet.class);
+        when(rowCountResultSet.next()).thenReturn(true, false);
+        when(rowCountResultSet.getString("TABLE_NAME")).thenReturn(tableName);
+        when(rowCountResultSet.getLong("TABLE_ROWS")).thenReturn(rowCount);
+        when(result.getConnection().prepareStatement(
+                String.format("SELECT TABLE_NAME, TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA=? AND TABLE_NAME IN ('%s')", tableName)).executeQuery()).thenReturn(rowCountResultSet);
+        ResultSet indexResultSet = mock(ResultSet.class);
+        when(indexResultSet.next()).thenReturn(true, true, false);
+        when(indexResultSet.getString("TABLE_NAME")).thenReturn(tableName);
+        when(indexResultSet.getString("INDEX_NAME")).thenReturn("PRIMARY", "idx_status");
+        when(indexResultSet.getString("COLUMN_NAME")).thenReturn("order_id", "status");
+        when(indexResultSet.getInt("SEQ_IN_INDEX")).thenReturn(1, 1);
+        when(indexResultSet.getInt("NON_UNIQUE")).thenReturn(0, 1);
+        when(indexResultSet.getLong("CARDINALITY")).thenReturn(orderIdCardinality, statusCardinality);
+        when(result.getConnection().prepareStatement(String.format("SELECT TABLE_NAME, INDEX_NAME, COLUMN_NAME, SEQ_IN_INDEX, NON_UNIQUE, CARDINALITY FROM information_schema.STATISTICS "
+                + "WHERE TABLE_SCHEMA=? AND TABLE_NAME IN ('%s')", tableName)).executeQuery()).thenReturn(indexResultSet);
+        return result;
+    }
+}
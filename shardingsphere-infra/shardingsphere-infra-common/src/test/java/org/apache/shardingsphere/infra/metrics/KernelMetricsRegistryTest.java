@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metrics;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class KernelMetricsRegistryTest {
+    
+    @Before
+    public void setUp() {
+        KernelMetricsRegistry.getInstance().reset();
+        KernelMetricsRegistry.getInstance().setEnabled(true);
+    }
+    
+    @After
+    public void tearDown() {
+        KernelMetricsRegistry.getInstance().setEnabled(false);
+        KernelMetricsRegistry.getInstance().reset();
+    }
+    
+    @Test
+    public void assertRecordStage() {
+        KernelMetricsRegistry.getInstance().recordStage(KernelStage.ROUTE, System.nanoTime());
+        assertThat(KernelMetricsRegistry.getInstance().getStageHistogram(KernelStage.ROUTE).getCount(), is(1L));
+        assertThat(KernelMetricsRegistry.getInstance().getStageHistogram(KernelStage.MERGE).getCount(), is(0L));
+    }
+    
+    @Test
+    public void assertRecordStageElapsed() {
+        KernelMetricsRegistry.getInstance().recordStageElapsed(KernelStage.MERGE, 1000L);
+        assertThat(KernelMetricsRegistry.getInstance().getStageHistogram(KernelStage.MERGE).getCount(), is(1L));
+        assertThat(KernelMetricsRegistry.getInstance().getStageHistogram(KernelStage.MERGE).getMeanNanos(), is(1000L));
+    }
+    
+    @Test
+    public void assertRecordWhenDisabled() {
+        KernelMetricsRegistry.getInstance().setEnabled(false);
+        KernelMetricsRegistry.getInstance().recordStage(KernelStage.ROUTE, System.nanoTime());
+        KernelMetricsRegistry.getInstance().recordExecution("foo_db", "ds_0", System.nanoTime());
+        assertThat(KernelMetricsRegistry.getInstance().getStageHistogram(KernelStage.ROUTE).getCount(), is(0L));
+        assertTrue(KernelMetricsRegistry.getInstance().getDataSourceHistograms().isEmpty());
+    }
+    
+    @Test
+    public void assertRecordExecution() {
+        KernelMetricsRegistry.getInstance().recordExecution("foo_db", "ds_0", System.nanoTime());
+        KernelMetricsRegistry.getInstance().recordExecution("foo_db", "ds_0", System.nanoTime());
+        KernelMetricsRegistry.getInstance().recordExecution("bar_db", "ds_0", System.nanoTime());
+        KernelMetricsRegistry.getInstance().recordExecution("foo_db", null, System.nanoTime());
+        KernelMetricsRegistry.getInstance().recordExecution(null, "ds_0", System.nanoTime());
+        assertThat(KernelMetricsRegistry.getInstance().getDataSourceHistograms().size(), is(2));
+        assertThat(KernelMetricsRegistry.getInstance().getDataSourceHistograms().get("foo_db").get("ds_0").getCount(), is(2L));
+        assertThat(KernelMetricsRegistry.getInstance().getDataSourceHistograms().get("bar_db").get("ds_0").getCount(), is(1L));
+    }
+    
+    @Test
+    public void assertRemoveDataSources() {
+        KernelMetricsRegistry.getInstance().recordExecution("foo_db", "ds_0", System.nanoTime());
+        KernelMetricsRegistry.getInstance().recordExecution("foo_db", "ds_1", System.nanoTime());
+        KernelMetricsRegistry.getInstance().removeDataSources("foo_db", Collections.singleton("ds_0"));
+        assertThat(KernelMetricsRegistry.getInstance().getDataSourceHistograms().get("foo_db").keySet(), is(Collections.singleton("ds_1")));
+    }
+    
+    @Test
+    public void assertRemoveDatabase() {
+        KernelMetricsRegistry.getInstance().recordExecution("foo_db", "ds_0", System.nanoTime());
+        KernelMetricsRegistry.getInstance().removeDatabase("foo_db");
+        assertFalse(KernelMetricsRegistry.getInstance().getDataSourceHistograms().containsKey("foo_db"));
+    }
+    
+    @Test
+    public void assertReset() {
+        KernelMetricsRegistry.getInstance().recordStage(KernelStage.PARSE, System.nanoTime());
+        KernelMetricsRegistry.getInstance().recordExecution("foo_db", "ds_0", System.nanoTime());
+        KernelMetricsRegistry.getInstance().reset();
+        assertThat(KernelMetricsRegistry.getInstance().getStageHistogram(KernelStage.PARSE).getCount(), is(0L));
+        assertTrue(KernelMetricsRegistry.getInstance().getDataSourceHistograms().isEmpty());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metrics;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class LatencyHistogramTest {
+    
+    @Test
+    public void assertRecord() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100L);
+        }
+        histogram.record(10000L);
+        assertThat(histogram.getCount(), is(100L));
+        assertThat(histogram.getMeanNanos(), is(199L));
+        assertThat(histogram.getPercentileNanos(0.5D), is(127L));
+        assertThat(histogram.getPercentileNanos(0.99D), is(127L));
+        assertThat(histogram.getPercentileNanos(1D), is(16383L));
+    }
+    
+    @Test
+    public void assertRecordNonPositiveLatency() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-1L);
+        histogram.record(0L);
+        assertThat(histogram.getCount(), is(2L));
+        assertThat(histogram.getMeanNanos(), is(0L));
+        assertThat(histogram.getPercentileNanos(1D), is(0L));
+    }
+    
+    @Test
+    public void assertReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100L);
+        histogram.reset();
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getMeanNanos(), is(0L));
+        assertThat(histogram.getPercentileNanos(0.99D), is(0L));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.session;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ReadYourWritesContextTest {
+    
+    @Test
+    public void assertFindWrittenTimestampWithoutWrite() {
+        assertFalse(new ReadYourWritesContext().findWrittenTimestamp("foo_ds").isPresent());
+    }
+    
+    @Test
+    public void assertFindWrittenTimestampResolvedOnce() {
+        ReadYourWritesContext context = new ReadYourWritesContext();
+        long before = System.currentTimeMillis();
+        context.markWritten("foo_ds");
+        Optional<Long> actual = context.findWrittenTimestamp("foo_ds");
+        assertTrue(actual.isPresent());
+        assertTrue(actual.get() >= before);
+        assertThat(context.findWrittenTimestamp("foo_ds"), is(actual));
+    }
+    
+    @Test
+    public void assertResolvePendingWrites() {
+        ReadYourWritesContext context = new ReadYourWritesContext();
+        context.markWritten("foo_ds");
+        long before = System.currentTimeMillis();
+        context.resolvePendingWrites();
+        long after = System.currentTimeMillis();
+        Optional<Long> actual = context.findWrittenTimestamp("foo_ds");
+        assertTrue(actual.isPresent());
+        assertTrue(actual.get() >= before && actual.get() <= after);
+    }
+    
+    @Test
+    public void assertRemove() {
+        ReadYourWritesContext context = new ReadYourWritesContext();
+        context.markWritten("foo_ds");
+        context.markWritten("bar_ds");
+        context.remove("foo_ds");
+        assertFalse(context.findWrittenTimestamp("foo_ds").isPresent());
+        assertTrue(context.findWrittenTimestamp("bar_ds").isPresent());
+    }
+    
+    @Test
+    public void assertClearWhenConnectionClosed() {
+        ConnectionContext connectionContext = new ConnectionContext();
+        connectionContext.getReadYourWritesContext().markWritten("foo_ds");
+        connectionContext.clear();
+        assertFalse(connectionContext.getReadYourWritesContext().findWrittenTimestamp("foo_ds").isPresent());
+    }
+}
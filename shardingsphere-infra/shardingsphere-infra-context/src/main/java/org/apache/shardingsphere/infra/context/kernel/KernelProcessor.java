@@ -24,6 +24,8 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metrics.KernelMetricsRegistry;
+import org.apache.shardingsphere.infra.metrics.KernelStage;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -51,12 +53,21 @@ public final class KernelProcessor {
     }
     
     private RouteContext route(final LogicSQL logicSQL, final ShardingSphereDatabase database, final ConfigurationProperties props) {
-        return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(logicSQL, database);
+        long startNanos = System.nanoTime();
+        try {
+            return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(logicSQL, database);
+        } finally {
+            KernelMetricsRegistry.getInstance().recordStage(KernelStage.ROUTE, startNanos);
+        }
     }
     
     private SQLRewriteResult rewrite(final LogicSQL logicSQL, final ShardingSphereDatabase database, final ConfigurationProperties props, final RouteContext routeContext) {
-        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, props);
-        return sqlRewriteEntry.rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
+        long startNanos = System.nanoTime();
+        try {
+            return new SQLRewriteEntry(database, props).rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
+        } finally {
+            KernelMetricsRegistry.getInstance().recordStage(KernelStage.REWRITE, startNanos);
+        }
     }
     
     private ExecutionContext createExecutionContext(final LogicSQL logicSQL, final ShardingSphereDatabase database, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
@@ -21,6 +21,8 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.metrics.KernelMetricsRegistry;
+import org.apache.shardingsphere.infra.metrics.KernelStage;
 
 import java.sql.SQLException;
 import java.util.Collections;
@@ -61,11 +63,14 @@ public final class JDBCExecutor {
      */
     public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
+        long startNanos = System.nanoTime();
         try {
             return executorEngine.execute(executionGroupContext, firstCallback, callback, serial);
         } catch (final SQLException ex) {
             SQLExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
+        } finally {
+            KernelMetricsRegistry.getInstance().recordStage(KernelStage.EXECUTE, startNanos);
         }
     }
 }
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.infra.metrics.KernelMetricsRegistry;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.DatabaseMetaData;
@@ -83,7 +84,7 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), dataSourceMetaData, isTrunkThread, dataMap);
-            T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode());
+            T result = executeWithMetrics(jdbcExecutionUnit, sqlUnit.getSql(), dataMap);
             sqlExecutionHook.finishSuccess();
             finishReport(dataMap, jdbcExecutionUnit);
             return result;
@@ -101,6 +102,16 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         }
     }
     
+    private T executeWithMetrics(final JDBCExecutionUnit jdbcExecutionUnit, final String sql, final Map<String, Object> dataMap) throws SQLException {
+        long startNanos = System.nanoTime();
+        try {
+            return executeSQL(sql, jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode());
+        } finally {
+            Object databaseName = dataMap.get(ExecuteProcessConstants.DATABASE_NAME.name());
+            KernelMetricsRegistry.getInstance().recordExecution(null == databaseName ? null : databaseName.toString(), jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), startNanos);
+        }
+    }
+    
     private DataSourceMetaData getDataSourceMetaData(final DatabaseMetaData databaseMetaData) throws SQLException {
         String url = databaseMetaData.getURL();
         if (CACHED_DATASOURCE_METADATA.containsKey(url)) {
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query;
+
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import com.google.common.primitives.Shorts;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Primitive value utility.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PrimitiveValueUtil {
+    
+    /**
+     * Convert value to int.
+     *
+     * @param value value
+     * @return int value, 0 if value is null
+     * @throws SQLException SQL exception
+     */
+    public static int toInt(final Object value) throws SQLException {
+        return null == value ? 0 : toNumber(value).intValue();
+    }
+    
+    /**
+     * Convert value to long.
+     *
+     * @param value value
+     * @return long value, 0 if value is null
+     * @throws SQLException SQL exception
+     */
+    public static long toLong(final Object value) throws SQLException {
+        return null == value ? 0L : toNumber(value).longValue();
+    }
+    
+    /**
+     * Convert value to double.
+     *
+     * @param value value
+     * @return double value, 0 if value is null
+     * @throws SQLException SQL exception
+     */
+    public static double toDouble(final Object value) throws SQLException {
+        return null == value ? 0.0D : toNumber(value).doubleValue();
+    }
+    
+    private static Number toNumber(final Object value) throws SQLException {
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        if (value instanceof byte[]) {
+            byte[] bytesValue = (byte[]) value;
+            switch (bytesValue.length) {
+                case 1:
+                    return bytesValue[0];
+                case Shorts.BYTES:
+                    return Shorts.fromByteArray(bytesValue);
+                case Ints.BYTES:
+                    return Ints.fromByteArray(bytesValue);
+                case Longs.BYTES:
+                    return Longs.fromByteArray(bytesValue);
+                default:
+                    break;
+            }
+        }
+        throw new SQLFeatureNotSupportedException(String.format("Can not convert value `%s` to number", value));
+    }
+}
@@ -46,6 +46,9 @@ public final class ExecuteProcessEngine {
      */
     public static void initialize(final LogicSQL logicSQL, final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext, final ConfigurationProperties props) {
         SQLStatementContext<?> context = logicSQL.getSqlStatementContext();
+        if (null != executionGroupContext.getDatabaseName()) {
+            ExecutorDataMap.getValue().put(ExecuteProcessConstants.DATABASE_NAME.name(), executionGroupContext.getDatabaseName());
+        }
         Optional<ExecuteProcessReporter> reporter = ExecuteProcessReporterFactory.getInstance();
         if (reporter.isPresent() && ExecuteProcessStrategyEvaluator.evaluate(context, executionGroupContext, props)) {
             ExecutorDataMap.getValue().put(ExecuteProcessConstants.EXECUTE_ID.name(), executionGroupContext.getExecutionID());
@@ -62,6 +65,16 @@ public final class ExecuteProcessEngine {
             reporter.get().reportClean(ExecutorDataMap.getValue().get(ExecuteProcessConstants.EXECUTE_ID.name()).toString());
         }
         ExecutorDataMap.getValue().remove(ExecuteProcessConstants.EXECUTE_ID.name());
+        ExecutorDataMap.getValue().remove(ExecuteProcessConstants.DATABASE_NAME.name());
+    }
+    
+    /**
+     * Clean execute process which is finished on another thread than the one it was initialized on.
+     *
+     * @param executionID execution ID
+     */
+    public static void clean(final String executionID) {
+        ExecuteProcessReporterFactory.getInstance().ifPresent(optional -> optional.reportClean(executionID));
     }
     
     /**
@@ -17,17 +17,28 @@
 
 package org.apache.shardingsphere.infra.executor.sql.process.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
 
+import java.sql.Statement;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
-import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Execute process context.
+ * 
+ * <p>
+ * Unit statuses are indexed by unit ID and never structurally modified after construction, so finished units are marked in constant time without locking.
+ * </p>
  */
 @Getter
 public final class ExecuteProcessContext {
@@ -42,10 +53,15 @@ public final class ExecuteProcessContext {
     
     private final String sql;
     
-    private final Collection<ExecuteProcessUnit> unitStatuses;
+    private final Map<String, ExecuteProcessUnit> unitStatuses;
+    
+    private final Collection<Statement> processStatements = new LinkedList<>();
     
     private final long startTimeMillis = System.currentTimeMillis();
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger doneUnitCount = new AtomicInteger();
+    
     public ExecuteProcessContext(final String sql, final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext, final ExecuteProcessConstants constants) {
         this.executionID = executionGroupContext.getExecutionID();
         this.sql = sql;
@@ -56,13 +72,40 @@ public final class ExecuteProcessContext {
         unitStatuses = createExecutionUnitStatuses(executionGroupContext, constants);
     }
     
-    private Collection<ExecuteProcessUnit> createExecutionUnitStatuses(final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext, final ExecuteProcessConstants constants) {
-        Collection<ExecuteProcessUnit> result = new LinkedList<>();
+    private Map<String, ExecuteProcessUnit> createExecutionUnitStatuses(final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext, final ExecuteProcessConstants constants) {
+        Map<String, ExecuteProcessUnit> result = new LinkedHashMap<>();
         for (ExecutionGroup<? extends SQLExecutionUnit> group : executionGroupContext.getInputGroups()) {
             for (SQLExecutionUnit each : group.getInputs()) {
-                result.add(new ExecuteProcessUnit(each.getExecutionUnit(), constants));
+                ExecuteProcessUnit processUnit = new ExecuteProcessUnit(each.getExecutionUnit(), constants);
+                if (null == result.putIfAbsent(processUnit.getUnitID(), processUnit) && ExecuteProcessConstants.EXECUTE_STATUS_DONE == constants) {
+                    doneUnitCount.incrementAndGet();
+                }
+                if (each instanceof JDBCExecutionUnit && null != ((JDBCExecutionUnit) each).getStorageResource()) {
+                    processStatements.add(((JDBCExecutionUnit) each).getStorageResource());
+                }
             }
         }
         return result;
     }
+    
+    /**
+     * Mark execute process unit as done.
+     * 
+     * @param executionUnit execution unit
+     */
+    public void doneUnit(final ExecutionUnit executionUnit) {
+        ExecuteProcessUnit processUnit = unitStatuses.get(ExecuteProcessUnit.createUnitID(executionUnit));
+        if (null != processUnit && processUnit.done()) {
+            doneUnitCount.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Judge whether all execute process units are done.
+     * 
+     * @return all execute process units are done or not
+     */
+    public boolean isDone() {
+        return doneUnitCount.get() >= unitStatuses.size();
+    }
 }
@@ -20,18 +20,42 @@ package org.apache.shardingsphere.infra.executor.sql.process.model;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Execute process unit.
  */
-@Getter
 public final class ExecuteProcessUnit {
     
+    @Getter
     private final String unitID;
     
-    private final ExecuteProcessConstants status;
+    private final AtomicReference<ExecuteProcessConstants> status;
     
     public ExecuteProcessUnit(final ExecutionUnit executionUnit, final ExecuteProcessConstants status) {
-        this.unitID = String.valueOf(executionUnit.hashCode());
-        this.status = status;
+        this.unitID = createUnitID(executionUnit);
+        this.status = new AtomicReference<>(status);
+    }
+    
+    static String createUnitID(final ExecutionUnit executionUnit) {
+        return String.valueOf(executionUnit.hashCode());
+    }
+    
+    /**
+     * Get status.
+     * 
+     * @return status
+     */
+    public ExecuteProcessConstants getStatus() {
+        return status.get();
+    }
+    
+    /**
+     * Mark execute process unit as done.
+     * 
+     * @return true if status is changed to done by this invocation, false if it was done already
+     */
+    public boolean done() {
+        return ExecuteProcessConstants.EXECUTE_STATUS_DONE != status.getAndSet(ExecuteProcessConstants.EXECUTE_STATUS_DONE);
     }
 }
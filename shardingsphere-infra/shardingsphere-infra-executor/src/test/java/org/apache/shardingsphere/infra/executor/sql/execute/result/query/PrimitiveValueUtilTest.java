@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query;
+
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PrimitiveValueUtilTest {
+    
+    @Test
+    public void assertConvertNullValue() throws SQLException {
+        assertThat(PrimitiveValueUtil.toInt(null), is(0));
+        assertThat(PrimitiveValueUtil.toLong(null), is(0L));
+        assertThat(PrimitiveValueUtil.toDouble(null), is(0.0D));
+    }
+    
+    @Test
+    public void assertConvertNumberValue() throws SQLException {
+        assertThat(PrimitiveValueUtil.toInt(new BigDecimal("1")), is(1));
+        assertThat(PrimitiveValueUtil.toLong(new BigDecimal("1")), is(1L));
+        assertThat(PrimitiveValueUtil.toDouble(new BigDecimal("1")), is(1.0D));
+    }
+    
+    @Test
+    public void assertConvertByteArrayValue() throws SQLException {
+        assertThat(PrimitiveValueUtil.toInt(new byte[]{1}), is(1));
+        assertThat(PrimitiveValueUtil.toInt(Ints.toByteArray(1)), is(1));
+        assertThat(PrimitiveValueUtil.toLong(Longs.toByteArray(1L)), is(1L));
+        assertThat(PrimitiveValueUtil.toDouble(Longs.toByteArray(1L)), is(1.0D));
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertConvertUnsupportedValue() throws SQLException {
+        PrimitiveValueUtil.toLong("1");
+    }
+}
@@ -83,6 +83,27 @@ public final class JDBCStreamQueryResultTest {
         assertThat(new JDBCStreamQueryResult(resultSet).getValue(1, long.class), is(1L));
     }
     
+    @Test
+    public void assertGetInt() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getInt(1)).thenReturn(1);
+        assertThat(new JDBCStreamQueryResult(resultSet).getInt(1), is(1));
+    }
+    
+    @Test
+    public void assertGetLong() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(1L);
+        assertThat(new JDBCStreamQueryResult(resultSet).getLong(1), is(1L));
+    }
+    
+    @Test
+    public void assertGetDouble() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getDouble(1)).thenReturn(1.0D);
+        assertThat(new JDBCStreamQueryResult(resultSet).getDouble(1), is(1.0D));
+    }
+    
     @Test
     public void assertGetValueByFloat() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
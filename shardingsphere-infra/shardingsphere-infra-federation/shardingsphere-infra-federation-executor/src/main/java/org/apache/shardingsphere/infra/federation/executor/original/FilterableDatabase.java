@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationS
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Filterable database.
@@ -37,12 +38,12 @@ public final class FilterableDatabase extends AbstractSchema {
     
     private final Map<String, Schema> subSchemaMap;
     
-    public FilterableDatabase(final FederationDatabaseMetaData databaseMetaData, final FilterableTableScanExecutor executor) {
+    public FilterableDatabase(final FederationDatabaseMetaData databaseMetaData, final Supplier<FilterableTableScanExecutor> executor) {
         name = databaseMetaData.getName();
         subSchemaMap = createSubSchemaMap(databaseMetaData, executor);
     }
     
-    private Map<String, Schema> createSubSchemaMap(final FederationDatabaseMetaData databaseMetaData, final FilterableTableScanExecutor executor) {
+    private Map<String, Schema> createSubSchemaMap(final FederationDatabaseMetaData databaseMetaData, final Supplier<FilterableTableScanExecutor> executor) {
         Map<String, Schema> result = new LinkedHashMap<>(databaseMetaData.getSchemas().size(), 1);
         for (FederationSchemaMetaData each : databaseMetaData.getSchemas().values()) {
             result.put(each.getName(), new FilterableSchema(each, executor));
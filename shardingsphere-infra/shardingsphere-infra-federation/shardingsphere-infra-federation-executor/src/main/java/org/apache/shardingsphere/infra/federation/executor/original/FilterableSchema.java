@@ -24,9 +24,11 @@ import org.apache.shardingsphere.infra.federation.executor.original.table.Filter
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutor;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationTableStatistic;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Filterable schema.
@@ -38,15 +40,15 @@ public final class FilterableSchema extends AbstractSchema {
     
     private final Map<String, Table> tableMap;
     
-    public FilterableSchema(final FederationSchemaMetaData schemaMetaData, final FilterableTableScanExecutor executor) {
+    public FilterableSchema(final FederationSchemaMetaData schemaMetaData, final Supplier<FilterableTableScanExecutor> executor) {
         name = schemaMetaData.getName();
         tableMap = createTableMap(schemaMetaData, executor);
     }
     
-    private Map<String, Table> createTableMap(final FederationSchemaMetaData schemaMetaData, final FilterableTableScanExecutor executor) {
+    private Map<String, Table> createTableMap(final FederationSchemaMetaData schemaMetaData, final Supplier<FilterableTableScanExecutor> executor) {
         Map<String, Table> result = new LinkedHashMap<>(schemaMetaData.getTables().size(), 1);
         for (FederationTableMetaData each : schemaMetaData.getTables().values()) {
-            result.put(each.getName(), new FilterableTable(each, executor, new FederationTableStatistic()));
+            result.put(each.getName(), new FilterableTable(each, executor, new FederationTableStatistic(each)));
         }
         return result;
     }
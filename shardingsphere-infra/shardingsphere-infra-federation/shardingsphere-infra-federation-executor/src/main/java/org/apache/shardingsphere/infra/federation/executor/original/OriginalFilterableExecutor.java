@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.infra.federation.executor.original;
 
 import lombok.RequiredArgsConstructor;
-import org.apache.calcite.jdbc.CalciteConnection;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -28,13 +27,14 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.federation.executor.FederationContext;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
+import org.apache.shardingsphere.infra.federation.executor.original.plan.CachedCalciteConnection;
+import org.apache.shardingsphere.infra.federation.executor.original.plan.FederationPlanCache;
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutor;
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutorContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -61,6 +61,10 @@ public final class OriginalFilterableExecutor implements FederationExecutor {
     
     private final JDBCExecutor jdbcExecutor;
     
+    private CachedCalciteConnection connection;
+    
+    private FilterableTableScanExecutor tableScanExecutor;
+    
     private Statement statement;
     
     static {
@@ -74,29 +78,28 @@ public final class OriginalFilterableExecutor implements FederationExecutor {
     @Override
     public ResultSet executeQuery(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
                                   final JDBCExecutorCallback<? extends ExecuteResult> callback, final FederationContext federationContext) throws SQLException {
+        releaseConnection();
         LogicSQL logicSQL = federationContext.getLogicSQL();
-        Connection connection = createConnection(prepareEngine, callback, federationContext);
-        PreparedStatement preparedStatement = connection.prepareStatement(SQLUtil.trimSemicolon(logicSQL.getSql()));
-        setParameters(preparedStatement, logicSQL.getParameters());
-        this.statement = preparedStatement;
-        return preparedStatement.executeQuery();
-    }
-    
-    private Connection createConnection(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
-                                        final JDBCExecutorCallback<? extends ExecuteResult> callback, final FederationContext federationContext) throws SQLException {
-        Connection result = DriverManager.getConnection(CONNECTION_URL, optimizerContext.getParserContexts().get(databaseName).getDialectProps());
-        addSchema(result.unwrap(CalciteConnection.class), prepareEngine, callback, federationContext);
-        return result;
-    }
-    
-    private void addSchema(final CalciteConnection connection, final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
-                           final JDBCExecutorCallback<? extends ExecuteResult> callback, final FederationContext federationContext) throws SQLException {
+        connection = FederationPlanCache.getConnection(databaseName, schemaName, optimizerContext.getFederationMetaData().getDatabases().get(databaseName),
+                optimizerContext.getParserContexts().get(databaseName).getDialectProps(), federationContext.getDatabaseMap().get(databaseName).getRuleMetaData().getRules());
         FilterableTableScanExecutorContext executorContext = new FilterableTableScanExecutorContext(databaseName, schemaName, props, federationContext);
-        FilterableTableScanExecutor executor = new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, executorContext);
-        FilterableDatabase database = new FilterableDatabase(optimizerContext.getFederationMetaData().getDatabases().get(databaseName), executor);
-        // TODO support database.schema.table query when switch to CustomizedFilterableExecutor, calcite jdbc just support schema.table query now
-        connection.getRootSchema().add(schemaName, database.getSubSchema(schemaName));
-        connection.setSchema(schemaName);
+        tableScanExecutor = new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, executorContext);
+        connection.bind(tableScanExecutor);
+        try {
+            PreparedStatement preparedStatement = connection.getPreparedStatement(SQLUtil.trimSemicolon(logicSQL.getSql()).trim());
+            setParameters(preparedStatement, logicSQL.getParameters());
+            statement = preparedStatement;
+            return preparedStatement.executeQuery();
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            tableScanExecutor.close();
+            connection.close();
+            connection = null;
+            tableScanExecutor = null;
+            statement = null;
+            throw ex;
+        }
     }
     
     private void setParameters(final PreparedStatement preparedStatement, final List<Object> parameters) throws SQLException {
@@ -114,10 +117,24 @@ public final class OriginalFilterableExecutor implements FederationExecutor {
     
     @Override
     public void close() throws SQLException {
-        if (null != statement && !statement.isClosed()) {
-            Connection connection = statement.getConnection();
-            statement.close();
-            connection.close();
+        releaseConnection();
+    }
+    
+    private void releaseConnection() throws SQLException {
+        if (null == connection) {
+            return;
+        }
+        try {
+            ResultSet resultSet = statement.getResultSet();
+            if (null != resultSet && !resultSet.isClosed()) {
+                resultSet.close();
+            }
+        } finally {
+            tableScanExecutor.close();
+            FederationPlanCache.release(connection);
+            connection = null;
+            tableScanExecutor = null;
+            statement = null;
         }
     }
 }
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.plan;
+
+import lombok.Getter;
+import org.apache.calcite.jdbc.CalciteConnection;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.runtime.Hook;
+import org.apache.shardingsphere.infra.federation.executor.original.FilterableDatabase;
+import org.apache.shardingsphere.infra.federation.executor.original.OriginalFilterableExecutor;
+import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutor;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationDatabaseMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.planner.rule.ColocatedJoinPushDownRule;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.ColocatedTableRule;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Cached calcite connection, which keeps prepared statements with compiled plans for reuse.
+ */
+public final class CachedCalciteConnection implements AutoCloseable {
+    
+    @Getter
+    private final String databaseName;
+    
+    @Getter
+    private final String schemaName;
+    
+    @Getter
+    private final FederationDatabaseMetaData databaseMetaData;
+    
+    private final long metaDataVersion;
+    
+    private final Properties dialectProps;
+    
+    private final Collection<ShardingSphereRule> rules;
+    
+    private final ColocatedJoinPushDownRule colocatedJoinPushDownRule;
+    
+    private final Connection connection;
+    
+    private final Map<String, PreparedStatement> preparedStatements;
+    
+    private volatile FilterableTableScanExecutor executor;
+    
+    public CachedCalciteConnection(final String databaseName, final String schemaName, final FederationDatabaseMetaData databaseMetaData,
+                                   final Properties dialectProps, final Collection<ShardingSphereRule> rules, final int maxPlanSize) throws SQLException {
+        this.databaseName = databaseName;
+        this.schemaName = schemaName;
+        this.databaseMetaData = databaseMetaData;
+        metaDataVersion = databaseMetaData.getVersion();
+        this.dialectProps = dialectProps;
+        this.rules = rules;
+        colocatedJoinPushDownRule = createColocatedJoinPushDownRule(rules);
+        connection = createConnection(databaseMetaData, dialectProps);
+        preparedStatements = createPreparedStatements(maxPlanSize);
+    }
+    
+    private ColocatedJoinPushDownRule createColocatedJoinPushDownRule(final Collection<ShardingSphereRule> rules) {
+        Collection<ColocatedTableRule> colocatedTableRules = rules.stream().filter(each -> each instanceof ColocatedTableRule).map(each -> (ColocatedTableRule) each).collect(Collectors.toList());
+        return colocatedTableRules.isEmpty() ? null : new ColocatedJoinPushDownRule(colocatedTableRules);
+    }
+    
+    private Connection createConnection(final FederationDatabaseMetaData databaseMetaData, final Properties dialectProps) throws SQLException {
+        Connection result = DriverManager.getConnection(OriginalFilterableExecutor.CONNECTION_URL, dialectProps);
+        CalciteConnection calciteConnection = result.unwrap(CalciteConnection.class);
+        FilterableDatabase database = new FilterableDatabase(databaseMetaData, () -> executor);
+        // TODO support database.schema.table query when switch to CustomizedFilterableExecutor, calcite jdbc just support schema.table query now
+        calciteConnection.getRootSchema().add(schemaName, database.getSubSchema(schemaName));
+        calciteConnection.setSchema(schemaName);
+        return result;
+    }
+    
+    @SuppressWarnings("serial")
+    private Map<String, PreparedStatement> createPreparedStatements(final int maxPlanSize) {
+        return new LinkedHashMap<String, PreparedStatement>(16, 0.75F, true) {
+            
+            @Override
+            protected boolean removeEldestEntry(final Entry<String, PreparedStatement> eldest) {
+                if (size() <= maxPlanSize) {
+                    return false;
+                }
+                closeQuietly(eldest.getValue());
+                return true;
+            }
+        };
+    }
+    
+    /**
+     * Judge whether connection is built with the meta data, dialect properties and rules.
+     *
+     * @param databaseMetaData federation database meta data
+     * @param dialectProps dialect properties
+     * @param rules ShardingSphere rules
+     * @return is valid or not
+     */
+    public boolean isValid(final FederationDatabaseMetaData databaseMetaData, final Properties dialectProps, final Collection<ShardingSphereRule> rules) {
+        return this.databaseMetaData == databaseMetaData && this.dialectProps == dialectProps && this.rules == rules && !isExpired();
+    }
+    
+    /**
+     * Judge whether meta data is changed after connection built.
+     *
+     * @return is expired or not
+     */
+    public boolean isExpired() {
+        return metaDataVersion != databaseMetaData.getVersion();
+    }
+    
+    /**
+     * Bind table scan executor of current query.
+     *
+     * @param executor filterable table scan executor
+     */
+    public void bind(final FilterableTableScanExecutor executor) {
+        this.executor = executor;
+    }
+    
+    /**
+     * Get prepared statement, only plan SQL when it is not cached.
+     *
+     * @param sql SQL
+     * @return prepared statement
+     * @throws SQLException SQL exception
+     */
+    public PreparedStatement getPreparedStatement(final String sql) throws SQLException {
+        PreparedStatement result = preparedStatements.get(sql);
+        if (null != result && !result.isClosed()) {
+            result.clearParameters();
+            return result;
+        }
+        result = prepareStatement(sql);
+        preparedStatements.put(sql, result);
+        return result;
+    }
+    
+    /**
+     * Prepare statement, include validating, optimizing and generating code of plan.
+     * 
+     * <p>
+     * Join of colocated tables is pushed down to data nodes as a whole when database contains colocated table rules.
+     * </p>
+     *
+     * @param sql SQL
+     * @return prepared statement
+     * @throws SQLException SQL exception
+     */
+    public PreparedStatement prepareStatement(final String sql) throws SQLException {
+        if (null == colocatedJoinPushDownRule) {
+            return connection.prepareStatement(sql);
+        }
+        try (Hook.Closeable ignored = Hook.PLANNER.addThread((Consumer<RelOptPlanner>) planner -> planner.addRule(colocatedJoinPushDownRule))) {
+            return connection.prepareStatement(sql);
+        }
+    }
+    
+    @Override
+    public void close() {
+        executor = null;
+        for (PreparedStatement each : preparedStatements.values()) {
+            closeQuietly(each);
+        }
+        preparedStatements.clear();
+        try {
+            connection.close();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    private void closeQuietly(final PreparedStatement preparedStatement) {
+        try {
+            preparedStatement.close();
+        } catch (final SQLException ignored) {
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.plan;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationDatabaseMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Federation plan cache.
+ * 
+ * <p>
+ * Calcite connections are pooled per database and schema, each connection keeps compiled plans of SQL, so only parameters are rebound for cached SQL.
+ * Each pool only serves the federation meta data instance and version it was created for, a pool of stale meta data is closed and replaced as a whole,
+ * so plans compiled with stale meta data are never reused and at most one pool is kept per database and schema.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FederationPlanCache {
+    
+    private static final int MAX_IDLE_CONNECTION_SIZE = 16;
+    
+    private static final int MAX_PLAN_SIZE = 256;
+    
+    private static final Map<String, IdleConnectionPool> IDLE_CONNECTION_POOLS = new ConcurrentHashMap<>();
+    
+    /**
+     * Get connection exclusively, which should be released after query finished.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param databaseMetaData federation database meta data
+     * @param dialectProps dialect properties
+     * @param rules ShardingSphere rules
+     * @return cached calcite connection
+     * @throws SQLException SQL exception
+     */
+    public static CachedCalciteConnection getConnection(final String databaseName, final String schemaName,
+                                                        final FederationDatabaseMetaData databaseMetaData, final Properties dialectProps,
+                                                        final Collection<ShardingSphereRule> rules) throws SQLException {
+        Queue<CachedCalciteConnection> idleConnections = getIdleConnectionPool(databaseName, schemaName, databaseMetaData).connections;
+        CachedCalciteConnection result;
+        while (null != (result = idleConnections.poll())) {
+            if (result.isValid(databaseMetaData, dialectProps, rules)) {
+                return result;
+            }
+            result.close();
+        }
+        return new CachedCalciteConnection(databaseName, schemaName, databaseMetaData, dialectProps, rules, MAX_PLAN_SIZE);
+    }
+    
+    /**
+     * Release connection.
+     *
+     * @param connection cached calcite connection to be released
+     */
+    public static void release(final CachedCalciteConnection connection) {
+        connection.bind(null);
+        if (connection.isExpired()) {
+            connection.close();
+            return;
+        }
+        Queue<CachedCalciteConnection> idleConnections = getIdleConnectionPool(connection.getDatabaseName(), connection.getSchemaName(), connection.getDatabaseMetaData()).connections;
+        if (idleConnections.size() >= MAX_IDLE_CONNECTION_SIZE) {
+            connection.close();
+            return;
+        }
+        idleConnections.offer(connection);
+    }
+    
+    private static IdleConnectionPool getIdleConnectionPool(final String databaseName, final String schemaName, final FederationDatabaseMetaData databaseMetaData) {
+        String key = databaseName + "." + schemaName;
+        IdleConnectionPool result = IDLE_CONNECTION_POOLS.get(key);
+        if (null != result && result.isCreatedFor(databaseMetaData)) {
+            return result;
+        }
+        return IDLE_CONNECTION_POOLS.compute(key, (unused, value) -> {
+            if (null != value && value.isCreatedFor(databaseMetaData)) {
+                return value;
+            }
+            if (null != value) {
+                value.close();
+            }
+            return new IdleConnectionPool(databaseMetaData, databaseMetaData.getVersion());
+        });
+    }
+    
+    @RequiredArgsConstructor
+    private static final class IdleConnectionPool {
+        
+        private final FederationDatabaseMetaData databaseMetaData;
+        
+        private final long metaDataVersion;
+        
+        private final Queue<CachedCalciteConnection> connections = new ConcurrentLinkedQueue<>();
+        
+        private boolean isCreatedFor(final FederationDatabaseMetaData databaseMetaData) {
+            return this.databaseMetaData == databaseMetaData && metaDataVersion == databaseMetaData.getVersion();
+        }
+        
+        private void close() {
+            CachedCalciteConnection each;
+            while (null != (each = connections.poll())) {
+                each.close();
+            }
+        }
+    }
+}
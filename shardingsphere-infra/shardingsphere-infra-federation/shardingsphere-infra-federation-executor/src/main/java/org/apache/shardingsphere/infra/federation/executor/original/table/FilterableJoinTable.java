@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.table;
+
+import com.google.common.collect.ImmutableList;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.schema.ProjectableFilterableTable;
+import org.apache.calcite.schema.ScannableTable;
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.schema.Statistics;
+import org.apache.calcite.schema.impl.AbstractTable;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.PushDownTable;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Filterable join table, which represents join of colocated tables pushed down to data nodes as a whole.
+ */
+@RequiredArgsConstructor
+public final class FilterableJoinTable extends AbstractTable implements ProjectableFilterableTable, ScannableTable, PushDownTable {
+    
+    private final RelNode join;
+    
+    @Getter
+    private final List<String> fieldTableNames;
+    
+    @Getter
+    private final List<String> fieldColumnNames;
+    
+    private final double rowCount;
+    
+    private final Supplier<FilterableTableScanExecutor> executor;
+    
+    @Override
+    public RelDataType getRowType(final RelDataTypeFactory typeFactory) {
+        return join.getRowType();
+    }
+    
+    @Override
+    public Enumerable<Object[]> scan(final DataContext root, final List<RexNode> filters, final int[] projects) {
+        return executor.get().execute(join, new FilterableTableScanContext(root, filters, projects));
+    }
+    
+    @Override
+    public Enumerable<Object[]> scan(final DataContext root) {
+        return scan(root, new LinkedList<>(), null);
+    }
+    
+    @Override
+    public Statistic getStatistic() {
+        return Statistics.of(rowCount, ImmutableList.of());
+    }
+    
+    @Override
+    public RelNode getPushDownRelNode(final TableScan scan) {
+        return join;
+    }
+    
+    @Override
+    public PushDownTable createJoinTable(final RelNode join, final List<String> fieldTableNames, final List<String> fieldColumnNames, final double rowCount) {
+        return new FilterableJoinTable(join, fieldTableNames, fieldColumnNames, rowCount, executor);
+    }
+}
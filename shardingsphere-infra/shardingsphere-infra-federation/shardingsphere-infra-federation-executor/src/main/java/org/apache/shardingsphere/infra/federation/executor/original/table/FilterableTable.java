@@ -20,26 +20,31 @@ package org.apache.shardingsphere.infra.federation.executor.original.table;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.DataContext;
 import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.ProjectableFilterableTable;
 import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.impl.AbstractTable;
-import org.apache.shardingsphere.infra.federation.executor.original.FederationTableStatistic;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationTableStatistic;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.PushDownTable;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Filterable table.
  */
 @RequiredArgsConstructor
-public final class FilterableTable extends AbstractTable implements ProjectableFilterableTable {
+public final class FilterableTable extends AbstractTable implements ProjectableFilterableTable, PushDownTable {
     
     private final FederationTableMetaData metaData;
     
-    private final FilterableTableScanExecutor executor;
+    private final Supplier<FilterableTableScanExecutor> executor;
     
     private final FederationTableStatistic statistic;
     
@@ -50,11 +55,31 @@ public final class FilterableTable extends AbstractTable implements ProjectableF
     
     @Override
     public Enumerable<Object[]> scan(final DataContext root, final List<RexNode> filters, final int[] projects) {
-        return executor.execute(metaData, new FilterableTableScanContext(root, filters, projects));
+        return executor.get().execute(metaData, new FilterableTableScanContext(root, filters, projects));
     }
     
     @Override
     public Statistic getStatistic() {
         return statistic;
     }
+    
+    @Override
+    public List<String> getFieldTableNames() {
+        return Collections.nCopies(metaData.getColumnNames().size(), metaData.getName());
+    }
+    
+    @Override
+    public List<String> getFieldColumnNames() {
+        return metaData.getColumnNames();
+    }
+    
+    @Override
+    public RelNode getPushDownRelNode(final TableScan scan) {
+        return scan;
+    }
+    
+    @Override
+    public PushDownTable createJoinTable(final RelNode join, final List<String> fieldTableNames, final List<String> fieldColumnNames, final double rowCount) {
+        return new FilterableJoinTable(join, fieldTableNames, fieldColumnNames, rowCount, executor);
+    }
 }
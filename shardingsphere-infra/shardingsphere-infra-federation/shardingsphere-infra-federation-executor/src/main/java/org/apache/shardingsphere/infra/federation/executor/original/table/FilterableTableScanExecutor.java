@@ -52,12 +52,14 @@ import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
@@ -70,7 +72,7 @@ import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationT
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
-import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.Connection;
@@ -78,9 +80,12 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -113,6 +118,8 @@ public final class FilterableTableScanExecutor {
     
     private final FilterableTableScanExecutorContext executorContext;
     
+    private final Collection<FilterableTableScanUnit> scanUnits = new LinkedList<>();
+    
     public FilterableTableScanExecutor(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
                                        final JDBCExecutor jdbcExecutor, final JDBCExecutorCallback<? extends ExecuteResult> callback,
                                        final OptimizerContext optimizerContext, final FilterableTableScanExecutorContext executorContext) {
@@ -125,72 +132,153 @@ public final class FilterableTableScanExecutor {
     
     /**
      * Execute.
+     * 
+     * <p>
+     * Table scan is executed lazily when its rows are enumerated, all table scans not executed yet are executed together,
+     * so data nodes of all tables in a query are queried concurrently.
+     * Rows of table scans executed together are streamed to calcite if every data node holds its own connection in memory strictly connection mode,
+     * otherwise they are loaded into memory, because a connection can not serve several streaming result sets at the same time.
+     * Table scans executed again or after other table scans are always loaded into memory, because they share connections with table scans which may be streaming.
+     * </p>
      *
      * @param tableMetaData federation table meta data
      * @param scanContext filterable table scan context
      * @return query results
      */
     public Enumerable<Object[]> execute(final FederationTableMetaData tableMetaData, final FilterableTableScanContext scanContext) {
+        return execute(createRelNode(tableMetaData, scanContext));
+    }
+    
+    /**
+     * Execute relational expression pushed down to data nodes, such as join of colocated tables.
+     *
+     * @param pushDownRelNode relational expression pushed down to data nodes
+     * @param scanContext filterable table scan context
+     * @return query results
+     */
+    public Enumerable<Object[]> execute(final RelNode pushDownRelNode, final FilterableTableScanContext scanContext) {
+        return execute(createRelNode(pushDownRelNode, scanContext));
+    }
+    
+    private Enumerable<Object[]> execute(final RelNode relNode) {
         String databaseName = executorContext.getDatabaseName();
         String schemaName = executorContext.getSchemaName();
         DatabaseType databaseType = DatabaseTypeEngine.getTrunkDatabaseType(optimizerContext.getParserContexts().get(databaseName).getDatabaseType().getType());
-        SqlString sqlString = createSQLString(tableMetaData, scanContext, databaseType);
+        SqlString sqlString = createSQLString(relNode, databaseType);
         // TODO replace sql parse with sql convert
         FederationContext federationContext = executorContext.getFederationContext();
         LogicSQL logicSQL = createLogicSQL(federationContext.getDatabaseMap(), sqlString, databaseType);
         ShardingSphereDatabase database = federationContext.getDatabaseMap().get(databaseName);
         ExecutionContext context = new KernelProcessor().generateExecutionContext(logicSQL, database, executorContext.getProps());
+        if (context.getRouteContext().isFederated()) {
+            throw new ShardingSphereException("Table scan `%s` of federation can not be routed as federated query again", logicSQL.getSql());
+        }
         if (federationContext.isPreview() || databaseType.getSystemSchemas().contains(schemaName)) {
             federationContext.getExecutionUnits().addAll(context.getExecutionUnits());
             return createEmptyEnumerable();
         }
-        return execute(schemaName, databaseType, logicSQL, database, context);
+        return createEnumerable(schemaName, databaseType, new FilterableTableScanUnit(database, context));
     }
     
-    private AbstractEnumerable<Object[]> execute(final String schemaName, final DatabaseType databaseType, final LogicSQL logicSQL,
-                                                 final ShardingSphereDatabase database, final ExecutionContext context) {
+    AbstractEnumerable<Object[]> createEnumerable(final String schemaName, final DatabaseType databaseType, final FilterableTableScanUnit scanUnit) {
+        scanUnits.add(scanUnit);
+        return new AbstractEnumerable<Object[]>() {
+            
+            @Override
+            public Enumerator<Object[]> enumerator() {
+                return createEnumerator(schemaName, databaseType, scanUnit);
+            }
+        };
+    }
+    
+    private Enumerator<Object[]> createEnumerator(final String schemaName, final DatabaseType databaseType, final FilterableTableScanUnit scanUnit) {
         try {
-            ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareEngine.prepare(context.getRouteContext(), context.getExecutionUnits());
-            setParameters(executionGroupContext.getInputGroups());
-            ExecuteProcessEngine.initialize(context.getLogicSQL(), executionGroupContext, executorContext.getProps());
-            List<QueryResult> queryResults = execute(executionGroupContext, databaseType);
-            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
+            if (!scanUnit.isConsumable()) {
+                executeScanUnits(scanUnit, databaseType);
+            }
+            scanUnit.consume();
+            ShardingSphereDatabase database = scanUnit.getDatabase();
             MergeEngine mergeEngine = new MergeEngine(schemaName, databaseType, database, executorContext.getProps(), database.getRuleMetaData().getRules());
-            MergedResult mergedResult = mergeEngine.merge(queryResults, logicSQL.getSqlStatementContext());
-            Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-            return createEnumerable(mergedResult, queryResults.get(0).getMetaData(), statements);
+            MergedResult mergedResult = mergeEngine.merge(scanUnit.getQueryResults(), scanUnit.getExecutionContext().getSqlStatementContext());
+            return new FilterableRowEnumerator(mergedResult, scanUnit.getQueryResults().get(0).getMetaData(), new LinkedList<>(scanUnit.getStatements()));
         } catch (final SQLException ex) {
             throw new ShardingSphereException(ex);
+        }
+    }
+    
+    private void executeScanUnits(final FilterableTableScanUnit scanUnit, final DatabaseType databaseType) throws SQLException {
+        if (scanUnit.isExecuted()) {
+            scanUnit.reset();
+            executeScanUnits(Collections.singletonList(scanUnit), databaseType, false);
+        } else {
+            executeScanUnits(scanUnits.stream().filter(each -> !each.isExecuted()).collect(Collectors.toList()), databaseType, scanUnits.stream().noneMatch(FilterableTableScanUnit::isExecuted));
+        }
+    }
+    
+    private void executeScanUnits(final Collection<FilterableTableScanUnit> executingScanUnits, final DatabaseType databaseType, final boolean streamable) throws SQLException {
+        FilterableTableScanUnit firstScanUnit = executingScanUnits.iterator().next();
+        Map<SQLUnit, FilterableTableScanUnit> sqlUnitScanUnits = new IdentityHashMap<>();
+        Collection<ExecutionUnit> executionUnits = new LinkedList<>();
+        for (FilterableTableScanUnit each : executingScanUnits) {
+            for (ExecutionUnit executionUnit : each.getExecutionContext().getExecutionUnits()) {
+                sqlUnitScanUnits.put(executionUnit.getSqlUnit(), each);
+                executionUnits.add(executionUnit);
+            }
+        }
+        try {
+            ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareEngine.prepare(firstScanUnit.getExecutionContext().getRouteContext(), executionUnits);
+            setParameters(executionGroupContext.getInputGroups());
+            executionGroupContext.setDatabaseName(executorContext.getDatabaseName());
+            ExecuteProcessEngine.initialize(firstScanUnit.getExecutionContext().getLogicSQL(), executionGroupContext, executorContext.getProps());
+            List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
+            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
+            List<JDBCExecutionUnit> jdbcExecutionUnits = getJDBCExecutionUnits(executionGroupContext.getInputGroups());
+            if (queryResults.size() != jdbcExecutionUnits.size()) {
+                throw new ShardingSphereException("Query results size `%s` does not match execution units size `%s` of federation table scan", queryResults.size(), jdbcExecutionUnits.size());
+            }
+            Iterator<QueryResult> queryResultIterator = queryResults.iterator();
+            for (JDBCExecutionUnit each : jdbcExecutionUnits) {
+                QueryResult queryResult = loadQueryResult(queryResultIterator.next(), databaseType, streamable && ConnectionMode.MEMORY_STRICTLY == each.getConnectionMode());
+                sqlUnitScanUnits.get(each.getExecutionUnit().getSqlUnit()).addQueryResult(queryResult, each.getStorageResource());
+            }
         } finally {
             ExecuteProcessEngine.clean();
         }
     }
     
-    private List<QueryResult> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final DatabaseType databaseType) throws SQLException {
-        Collection<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
-        List<QueryResult> result = new LinkedList<>();
-        for (QueryResult each : queryResults) {
-            QueryResult queryResult = each instanceof JDBCStreamQueryResult
-                    ? new JDBCMemoryQueryResult(((JDBCStreamQueryResult) each).getResultSet(), databaseType)
-                    : each;
-            result.add(queryResult);
+    private QueryResult loadQueryResult(final QueryResult queryResult, final DatabaseType databaseType, final boolean streamable) throws SQLException {
+        return !streamable && queryResult instanceof JDBCStreamQueryResult ? new JDBCMemoryQueryResult(((JDBCStreamQueryResult) queryResult).getResultSet(), databaseType) : queryResult;
+    }
+    
+    private List<JDBCExecutionUnit> getJDBCExecutionUnits(final Collection<ExecutionGroup<JDBCExecutionUnit>> inputGroups) {
+        List<JDBCExecutionUnit> result = new LinkedList<>();
+        for (ExecutionGroup<JDBCExecutionUnit> each : inputGroups) {
+            result.addAll(each.getInputs());
         }
         return result;
     }
     
-    private Collection<Statement> getStatements(final Collection<ExecutionGroup<JDBCExecutionUnit>> inputGroups) {
-        Collection<Statement> result = new LinkedList<>();
-        for (ExecutionGroup<JDBCExecutionUnit> each : inputGroups) {
-            for (JDBCExecutionUnit executionUnit : each.getInputs()) {
-                result.add(executionUnit.getStorageResource());
+    /**
+     * Close statements of table scans which are executed but not consumed.
+     */
+    public void close() {
+        for (FilterableTableScanUnit each : scanUnits) {
+            if (!each.isConsumable()) {
+                continue;
+            }
+            for (Statement statement : each.getStatements()) {
+                try {
+                    statement.close();
+                } catch (final SQLException ignored) {
+                }
             }
         }
-        return result;
+        scanUnits.clear();
     }
     
-    private SqlString createSQLString(final FederationTableMetaData tableMetaData, final FilterableTableScanContext scanContext, final DatabaseType databaseType) {
+    private SqlString createSQLString(final RelNode relNode, final DatabaseType databaseType) {
         SqlDialect sqlDialect = SQL_DIALECTS.getOrDefault(databaseType.getClass(), MysqlSqlDialect.DEFAULT);
-        return new RelToSqlConverter(sqlDialect).visitRoot(createRelNode(tableMetaData, scanContext)).asStatement().toSqlString(sqlDialect);
+        return new RelToSqlConverter(sqlDialect).visitRoot(relNode).asStatement().toSqlString(sqlDialect);
     }
     
     @SneakyThrows
@@ -236,6 +324,14 @@ public final class FilterableTableScanExecutor {
         return builder.build();
     }
     
+    private RelNode createRelNode(final RelNode pushDownRelNode, final FilterableTableScanContext scanContext) {
+        RelBuilder builder = RelFactories.LOGICAL_BUILDER.create(pushDownRelNode.getCluster(), null).push(pushDownRelNode).filter(scanContext.getFilters());
+        if (null != scanContext.getProjects()) {
+            builder.project(Arrays.stream(scanContext.getProjects()).mapToObj(builder::field).collect(Collectors.toList()));
+        }
+        return builder.build();
+    }
+    
     private Collection<RexNode> createProjections(final int[] projects, final RelBuilder relBuilder, final List<String> columnNames) {
         Collection<RexNode> result = new LinkedList<>();
         for (int each : projects) {
@@ -244,24 +340,14 @@ public final class FilterableTableScanExecutor {
         return result;
     }
     
-    private AbstractEnumerable<Object[]> createEnumerable(final MergedResult mergedResult, final QueryResultMetaData metaData, final Collection<Statement> statements) {
-        return new AbstractEnumerable<Object[]>() {
-            
-            @Override
-            public Enumerator<Object[]> enumerator() {
-                return new FilterableRowEnumerator(mergedResult, metaData, statements);
-            }
-        };
-    }
-    
     private LogicSQL createLogicSQL(final Map<String, ShardingSphereDatabase> databaseMap, final SqlString sqlString, final DatabaseType databaseType) {
         String sql = sqlString.getSql().replace("\n", " ");
-        SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType.getType(),
+        SQLStatement sqlStatement = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType.getType(),
                 optimizerContext.getSqlParserRule().getSqlStatementCache(), optimizerContext.getSqlParserRule().getParseTreeCache(),
-                optimizerContext.getSqlParserRule().isSqlCommentParseEnabled()).parse(sql, false);
+                optimizerContext.getSqlParserRule().isSqlCommentParseEnabled()).parse(sql, true);
         List<Object> parameters = getParameters(sqlString.getDynamicParameters());
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(databaseMap, parameters, sqlStatement, executorContext.getDatabaseName());
-        return new LogicSQL(sqlStatementContext, sql, parameters);
+        return new LogicSQL(sqlStatementContext, sql, parameters, executorContext.getFederationContext().getLogicSQL().getConnectionContext());
     }
     
     private AbstractEnumerable<Object[]> createEmptyEnumerable() {
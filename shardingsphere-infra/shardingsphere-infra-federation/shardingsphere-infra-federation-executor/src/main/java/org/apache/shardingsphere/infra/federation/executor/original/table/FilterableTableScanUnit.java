@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.table;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
+
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Filterable table scan unit, which holds execution context and query results of a pushed down table scan.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class FilterableTableScanUnit {
+    
+    private final ShardingSphereDatabase database;
+    
+    private final ExecutionContext executionContext;
+    
+    private final List<QueryResult> queryResults = new LinkedList<>();
+    
+    private final Collection<Statement> statements = new LinkedList<>();
+    
+    private boolean executed;
+    
+    private boolean consumed;
+    
+    /**
+     * Add query result of a data node.
+     *
+     * @param queryResult query result
+     * @param statement statement of query result
+     */
+    public void addQueryResult(final QueryResult queryResult, final Statement statement) {
+        queryResults.add(queryResult);
+        statements.add(statement);
+        executed = true;
+    }
+    
+    /**
+     * Judge whether query results could be consumed, query results should be consumed only once.
+     *
+     * @return consumable or not
+     */
+    public boolean isConsumable() {
+        return executed && !consumed;
+    }
+    
+    /**
+     * Mark query results consumed.
+     */
+    public void consume() {
+        consumed = true;
+    }
+    
+    /**
+     * Reset query results for execution again.
+     */
+    public void reset() {
+        queryResults.clear();
+        statements.clear();
+        executed = false;
+        consumed = false;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.plan;
+
+import org.apache.calcite.config.CalciteConnectionProperty;
+import org.apache.calcite.config.Lex;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationDatabaseMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CachedCalciteConnectionTest {
+    
+    private static final String SQL = "SELECT order_id FROM t_order WHERE user_id = ?";
+    
+    private final Properties dialectProps = createDialectProperties();
+    
+    private final Collection<ShardingSphereRule> rules = Collections.emptyList();
+    
+    private FederationDatabaseMetaData databaseMetaData;
+    
+    private CachedCalciteConnection connection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        databaseMetaData = createDatabaseMetaData("foo_db");
+        connection = new CachedCalciteConnection("foo_db", "foo_schema", databaseMetaData, dialectProps, rules, 2);
+    }
+    
+    @After
+    public void tearDown() {
+        connection.close();
+    }
+    
+    @Test
+    public void assertGetPreparedStatementReusesPlan() throws SQLException {
+        PreparedStatement expected = connection.getPreparedStatement(SQL);
+        expected.setInt(1, 1);
+        PreparedStatement actual = connection.getPreparedStatement(SQL);
+        assertThat(actual, sameInstance(expected));
+        assertFalse(actual.isClosed());
+    }
+    
+    @Test
+    public void assertGetPreparedStatementEvictsLeastRecentlyUsedPlan() throws SQLException {
+        PreparedStatement first = connection.getPreparedStatement(SQL);
+        PreparedStatement second = connection.getPreparedStatement("SELECT user_id FROM t_order WHERE order_id = ?");
+        assertThat(connection.getPreparedStatement(SQL), sameInstance(first));
+        connection.getPreparedStatement("SELECT order_id, user_id FROM t_order");
+        assertTrue(second.isClosed());
+        assertFalse(first.isClosed());
+        assertThat(connection.getPreparedStatement(SQL), sameInstance(first));
+        assertThat(connection.getPreparedStatement("SELECT user_id FROM t_order WHERE order_id = ?"), not(sameInstance(second)));
+    }
+    
+    @Test
+    public void assertIsValid() {
+        assertTrue(connection.isValid(databaseMetaData, dialectProps, rules));
+        assertFalse(connection.isValid(createDatabaseMetaData("foo_db"), dialectProps, rules));
+        assertFalse(connection.isValid(databaseMetaData, createDialectProperties(), rules));
+        assertFalse(connection.isValid(databaseMetaData, dialectProps, Collections.emptySet()));
+    }
+    
+    @Test
+    public void assertIsExpiredAfterMetaDataChanged() {
+        assertFalse(connection.isExpired());
+        databaseMetaData.putTableMetadata("foo_schema", createTableMetaData("t_order_item"));
+        assertTrue(connection.isExpired());
+        assertFalse(connection.isValid(databaseMetaData, dialectProps, rules));
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        PreparedStatement preparedStatement = connection.getPreparedStatement(SQL);
+        connection.close();
+        assertTrue(preparedStatement.isClosed());
+    }
+    
+    static FederationDatabaseMetaData createDatabaseMetaData(final String databaseName) {
+        return new FederationDatabaseMetaData(databaseName,
+                Collections.singletonMap("foo_schema", new ShardingSphereSchema(Collections.singletonMap("t_order", createTableMetaData("t_order")))));
+    }
+    
+    static TableMetaData createTableMetaData(final String tableName) {
+        return new TableMetaData(tableName, Arrays.asList(new ColumnMetaData("order_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("user_id", Types.INTEGER, false, false, false)), Collections.emptyList(), Collections.emptyList());
+    }
+    
+    static Properties createDialectProperties() {
+        Properties result = new Properties();
+        result.setProperty(CalciteConnectionProperty.LEX.camelName(), Lex.MYSQL.name());
+        return result;
+    }
+}
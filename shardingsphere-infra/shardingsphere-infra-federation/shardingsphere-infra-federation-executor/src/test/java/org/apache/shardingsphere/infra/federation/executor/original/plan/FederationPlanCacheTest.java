@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.plan;
+
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationDatabaseMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FederationPlanCacheTest {
+    
+    private static final String SQL = "SELECT order_id FROM t_order WHERE user_id = ?";
+    
+    private final Properties dialectProps = CachedCalciteConnectionTest.createDialectProperties();
+    
+    private final Collection<ShardingSphereRule> rules = Collections.emptyList();
+    
+    @Test
+    public void assertGetConnectionReusesReleasedConnectionAndPlan() throws SQLException {
+        FederationDatabaseMetaData databaseMetaData = CachedCalciteConnectionTest.createDatabaseMetaData("reuse_db");
+        CachedCalciteConnection expected = FederationPlanCache.getConnection("reuse_db", "foo_schema", databaseMetaData, dialectProps, rules);
+        PreparedStatement preparedStatement = expected.getPreparedStatement(SQL);
+        FederationPlanCache.release(expected);
+        CachedCalciteConnection actual = FederationPlanCache.getConnection("reuse_db", "foo_schema", databaseMetaData, dialectProps, rules);
+        assertThat(actual, sameInstance(expected));
+        assertThat(actual.getPreparedStatement(SQL), sameInstance(preparedStatement));
+        FederationPlanCache.release(actual);
+    }
+    
+    @Test
+    public void assertGetConnectionWhileOtherConnectionInUse() throws SQLException {
+        FederationDatabaseMetaData databaseMetaData = CachedCalciteConnectionTest.createDatabaseMetaData("in_use_db");
+        CachedCalciteConnection first = FederationPlanCache.getConnection("in_use_db", "foo_schema", databaseMetaData, dialectProps, rules);
+        CachedCalciteConnection second = FederationPlanCache.getConnection("in_use_db", "foo_schema", databaseMetaData, dialectProps, rules);
+        assertThat(second, not(sameInstance(first)));
+        FederationPlanCache.release(first);
+        FederationPlanCache.release(second);
+    }
+    
+    @Test
+    public void assertGetConnectionAfterMetaDataVersionChanged() throws SQLException {
+        FederationDatabaseMetaData databaseMetaData = CachedCalciteConnectionTest.createDatabaseMetaData("version_changed_db");
+        CachedCalciteConnection staleConnection = FederationPlanCache.getConnection("version_changed_db", "foo_schema", databaseMetaData, dialectProps, rules);
+        PreparedStatement stalePreparedStatement = staleConnection.getPreparedStatement(SQL);
+        FederationPlanCache.release(staleConnection);
+        databaseMetaData.putTableMetadata("foo_schema", CachedCalciteConnectionTest.createTableMetaData("t_order_item"));
+        CachedCalciteConnection actual = FederationPlanCache.getConnection("version_changed_db", "foo_schema", databaseMetaData, dialectProps, rules);
+        assertThat(actual, not(sameInstance(staleConnection)));
+        assertTrue(stalePreparedStatement.isClosed());
+        assertThat(actual.getPreparedStatement(SQL), not(sameInstance(stalePreparedStatement)));
+        FederationPlanCache.release(actual);
+    }
+    
+    @Test
+    public void assertGetConnectionAfterMetaDataReloaded() throws SQLException {
+        CachedCalciteConnection staleConnection = FederationPlanCache.getConnection(
+                "reloaded_db", "foo_schema", CachedCalciteConnectionTest.createDatabaseMetaData("reloaded_db"), dialectProps, rules);
+        PreparedStatement stalePreparedStatement = staleConnection.getPreparedStatement(SQL);
+        FederationPlanCache.release(staleConnection);
+        CachedCalciteConnection actual = FederationPlanCache.getConnection(
+                "reloaded_db", "foo_schema", CachedCalciteConnectionTest.createDatabaseMetaData("reloaded_db"), dialectProps, rules);
+        assertThat(actual, not(sameInstance(staleConnection)));
+        assertTrue(stalePreparedStatement.isClosed());
+        FederationPlanCache.release(actual);
+    }
+    
+    @Test
+    public void assertReleaseExpiredConnection() throws SQLException {
+        FederationDatabaseMetaData databaseMetaData = CachedCalciteConnectionTest.createDatabaseMetaData("expired_db");
+        CachedCalciteConnection expiredConnection = FederationPlanCache.getConnection("expired_db", "foo_schema", databaseMetaData, dialectProps, rules);
+        PreparedStatement expiredPreparedStatement = expiredConnection.getPreparedStatement(SQL);
+        databaseMetaData.putTableMetadata("foo_schema", CachedCalciteConnectionTest.createTableMetaData("t_order_item"));
+        FederationPlanCache.release(expiredConnection);
+        assertTrue(expiredPreparedStatement.isClosed());
+        CachedCalciteConnection actual = FederationPlanCache.getConnection("expired_db", "foo_schema", databaseMetaData, dialectProps, rules);
+        assertThat(actual, not(sameInstance(expiredConnection)));
+        assertFalse(actual.isExpired());
+        FederationPlanCache.release(actual);
+    }
+}
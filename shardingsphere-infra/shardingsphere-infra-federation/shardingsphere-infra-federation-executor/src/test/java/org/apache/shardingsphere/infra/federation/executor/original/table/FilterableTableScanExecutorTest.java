@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.table;
+
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.federation.executor.FederationContext;
+import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class FilterableTableScanExecutorTest {
+    
+    @SuppressWarnings("unchecked")
+    private final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = mock(DriverExecutionPrepareEngine.class);
+    
+    private final JDBCExecutor jdbcExecutor = mock(JDBCExecutor.class);
+    
+    private ConnectionMode connectionMode = ConnectionMode.MEMORY_STRICTLY;
+    
+    private FilterableTableScanExecutor executor;
+    
+    @SuppressWarnings("unchecked")
+    @Before
+    public void setUp() throws SQLException {
+        when(prepareEngine.prepare(any(RouteContext.class), any(Collection.class))).thenAnswer(invocation -> createExecutionGroupContext(invocation.getArgument(1)));
+        when(jdbcExecutor.execute(any(ExecutionGroupContext.class), any(JDBCExecutorCallback.class))).thenAnswer(invocation -> createQueryResults(invocation.getArgument(0)));
+        executor = new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, mock(JDBCExecutorCallback.class), mock(OptimizerContext.class),
+                new FilterableTableScanExecutorContext("foo_db", "foo_schema", new ConfigurationProperties(new Properties()), mock(FederationContext.class)));
+    }
+    
+    private ExecutionGroupContext<JDBCExecutionUnit> createExecutionGroupContext(final Collection<ExecutionUnit> executionUnits) {
+        List<JDBCExecutionUnit> inputs = new LinkedList<>();
+        for (ExecutionUnit each : executionUnits) {
+            inputs.add(new JDBCExecutionUnit(each, connectionMode, mock(PreparedStatement.class)));
+        }
+        return new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(inputs)));
+    }
+    
+    private List<ExecuteResult> createQueryResults(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
+        List<ExecuteResult> result = new LinkedList<>();
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (int i = 0; i < each.getInputs().size(); i++) {
+                result.add(mockStreamQueryResult());
+            }
+        }
+        return result;
+    }
+    
+    private JDBCStreamQueryResult mockStreamQueryResult() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(resultSet.getMetaData().getColumnCount()).thenReturn(1);
+        JDBCStreamQueryResult result = mock(JDBCStreamQueryResult.class);
+        when(result.getResultSet()).thenReturn(resultSet);
+        return result;
+    }
+    
+    @Test
+    public void assertExecuteSingleScanUnitWithStreaming() throws SQLException {
+        FilterableTableScanUnit scanUnit = createScanUnit("ds_0", "ds_1");
+        executor.createEnumerable("foo_schema", new H2DatabaseType(), scanUnit).enumerator();
+        verify(jdbcExecutor).execute(any(ExecutionGroupContext.class), any(JDBCExecutorCallback.class));
+        assertThat(scanUnit.getQueryResults().size(), is(2));
+        assertThat(scanUnit.getQueryResults().get(0), instanceOf(JDBCStreamQueryResult.class));
+    }
+    
+    @Test
+    public void assertExecuteScanUnitsTogether() throws SQLException {
+        FilterableTableScanUnit firstScanUnit = createScanUnit("ds_0");
+        FilterableTableScanUnit secondScanUnit = createScanUnit("ds_0", "ds_1");
+        Enumerable<Object[]> firstEnumerable = executor.createEnumerable("foo_schema", new H2DatabaseType(), firstScanUnit);
+        Enumerable<Object[]> secondEnumerable = executor.createEnumerable("foo_schema", new H2DatabaseType(), secondScanUnit);
+        firstEnumerable.enumerator();
+        assertThat(firstScanUnit.getQueryResults().size(), is(1));
+        assertThat(secondScanUnit.getQueryResults().size(), is(2));
+        secondEnumerable.enumerator();
+        verify(jdbcExecutor).execute(any(ExecutionGroupContext.class), any(JDBCExecutorCallback.class));
+        assertThat(firstScanUnit.getQueryResults().get(0), instanceOf(JDBCStreamQueryResult.class));
+        assertThat(secondScanUnit.getQueryResults().get(0), instanceOf(JDBCStreamQueryResult.class));
+    }
+    
+    @Test
+    public void assertExecuteScanUnitsTogetherWithConnectionStrictly() throws SQLException {
+        connectionMode = ConnectionMode.CONNECTION_STRICTLY;
+        FilterableTableScanUnit firstScanUnit = createScanUnit("ds_0");
+        FilterableTableScanUnit secondScanUnit = createScanUnit("ds_0", "ds_1");
+        Enumerable<Object[]> firstEnumerable = executor.createEnumerable("foo_schema", new H2DatabaseType(), firstScanUnit);
+        executor.createEnumerable("foo_schema", new H2DatabaseType(), secondScanUnit);
+        firstEnumerable.enumerator();
+        assertThat(firstScanUnit.getQueryResults().get(0), instanceOf(JDBCMemoryQueryResult.class));
+        assertThat(secondScanUnit.getQueryResults().get(0), instanceOf(JDBCMemoryQueryResult.class));
+    }
+    
+    @Test
+    public void assertExecuteScanUnitAfterOtherScanUnits() throws SQLException {
+        FilterableTableScanUnit firstScanUnit = createScanUnit("ds_0");
+        FilterableTableScanUnit secondScanUnit = createScanUnit("ds_0");
+        executor.createEnumerable("foo_schema", new H2DatabaseType(), firstScanUnit).enumerator();
+        executor.createEnumerable("foo_schema", new H2DatabaseType(), secondScanUnit).enumerator();
+        verify(jdbcExecutor, times(2)).execute(any(ExecutionGroupContext.class), any(JDBCExecutorCallback.class));
+        assertThat(firstScanUnit.getQueryResults().get(0), instanceOf(JDBCStreamQueryResult.class));
+        assertThat(secondScanUnit.getQueryResults().get(0), instanceOf(JDBCMemoryQueryResult.class));
+    }
+    
+    @Test
+    public void assertExecuteScanUnitAgain() throws SQLException {
+        FilterableTableScanUnit scanUnit = createScanUnit("ds_0");
+        Enumerable<Object[]> enumerable = executor.createEnumerable("foo_schema", new H2DatabaseType(), scanUnit);
+        enumerable.enumerator();
+        enumerable.enumerator();
+        verify(jdbcExecutor, times(2)).execute(any(ExecutionGroupContext.class), any(JDBCExecutorCallback.class));
+        assertThat(scanUnit.getQueryResults().size(), is(1));
+        assertThat(scanUnit.getQueryResults().get(0), instanceOf(JDBCMemoryQueryResult.class));
+    }
+    
+    @Test
+    public void assertCloseStatementsOfScanUnitsNotConsumed() throws SQLException {
+        FilterableTableScanUnit firstScanUnit = createScanUnit("ds_0");
+        FilterableTableScanUnit secondScanUnit = createScanUnit("ds_1");
+        Enumerable<Object[]> firstEnumerable = executor.createEnumerable("foo_schema", new H2DatabaseType(), firstScanUnit);
+        executor.createEnumerable("foo_schema", new H2DatabaseType(), secondScanUnit);
+        firstEnumerable.enumerator();
+        Statement consumedStatement = firstScanUnit.getStatements().iterator().next();
+        Statement notConsumedStatement = secondScanUnit.getStatements().iterator().next();
+        executor.close();
+        verify(consumedStatement, never()).close();
+        verify(notConsumedStatement).close();
+    }
+    
+    private FilterableTableScanUnit createScanUnit(final String... dataSourceNames) {
+        Collection<ExecutionUnit> executionUnits = new LinkedList<>();
+        for (String each : dataSourceNames) {
+            executionUnits.add(new ExecutionUnit(each, new SQLUnit("SELECT order_id FROM t_order", Collections.emptyList())));
+        }
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
+        return new FilterableTableScanUnit(database, new ExecutionContext(mock(LogicSQL.class), executionUnits, mock(RouteContext.class)));
+    }
+}
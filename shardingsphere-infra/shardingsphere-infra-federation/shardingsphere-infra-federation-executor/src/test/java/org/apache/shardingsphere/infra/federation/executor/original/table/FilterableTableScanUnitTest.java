@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.table;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
+import org.junit.Test;
+
+import java.sql.Statement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class FilterableTableScanUnitTest {
+    
+    private final FilterableTableScanUnit scanUnit = new FilterableTableScanUnit(mock(ShardingSphereDatabase.class), mock(ExecutionContext.class));
+    
+    @Test
+    public void assertIsConsumableBeforeExecuted() {
+        assertFalse(scanUnit.isExecuted());
+        assertFalse(scanUnit.isConsumable());
+    }
+    
+    @Test
+    public void assertAddQueryResult() {
+        scanUnit.addQueryResult(mock(QueryResult.class), mock(Statement.class));
+        assertTrue(scanUnit.isExecuted());
+        assertTrue(scanUnit.isConsumable());
+        assertThat(scanUnit.getQueryResults().size(), is(1));
+        assertThat(scanUnit.getStatements().size(), is(1));
+    }
+    
+    @Test
+    public void assertConsume() {
+        scanUnit.addQueryResult(mock(QueryResult.class), mock(Statement.class));
+        scanUnit.consume();
+        assertTrue(scanUnit.isExecuted());
+        assertFalse(scanUnit.isConsumable());
+    }
+    
+    @Test
+    public void assertReset() {
+        scanUnit.addQueryResult(mock(QueryResult.class), mock(Statement.class));
+        scanUnit.consume();
+        scanUnit.reset();
+        assertFalse(scanUnit.isExecuted());
+        assertFalse(scanUnit.isConsumable());
+        assertTrue(scanUnit.getQueryResults().isEmpty());
+        assertTrue(scanUnit.getStatements().isEmpty());
+    }
+}
@@ -17,15 +17,18 @@
 
 package org.apache.shardingsphere.infra.federation.optimizer.metadata;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableStatistics;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Federation database meta data.
@@ -37,6 +40,9 @@ public final class FederationDatabaseMetaData {
     
     private final Map<String, FederationSchemaMetaData> schemas;
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong version = new AtomicLong();
+    
     public FederationDatabaseMetaData(final String name, final Map<String, ShardingSphereSchema> schemas) {
         this.name = name;
         this.schemas = new ConcurrentHashMap<>(schemas.size(), 1);
@@ -53,6 +59,7 @@ public final class FederationDatabaseMetaData {
      */
     public void putSchemaMetadata(final String schemaName, final FederationSchemaMetaData schemaMetaData) {
         schemas.put(schemaName.toLowerCase(), schemaMetaData);
+        version.incrementAndGet();
     }
     
     /**
@@ -64,6 +71,20 @@ public final class FederationDatabaseMetaData {
     public void putTableMetadata(final String schemaName, final TableMetaData tableMetaData) {
         FederationSchemaMetaData schemaMetaData = schemas.computeIfAbsent(schemaName.toLowerCase(), key -> new FederationSchemaMetaData(schemaName, new LinkedHashMap<>()));
         schemaMetaData.put(tableMetaData);
+        version.incrementAndGet();
+    }
+    
+    /**
+     * Put table statistics.
+     *
+     * @param schemaName schema name
+     * @param statistics table statistics
+     */
+    public void putTableStatistics(final String schemaName, final TableStatistics statistics) {
+        FederationSchemaMetaData schemaMetaData = schemas.get(schemaName.toLowerCase());
+        if (null != schemaMetaData && schemaMetaData.putStatistics(statistics)) {
+            version.incrementAndGet();
+        }
     }
     
     /**
@@ -73,6 +94,7 @@ public final class FederationDatabaseMetaData {
      */
     public void removeSchemaMetadata(final String schemaName) {
         schemas.remove(schemaName.toLowerCase());
+        version.incrementAndGet();
     }
     
     /**
@@ -84,9 +106,19 @@ public final class FederationDatabaseMetaData {
     public void removeTableMetadata(final String schemaName, final String tableName) {
         if (schemas.containsKey(schemaName.toLowerCase())) {
             schemas.get(schemaName.toLowerCase()).remove(tableName.toLowerCase());
+            version.incrementAndGet();
         }
     }
     
+    /**
+     * Get version, which is increased by every change of schema, table meta data or table statistics.
+     *
+     * @return version
+     */
+    public long getVersion() {
+        return version.get();
+    }
+    
     /**
      * Get table meta data.
      *
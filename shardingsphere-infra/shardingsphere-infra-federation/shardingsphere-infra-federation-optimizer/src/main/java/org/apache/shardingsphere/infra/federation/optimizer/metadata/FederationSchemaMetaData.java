@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.federation.optimizer.metadata;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableStatistics;
 
 import java.util.Map;
 import java.util.Map.Entry;
@@ -48,7 +49,26 @@ public final class FederationSchemaMetaData {
      * @param metaData table meta data to be updated
      */
     public void put(final TableMetaData metaData) {
-        tables.put(metaData.getName().toLowerCase(), new FederationTableMetaData(metaData.getName(), metaData));
+        FederationTableMetaData tableMetaData = new FederationTableMetaData(metaData.getName(), metaData);
+        FederationTableMetaData originalTableMetaData = tables.put(metaData.getName().toLowerCase(), tableMetaData);
+        if (null != originalTableMetaData) {
+            tableMetaData.setStatistics(originalTableMetaData.getStatistics());
+        }
+    }
+    
+    /**
+     * Put table statistics.
+     *
+     * @param statistics table statistics to be updated
+     * @return whether the table of statistics exists
+     */
+    public boolean putStatistics(final TableStatistics statistics) {
+        FederationTableMetaData tableMetaData = tables.get(statistics.getName().toLowerCase());
+        if (null == tableMetaData) {
+            return false;
+        }
+        tableMetaData.setStatistics(statistics);
+        return true;
     }
     
     /**
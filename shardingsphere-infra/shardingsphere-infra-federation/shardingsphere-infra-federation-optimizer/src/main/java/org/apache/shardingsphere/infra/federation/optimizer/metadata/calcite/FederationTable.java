@@ -24,6 +24,7 @@ import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.ProjectableFilterableTable;
+import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
 
@@ -46,4 +47,9 @@ public final class FederationTable extends AbstractTable implements ProjectableF
     public Enumerable<Object[]> scan(final DataContext root, final List<RexNode> filters, final int[] projects) {
         return null;
     }
+    
+    @Override
+    public Statistic getStatistic() {
+        return new FederationTableStatistic(metaData);
+    }
 }
@@ -15,35 +15,79 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.infra.federation.executor.original;
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
 
-import java.util.ArrayList;
-import java.util.List;
+import lombok.RequiredArgsConstructor;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableStatistics;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Statistic of federation table.
  */
+@RequiredArgsConstructor
 public final class FederationTableStatistic implements Statistic {
     
+    private final FederationTableMetaData metaData;
+    
     @Override
     public Double getRowCount() {
-        return Statistic.super.getRowCount();
+        TableStatistics statistics = metaData.getStatistics();
+        if (null == statistics) {
+            return Statistic.super.getRowCount();
+        }
+        return (double) statistics.getRowCount();
     }
     
     @Override
     public boolean isKey(final ImmutableBitSet columns) {
-        return Statistic.super.isKey(columns);
+        for (ImmutableBitSet each : getKeys()) {
+            if (columns.contains(each)) {
+                return true;
+            }
+        }
+        return false;
     }
     
     @Override
     public List<ImmutableBitSet> getKeys() {
-        return Statistic.super.getKeys();
+        List<ImmutableBitSet> result = new ArrayList<>();
+        TableStatistics statistics = metaData.getStatistics();
+        if (null == statistics) {
+            return result;
+        }
+        for (String each : statistics.getUniqueColumns()) {
+            addColumnKey(result, each);
+        }
+        return result;
+    }
+    
+    private void addColumnKey(final List<ImmutableBitSet> keys, final String columnName) {
+        int index = getColumnIndex(columnName);
+        if (index >= 0) {
+            ImmutableBitSet key = ImmutableBitSet.of(index);
+            if (!keys.contains(key)) {
+                keys.add(key);
+            }
+        }
+    }
+    
+    private int getColumnIndex(final String columnName) {
+        List<String> columnNames = metaData.getColumnNames();
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (columnNames.get(i).equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        return -1;
     }
     
     @Override
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
+
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.schema.Table;
+
+import java.util.List;
+
+/**
+ * Push down table, whose scan is executed by SQL pushed down to data nodes.
+ */
+public interface PushDownTable extends Table {
+    
+    /**
+     * Get logic table name of each field.
+     *
+     * @return logic table names
+     */
+    List<String> getFieldTableNames();
+    
+    /**
+     * Get column name of each field.
+     *
+     * @return column names
+     */
+    List<String> getFieldColumnNames();
+    
+    /**
+     * Get relational expression pushed down to data nodes.
+     *
+     * @param scan table scan of current table
+     * @return relational expression pushed down to data nodes
+     */
+    RelNode getPushDownRelNode(TableScan scan);
+    
+    /**
+     * Create table of join which is pushed down to data nodes as a whole.
+     *
+     * @param join join whose inputs are relational expressions pushed down to data nodes
+     * @param fieldTableNames logic table name of each field
+     * @param fieldColumnNames column name of each field
+     * @param rowCount estimated row count
+     * @return created push down table
+     */
+    PushDownTable createJoinTable(RelNode join, List<String> fieldTableNames, List<String> fieldColumnNames, double rowCount);
+}
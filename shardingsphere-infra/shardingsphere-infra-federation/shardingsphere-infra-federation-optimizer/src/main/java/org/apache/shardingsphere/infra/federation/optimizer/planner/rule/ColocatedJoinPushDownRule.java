@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.planner.rule;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.prepare.RelOptTableImpl;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.util.mapping.IntPair;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.PushDownTable;
+import org.apache.shardingsphere.infra.rule.identifier.type.ColocatedTableRule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Colocated join push down rule, which pushes down join of colocated tables to data nodes as a whole.
+ * 
+ * <p>
+ * Join is colocated when sharding tables of both sides are binding tables joined by sharding columns,
+ * or when one side only contains broadcast tables and rows of the other side are not generated as nulls.
+ * </p>
+ */
+public final class ColocatedJoinPushDownRule extends RelRule<ColocatedJoinPushDownRule.Config> {
+    
+    private final Collection<ColocatedTableRule> rules;
+    
+    public ColocatedJoinPushDownRule(final Collection<ColocatedTableRule> rules) {
+        super(Config.DEFAULT);
+        this.rules = rules;
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalJoin join = call.rel(0);
+        TableScan leftScan = call.rel(1);
+        TableScan rightScan = call.rel(2);
+        if (!join.getVariablesSet().isEmpty() || null != RexUtil.SubQueryFinder.find(join.getCondition())) {
+            return;
+        }
+        PushDownTable leftTable = leftScan.getTable().unwrap(PushDownTable.class);
+        PushDownTable rightTable = rightScan.getTable().unwrap(PushDownTable.class);
+        Optional<ColocatedTableRule> rule = findRule(leftTable, rightTable);
+        if (!rule.isPresent() || !isColocated(rule.get(), join, leftTable, rightTable)) {
+            return;
+        }
+        RelNode pushDownJoin = join.copy(join.getTraitSet(), join.getCondition(),
+                leftTable.getPushDownRelNode(leftScan), rightTable.getPushDownRelNode(rightScan), join.getJoinType(), join.isSemiJoinDone());
+        List<String> fieldTableNames = new ArrayList<>(leftTable.getFieldTableNames());
+        List<String> fieldColumnNames = new ArrayList<>(leftTable.getFieldColumnNames());
+        if (join.getJoinType().projectsRight()) {
+            fieldTableNames.addAll(rightTable.getFieldTableNames());
+            fieldColumnNames.addAll(rightTable.getFieldColumnNames());
+        }
+        Double rowCount = call.getMetadataQuery().getRowCount(join);
+        PushDownTable joinTable = leftTable.createJoinTable(pushDownJoin, fieldTableNames, fieldColumnNames, null == rowCount ? Double.MAX_VALUE : rowCount);
+        call.transformTo(LogicalTableScan.create(join.getCluster(), createRelOptTable(leftScan.getTable(), pushDownJoin, joinTable), ImmutableList.of()));
+    }
+    
+    private Optional<ColocatedTableRule> findRule(final PushDownTable leftTable, final PushDownTable rightTable) {
+        Collection<String> tableNames = new LinkedHashSet<>(leftTable.getFieldTableNames());
+        tableNames.addAll(rightTable.getFieldTableNames());
+        return rules.stream().filter(each -> tableNames.stream().allMatch(tableName -> each.isShardingTable(tableName) || each.isBroadcastTable(tableName))).findFirst();
+    }
+    
+    private boolean isColocated(final ColocatedTableRule rule, final LogicalJoin join, final PushDownTable leftTable, final PushDownTable rightTable) {
+        Collection<String> leftShardingTables = getShardingTables(rule, leftTable);
+        Collection<String> rightShardingTables = getShardingTables(rule, rightTable);
+        JoinRelType joinType = join.getJoinType();
+        if (leftShardingTables.isEmpty() && rightShardingTables.isEmpty()) {
+            return true;
+        }
+        if (rightShardingTables.isEmpty()) {
+            return !joinType.generatesNullsOnLeft();
+        }
+        if (leftShardingTables.isEmpty()) {
+            return joinType.projectsRight() && !joinType.generatesNullsOnRight();
+        }
+        Collection<String> shardingTables = new LinkedHashSet<>(leftShardingTables);
+        shardingTables.addAll(rightShardingTables);
+        return rule.isAllBindingTables(shardingTables) && isJoinedOnShardingColumns(rule, join, leftTable, rightTable, leftShardingTables, rightShardingTables);
+    }
+    
+    private Collection<String> getShardingTables(final ColocatedTableRule rule, final PushDownTable table) {
+        Collection<String> result = new LinkedHashSet<>(table.getFieldTableNames());
+        result.removeIf(rule::isBroadcastTable);
+        return result;
+    }
+    
+    private boolean isJoinedOnShardingColumns(final ColocatedTableRule rule, final LogicalJoin join, final PushDownTable leftTable, final PushDownTable rightTable,
+                                              final Collection<String> leftShardingTables, final Collection<String> rightShardingTables) {
+        List<IntPair> joinKeys = join.analyzeCondition().pairs();
+        for (String eachLeft : leftShardingTables) {
+            for (String eachRight : rightShardingTables) {
+                List<String> leftColumnNames = new LinkedList<>();
+                List<String> rightColumnNames = new LinkedList<>();
+                for (IntPair each : joinKeys) {
+                    if (eachLeft.equals(leftTable.getFieldTableNames().get(each.source)) && eachRight.equals(rightTable.getFieldTableNames().get(each.target))) {
+                        leftColumnNames.add(leftTable.getFieldColumnNames().get(each.source));
+                        rightColumnNames.add(rightTable.getFieldColumnNames().get(each.target));
+                    }
+                }
+                if (!leftColumnNames.isEmpty() && rule.isColocatedJoin(eachLeft, leftColumnNames, eachRight, rightColumnNames)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    private RelOptTable createRelOptTable(final RelOptTable leftTable, final RelNode pushDownJoin, final PushDownTable joinTable) {
+        List<String> names = new ArrayList<>(leftTable.getQualifiedName());
+        names.set(names.size() - 1, RelOptUtil.toString(pushDownJoin).replaceAll("\\s+", " ").trim());
+        return RelOptTableImpl.create(leftTable.getRelOptSchema(), pushDownJoin.getRowType(), joinTable, ImmutableList.copyOf(names));
+    }
+    
+    /**
+     * Colocated join push down rule configuration.
+     */
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = EMPTY.withDescription(ColocatedJoinPushDownRule.class.getSimpleName()).withOperandSupplier(b0 -> b0.operand(LogicalJoin.class).inputs(
+                b1 -> b1.operand(LogicalTableScan.class).predicate(each -> null != each.getTable().unwrap(PushDownTable.class)).noInputs(),
+                b2 -> b2.operand(LogicalTableScan.class).predicate(each -> null != each.getTable().unwrap(PushDownTable.class)).noInputs())).as(Config.class);
+        
+        @Override
+        default ColocatedJoinPushDownRule toRule() {
+            throw new UnsupportedOperationException("Colocated join push down rule must be created with colocated table rules.");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableStatistics;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FederationTableStatisticTest {
+    
+    @Test
+    public void assertGetStatisticWithoutTableStatistics() {
+        FederationTableStatistic actual = new FederationTableStatistic(createTableMetaData());
+        assertNull(actual.getRowCount());
+        assertTrue(actual.getKeys().isEmpty());
+        assertFalse(actual.isKey(ImmutableBitSet.of(0, 1)));
+    }
+    
+    @Test
+    public void assertGetStatisticWithTableStatistics() {
+        Map<String, Long> columnDistinctCounts = new LinkedHashMap<>(3, 1);
+        columnDistinctCounts.put("order_id", 100L);
+        columnDistinctCounts.put("user_id", 10L);
+        columnDistinctCounts.put("status", 100L);
+        FederationTableMetaData tableMetaData = createTableMetaData();
+        tableMetaData.setStatistics(new TableStatistics("t_order", 100L, columnDistinctCounts, Collections.singleton("user_id")));
+        FederationTableStatistic actual = new FederationTableStatistic(tableMetaData);
+        assertThat(actual.getRowCount(), is(100D));
+        assertThat(actual.getKeys(), is(Collections.singletonList(ImmutableBitSet.of(1))));
+        assertTrue(actual.isKey(ImmutableBitSet.of(1, 2)));
+        assertFalse(actual.isKey(ImmutableBitSet.of(0)));
+    }
+    
+    private FederationTableMetaData createTableMetaData() {
+        TableMetaData tableMetaData = new TableMetaData("t_order", Arrays.asList(new ColumnMetaData("order_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("user_id", Types.INTEGER, false, false, false), new ColumnMetaData("status", Types.VARCHAR, false, false, false)),
+                Collections.emptyList(), Collections.emptyList());
+        return new FederationTableMetaData("t_order", tableMetaData);
+    }
+}
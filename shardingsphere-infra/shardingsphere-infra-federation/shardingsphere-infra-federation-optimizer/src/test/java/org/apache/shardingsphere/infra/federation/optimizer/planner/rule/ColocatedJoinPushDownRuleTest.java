@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.planner.rule;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgram;
+import org.apache.calcite.prepare.RelOptTableImpl;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.RelFactories;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.tools.RelBuilder;
+import org.apache.shardingsphere.infra.federation.optimizer.planner.rule.fixture.PushDownTableFixture;
+import org.apache.shardingsphere.infra.rule.identifier.type.ColocatedTableRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ColocatedJoinPushDownRuleTest {
+    
+    private final ColocatedTableRule rule = mock(ColocatedTableRule.class);
+    
+    @Before
+    public void setUp() {
+        when(rule.isShardingTable("t_order")).thenReturn(true);
+        when(rule.isShardingTable("t_order_item")).thenReturn(true);
+        when(rule.isBroadcastTable("t_config")).thenReturn(true);
+    }
+    
+    @Test
+    public void assertPushDownJoinOfBindingTablesOnShardingColumns() {
+        when(rule.isAllBindingTables(anyCollection())).thenReturn(true);
+        when(rule.isColocatedJoin("t_order", Collections.singletonList("order_id"), "t_order_item", Collections.singletonList("order_id"))).thenReturn(true);
+        RelNode actual = optimize(JoinRelType.INNER, "t_order", "t_order_item");
+        assertThat(actual, instanceOf(LogicalTableScan.class));
+        PushDownTableFixture actualTable = actual.getTable().unwrap(PushDownTableFixture.class);
+        assertThat(actualTable.getFieldTableNames(), is(Arrays.asList("t_order", "t_order", "t_order_item", "t_order_item")));
+        assertThat(actualTable.getFieldColumnNames(), is(Arrays.asList("order_id", "status", "order_id", "status")));
+        assertThat(actualTable.getJoin(), instanceOf(LogicalJoin.class));
+    }
+    
+    @Test
+    public void assertNotPushDownJoinOfBindingTablesWithoutShardingColumns() {
+        when(rule.isAllBindingTables(anyCollection())).thenReturn(true);
+        assertThat(optimize(JoinRelType.INNER, "t_order", "t_order_item"), instanceOf(LogicalJoin.class));
+    }
+    
+    @Test
+    public void assertNotPushDownJoinOfNotBindingTables() {
+        when(rule.isColocatedJoin("t_order", Collections.singletonList("order_id"), "t_order_item", Collections.singletonList("order_id"))).thenReturn(true);
+        assertThat(optimize(JoinRelType.INNER, "t_order", "t_order_item"), instanceOf(LogicalJoin.class));
+    }
+    
+    @Test
+    public void assertPushDownLeftJoinWithBroadcastTable() {
+        assertThat(optimize(JoinRelType.LEFT, "t_order", "t_config"), instanceOf(LogicalTableScan.class));
+    }
+    
+    @Test
+    public void assertNotPushDownLeftJoinOfBroadcastTableWithShardingTable() {
+        assertThat(optimize(JoinRelType.LEFT, "t_config", "t_order"), instanceOf(LogicalJoin.class));
+    }
+    
+    @Test
+    public void assertNotPushDownJoinWithSingleTable() {
+        assertThat(optimize(JoinRelType.INNER, "t_order", "t_single"), instanceOf(LogicalJoin.class));
+    }
+    
+    private RelNode optimize(final JoinRelType joinType, final String leftTableName, final String rightTableName) {
+        HepPlanner planner = new HepPlanner(HepProgram.builder().addRuleInstance(new ColocatedJoinPushDownRule(Collections.singletonList(rule))).build());
+        RelOptCluster cluster = RelOptCluster.create(planner, new RexBuilder(new JavaTypeFactoryImpl()));
+        RelBuilder builder = RelFactories.LOGICAL_BUILDER.create(cluster, null);
+        builder.push(createTableScan(cluster, leftTableName)).push(createTableScan(cluster, rightTableName));
+        builder.join(joinType, builder.equals(builder.field(2, 0, "order_id"), builder.field(2, 1, "order_id")));
+        planner.setRoot(builder.build());
+        return planner.findBestExp();
+    }
+    
+    private LogicalTableScan createTableScan(final RelOptCluster cluster, final String tableName) {
+        PushDownTableFixture table = new PushDownTableFixture(tableName, Arrays.asList("order_id", "status"));
+        return LogicalTableScan.create(cluster, RelOptTableImpl.create(null, table.getRowType(cluster.getTypeFactory()), table, ImmutableList.of("logic_db", tableName)), ImmutableList.of());
+    }
+}
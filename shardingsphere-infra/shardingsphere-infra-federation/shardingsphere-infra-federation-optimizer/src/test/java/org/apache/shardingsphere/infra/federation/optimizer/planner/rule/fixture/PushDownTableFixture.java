@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.planner.rule.fixture;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.schema.ScannableTable;
+import org.apache.calcite.schema.impl.AbstractTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.PushDownTable;
+
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Getter
+public final class PushDownTableFixture extends AbstractTable implements ScannableTable, PushDownTable {
+    
+    private final RelNode join;
+    
+    private final List<String> fieldTableNames;
+    
+    private final List<String> fieldColumnNames;
+    
+    public PushDownTableFixture(final String tableName, final List<String> columnNames) {
+        this(null, Collections.nCopies(columnNames.size(), tableName), columnNames);
+    }
+    
+    @Override
+    public RelDataType getRowType(final RelDataTypeFactory typeFactory) {
+        if (null != join) {
+            return join.getRowType();
+        }
+        RelDataTypeFactory.Builder result = typeFactory.builder();
+        for (String each : fieldColumnNames) {
+            result.add(each, SqlTypeName.INTEGER);
+        }
+        return result.build();
+    }
+    
+    @Override
+    public Enumerable<Object[]> scan(final DataContext root) {
+        return Linq4j.emptyEnumerable();
+    }
+    
+    @Override
+    public RelNode getPushDownRelNode(final TableScan scan) {
+        return null == join ? scan : join;
+    }
+    
+    @Override
+    public PushDownTable createJoinTable(final RelNode join, final List<String> fieldTableNames, final List<String> fieldColumnNames, final double rowCount) {
+        return new PushDownTableFixture(join, fieldTableNames, fieldColumnNames);
+    }
+}
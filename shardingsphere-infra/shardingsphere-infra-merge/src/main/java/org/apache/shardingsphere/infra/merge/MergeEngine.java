@@ -28,8 +28,10 @@ import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecoratorEng
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMergerEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.metrics.MetricsMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metrics.KernelMetricsRegistry;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
 import java.sql.SQLException;
@@ -73,9 +75,11 @@ public final class MergeEngine {
      * @throws SQLException SQL exception
      */
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext) throws SQLException {
+        long startNanos = System.nanoTime();
         Optional<MergedResult> mergedResult = executeMerge(queryResults, sqlStatementContext);
-        Optional<MergedResult> result = mergedResult.isPresent() ? Optional.of(decorate(mergedResult.get(), sqlStatementContext)) : decorate(queryResults.get(0), sqlStatementContext);
-        return result.orElseGet(() -> new TransparentMergedResult(queryResults.get(0)));
+        Optional<MergedResult> decoratedResult = mergedResult.isPresent() ? Optional.of(decorate(mergedResult.get(), sqlStatementContext)) : decorate(queryResults.get(0), sqlStatementContext);
+        MergedResult result = decoratedResult.orElseGet(() -> new TransparentMergedResult(queryResults.get(0)));
+        return KernelMetricsRegistry.getInstance().isEnabled() ? new MetricsMergedResult(result, System.nanoTime() - startNanos) : result;
     }
     
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.merge.result;
 
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.PrimitiveValueUtil;
+
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
@@ -44,6 +46,50 @@ public interface MergedResult {
      */
     Object getValue(int columnIndex, Class<?> type) throws SQLException;
     
+    /**
+     * Get int value.
+     *
+     * @param columnIndex column index
+     * @return int value
+     * @throws SQLException SQL exception
+     */
+    default int getInt(final int columnIndex) throws SQLException {
+        return PrimitiveValueUtil.toInt(getValue(columnIndex, int.class));
+    }
+    
+    /**
+     * Get long value.
+     *
+     * @param columnIndex column index
+     * @return long value
+     * @throws SQLException SQL exception
+     */
+    default long getLong(final int columnIndex) throws SQLException {
+        return PrimitiveValueUtil.toLong(getValue(columnIndex, long.class));
+    }
+    
+    /**
+     * Get double value.
+     *
+     * @param columnIndex column index
+     * @return double value
+     * @throws SQLException SQL exception
+     */
+    default double getDouble(final int columnIndex) throws SQLException {
+        return PrimitiveValueUtil.toDouble(getValue(columnIndex, double.class));
+    }
+    
+    /**
+     * Judge value is null or not.
+     *
+     * @param columnIndex column index
+     * @return value is null or not
+     * @throws SQLException SQL exception
+     */
+    default boolean isNull(final int columnIndex) throws SQLException {
+        return null == getValue(columnIndex, Object.class);
+    }
+    
     /**
      * Get calendar value.
      *
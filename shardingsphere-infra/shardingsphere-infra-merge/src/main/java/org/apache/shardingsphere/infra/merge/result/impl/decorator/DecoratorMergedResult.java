@@ -39,6 +39,26 @@ public abstract class DecoratorMergedResult implements MergedResult {
         return mergedResult.getValue(columnIndex, type);
     }
     
+    @Override
+    public final int getInt(final int columnIndex) throws SQLException {
+        return mergedResult.getInt(columnIndex);
+    }
+    
+    @Override
+    public final long getLong(final int columnIndex) throws SQLException {
+        return mergedResult.getLong(columnIndex);
+    }
+    
+    @Override
+    public final double getDouble(final int columnIndex) throws SQLException {
+        return mergedResult.getDouble(columnIndex);
+    }
+    
+    @Override
+    public final boolean isNull(final int columnIndex) throws SQLException {
+        return mergedResult.isNull(columnIndex);
+    }
+    
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
         return mergedResult.getCalendarValue(columnIndex, type, calendar);
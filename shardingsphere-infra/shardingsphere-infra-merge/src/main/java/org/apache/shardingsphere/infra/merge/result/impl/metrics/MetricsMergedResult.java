@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.metrics;
+
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.decorator.DecoratorMergedResult;
+import org.apache.shardingsphere.infra.metrics.KernelMetricsRegistry;
+import org.apache.shardingsphere.infra.metrics.KernelStage;
+
+import java.sql.SQLException;
+
+/**
+ * Merged result which records latency of merge stage.
+ * 
+ * <p>Stream merged results merge rows while iterating, so latency of merge stage is time of building merged result plus time spent in iterating it,
+ * and it is recorded once merged result is exhausted. Merged results which are not iterated to the end are not recorded.</p>
+ */
+public final class MetricsMergedResult extends DecoratorMergedResult {
+    
+    private long elapsedNanos;
+    
+    private boolean recorded;
+    
+    public MetricsMergedResult(final MergedResult mergedResult, final long elapsedNanos) {
+        super(mergedResult);
+        this.elapsedNanos = elapsedNanos;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        long startNanos = System.nanoTime();
+        boolean result = getMergedResult().next();
+        elapsedNanos += System.nanoTime() - startNanos;
+        if (!result && !recorded) {
+            recorded = true;
+            KernelMetricsRegistry.getInstance().recordStageElapsed(KernelStage.MERGE, elapsedNanos);
+        }
+        return result;
+    }
+}
@@ -43,6 +43,26 @@ public final class TransparentMergedResult implements MergedResult {
         return queryResult.getValue(columnIndex, type);
     }
     
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return queryResult.getInt(columnIndex);
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return queryResult.getLong(columnIndex);
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return queryResult.getDouble(columnIndex);
+    }
+    
+    @Override
+    public boolean isNull(final int columnIndex) throws SQLException {
+        return queryResult.isNull(columnIndex);
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
         return queryResult.getCalendarValue(columnIndex, type, calendar);
@@ -26,7 +26,9 @@ import org.apache.shardingsphere.infra.merge.fixture.rule.DecoratorRuleFixture;
 import org.apache.shardingsphere.infra.merge.fixture.rule.IndependentRuleFixture;
 import org.apache.shardingsphere.infra.merge.fixture.rule.MergerRuleFixture;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.metrics.MetricsMergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metrics.KernelMetricsRegistry;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -37,6 +39,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.when;
@@ -88,4 +91,18 @@ public final class MergeEngineTest {
         MergedResult actual = mergeEngine.merge(Collections.singletonList(queryResult), sqlStatementContext);
         assertThat(actual.getValue(1, String.class), is("decorated_merged_value"));
     }
+    
+    @Test
+    public void assertMergeWithKernelMetricsEnabled() throws SQLException {
+        KernelMetricsRegistry.getInstance().setEnabled(true);
+        try {
+            MergeEngine mergeEngine = new MergeEngine(
+                    DefaultDatabase.LOGIC_NAME, databaseType, database, new ConfigurationProperties(new Properties()), Collections.singletonList(new MergerRuleFixture()));
+            MergedResult actual = mergeEngine.merge(Collections.singletonList(queryResult), sqlStatementContext);
+            assertThat(actual, instanceOf(MetricsMergedResult.class));
+            assertThat(actual.getValue(1, String.class), is("merged_value"));
+        } finally {
+            KernelMetricsRegistry.getInstance().setEnabled(false);
+        }
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.metrics;
+
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metrics.KernelMetricsRegistry;
+import org.apache.shardingsphere.infra.metrics.KernelStage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MetricsMergedResultTest {
+    
+    @Mock
+    private MergedResult mergedResult;
+    
+    @Before
+    public void setUp() {
+        KernelMetricsRegistry.getInstance().reset();
+        KernelMetricsRegistry.getInstance().setEnabled(true);
+    }
+    
+    @After
+    public void tearDown() {
+        KernelMetricsRegistry.getInstance().setEnabled(false);
+        KernelMetricsRegistry.getInstance().reset();
+    }
+    
+    @Test
+    public void assertNextRecordsMergeStageOnceExhausted() throws SQLException {
+        when(mergedResult.next()).thenReturn(true, false);
+        MetricsMergedResult actual = new MetricsMergedResult(mergedResult, 1000L);
+        assertTrue(actual.next());
+        assertThat(KernelMetricsRegistry.getInstance().getStageHistogram(KernelStage.MERGE).getCount(), is(0L));
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        assertThat(KernelMetricsRegistry.getInstance().getStageHistogram(KernelStage.MERGE).getCount(), is(1L));
+        assertTrue(KernelMetricsRegistry.getInstance().getStageHistogram(KernelStage.MERGE).getMeanNanos() >= 1000L);
+    }
+    
+    @Test
+    public void assertGetValue() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn("1");
+        assertThat(new MetricsMergedResult(mergedResult, 0L).getValue(1, Object.class), is("1"));
+    }
+}
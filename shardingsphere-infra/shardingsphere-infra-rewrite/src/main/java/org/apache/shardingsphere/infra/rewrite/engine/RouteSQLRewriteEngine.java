@@ -21,7 +21,6 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
-import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
@@ -29,6 +28,8 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.SQLRewriteTemplate;
+import org.apache.shardingsphere.infra.route.context.OriginalDataNodesIndex;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -36,6 +37,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -64,36 +67,39 @@ public final class RouteSQLRewriteEngine {
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1);
+        SQLRewriteTemplate template = new SQLRewriteTemplate(sqlRewriteContext);
+        OriginalDataNodesIndex originalDataNodesIndex = new OriginalDataNodesIndex(routeContext.getOriginalDataNodes());
         for (Entry<String, Collection<RouteUnit>> entry : aggregateRouteUnitGroups(routeContext.getRouteUnits()).entrySet()) {
             Collection<RouteUnit> routeUnits = entry.getValue();
             if (isNeedAggregateRewrite(sqlRewriteContext.getSqlStatementContext(), routeUnits)) {
-                sqlRewriteUnits.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits));
+                sqlRewriteUnits.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, template, routeContext, originalDataNodesIndex, routeUnits));
             } else {
-                addSQLRewriteUnits(sqlRewriteUnits, sqlRewriteContext, routeContext, routeUnits);
+                addSQLRewriteUnits(sqlRewriteUnits, sqlRewriteContext, template, routeContext, originalDataNodesIndex, routeUnits);
             }
         }
         return new RouteSQLRewriteResult(translate(sqlRewriteContext.getSqlStatementContext().getSqlStatement(), sqlRewriteUnits));
     }
     
-    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
+    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final SQLRewriteTemplate template,
+                                                final RouteContext routeContext, final OriginalDataNodesIndex originalDataNodesIndex, final Collection<RouteUnit> routeUnits) {
         Collection<String> sql = new LinkedList<>();
         List<Object> parameters = new LinkedList<>();
         boolean containsDollarMarker = sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext
                 && ((SelectStatementContext) (sqlRewriteContext.getSqlStatementContext())).isContainsDollarParameterMarker();
         for (RouteUnit each : routeUnits) {
-            sql.add(SQLUtil.trimSemicolon(new RouteSQLBuilder(sqlRewriteContext, each).toSQL()));
+            sql.add(SQLUtil.trimSemicolon(new RouteSQLBuilder(template, each).toSQL()));
             if (containsDollarMarker && !parameters.isEmpty()) {
                 continue;
             }
-            parameters.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each));
+            parameters.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, originalDataNodesIndex, each));
         }
         return new SQLRewriteUnit(String.join(" UNION ALL ", sql), parameters);
     }
     
-    private void addSQLRewriteUnits(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final SQLRewriteContext sqlRewriteContext,
-                                    final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
+    private void addSQLRewriteUnits(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final SQLRewriteContext sqlRewriteContext, final SQLRewriteTemplate template,
+                                    final RouteContext routeContext, final OriginalDataNodesIndex originalDataNodesIndex, final Collection<RouteUnit> routeUnits) {
         for (RouteUnit each : routeUnits) {
-            sqlRewriteUnits.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
+            sqlRewriteUnits.put(each, new SQLRewriteUnit(new RouteSQLBuilder(template, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, originalDataNodesIndex, each)));
         }
     }
     
@@ -119,40 +125,25 @@ public final class RouteSQLRewriteEngine {
         return result;
     }
     
-    private List<Object> getParameters(final ParameterBuilder parameterBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
+    private List<Object> getParameters(final ParameterBuilder parameterBuilder, final RouteContext routeContext, final OriginalDataNodesIndex originalDataNodesIndex, final RouteUnit routeUnit) {
         if (parameterBuilder instanceof StandardParameterBuilder) {
             return parameterBuilder.getParameters();
         }
         return routeContext.getOriginalDataNodes().isEmpty()
                 ? ((GroupedParameterBuilder) parameterBuilder).getParameters()
-                : buildRouteParameters((GroupedParameterBuilder) parameterBuilder, routeContext, routeUnit);
+                : buildRouteParameters((GroupedParameterBuilder) parameterBuilder, originalDataNodesIndex, routeUnit);
     }
     
-    private List<Object> buildRouteParameters(final GroupedParameterBuilder parameterBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
-        List<Object> result = new LinkedList<>();
-        int count = 0;
-        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
-            if (isInSameDataNode(each, routeUnit)) {
-                result.addAll(parameterBuilder.getParameters(count));
-            }
-            count++;
+    private List<Object> buildRouteParameters(final GroupedParameterBuilder parameterBuilder, final OriginalDataNodesIndex originalDataNodesIndex, final RouteUnit routeUnit) {
+        List<Object> result = new ArrayList<>();
+        BitSet groupIndexes = originalDataNodesIndex.getGroupIndexes(routeUnit);
+        for (int i = groupIndexes.nextSetBit(0); i >= 0; i = groupIndexes.nextSetBit(i + 1)) {
+            result.addAll(parameterBuilder.getParameters(i));
         }
         result.addAll(parameterBuilder.getGenericParameterBuilder().getParameters());
         return result;
     }
     
-    private boolean isInSameDataNode(final Collection<DataNode> dataNodes, final RouteUnit routeUnit) {
-        if (dataNodes.isEmpty()) {
-            return true;
-        }
-        for (DataNode each : dataNodes) {
-            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
-            }
-        }
-        return false;
-    }
-    
     private Map<RouteUnit, SQLRewriteUnit> translate(final SQLStatement sqlStatement, final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits) {
         Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(sqlRewriteUnits.size(), 1);
         for (Entry<RouteUnit, SQLRewriteUnit> entry : sqlRewriteUnits.entrySet()) {
@@ -29,6 +29,10 @@ public final class DefaultSQLBuilder extends AbstractSQLBuilder {
         super(context);
     }
     
+    public DefaultSQLBuilder(final SQLRewriteTemplate template) {
+        super(template);
+    }
+    
     @Override
     protected String getSQLTokenText(final SQLToken sqlToken) {
         return sqlToken.toString();
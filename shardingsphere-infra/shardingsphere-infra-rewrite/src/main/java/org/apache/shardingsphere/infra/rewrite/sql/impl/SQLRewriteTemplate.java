@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * SQL rewrite template.
+ * 
+ * <p>Holds the literal SQL segments between SQL tokens of one logical SQL, so that SQL builders of every route unit only splice token texts.</p>
+ */
+@Getter(AccessLevel.PACKAGE)
+public final class SQLRewriteTemplate {
+    
+    private final String sql;
+    
+    private final String prefix;
+    
+    private final SQLToken[] sqlTokens;
+    
+    private final String[] conjunctions;
+    
+    private int capacity;
+    
+    public SQLRewriteTemplate(final SQLRewriteContext context) {
+        sql = context.getSql();
+        List<SQLToken> sortedSQLTokens = new ArrayList<>(context.getSqlTokens());
+        Collections.sort(sortedSQLTokens);
+        List<SQLToken> flattenSQLTokens = new ArrayList<>(sortedSQLTokens.size());
+        List<String> flattenConjunctions = new ArrayList<>(sortedSQLTokens.size());
+        for (int i = 0; i < sortedSQLTokens.size(); i++) {
+            SQLToken each = sortedSQLTokens.get(i);
+            if (each instanceof ComposableSQLToken) {
+                addComposableSQLToken((ComposableSQLToken) each, flattenSQLTokens, flattenConjunctions);
+            } else {
+                flattenSQLTokens.add(each);
+                flattenConjunctions.add("");
+            }
+            int stopIndex = sortedSQLTokens.size() - 1 == i ? sql.length() : sortedSQLTokens.get(i + 1).getStartIndex();
+            appendConjunction(flattenConjunctions, getStartIndex(each), stopIndex);
+        }
+        prefix = sortedSQLTokens.isEmpty() ? sql : sql.substring(0, sortedSQLTokens.get(0).getStartIndex());
+        sqlTokens = flattenSQLTokens.toArray(new SQLToken[0]);
+        conjunctions = flattenConjunctions.toArray(new String[0]);
+        capacity = sql.length();
+    }
+    
+    private void addComposableSQLToken(final ComposableSQLToken composableSQLToken, final List<SQLToken> flattenSQLTokens, final List<String> flattenConjunctions) {
+        Iterator<SQLToken> iterator = composableSQLToken.getSqlTokens().iterator();
+        SQLToken current = iterator.hasNext() ? iterator.next() : null;
+        while (null != current) {
+            SQLToken next = iterator.hasNext() ? iterator.next() : null;
+            flattenSQLTokens.add(current);
+            flattenConjunctions.add("");
+            appendConjunction(flattenConjunctions, getStartIndex(current), null == next ? Math.min(composableSQLToken.getStopIndex() + 1, sql.length()) : next.getStartIndex());
+            current = next;
+        }
+    }
+    
+    private void appendConjunction(final List<String> flattenConjunctions, final int startIndex, final int stopIndex) {
+        if (flattenConjunctions.isEmpty() || startIndex >= stopIndex) {
+            return;
+        }
+        int lastIndex = flattenConjunctions.size() - 1;
+        flattenConjunctions.set(lastIndex, flattenConjunctions.get(lastIndex) + sql.substring(startIndex, stopIndex));
+    }
+    
+    private int getStartIndex(final SQLToken sqlToken) {
+        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        return Math.min(startIndex, sql.length());
+    }
+    
+    boolean isEmpty() {
+        return 0 == sqlTokens.length;
+    }
+    
+    void adjustCapacity(final int length) {
+        if (length > capacity) {
+            capacity = length;
+        }
+    }
+}
@@ -49,6 +49,17 @@ public final class RouteSQLBuilderTest {
         assertThat(new RouteSQLBuilder(context, createRouteUnit()).toSQL(), is("SELECT * FROM tbl_0 WHERE id=?"));
     }
     
+    @Test
+    public void assertToSQLWithSharedTemplate() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=?");
+        when(context.getSqlTokens()).thenReturn(Collections.singletonList(new RouteUnitAwareSQLTokenFixture(14, 16)));
+        SQLRewriteTemplate template = new SQLRewriteTemplate(context);
+        assertThat(new RouteSQLBuilder(template, createRouteUnit()).toSQL(), is("SELECT * FROM tbl_0 WHERE id=?"));
+        assertThat(new RouteSQLBuilder(template, new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", "tbl_1")))).toSQL(),
+                is("SELECT * FROM tbl_1 WHERE id=?"));
+    }
+    
     private RouteUnit createRouteUnit() {
         return new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
     }
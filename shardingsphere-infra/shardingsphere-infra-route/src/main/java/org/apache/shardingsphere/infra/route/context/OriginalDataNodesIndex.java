@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.context;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Original data nodes index.
+ * 
+ * <p>Buckets positions of original data node groups by data source and actual table in one pass, so route units can find their groups without scanning all of them.</p>
+ */
+public final class OriginalDataNodesIndex {
+    
+    private final Map<String, BitSet> groupIndexes;
+    
+    private final BitSet unboundGroupIndexes = new BitSet();
+    
+    public OriginalDataNodesIndex(final Collection<? extends Collection<DataNode>> originalDataNodes) {
+        groupIndexes = new HashMap<>(originalDataNodes.size(), 1);
+        int index = 0;
+        for (Collection<DataNode> each : originalDataNodes) {
+            if (each.isEmpty()) {
+                unboundGroupIndexes.set(index);
+            }
+            for (DataNode dataNode : each) {
+                groupIndexes.computeIfAbsent(getKey(dataNode.getDataSourceName(), dataNode.getTableName()), unused -> new BitSet()).set(index);
+            }
+            index++;
+        }
+    }
+    
+    /**
+     * Get indexes of original data node groups which belong to route unit.
+     * 
+     * <p>Groups without data node belong to every route unit.</p>
+     *
+     * @param routeUnit route unit
+     * @return indexes of original data node groups
+     */
+    public BitSet getGroupIndexes(final RouteUnit routeUnit) {
+        BitSet result = (BitSet) unboundGroupIndexes.clone();
+        for (RouteMapper each : routeUnit.getTableMappers()) {
+            BitSet indexes = groupIndexes.get(getKey(routeUnit.getDataSourceMapper().getLogicName(), each.getActualName()));
+            if (null != indexes) {
+                result.or(indexes);
+            }
+        }
+        return result;
+    }
+    
+    private String getKey(final String dataSourceName, final String tableName) {
+        return dataSourceName.toLowerCase() + "." + tableName.toLowerCase();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.context;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class OriginalDataNodesIndexTest {
+    
+    @Test
+    public void assertGetGroupIndexes() {
+        Collection<Collection<DataNode>> originalDataNodes = Arrays.asList(Collections.singletonList(new DataNode("ds_0", "tbl_0")), Collections.singletonList(new DataNode("ds_1", "tbl_1")),
+                Collections.emptyList(), Arrays.asList(new DataNode("ds_0", "TBL_0"), new DataNode("ds_1", "tbl_1")));
+        OriginalDataNodesIndex index = new OriginalDataNodesIndex(originalDataNodes);
+        assertThat(index.getGroupIndexes(createRouteUnit("ds_0", "tbl_0")), is(createBitSet(0, 2, 3)));
+        assertThat(index.getGroupIndexes(createRouteUnit("ds_1", "tbl_1")), is(createBitSet(1, 2, 3)));
+        assertThat(index.getGroupIndexes(createRouteUnit("ds_1", "tbl_0")), is(createBitSet(2)));
+    }
+    
+    private RouteUnit createRouteUnit(final String dataSourceName, final String actualTableName) {
+        return new RouteUnit(new RouteMapper(dataSourceName, dataSourceName), Collections.singletonList(new RouteMapper("tbl", actualTableName)));
+    }
+    
+    private BitSet createBitSet(final int... indexes) {
+        BitSet result = new BitSet();
+        for (int each : indexes) {
+            result.set(each);
+        }
+        return result;
+    }
+}
@@ -18,13 +18,16 @@
 package org.apache.shardingsphere.driver.jdbc.context;
 
 import com.google.common.eventbus.Subscribe;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
+import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.datasource.DataSourceChangedEvent;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 
@@ -32,12 +35,16 @@ import java.util.Optional;
  * JDBC context.
  */
 @Getter
-public final class JDBCContext {
+public final class JDBCContext implements AutoCloseable {
     
     private volatile CachedDatabaseMetaData cachedDatabaseMetaData;
     
-    public JDBCContext(final Map<String, DataSource> dataSources) throws SQLException {
+    @Getter(AccessLevel.NONE)
+    private final TrafficDataSourceCache trafficDataSourceCache;
+    
+    public JDBCContext(final Map<String, DataSource> dataSources, final ContextManager contextManager) throws SQLException {
         cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSources).orElse(null);
+        trafficDataSourceCache = new TrafficDataSourceCache(contextManager);
     }
     
     /**
@@ -59,4 +66,28 @@ public final class JDBCContext {
             return Optional.of(new CachedDatabaseMetaData(connection.getMetaData()));
         }
     }
+    
+    /**
+     * Acquire traffic data source map.
+     *
+     * @param databaseName database name
+     * @return traffic data source map
+     */
+    public Map<String, DataSource> acquireTrafficDataSourceMap(final String databaseName) {
+        return trafficDataSourceCache.acquireTrafficDataSourceMap(databaseName);
+    }
+    
+    /**
+     * Release traffic data sources.
+     *
+     * @param dataSources data sources to be released
+     */
+    public void releaseTrafficDataSources(final Collection<DataSource> dataSources) {
+        trafficDataSourceCache.releaseTrafficDataSources(dataSources);
+    }
+    
+    @Override
+    public void close() {
+        trafficDataSourceCache.close();
+    }
 }
@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.context;
+
+import com.google.common.base.Preconditions;
+import com.google.common.eventbus.Subscribe;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
+import org.apache.shardingsphere.infra.datasource.pool.destroyer.DataSourcePoolDestroyer;
+import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.instance.definition.InstanceId;
+import org.apache.shardingsphere.infra.instance.definition.InstanceType;
+import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.datasource.DataSourceChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.rule.GlobalRuleConfigurationsChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOfflineEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOnlineEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.LabelsEvent;
+import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.traffic.rule.TrafficRule;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Traffic data source cache, traffic data sources are shared by all connections of the same context manager.
+ * 
+ * <p>Compute node changes refresh traffic data sources lazily and reuse pools of remaining instances,
+ * user or data source changes recreate all pools. Pools are reference counted by the cache and by connections which acquire them,
+ * replaced pools are destroyed after the last connection which acquired them releases them.</p>
+ */
+public final class TrafficDataSourceCache implements AutoCloseable {
+    
+    private final ContextManager contextManager;
+    
+    private final Map<String, TrafficDataSources> trafficDataSources = new ConcurrentHashMap<>();
+    
+    private final Map<DataSource, AtomicInteger> referenceCounts = new ConcurrentHashMap<>();
+    
+    private final AtomicLong instancesVersion = new AtomicLong();
+    
+    public TrafficDataSourceCache(final ContextManager contextManager) {
+        this.contextManager = contextManager;
+        ShardingSphereEventBus.getInstance().register(this);
+    }
+    
+    /**
+     * Acquire traffic data source map, acquired data sources must be released by {@link #releaseTrafficDataSources(Collection)}.
+     *
+     * @param databaseName database name
+     * @return traffic data source map
+     */
+    public Map<String, DataSource> acquireTrafficDataSourceMap(final String databaseName) {
+        Map<String, DataSource> result;
+        do {
+            TrafficDataSources cached = trafficDataSources.get(databaseName);
+            result = null != cached && cached.getInstancesVersion() == instancesVersion.get() ? cached.getDataSources() : loadTrafficDataSourceMap(databaseName);
+        } while (!retainAll(result.values()));
+        return result;
+    }
+    
+    private boolean retainAll(final Collection<DataSource> dataSources) {
+        Collection<DataSource> retained = new LinkedList<>();
+        for (DataSource each : dataSources) {
+            if (!retain(each)) {
+                releaseTrafficDataSources(retained);
+                return false;
+            }
+            retained.add(each);
+        }
+        return true;
+    }
+    
+    private boolean retain(final DataSource dataSource) {
+        AtomicInteger referenceCount = referenceCounts.get(dataSource);
+        if (null == referenceCount) {
+            return false;
+        }
+        int count;
+        do {
+            count = referenceCount.get();
+            if (0 == count) {
+                return false;
+            }
+        } while (!referenceCount.compareAndSet(count, count + 1));
+        return true;
+    }
+    
+    /**
+     * Release traffic data sources acquired by {@link #acquireTrafficDataSourceMap(String)}.
+     *
+     * @param dataSources data sources to be released
+     */
+    public void releaseTrafficDataSources(final Collection<DataSource> dataSources) {
+        dataSources.forEach(this::release);
+    }
+    
+    private void release(final DataSource dataSource) {
+        AtomicInteger referenceCount = referenceCounts.get(dataSource);
+        if (null != referenceCount && 0 == referenceCount.decrementAndGet()) {
+            referenceCounts.remove(dataSource);
+            new DataSourcePoolDestroyer(dataSource).asyncDestroy();
+        }
+    }
+    
+    private synchronized Map<String, DataSource> loadTrafficDataSourceMap(final String databaseName) {
+        long currentInstancesVersion = instancesVersion.get();
+        TrafficDataSources cached = trafficDataSources.get(databaseName);
+        if (null != cached && cached.getInstancesVersion() == currentInstancesVersion) {
+            return cached.getDataSources();
+        }
+        Map<String, DataSource> reusableDataSources = null == cached ? Collections.emptyMap() : new LinkedHashMap<>(cached.getDataSources());
+        Map<String, DataSource> result = Collections.unmodifiableMap(createTrafficDataSourceMap(databaseName, reusableDataSources));
+        trafficDataSources.put(databaseName, new TrafficDataSources(currentInstancesVersion, result));
+        reusableDataSources.values().forEach(this::release);
+        return result;
+    }
+    
+    private Map<String, DataSource> createTrafficDataSourceMap(final String databaseName, final Map<String, DataSource> reusableDataSources) {
+        Optional<TrafficRule> trafficRule = contextManager.getMetaDataContexts().getGlobalRuleMetaData().findSingleRule(TrafficRule.class);
+        Optional<MetaDataPersistService> metaDataPersistService = contextManager.getMetaDataContexts().getPersistService();
+        if (!trafficRule.isPresent() || trafficRule.get().getStrategyRules().isEmpty() || !metaDataPersistService.isPresent()) {
+            return Collections.emptyMap();
+        }
+        Collection<InstanceId> instanceIds = contextManager.getInstanceContext().getComputeNodeInstanceIds(InstanceType.PROXY, trafficRule.get().getLabels());
+        Map<String, DataSource> result = new LinkedHashMap<>(instanceIds.size(), 1);
+        for (InstanceId each : instanceIds) {
+            DataSource reusableDataSource = reusableDataSources.remove(each.getId());
+            if (null != reusableDataSource) {
+                result.put(each.getId(), reusableDataSource);
+            }
+        }
+        if (result.size() < instanceIds.size()) {
+            Map<String, DataSource> createdDataSources = DataSourcePoolCreator.create(createDataSourcePropertiesMap(databaseName, instanceIds, result.keySet(), metaDataPersistService.get()));
+            createdDataSources.values().forEach(each -> referenceCounts.put(each, new AtomicInteger(1)));
+            result.putAll(createdDataSources);
+        }
+        return result;
+    }
+    
+    private Map<String, DataSourceProperties> createDataSourcePropertiesMap(final String databaseName, final Collection<InstanceId> instanceIds,
+                                                                            final Collection<String> reusedInstanceIds, final MetaDataPersistService metaDataPersistService) {
+        Map<String, DataSourceProperties> dataSourcePropsMap = metaDataPersistService.getDataSourceService().load(databaseName);
+        Preconditions.checkState(!dataSourcePropsMap.isEmpty(), "Can not get data source properties from meta data.");
+        DataSourceProperties dataSourcePropsSample = dataSourcePropsMap.values().iterator().next();
+        Collection<ShardingSphereUser> users = metaDataPersistService.getGlobalRuleService().loadUsers();
+        Map<String, DataSourceProperties> result = new LinkedHashMap<>();
+        for (InstanceId each : instanceIds) {
+            if (!reusedInstanceIds.contains(each.getId())) {
+                result.put(each.getId(), createDataSourceProperties(each, users, dataSourcePropsSample, databaseName));
+            }
+        }
+        return result;
+    }
+    
+    private DataSourceProperties createDataSourceProperties(final InstanceId instanceId, final Collection<ShardingSphereUser> users,
+                                                            final DataSourceProperties dataSourcePropsSample, final String schema) {
+        Map<String, Object> props = dataSourcePropsSample.getAllLocalProperties();
+        props.put("jdbcUrl", createJdbcUrl(instanceId, schema, props));
+        ShardingSphereUser user = users.iterator().next();
+        props.put("username", user.getGrantee().getUsername());
+        props.put("password", user.getPassword());
+        return new DataSourceProperties("com.zaxxer.hikari.HikariDataSource", props);
+    }
+    
+    private String createJdbcUrl(final InstanceId instanceId, final String schema, final Map<String, Object> props) {
+        String jdbcUrl = String.valueOf(props.get("jdbcUrl"));
+        String jdbcUrlPrefix = jdbcUrl.substring(0, jdbcUrl.indexOf("//"));
+        String jdbcUrlSuffix = jdbcUrl.contains("?") ? jdbcUrl.substring(jdbcUrl.indexOf("?")) : "";
+        return String.format("%s//%s:%s/%s%s", jdbcUrlPrefix, instanceId.getIp(), instanceId.getUniqueSign(), schema, jdbcUrlSuffix);
+    }
+    
+    /**
+     * Refresh traffic data sources when compute node online.
+     *
+     * @param event instance online event
+     */
+    @Subscribe
+    public void renew(final InstanceOnlineEvent event) {
+        if (InstanceType.PROXY == event.getInstanceDefinition().getInstanceType()) {
+            instancesVersion.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Refresh traffic data sources when compute node offline.
+     *
+     * @param event instance offline event
+     */
+    @Subscribe
+    public void renew(final InstanceOfflineEvent event) {
+        if (InstanceType.PROXY == event.getInstanceDefinition().getInstanceType()) {
+            instancesVersion.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Refresh traffic data sources when labels of compute node changed.
+     *
+     * @param event labels event
+     */
+    @Subscribe
+    public void renew(final LabelsEvent event) {
+        instancesVersion.incrementAndGet();
+    }
+    
+    /**
+     * Recreate traffic data sources when users changed.
+     *
+     * @param event global rule configurations changed event
+     */
+    @Subscribe
+    public void renew(final GlobalRuleConfigurationsChangedEvent event) {
+        destroyAll();
+    }
+    
+    /**
+     * Recreate traffic data sources when data sources changed.
+     *
+     * @param event data source changed event
+     */
+    @Subscribe
+    public void renew(final DataSourceChangedEvent event) {
+        destroyAll();
+    }
+    
+    private synchronized void destroyAll() {
+        for (TrafficDataSources each : trafficDataSources.values()) {
+            releaseTrafficDataSources(each.getDataSources().values());
+        }
+        trafficDataSources.clear();
+    }
+    
+    @Override
+    public void close() {
+        ShardingSphereEventBus.getInstance().unregister(this);
+        destroyAll();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class TrafficDataSources {
+        
+        private final long instancesVersion;
+        
+        private final Map<String, DataSource> dataSources;
+    }
+}
@@ -24,17 +24,11 @@ import com.google.common.collect.Sets;
 import lombok.Getter;
 import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.driver.jdbc.adapter.invocation.MethodInvocationRecorder;
+import org.apache.shardingsphere.driver.jdbc.context.JDBCContext;
 import org.apache.shardingsphere.driver.jdbc.core.ShardingSphereSavepoint;
-import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
-import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
-import org.apache.shardingsphere.infra.instance.definition.InstanceId;
-import org.apache.shardingsphere.infra.instance.definition.InstanceType;
-import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 import org.apache.shardingsphere.mode.manager.ContextManager;
-import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
-import org.apache.shardingsphere.traffic.rule.TrafficRule;
 import org.apache.shardingsphere.transaction.ConnectionSavepointManager;
 import org.apache.shardingsphere.transaction.ConnectionTransaction;
 import org.apache.shardingsphere.transaction.core.TransactionType;
@@ -50,6 +44,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -64,6 +59,10 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
     
     private final Map<String, DataSource> physicalDataSourceMap = new LinkedHashMap<>();
     
+    private final JDBCContext jdbcContext;
+    
+    private final Collection<DataSource> trafficDataSources;
+    
     @Getter
     private final ConnectionTransaction connectionTransaction;
     
@@ -75,53 +74,16 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
     
     private final Random random = new SecureRandom();
     
-    public ConnectionManager(final String databaseName, final ContextManager contextManager) {
+    public ConnectionManager(final String databaseName, final ContextManager contextManager, final JDBCContext jdbcContext) {
         dataSourceMap.putAll(contextManager.getDataSourceMap(databaseName));
-        dataSourceMap.putAll(getTrafficDataSourceMap(databaseName, contextManager));
+        Map<String, DataSource> trafficDataSourceMap = jdbcContext.acquireTrafficDataSourceMap(databaseName);
+        dataSourceMap.putAll(trafficDataSourceMap);
         physicalDataSourceMap.putAll(contextManager.getDataSourceMap(databaseName));
+        this.jdbcContext = jdbcContext;
+        trafficDataSources = new LinkedList<>(trafficDataSourceMap.values());
         connectionTransaction = createConnectionTransaction(databaseName, contextManager);
     }
     
-    private Map<String, DataSource> getTrafficDataSourceMap(final String schema, final ContextManager contextManager) {
-        Optional<TrafficRule> trafficRule = contextManager.getMetaDataContexts().getGlobalRuleMetaData().findSingleRule(TrafficRule.class);
-        Optional<MetaDataPersistService> metaDataPersistService = contextManager.getMetaDataContexts().getPersistService();
-        if (!trafficRule.isPresent() || trafficRule.get().getStrategyRules().isEmpty() || !metaDataPersistService.isPresent()) {
-            return Collections.emptyMap();
-        }
-        Map<String, DataSourceProperties> dataSourcePropsMap = metaDataPersistService.get().getDataSourceService().load(schema);
-        Preconditions.checkState(!dataSourcePropsMap.isEmpty(), "Can not get data source properties from meta data.");
-        DataSourceProperties dataSourcePropsSample = dataSourcePropsMap.values().iterator().next();
-        Collection<ShardingSphereUser> users = metaDataPersistService.get().getGlobalRuleService().loadUsers();
-        Collection<InstanceId> instanceIds = contextManager.getInstanceContext().getComputeNodeInstanceIds(InstanceType.PROXY, trafficRule.get().getLabels());
-        return DataSourcePoolCreator.create(createDataSourcePropertiesMap(instanceIds, users, dataSourcePropsSample, schema));
-    }
-    
-    private Map<String, DataSourceProperties> createDataSourcePropertiesMap(final Collection<InstanceId> instanceIds, final Collection<ShardingSphereUser> users,
-                                                                            final DataSourceProperties dataSourcePropsSample, final String schema) {
-        Map<String, DataSourceProperties> result = new LinkedHashMap<>();
-        for (InstanceId each : instanceIds) {
-            result.put(each.getId(), createDataSourceProperties(each, users, dataSourcePropsSample, schema));
-        }
-        return result;
-    }
-    
-    private DataSourceProperties createDataSourceProperties(final InstanceId instanceId, final Collection<ShardingSphereUser> users,
-                                                            final DataSourceProperties dataSourcePropsSample, final String schema) {
-        Map<String, Object> props = dataSourcePropsSample.getAllLocalProperties();
-        props.put("jdbcUrl", createJdbcUrl(instanceId, schema, props));
-        ShardingSphereUser user = users.iterator().next();
-        props.put("username", user.getGrantee().getUsername());
-        props.put("password", user.getPassword());
-        return new DataSourceProperties("com.zaxxer.hikari.HikariDataSource", props);
-    }
-    
-    private String createJdbcUrl(final InstanceId instanceId, final String schema, final Map<String, Object> props) {
-        String jdbcUrl = String.valueOf(props.get("jdbcUrl"));
-        String jdbcUrlPrefix = jdbcUrl.substring(0, jdbcUrl.indexOf("//"));
-        String jdbcUrlSuffix = jdbcUrl.contains("?") ? jdbcUrl.substring(jdbcUrl.indexOf("?")) : "";
-        return String.format("%s//%s:%s/%s%s", jdbcUrlPrefix, instanceId.getIp(), instanceId.getUniqueSign(), schema, jdbcUrlSuffix);
-    }
-    
     private ConnectionTransaction createConnectionTransaction(final String databaseName, final ContextManager contextManager) {
         TransactionType type = TransactionTypeHolder.get();
         if (null == type) {
@@ -370,6 +332,8 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
             forceExecuteTemplate.execute(cachedConnections.values(), Connection::close);
         } finally {
             cachedConnections.clear();
+            jdbcContext.releaseTrafficDataSources(trafficDataSources);
+            trafficDataSources.clear();
         }
     }
 }
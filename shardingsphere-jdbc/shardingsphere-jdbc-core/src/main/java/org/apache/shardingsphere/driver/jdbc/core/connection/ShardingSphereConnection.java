@@ -23,6 +23,7 @@ import org.apache.shardingsphere.driver.jdbc.context.JDBCContext;
 import org.apache.shardingsphere.driver.jdbc.core.datasource.metadata.ShardingSphereDatabaseMetaData;
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSpherePreparedStatement;
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSphereStatement;
+import org.apache.shardingsphere.infra.session.ConnectionContext;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.traffic.context.TrafficContextHolder;
 import org.apache.shardingsphere.transaction.TransactionHolder;
@@ -51,6 +52,9 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     @Getter
     private final ConnectionManager connectionManager;
     
+    @Getter
+    private final ConnectionContext connectionContext = new ConnectionContext();
+    
     private boolean autoCommit = true;
     
     private int transactionIsolation = TRANSACTION_READ_UNCOMMITTED;
@@ -63,7 +67,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
         this.databaseName = databaseName;
         this.contextManager = contextManager;
         this.jdbcContext = jdbcContext;
-        connectionManager = new ConnectionManager(databaseName, contextManager);
+        connectionManager = new ConnectionManager(databaseName, contextManager, jdbcContext);
     }
     
     /**
@@ -168,6 +172,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
             connectionManager.commit();
         } finally {
             connectionManager.getConnectionTransaction().setRollbackOnly(false);
+            connectionContext.endTransaction();
             TransactionHolder.clear();
             TrafficContextHolder.remove();
         }
@@ -179,6 +184,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
             connectionManager.rollback();
         } finally {
             connectionManager.getConnectionTransaction().setRollbackOnly(false);
+            connectionContext.endTransaction();
             TransactionHolder.clear();
             TrafficContextHolder.remove();
         }
@@ -270,6 +276,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     @Override
     public void close() throws SQLException {
         closed = true;
+        connectionContext.clear();
         connectionManager.close();
     }
 }
@@ -58,7 +58,7 @@ public final class ShardingSphereDataSource extends AbstractDataSourceAdapter im
     public ShardingSphereDataSource(final String databaseName, final ModeConfiguration modeConfig) throws SQLException {
         this.databaseName = databaseName;
         contextManager = createContextManager(databaseName, modeConfig, new HashMap<>(), new LinkedList<>(), new Properties());
-        jdbcContext = new JDBCContext(contextManager.getDataSourceMap(databaseName));
+        jdbcContext = new JDBCContext(contextManager.getDataSourceMap(databaseName), contextManager);
     }
     
     public ShardingSphereDataSource(final String databaseName, final ModeConfiguration modeConfig, final Map<String, DataSource> dataSourceMap,
@@ -66,7 +66,7 @@ public final class ShardingSphereDataSource extends AbstractDataSourceAdapter im
         checkRuleConfiguration(databaseName, ruleConfigs);
         this.databaseName = databaseName;
         contextManager = createContextManager(databaseName, modeConfig, dataSourceMap, ruleConfigs, null == props ? new Properties() : props);
-        jdbcContext = new JDBCContext(contextManager.getDataSourceMap(databaseName));
+        jdbcContext = new JDBCContext(contextManager.getDataSourceMap(databaseName), contextManager);
     }
     
     @SuppressWarnings("unchecked")
@@ -115,6 +115,7 @@ public final class ShardingSphereDataSource extends AbstractDataSourceAdapter im
         for (String each : dataSourceNames) {
             close(dataSourceMap.get(each));
         }
+        jdbcContext.close();
         contextManager.close();
     }
     
@@ -92,28 +92,28 @@ public final class ResultSetGetterAdapterTest {
     @Test
     public void assertGetIntForColumnIndex() throws SQLException {
         MergedResult mergedResult = mock(MergedResult.class);
-        when(mergedResult.getValue(1, int.class)).thenReturn(10);
+        when(mergedResult.getInt(1)).thenReturn(10);
         assertThat(mockShardingSphereResultSet(mergedResult).getInt(1), is(10));
     }
     
     @Test
     public void assertGetIntForColumnLabel() throws SQLException {
         MergedResult mergedResult = mock(MergedResult.class);
-        when(mergedResult.getValue(1, int.class)).thenReturn(10);
+        when(mergedResult.getInt(1)).thenReturn(10);
         assertThat(mockShardingSphereResultSet(mergedResult).getInt("col"), is(10));
     }
     
     @Test
     public void assertGetLongForColumnIndex() throws SQLException {
         MergedResult mergedResult = mock(MergedResult.class);
-        when(mergedResult.getValue(1, long.class)).thenReturn(10L);
+        when(mergedResult.getLong(1)).thenReturn(10L);
         assertThat(mockShardingSphereResultSet(mergedResult).getLong(1), is(10L));
     }
     
     @Test
     public void assertGetLongForColumnLabel() throws SQLException {
         MergedResult mergedResult = mock(MergedResult.class);
-        when(mergedResult.getValue(1, long.class)).thenReturn(10L);
+        when(mergedResult.getLong(1)).thenReturn(10L);
         assertThat(mockShardingSphereResultSet(mergedResult).getLong("col"), is(10L));
     }
     
@@ -134,14 +134,14 @@ public final class ResultSetGetterAdapterTest {
     @Test
     public void assertGetDoubleForColumnIndex() throws SQLException {
         MergedResult mergedResult = mock(MergedResult.class);
-        when(mergedResult.getValue(1, double.class)).thenReturn(10.0D);
+        when(mergedResult.getDouble(1)).thenReturn(10.0D);
         assertThat(mockShardingSphereResultSet(mergedResult).getDouble(1), is(10.0D));
     }
     
     @Test
     public void assertGetDoubleForColumnLabel() throws SQLException {
         MergedResult mergedResult = mock(MergedResult.class);
-        when(mergedResult.getValue(1, double.class)).thenReturn(10.0D);
+        when(mergedResult.getDouble(1)).thenReturn(10.0D);
         assertThat(mockShardingSphereResultSet(mergedResult).getDouble("col"), is(10.0D));
     }
     
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.context;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
+import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
+import org.apache.shardingsphere.infra.instance.definition.InstanceDefinition;
+import org.apache.shardingsphere.infra.instance.definition.InstanceId;
+import org.apache.shardingsphere.infra.instance.definition.InstanceType;
+import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.rule.GlobalRuleConfigurationsChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOnlineEvent;
+import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.traffic.rule.TrafficRule;
+import org.apache.shardingsphere.traffic.rule.TrafficStrategyRule;
+import org.apache.shardingsphere.traffic.spi.TrafficAlgorithm;
+import org.apache.shardingsphere.traffic.spi.TrafficLoadBalanceAlgorithm;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public final class TrafficDataSourceCacheTest {
+    
+    private ContextManager contextManager;
+    
+    private MockedStatic<DataSourcePoolCreator> dataSourcePoolCreator;
+    
+    private TrafficDataSourceCache trafficDataSourceCache;
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Before
+    public void setUp() {
+        contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        TrafficRule trafficRule = mockTrafficRule();
+        MetaDataPersistService metaDataPersistService = mockMetaDataPersistService();
+        when(contextManager.getMetaDataContexts().getPersistService()).thenReturn(Optional.of(metaDataPersistService));
+        when(contextManager.getMetaDataContexts().getGlobalRuleMetaData().findSingleRule(TrafficRule.class)).thenReturn(Optional.of(trafficRule));
+        when(contextManager.getInstanceContext().getComputeNodeInstanceIds(InstanceType.PROXY, Arrays.asList("OLTP", "OLAP")))
+                .thenReturn(Collections.singletonList(new InstanceId("127.0.0.1@3307")));
+        dataSourcePoolCreator = mockStatic(DataSourcePoolCreator.class);
+        when(DataSourcePoolCreator.create((Map) any())).thenAnswer(invocation -> createDataSourceMap(invocation.getArgument(0)));
+        trafficDataSourceCache = new TrafficDataSourceCache(contextManager);
+    }
+    
+    @After
+    public void tearDown() {
+        trafficDataSourceCache.close();
+        dataSourcePoolCreator.close();
+    }
+    
+    private TrafficRule mockTrafficRule() {
+        TrafficRule result = mock(TrafficRule.class);
+        when(result.getLabels()).thenReturn(Arrays.asList("OLTP", "OLAP"));
+        when(result.getStrategyRules()).thenReturn(Collections.singletonList(
+                new TrafficStrategyRule("sql_match", Arrays.asList("OLTP", "OLAP"), mock(TrafficAlgorithm.class), mock(TrafficLoadBalanceAlgorithm.class))));
+        return result;
+    }
+    
+    private MetaDataPersistService mockMetaDataPersistService() {
+        MetaDataPersistService result = mock(MetaDataPersistService.class, RETURNS_DEEP_STUBS);
+        when(result.getDataSourceService().load(DefaultDatabase.LOGIC_NAME))
+                .thenReturn(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, new DataSourceProperties(HikariDataSource.class.getName(), createProperties())));
+        when(result.getGlobalRuleService().loadUsers()).thenReturn(Collections.singletonList(new ShardingSphereUser("root", "root", "localhost")));
+        return result;
+    }
+    
+    private Map<String, Object> createProperties() {
+        Map<String, Object> result = new LinkedHashMap<>(3, 1);
+        result.put("jdbcUrl", "jdbc:mysql://127.0.0.1:3306/demo_ds_0?serverTimezone=UTC&useSSL=false");
+        result.put("username", "root");
+        result.put("password", "123456");
+        return result;
+    }
+    
+    private Map<String, DataSource> createDataSourceMap(final Map<String, DataSourceProperties> dataSourcePropsMap) {
+        Map<String, DataSource> result = new LinkedHashMap<>(dataSourcePropsMap.size(), 1);
+        dataSourcePropsMap.keySet().forEach(each -> result.put(each, mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class))));
+        return result;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    public void assertGetTrafficDataSourceMapShared() {
+        Map<String, DataSource> actual = trafficDataSourceCache.acquireTrafficDataSourceMap(DefaultDatabase.LOGIC_NAME);
+        assertThat(actual.size(), is(1));
+        assertThat(trafficDataSourceCache.acquireTrafficDataSourceMap(DefaultDatabase.LOGIC_NAME), sameInstance(actual));
+        dataSourcePoolCreator.verify(() -> DataSourcePoolCreator.create((Map) any()), times(1));
+    }
+    
+    @Test
+    public void assertGetTrafficDataSourceMapAfterInstanceOnline() {
+        final DataSource originalDataSource = trafficDataSourceCache.acquireTrafficDataSourceMap(DefaultDatabase.LOGIC_NAME).get("127.0.0.1@3307");
+        when(contextManager.getInstanceContext().getComputeNodeInstanceIds(InstanceType.PROXY, Arrays.asList("OLTP", "OLAP")))
+                .thenReturn(Arrays.asList(new InstanceId("127.0.0.1@3307"), new InstanceId("127.0.0.1@3308")));
+        trafficDataSourceCache.renew(new InstanceOnlineEvent(new InstanceDefinition(InstanceType.PROXY, "127.0.0.1@3308")));
+        Map<String, DataSource> actual = trafficDataSourceCache.acquireTrafficDataSourceMap(DefaultDatabase.LOGIC_NAME);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("127.0.0.1@3307"), sameInstance(originalDataSource));
+        assertTrue(actual.containsKey("127.0.0.1@3308"));
+    }
+    
+    @Test
+    public void assertGetTrafficDataSourceMapAfterUsersChanged() {
+        DataSource originalDataSource = trafficDataSourceCache.acquireTrafficDataSourceMap(DefaultDatabase.LOGIC_NAME).get("127.0.0.1@3307");
+        trafficDataSourceCache.renew(new GlobalRuleConfigurationsChangedEvent(Collections.emptyList()));
+        assertThat(trafficDataSourceCache.acquireTrafficDataSourceMap(DefaultDatabase.LOGIC_NAME).get("127.0.0.1@3307"), not(sameInstance(originalDataSource)));
+    }
+    
+    @Test
+    public void assertDestroyEvictedTrafficDataSourceAfterReleased() throws Exception {
+        Collection<DataSource> acquiredDataSources = trafficDataSourceCache.acquireTrafficDataSourceMap(DefaultDatabase.LOGIC_NAME).values();
+        AutoCloseable evictedDataSource = (AutoCloseable) acquiredDataSources.iterator().next();
+        trafficDataSourceCache.renew(new GlobalRuleConfigurationsChangedEvent(Collections.emptyList()));
+        verify(evictedDataSource, after(100L).never()).close();
+        trafficDataSourceCache.releaseTrafficDataSources(acquiredDataSources);
+        verify(evictedDataSource, timeout(1000L)).close();
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.driver.jdbc.core.connection;
 
 import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.driver.jdbc.context.JDBCContext;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
@@ -68,16 +69,20 @@ public final class ConnectionManagerTest {
     
     private MockedStatic<DataSourcePoolCreator> dataSourcePoolCreator;
     
+    private JDBCContext jdbcContext;
+    
     @Before
     public void setUp() throws SQLException {
         ContextManager contextManager = mockContextManager();
-        connectionManager = new ConnectionManager(DefaultDatabase.LOGIC_NAME, contextManager);
+        jdbcContext = new JDBCContext(Collections.emptyMap(), contextManager);
+        connectionManager = new ConnectionManager(DefaultDatabase.LOGIC_NAME, contextManager, jdbcContext);
         TransactionTypeHolder.set(TransactionType.XA);
-        connectionManagerInXaTransaction = new ConnectionManager(DefaultDatabase.LOGIC_NAME, contextManager);
+        connectionManagerInXaTransaction = new ConnectionManager(DefaultDatabase.LOGIC_NAME, contextManager, jdbcContext);
     }
     
     @After
     public void cleanUp() {
+        jdbcContext.close();
         dataSourcePoolCreator.close();
         TransactionTypeHolder.clear();
     }
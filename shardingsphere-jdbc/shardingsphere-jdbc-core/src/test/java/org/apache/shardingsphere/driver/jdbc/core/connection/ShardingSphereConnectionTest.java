@@ -214,4 +214,11 @@ public final class ShardingSphereConnectionTest {
         connection.close();
         assertTrue(connection.isClosed());
     }
+    
+    @Test
+    public void assertCloseClearsReadYourWritesMarks() throws SQLException {
+        connection.getConnectionContext().getReadYourWritesContext().markWritten("readwrite_ds");
+        connection.close();
+        assertFalse(connection.getConnectionContext().getReadYourWritesContext().findWrittenTimestamp("readwrite_ds").isPresent());
+    }
 }
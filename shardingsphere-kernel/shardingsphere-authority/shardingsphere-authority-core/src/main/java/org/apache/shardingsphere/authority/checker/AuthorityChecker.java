@@ -20,12 +20,21 @@ package org.apache.shardingsphere.authority.checker;
 import org.apache.shardingsphere.authority.constant.AuthorityOrder;
 import org.apache.shardingsphere.authority.model.PrivilegeType;
 import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
+import org.apache.shardingsphere.authority.provider.natived.model.subject.TableAccessSubject;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.type.TableAvailable;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.check.SQLCheckResult;
 import org.apache.shardingsphere.infra.executor.check.SQLChecker;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.AlterDatabaseStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.AlterTableStatement;
@@ -43,11 +52,14 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectState
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowDatabasesStatement;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 
 /**
@@ -55,6 +67,10 @@ import java.util.function.BiPredicate;
  */
 public final class AuthorityChecker implements SQLChecker<AuthorityRule> {
     
+    private static final Map<Class<?>, Collection<PrivilegeType>> REQUIRED_PRIVILEGES = new ConcurrentHashMap<>();
+    
+    private static final Collection<PrivilegeType> SELECT_PRIVILEGES = EnumSet.of(PrivilegeType.SELECT);
+    
     @Override
     public boolean check(final String databaseName, final Grantee grantee, final AuthorityRule authorityRule) {
         if (null == grantee) {
@@ -64,7 +80,7 @@ public final class AuthorityChecker implements SQLChecker<AuthorityRule> {
     }
     
     @Override
-    public SQLCheckResult check(final SQLStatement sqlStatement, final List<Object> parameters, final Grantee grantee,
+    public SQLCheckResult check(final SQLStatementContext<?> sqlStatementContext, final List<Object> parameters, final Grantee grantee,
                                 final String currentDatabase, final Map<String, ShardingSphereDatabase> databaseMap, final AuthorityRule authorityRule) {
         if (null == grantee) {
             return new SQLCheckResult(true, "");
@@ -76,9 +92,62 @@ public final class AuthorityChecker implements SQLChecker<AuthorityRule> {
         if (null != currentDatabase && !privileges.filter(optional -> optional.hasPrivileges(currentDatabase)).isPresent()) {
             return new SQLCheckResult(false, String.format("Unknown database '%s'", currentDatabase));
         }
-        PrivilegeType privilegeType = getPrivilege(sqlStatement);
-        String errorMessage = Objects.isNull(privilegeType) ? "" : String.format("Access denied for operation %s", privilegeType.name());
-        return privileges.map(optional -> new SQLCheckResult(optional.hasPrivileges(Collections.singletonList(privilegeType)), errorMessage)).orElseGet(() -> new SQLCheckResult(false, ""));
+        SQLStatement sqlStatement = sqlStatementContext.getSqlStatement();
+        Collection<PrivilegeType> requiredPrivileges = REQUIRED_PRIVILEGES.computeIfAbsent(sqlStatement.getClass(), key -> getRequiredPrivileges(sqlStatement));
+        if (requiredPrivileges.isEmpty()) {
+            return new SQLCheckResult(true, "");
+        }
+        String operation = requiredPrivileges.iterator().next().name();
+        Collection<SimpleTableSegment> tables = sqlStatementContext instanceof TableAvailable ? ((TableAvailable) sqlStatementContext).getAllTables() : Collections.emptyList();
+        if (tables.isEmpty()) {
+            return new SQLCheckResult(privileges.get().hasPrivileges(requiredPrivileges), String.format("Access denied for operation %s", operation));
+        }
+        Collection<String> targetTableNames = getTargetTableNames(sqlStatement, tables);
+        for (SimpleTableSegment each : tables) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            String databaseName = findDatabaseName(each, sqlStatementContext.getDatabaseType()).orElse(currentDatabase);
+            Collection<PrivilegeType> tablePrivileges = targetTableNames.isEmpty() || targetTableNames.contains(tableName) ? requiredPrivileges : SELECT_PRIVILEGES;
+            boolean passed = null == databaseName
+                    ? privileges.get().hasPrivileges(tablePrivileges)
+                    : privileges.get().hasPrivileges(new TableAccessSubject(databaseName, tableName), tablePrivileges);
+            if (!passed) {
+                return new SQLCheckResult(false, String.format("Access denied for operation %s on table '%s'", tablePrivileges.iterator().next().name(), tableName));
+            }
+        }
+        return new SQLCheckResult(true, "");
+    }
+    
+    private Optional<String> findDatabaseName(final SimpleTableSegment tableSegment, final DatabaseType databaseType) {
+        Optional<OwnerSegment> owner = databaseType instanceof PostgreSQLDatabaseType
+                || databaseType instanceof OpenGaussDatabaseType ? tableSegment.getOwner().flatMap(OwnerSegment::getOwner) : tableSegment.getOwner();
+        return owner.map(optional -> optional.getIdentifier().getValue());
+    }
+    
+    private Collection<String> getTargetTableNames(final SQLStatement sqlStatement, final Collection<SimpleTableSegment> tables) {
+        TableSegment targetTable = findTargetTable(sqlStatement);
+        if (null == targetTable) {
+            return Collections.emptySet();
+        }
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (SimpleTableSegment each : tables) {
+            if (each.getStartIndex() >= targetTable.getStartIndex() && each.getStopIndex() <= targetTable.getStopIndex()) {
+                result.add(each.getTableName().getIdentifier().getValue());
+            }
+        }
+        return result;
+    }
+    
+    private TableSegment findTargetTable(final SQLStatement sqlStatement) {
+        if (sqlStatement instanceof InsertStatement) {
+            return ((InsertStatement) sqlStatement).getTable();
+        }
+        if (sqlStatement instanceof UpdateStatement) {
+            return ((UpdateStatement) sqlStatement).getTableSegment();
+        }
+        if (sqlStatement instanceof DeleteStatement) {
+            return ((DeleteStatement) sqlStatement).getTableSegment();
+        }
+        return null;
     }
     
     @Override
@@ -92,6 +161,11 @@ public final class AuthorityChecker implements SQLChecker<AuthorityRule> {
         return user.filter(each -> validator.test(each, cipher)).isPresent();
     }
     
+    private Collection<PrivilegeType> getRequiredPrivileges(final SQLStatement sqlStatement) {
+        PrivilegeType result = getPrivilege(sqlStatement);
+        return null == result ? EnumSet.noneOf(PrivilegeType.class) : EnumSet.of(result);
+    }
+    
     private PrivilegeType getPrivilege(final SQLStatement sqlStatement) {
         if (sqlStatement instanceof MySQLShowDatabasesStatement) {
             return PrivilegeType.SHOW_DB;
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.authority.provider.natived.model.privilege;
+
+import org.apache.shardingsphere.authority.model.PrivilegeType;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+
+/**
+ * Copy-on-write privilege set.
+ *
+ * <p>Privileges are kept in an enum set which is replaced on every modification, so privilege checks read a stable snapshot without locking.</p>
+ */
+public final class CopyOnWritePrivilegeSet extends AbstractSet<PrivilegeType> {
+    
+    private volatile EnumSet<PrivilegeType> privileges = EnumSet.noneOf(PrivilegeType.class);
+    
+    public CopyOnWritePrivilegeSet() {
+    }
+    
+    public CopyOnWritePrivilegeSet(final Collection<PrivilegeType> privileges) {
+        addAll(privileges);
+    }
+    
+    @Override
+    public boolean contains(final Object privilege) {
+        return privileges.contains(privilege);
+    }
+    
+    @Override
+    public boolean containsAll(final Collection<?> privileges) {
+        return this.privileges.containsAll(privileges instanceof CopyOnWritePrivilegeSet ? ((CopyOnWritePrivilegeSet) privileges).privileges : privileges);
+    }
+    
+    @Override
+    public synchronized boolean add(final PrivilegeType privilege) {
+        if (privileges.contains(privilege)) {
+            return false;
+        }
+        EnumSet<PrivilegeType> result = EnumSet.copyOf(privileges);
+        result.add(privilege);
+        privileges = result;
+        return true;
+    }
+    
+    @Override
+    public synchronized boolean addAll(final Collection<? extends PrivilegeType> privileges) {
+        EnumSet<PrivilegeType> result = EnumSet.copyOf(this.privileges);
+        if (!result.addAll(privileges)) {
+            return false;
+        }
+        this.privileges = result;
+        return true;
+    }
+    
+    @Override
+    public synchronized boolean remove(final Object privilege) {
+        if (!privileges.contains(privilege)) {
+            return false;
+        }
+        EnumSet<PrivilegeType> result = EnumSet.copyOf(privileges);
+        result.remove(privilege);
+        privileges = result;
+        return true;
+    }
+    
+    @Override
+    public synchronized void clear() {
+        privileges = EnumSet.noneOf(PrivilegeType.class);
+    }
+    
+    @Override
+    public Iterator<PrivilegeType> iterator() {
+        return Collections.unmodifiableSet(privileges).iterator();
+    }
+    
+    @Override
+    public int size() {
+        return privileges.size();
+    }
+}
@@ -28,8 +28,7 @@ import org.apache.shardingsphere.authority.provider.natived.model.subject.Schema
 import org.apache.shardingsphere.authority.provider.natived.model.subject.TableAccessSubject;
 
 import java.util.Collection;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.EnumSet;
 
 /**
  * Native privileges.
@@ -78,8 +77,15 @@ public final class NativePrivileges implements ShardingSpherePrivileges {
     }
     
     private Collection<PrivilegeType> filterPrivileges(final Collection<PrivilegeType> privileges) {
-        return privileges.stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        if (privileges instanceof EnumSet) {
+            return privileges;
+        }
+        Collection<PrivilegeType> result = EnumSet.noneOf(PrivilegeType.class);
+        for (PrivilegeType each : privileges) {
+            if (null != each) {
+                result.add(each);
+            }
+        }
+        return result;
     }
 }
@@ -20,9 +20,9 @@ package org.apache.shardingsphere.authority.provider.natived.model.privilege.adm
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.apache.shardingsphere.authority.model.PrivilegeType;
+import org.apache.shardingsphere.authority.provider.natived.model.privilege.CopyOnWritePrivilegeSet;
 
 import java.util.Collection;
-import java.util.concurrent.CopyOnWriteArraySet;
 
 /**
  * Administrative privileges.
@@ -31,7 +31,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
 @EqualsAndHashCode
 public final class AdministrativePrivileges {
     
-    private final Collection<PrivilegeType> privileges = new CopyOnWriteArraySet<>();
+    private final Collection<PrivilegeType> privileges = new CopyOnWritePrivilegeSet();
     
     /**
      * Has privileges.
@@ -20,12 +20,12 @@ package org.apache.shardingsphere.authority.provider.natived.model.privilege.dat
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.apache.shardingsphere.authority.model.PrivilegeType;
+import org.apache.shardingsphere.authority.provider.natived.model.privilege.CopyOnWritePrivilegeSet;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.stream.Collectors;
 
 /**
  * Database privileges.
@@ -34,7 +34,7 @@ import java.util.stream.Collectors;
 @EqualsAndHashCode
 public final class DatabasePrivileges {
     
-    private final Collection<PrivilegeType> globalPrivileges = new CopyOnWriteArraySet<>();
+    private final Collection<PrivilegeType> globalPrivileges = new CopyOnWritePrivilegeSet();
     
     private final Map<String, SchemaPrivileges> specificPrivileges = new ConcurrentHashMap<>();
     
@@ -66,14 +66,19 @@ public final class DatabasePrivileges {
     }
     
     private boolean hasSpecificPrivileges(final String schema, final Collection<PrivilegeType> privileges) {
-        return specificPrivileges.containsKey(schema) && specificPrivileges.get(schema).hasPrivileges(getSpecificPrivileges(privileges));
+        SchemaPrivileges schemaPrivileges = specificPrivileges.get(schema);
+        return null != schemaPrivileges && schemaPrivileges.hasPrivileges(getSpecificPrivileges(privileges));
     }
     
     private boolean hasSpecificPrivileges(final String schema, final String table, final Collection<PrivilegeType> privileges) {
-        return specificPrivileges.containsKey(schema) && specificPrivileges.get(schema).hasPrivileges(table, getSpecificPrivileges(privileges));
+        SchemaPrivileges schemaPrivileges = specificPrivileges.get(schema);
+        return null != schemaPrivileges && schemaPrivileges.hasPrivileges(table, getSpecificPrivileges(privileges));
     }
     
     private Collection<PrivilegeType> getSpecificPrivileges(final Collection<PrivilegeType> privileges) {
-        return privileges.stream().filter(each -> !globalPrivileges.contains(each)).collect(Collectors.toList());
+        Collection<PrivilegeType> result = EnumSet.noneOf(PrivilegeType.class);
+        result.addAll(privileges);
+        result.removeAll(globalPrivileges);
+        return result;
     }
 }
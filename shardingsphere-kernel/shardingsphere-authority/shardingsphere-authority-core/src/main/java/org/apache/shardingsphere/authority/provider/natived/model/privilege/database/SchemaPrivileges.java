@@ -21,12 +21,12 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.authority.model.PrivilegeType;
+import org.apache.shardingsphere.authority.provider.natived.model.privilege.CopyOnWritePrivilegeSet;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.stream.Collectors;
 
 /**
  * Schema privileges.
@@ -38,7 +38,7 @@ public final class SchemaPrivileges {
     
     private final String name;
     
-    private final Collection<PrivilegeType> globalPrivileges = new CopyOnWriteArraySet<>();
+    private final Collection<PrivilegeType> globalPrivileges = new CopyOnWritePrivilegeSet();
     
     private final Map<String, TablePrivileges> specificPrivileges = new ConcurrentHashMap<>();
     
@@ -68,10 +68,14 @@ public final class SchemaPrivileges {
     }
     
     private boolean hasSpecificPrivileges(final String table, final Collection<PrivilegeType> privileges) {
-        return specificPrivileges.containsKey(table) && specificPrivileges.get(table).hasPrivileges(getSpecificPrivileges(privileges));
+        TablePrivileges tablePrivileges = specificPrivileges.get(table);
+        return null != tablePrivileges && tablePrivileges.hasPrivileges(getSpecificPrivileges(privileges));
     }
     
     private Collection<PrivilegeType> getSpecificPrivileges(final Collection<PrivilegeType> privileges) {
-        return privileges.stream().filter(each -> !globalPrivileges.contains(each)).collect(Collectors.toList());
+        Collection<PrivilegeType> result = EnumSet.noneOf(PrivilegeType.class);
+        result.addAll(privileges);
+        result.removeAll(globalPrivileges);
+        return result;
     }
 }
@@ -19,15 +19,14 @@ package org.apache.shardingsphere.authority.provider.natived.model.privilege.dat
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.authority.model.PrivilegeType;
+import org.apache.shardingsphere.authority.provider.natived.model.privilege.CopyOnWritePrivilegeSet;
 
 import java.util.Collection;
 
 /**
  * Table privileges.
  */
-@RequiredArgsConstructor
 @EqualsAndHashCode
 @Getter
 public final class TablePrivileges {
@@ -36,6 +35,11 @@ public final class TablePrivileges {
     
     private final Collection<PrivilegeType> privileges;
     
+    public TablePrivileges(final String tableName, final Collection<PrivilegeType> privileges) {
+        this.tableName = tableName;
+        this.privileges = new CopyOnWritePrivilegeSet(privileges);
+    }
+    
     /**
      * Has privileges.
      *
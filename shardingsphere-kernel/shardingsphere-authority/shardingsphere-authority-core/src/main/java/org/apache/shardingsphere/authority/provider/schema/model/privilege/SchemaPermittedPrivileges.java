@@ -22,6 +22,7 @@ import org.apache.shardingsphere.authority.model.AccessSubject;
 import org.apache.shardingsphere.authority.model.PrivilegeType;
 import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
 import org.apache.shardingsphere.authority.provider.natived.model.subject.SchemaAccessSubject;
+import org.apache.shardingsphere.authority.provider.natived.model.subject.TableAccessSubject;
 
 import java.util.Collection;
 import java.util.Set;
@@ -50,6 +51,9 @@ public final class SchemaPermittedPrivileges implements ShardingSpherePrivileges
     
     @Override
     public boolean hasPrivileges(final AccessSubject accessSubject, final Collection<PrivilegeType> privileges) {
+        if (accessSubject instanceof TableAccessSubject) {
+            return hasPrivileges(((TableAccessSubject) accessSubject).getSchema());
+        }
         return accessSubject instanceof SchemaAccessSubject && hasPrivileges(((SchemaAccessSubject) accessSubject).getSchema());
     }
 }
@@ -17,25 +17,40 @@
 
 package org.apache.shardingsphere.authority.registry;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.authority.model.AuthorityRegistry;
 import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 /**
  * User privilege map authority registry.
  */
-@RequiredArgsConstructor
 public final class UserPrivilegeMapAuthorityRegistry implements AuthorityRegistry {
     
-    private final Map<ShardingSphereUser, ? extends ShardingSpherePrivileges> userPrivilegeMap;
+    private final Map<String, Collection<Entry<ShardingSphereUser, ? extends ShardingSpherePrivileges>>> userPrivileges;
+    
+    public UserPrivilegeMapAuthorityRegistry(final Map<ShardingSphereUser, ? extends ShardingSpherePrivileges> userPrivilegeMap) {
+        userPrivileges = new HashMap<>(userPrivilegeMap.size(), 1);
+        for (Entry<ShardingSphereUser, ? extends ShardingSpherePrivileges> entry : userPrivilegeMap.entrySet()) {
+            userPrivileges.computeIfAbsent(entry.getKey().getGrantee().getUsername().toUpperCase(), key -> new LinkedList<>()).add(entry);
+        }
+    }
     
     @Override
     public Optional<ShardingSpherePrivileges> findPrivileges(final Grantee grantee) {
-        return userPrivilegeMap.keySet().stream().filter(each -> each.getGrantee().equals(grantee)).findFirst().map(userPrivilegeMap::get);
+        for (Entry<ShardingSphereUser, ? extends ShardingSpherePrivileges> each : userPrivileges.getOrDefault(grantee.getUsername().toUpperCase(), Collections.emptyList())) {
+            if (each.getKey().getGrantee().equals(grantee)) {
+                return Optional.of(each.getValue());
+            }
+        }
+        return Optional.empty();
     }
 }
@@ -18,16 +18,29 @@
 package org.apache.shardingsphere.authority.checker;
 
 import org.apache.shardingsphere.authority.config.AuthorityRuleConfiguration;
+import org.apache.shardingsphere.authority.model.PrivilegeType;
+import org.apache.shardingsphere.authority.provider.natived.model.privilege.NativePrivileges;
+import org.apache.shardingsphere.authority.provider.natived.model.privilege.database.SchemaPrivileges;
+import org.apache.shardingsphere.authority.provider.natived.model.privilege.database.TablePrivileges;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.ddl.CreateTableStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.executor.check.SQLCheckResult;
 import org.apache.shardingsphere.infra.executor.check.SQLChecker;
 import org.apache.shardingsphere.infra.executor.check.SQLCheckerFactory;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.CreateTableStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
@@ -37,14 +50,19 @@ import org.mockito.junit.MockitoJUnitRunner;
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.stream.Collectors;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -104,13 +122,91 @@ public final class AuthorityCheckerTest {
         users.add(root);
         AuthorityRuleConfiguration ruleConfig = new AuthorityRuleConfiguration(users, new ShardingSphereAlgorithmConfiguration("NATIVE", new Properties()));
         AuthorityRule rule = new AuthorityRule(ruleConfig, Collections.emptyMap());
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        CreateTableStatementContext createTableStatementContext = mock(CreateTableStatementContext.class, RETURNS_DEEP_STUBS);
+        when(createTableStatementContext.getSqlStatement()).thenReturn(mock(CreateTableStatement.class));
+        InsertStatementContext insertStatementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(insertStatementContext.getSqlStatement()).thenReturn(mock(InsertStatement.class));
         SQLChecker<AuthorityRule> sqlChecker = SQLCheckerFactory.getInstance(Collections.singleton(rule)).get(rule);
-        SelectStatement selectStatement = mock(SelectStatement.class);
-        CreateTableStatement createTableStatement = mock(CreateTableStatement.class);
+        assertTrue(sqlChecker.check(selectStatementContext, Collections.emptyList(), new Grantee("root", "localhost"), "db0", Collections.emptyMap(), rule).isPassed());
+        assertTrue(sqlChecker.check(insertStatementContext, Collections.emptyList(), new Grantee("root", "localhost"), "db0", Collections.emptyMap(), rule).isPassed());
+        assertTrue(sqlChecker.check(createTableStatementContext, Collections.emptyList(), new Grantee("root", "localhost"), "db0", Collections.emptyMap(), rule).isPassed());
+    }
+    
+    @Test
+    public void assertCheckSQLStatementWithTablePrivileges() {
+        AuthorityRule rule = mock(AuthorityRule.class);
+        Grantee grantee = new Grantee("user", "localhost");
+        when(rule.findPrivileges(grantee)).thenReturn(Optional.of(createTablePrivileges()));
+        AuthorityChecker sqlChecker = new AuthorityChecker();
+        assertTrue(sqlChecker.check(mockSelectStatementContext("t_order"), Collections.emptyList(), grantee, "db0", Collections.emptyMap(), rule).isPassed());
+        SQLCheckResult actual = sqlChecker.check(mockSelectStatementContext("t_order", "t_order_item"), Collections.emptyList(), grantee, "db0", Collections.emptyMap(), rule);
+        assertFalse(actual.isPassed());
+        assertThat(actual.getErrorMessage(), is("Access denied for operation SELECT on table 't_order_item'"));
+    }
+    
+    @Test
+    public void assertCheckInsertSelectStatementWithTablePrivileges() {
+        AuthorityRule rule = mock(AuthorityRule.class);
+        Grantee grantee = new Grantee("user", "localhost");
+        NativePrivileges privileges = createTablePrivileges();
+        privileges.getDatabasePrivileges().getSpecificPrivileges().get("db0").getSpecificPrivileges().put("t_order_history", new TablePrivileges("t_order_history", EnumSet.of(PrivilegeType.INSERT)));
+        when(rule.findPrivileges(grantee)).thenReturn(Optional.of(privileges));
+        AuthorityChecker sqlChecker = new AuthorityChecker();
+        assertTrue(sqlChecker.check(mockInsertSelectStatementContext("t_order_history", "t_order"), Collections.emptyList(), grantee, "db0", Collections.emptyMap(), rule).isPassed());
+        SQLCheckResult actual = sqlChecker.check(mockInsertSelectStatementContext("t_order", "t_order_history"), Collections.emptyList(), grantee, "db0", Collections.emptyMap(), rule);
+        assertFalse(actual.isPassed());
+        assertThat(actual.getErrorMessage(), is("Access denied for operation INSERT on table 't_order'"));
+    }
+    
+    @Test
+    public void assertCheckSQLStatementWithTablesOfDifferentDatabases() {
+        AuthorityRule rule = mock(AuthorityRule.class);
+        Grantee grantee = new Grantee("user", "localhost");
+        NativePrivileges privileges = createTablePrivileges();
+        SchemaPrivileges schemaPrivileges = new SchemaPrivileges("db1");
+        schemaPrivileges.getSpecificPrivileges().put("t_order_item", new TablePrivileges("t_order_item", EnumSet.of(PrivilegeType.SELECT)));
+        privileges.getDatabasePrivileges().getSpecificPrivileges().put("db1", schemaPrivileges);
+        when(rule.findPrivileges(grantee)).thenReturn(Optional.of(privileges));
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        when(sqlStatementContext.getAllTables()).thenReturn(Arrays.asList(createTableSegment("db0", "t_order", 14), createTableSegment("db1", "t_order_item", 30)));
+        assertTrue(new AuthorityChecker().check(sqlStatementContext, Collections.emptyList(), grantee, "db0", Collections.emptyMap(), rule).isPassed());
+    }
+    
+    private NativePrivileges createTablePrivileges() {
+        NativePrivileges result = new NativePrivileges();
+        SchemaPrivileges schemaPrivileges = new SchemaPrivileges("db0");
+        schemaPrivileges.getSpecificPrivileges().put("t_order", new TablePrivileges("t_order", EnumSet.of(PrivilegeType.SELECT)));
+        result.getDatabasePrivileges().getSpecificPrivileges().put("db0", schemaPrivileges);
+        return result;
+    }
+    
+    private SQLStatementContext<?> mockSelectStatementContext(final String... tableNames) {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        Collection<SimpleTableSegment> tables = new LinkedList<>();
+        Arrays.stream(tableNames).forEach(each -> tables.add(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue(each)))));
+        when(result.getAllTables()).thenReturn(tables);
+        return result;
+    }
+    
+    private SimpleTableSegment createTableSegment(final String databaseName, final String tableName, final int startIndex) {
+        SimpleTableSegment result = new SimpleTableSegment(new TableNameSegment(startIndex, startIndex + tableName.length() - 1, new IdentifierValue(tableName)));
+        result.setOwner(new OwnerSegment(0, 0, new IdentifierValue(databaseName)));
+        return result;
+    }
+    
+    private SQLStatementContext<?> mockInsertSelectStatementContext(final String targetTableName, final String sourceTableName) {
+        SimpleTableSegment targetTable = createTableSegment("db0", targetTableName, 12);
+        SimpleTableSegment sourceTable = createTableSegment("db0", sourceTableName, 50);
         InsertStatement insertStatement = mock(InsertStatement.class);
-        assertTrue(sqlChecker.check(selectStatement, Collections.emptyList(), new Grantee("root", "localhost"), "db0", Collections.emptyMap(), rule).isPassed());
-        assertTrue(sqlChecker.check(insertStatement, Collections.emptyList(), new Grantee("root", "localhost"), "db0", Collections.emptyMap(), rule).isPassed());
-        assertTrue(sqlChecker.check(createTableStatement, Collections.emptyList(), new Grantee("root", "localhost"), "db0", Collections.emptyMap(), rule).isPassed());
+        when(insertStatement.getTable()).thenReturn(targetTable);
+        InsertStatementContext result = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(insertStatement);
+        when(result.getAllTables()).thenReturn(Arrays.asList(targetTable, sourceTable));
+        return result;
     }
     
     private Map<String, ShardingSphereDatabase> createDatabaseMap(final Collection<ShardingSphereUser> users) throws SQLException {
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.authority.provider.natived.model.privilege;
+
+import org.apache.shardingsphere.authority.model.PrivilegeType;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CopyOnWritePrivilegeSetTest {
+    
+    @Test
+    public void assertAddAndRemove() {
+        CopyOnWritePrivilegeSet actual = new CopyOnWritePrivilegeSet();
+        assertTrue(actual.add(PrivilegeType.SELECT));
+        assertFalse(actual.add(PrivilegeType.SELECT));
+        assertTrue(actual.addAll(Arrays.asList(PrivilegeType.INSERT, PrivilegeType.UPDATE)));
+        assertTrue(actual.remove(PrivilegeType.UPDATE));
+        assertFalse(actual.remove(PrivilegeType.DELETE));
+        assertThat(actual, is(EnumSet.of(PrivilegeType.SELECT, PrivilegeType.INSERT)));
+    }
+    
+    @Test
+    public void assertContainsAll() {
+        CopyOnWritePrivilegeSet actual = new CopyOnWritePrivilegeSet(EnumSet.of(PrivilegeType.SELECT, PrivilegeType.INSERT));
+        assertTrue(actual.containsAll(EnumSet.of(PrivilegeType.SELECT)));
+        assertTrue(actual.containsAll(new CopyOnWritePrivilegeSet(EnumSet.of(PrivilegeType.INSERT))));
+        assertFalse(actual.containsAll(EnumSet.of(PrivilegeType.SELECT, PrivilegeType.DELETE)));
+    }
+    
+    @Test
+    public void assertIterateSnapshot() {
+        CopyOnWritePrivilegeSet actual = new CopyOnWritePrivilegeSet(EnumSet.of(PrivilegeType.SELECT));
+        Iterator<PrivilegeType> iterator = actual.iterator();
+        actual.add(PrivilegeType.INSERT);
+        assertThat(iterator.next(), is(PrivilegeType.SELECT));
+        assertFalse(iterator.hasNext());
+        assertThat(actual.size(), is(2));
+    }
+}
@@ -51,5 +51,6 @@ public final class InventoryDumperConfiguration extends DumperConfiguration {
         setDataSourceConfig(dumperConfig.getDataSourceConfig());
         setTableNameMap(dumperConfig.getTableNameMap());
         setTableNameSchemaNameMapping(dumperConfig.getTableNameSchemaNameMapping());
+        setDecodingPlugin(dumperConfig.getDecodingPlugin());
     }
 }
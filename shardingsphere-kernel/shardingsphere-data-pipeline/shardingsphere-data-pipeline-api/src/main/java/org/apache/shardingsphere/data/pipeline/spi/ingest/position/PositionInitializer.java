@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.spi.ingest.position;
 
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.spi.annotation.SingletonSPI;
 import org.apache.shardingsphere.spi.type.typed.TypedSPI;
@@ -39,6 +40,18 @@ public interface PositionInitializer extends TypedSPI {
      */
     IngestPosition<?> init(DataSource dataSource) throws SQLException;
     
+    /**
+     * Init position by data source and dumper configuration.
+     *
+     * @param dataSource data source
+     * @param dumperConfig dumper configuration
+     * @return position
+     * @throws SQLException SQL exception
+     */
+    default IngestPosition<?> init(DataSource dataSource, DumperConfiguration dumperConfig) throws SQLException {
+        return init(dataSource);
+    }
+    
     /**
      * Init position by string data.
      *
@@ -156,7 +156,7 @@ public final class DataRecordMerger {
                     preDataRecord.getColumn(i).isUniqueKey()
                             ? mergePrimaryKeyOldValue(preDataRecord.getColumn(i), curDataRecord.getColumn(i))
                             : null,
-                    curDataRecord.getColumn(i).getValue(),
+                    curDataRecord.getColumn(i).isUpdated() ? curDataRecord.getColumn(i).getValue() : preDataRecord.getColumn(i).getValue(),
                     preDataRecord.getColumn(i).isUpdated() || curDataRecord.getColumn(i).isUpdated(),
                     curDataRecord.getColumn(i).isUniqueKey()));
         }
@@ -20,18 +20,34 @@ package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
 
-import java.util.HashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Multiplex memory pipeline channel.
+ *
+ * <p>
+ * Data records are partitioned by table name and unique key, so records of the same row are always consumed in order by the same importer.
+ * Acknowledged records are passed to ack callback only when all records pushed before them are acknowledged too,
+ * so the position reported by ack callback never gets ahead of any partition.
+ * Ack callback is invoked in acknowledged order but outside the pending records lock, so a slow callback does not block pushing and acknowledging.
+ * Finished record is broadcast to all partitions and passed to ack callback once, after all partitions acknowledged it.
+ * </p>
  */
 @Slf4j
 public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
@@ -42,7 +58,19 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     private final PipelineChannel[] channels;
     
-    private final Map<String, Integer> channelAssignment = new HashMap<>();
+    private final Queue<PendingRecord>[] channelPendingRecords;
+    
+    private final Deque<PendingRecord> pendingRecords = new ArrayDeque<>();
+    
+    private final AckCallback ackCallback;
+    
+    private final Queue<List<Record>> acknowledgedBatches = new ConcurrentLinkedQueue<>();
+    
+    private final Object ackCallbackLock = new Object();
+    
+    private final Map<Long, Integer> channelAssignment = new ConcurrentHashMap<>();
+    
+    private volatile boolean closed;
     
     public MultiplexMemoryPipelineChannel() {
         this(EMPTY_ACK_CALLBACK);
@@ -56,21 +84,35 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
         this(1, blockQueueSize, ackCallback);
     }
     
+    @SuppressWarnings("unchecked")
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
         this.channelNumber = channelNumber;
+        this.ackCallback = ackCallback;
         channels = new PipelineChannel[channelNumber];
+        channelPendingRecords = new Queue[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
-            channels[i] = new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback);
+            int channelIndex = i;
+            channels[i] = new SimpleMemoryPipelineChannel(blockQueueSize, records -> onAck(channelIndex, records));
+            channelPendingRecords[i] = new ConcurrentLinkedQueue<>();
         }
     }
     
     @Override
     public void pushRecord(final Record record) {
         if (FinishedRecord.class.equals(record.getClass())) {
+            PendingRecord pendingRecord = new PendingRecord(record, channelNumber);
+            synchronized (pendingRecords) {
+                pendingRecords.addLast(pendingRecord);
+            }
             for (int i = 0; i < channelNumber; i++) {
-                pushRecord(record, i);
+                channelPendingRecords[i].add(pendingRecord);
+                channels[i].pushRecord(record);
             }
         } else if (DataRecord.class.equals(record.getClass())) {
+            DataRecord dataRecord = (DataRecord) record;
+            if (isUniqueKeyUpdated(dataRecord)) {
+                waitForAllAcknowledged();
+            }
             pushRecord(record, Math.abs(record.hashCode() % channelNumber));
         } else if (PlaceholderRecord.class.equals(record.getClass())) {
             pushRecord(record, 0);
@@ -80,8 +122,72 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     }
     
     private void pushRecord(final Record record, final int channelIndex) {
-        PipelineChannel channel = channels[channelIndex];
-        channel.pushRecord(record);
+        PendingRecord pendingRecord = new PendingRecord(record, 1);
+        synchronized (pendingRecords) {
+            pendingRecords.addLast(pendingRecord);
+        }
+        channelPendingRecords[channelIndex].add(pendingRecord);
+        channels[channelIndex].pushRecord(record);
+    }
+    
+    private boolean isUniqueKeyUpdated(final DataRecord dataRecord) {
+        if (1 == channelNumber || !IngestDataChangeType.UPDATE.equals(dataRecord.getType())) {
+            return false;
+        }
+        for (Column each : dataRecord.getColumns()) {
+            if (each.isUniqueKey() && each.isUpdated() && !Objects.equals(each.getOldValue(), each.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Records with the old unique key may stay in another partition, wait until they are applied to keep the row order.
+     */
+    private void waitForAllAcknowledged() {
+        synchronized (pendingRecords) {
+            while (!closed && !pendingRecords.isEmpty()) {
+                try {
+                    pendingRecords.wait();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+    
+    private void onAck(final int channelIndex, final List<Record> records) {
+        Queue<PendingRecord> channelPendingQueue = channelPendingRecords[channelIndex];
+        List<Record> acknowledgedRecords = new ArrayList<>(records.size());
+        synchronized (pendingRecords) {
+            for (int i = 0; i < records.size(); i++) {
+                PendingRecord pendingRecord = channelPendingQueue.poll();
+                if (null != pendingRecord) {
+                    pendingRecord.remainingAcks--;
+                }
+            }
+            while (!pendingRecords.isEmpty() && 0 == pendingRecords.peekFirst().remainingAcks) {
+                acknowledgedRecords.add(pendingRecords.pollFirst().record);
+            }
+            if (!acknowledgedRecords.isEmpty()) {
+                acknowledgedBatches.add(acknowledgedRecords);
+            }
+            if (pendingRecords.isEmpty()) {
+                pendingRecords.notifyAll();
+            }
+        }
+        fireAckCallback();
+    }
+    
+    private void fireAckCallback() {
+        synchronized (ackCallbackLock) {
+            List<Record> acknowledgedRecords;
+            while (null != (acknowledgedRecords = acknowledgedBatches.poll())) {
+                ackCallback.onAck(acknowledgedRecords);
+            }
+        }
     }
     
     @Override
@@ -95,34 +201,45 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     }
     
     private PipelineChannel findChannel() {
-        String threadId = Long.toString(Thread.currentThread().getId());
-        checkAssignment(threadId);
-        return channels[channelAssignment.get(threadId)];
-    }
-    
-    private void checkAssignment(final String threadId) {
-        if (!channelAssignment.containsKey(threadId)) {
+        Long threadId = Thread.currentThread().getId();
+        Integer result = channelAssignment.get(threadId);
+        if (null == result) {
             synchronized (this) {
-                if (!channelAssignment.containsKey(threadId)) {
-                    assignmentChannel(threadId);
-                }
+                result = channelAssignment.computeIfAbsent(threadId, key -> assignmentChannel());
             }
         }
+        return channels[result];
     }
     
-    private void assignmentChannel(final String threadId) {
+    private int assignmentChannel() {
         for (int i = 0; i < channels.length; i++) {
             if (!channelAssignment.containsValue(i)) {
-                channelAssignment.put(threadId, i);
-                return;
+                return i;
             }
         }
+        throw new IllegalStateException("No more channel could be assigned");
     }
     
     @Override
     public void close() {
+        closed = true;
+        synchronized (pendingRecords) {
+            pendingRecords.notifyAll();
+        }
         for (PipelineChannel each : channels) {
             each.close();
         }
     }
+    
+    private static final class PendingRecord {
+        
+        private final Record record;
+        
+        private int remainingAcks;
+        
+        PendingRecord(final Record record, final int remainingAcks) {
+            this.record = record;
+            this.remainingAcks = remainingAcks;
+        }
+    }
 }
@@ -192,7 +192,7 @@ public final class RuleAlteredJobPreparer {
         }
         String databaseType = taskConfig.getJobConfig().getSourceDatabaseType();
         DataSource dataSource = dataSourceManager.getDataSource(taskConfig.getDumperConfig().getDataSourceConfig());
-        return PositionInitializerFactory.getInstance(databaseType).init(dataSource);
+        return PositionInitializerFactory.getInstance(databaseType).init(dataSource, taskConfig.getDumperConfig());
     }
     
     /**
@@ -191,7 +191,7 @@ public final class MySQLClient {
      *
      * @return binlog event
      */
-    public synchronized AbstractBinlogEvent poll() {
+    public AbstractBinlogEvent poll() {
         try {
             return blockingEventQueue.poll(100, TimeUnit.MILLISECONDS);
         } catch (final InterruptedException ignored) {
@@ -18,8 +18,11 @@
 package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WalPosition;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.TestDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.position.PositionInitializer;
 import org.postgresql.replication.LogSequenceNumber;
 
@@ -37,14 +40,25 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
     
     private static final String SLOT_NAME_PREFIX = "sharding_scaling";
     
-    private static final String DECODE_PLUGIN = "test_decoding";
-    
     private static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
     @Override
     public WalPosition init(final DataSource dataSource) throws SQLException {
+        return init(dataSource, TestDecodingPlugin.NAME);
+    }
+    
+    @Override
+    public WalPosition init(final DataSource dataSource, final DumperConfiguration dumperConfig) throws SQLException {
+        return init(dataSource, getDecodingPlugin(dumperConfig.getDecodingPlugin()));
+    }
+    
+    private WalPosition init(final DataSource dataSource, final String decodingPlugin) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
-            createSlotIfNotExist(connection, getUniqueSlotName(connection));
+            String slotName = getUniqueSlotName(connection);
+            if (PgOutputPlugin.NAME.equals(decodingPlugin)) {
+                createPublicationIfNotExist(connection, slotName);
+            }
+            createSlotIfNotExist(connection, slotName, decodingPlugin);
             return getWalPosition(connection);
         }
     }
@@ -54,12 +68,31 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         return new WalPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(Long.parseLong(data))));
     }
     
-    private void createSlotIfNotExist(final Connection connection, final String slotName) throws SQLException {
-        if (isSlotExisting(connection, slotName)) {
+    private void createPublicationIfNotExist(final Connection connection, final String publicationName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT pubname FROM pg_publication WHERE pubname=?")) {
+            preparedStatement.setString(1, publicationName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (resultSet.next()) {
+                    log.info("createPublicationIfNotExist, publication exist, publicationName={}", publicationName);
+                    return;
+                }
+            }
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("CREATE PUBLICATION %s FOR ALL TABLES", publicationName))) {
+            preparedStatement.execute();
+        } catch (final SQLException ex) {
+            if (!DUPLICATE_OBJECT_ERROR_CODE.equals(ex.getSQLState())) {
+                throw ex;
+            }
+        }
+    }
+    
+    private void createSlotIfNotExist(final Connection connection, final String slotName, final String decodingPlugin) throws SQLException {
+        if (isSlotExisting(connection, slotName, decodingPlugin)) {
             log.info("createSlotIfNotExist, slot exist, slotName={}", slotName);
             return;
         }
-        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, DECODE_PLUGIN);
+        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, decodingPlugin);
         try (PreparedStatement preparedStatement = connection.prepareStatement(createSlotSQL)) {
             preparedStatement.execute();
         } catch (final SQLException ex) {
@@ -69,13 +102,19 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         }
     }
     
-    private boolean isSlotExisting(final Connection connection, final String slotName) throws SQLException {
-        String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?";
+    private boolean isSlotExisting(final Connection connection, final String slotName, final String decodingPlugin) throws SQLException {
+        String checkSlotSQL = "SELECT plugin FROM pg_replication_slots WHERE slot_name=?";
         try (PreparedStatement preparedStatement = connection.prepareStatement(checkSlotSQL)) {
             preparedStatement.setString(1, slotName);
-            preparedStatement.setString(2, DECODE_PLUGIN);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                return resultSet.next();
+                if (!resultSet.next()) {
+                    return false;
+                }
+                String existingDecodingPlugin = resultSet.getString(1);
+                if (null != decodingPlugin && !decodingPlugin.equals(existingDecodingPlugin)) {
+                    throw new IllegalStateException(String.format("Slot `%s` is created with decoding plugin `%s` instead of `%s`", slotName, existingDecodingPlugin, decodingPlugin));
+                }
+                return true;
             }
         }
     }
@@ -103,12 +142,13 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
     public void destroy(final DataSource dataSource) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             dropSlotIfExist(connection);
+            dropPublicationIfExist(connection);
         }
     }
     
     private void dropSlotIfExist(final Connection connection) throws SQLException {
         String slotName = getUniqueSlotName(connection);
-        if (!isSlotExisting(connection, slotName)) {
+        if (!isSlotExisting(connection, slotName, null)) {
             log.info("dropSlotIfExist, slot not exist, slotName={}", slotName);
             return;
         }
@@ -120,6 +160,31 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         }
     }
     
+    private void dropPublicationIfExist(final Connection connection) throws SQLException {
+        if (connection.getMetaData().getDatabaseMajorVersion() < 10) {
+            return;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("DROP PUBLICATION IF EXISTS %s", getUniqueSlotName(connection)))) {
+            preparedStatement.execute();
+        }
+    }
+    
+    /**
+     * Get decoding plugin name, {@code test_decoding} is used if not configured.
+     *
+     * @param decodingPlugin configured decoding plugin name
+     * @return decoding plugin name
+     */
+    public static String getDecodingPlugin(final String decodingPlugin) {
+        if (null == decodingPlugin || TestDecodingPlugin.NAME.equalsIgnoreCase(decodingPlugin)) {
+            return TestDecodingPlugin.NAME;
+        }
+        if (PgOutputPlugin.NAME.equalsIgnoreCase(decodingPlugin)) {
+            return PgOutputPlugin.NAME;
+        }
+        throw new UnsupportedOperationException(String.format("Unsupported decoding plugin `%s`", decodingPlugin));
+    }
+    
     /**
      * Get the unique slot name by connection.
      *
@@ -26,11 +26,11 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.AbstractIncrementalDumper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
-import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.LogicalReplication;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WalEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WalPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLTimestampUtils;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.TestDecodingPlugin;
@@ -54,10 +54,14 @@ public final class PostgreSQLWalDumper extends AbstractIncrementalDumper<WalPosi
     
     private final LogicalReplication logicalReplication = new LogicalReplication();
     
+    private final PipelineTableMetaDataLoader metaDataLoader;
+    
     private final WalEventConverter walEventConverter;
     
     private final PipelineChannel channel;
     
+    private volatile Connection replicationConnection;
+    
     public PostgreSQLWalDumper(final DumperConfiguration dumperConfig, final IngestPosition<WalPosition> position,
                                final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         super(dumperConfig, position, channel, metaDataLoader);
@@ -67,6 +71,7 @@ public final class PostgreSQLWalDumper extends AbstractIncrementalDumper<WalPosi
         }
         this.dumperConfig = dumperConfig;
         this.channel = channel;
+        this.metaDataLoader = metaDataLoader;
         walEventConverter = new WalEventConverter(dumperConfig, metaDataLoader);
     }
     
@@ -76,24 +81,31 @@ public final class PostgreSQLWalDumper extends AbstractIncrementalDumper<WalPosi
     }
     
     private void dump() {
+        String decodingPluginName = PostgreSQLPositionInitializer.getDecodingPlugin(dumperConfig.getDecodingPlugin());
+        long eventCount = 0L;
+        long startMillis = System.currentTimeMillis();
         // TODO use unified PgConnection
         try (
                 Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig());
-                PGReplicationStream stream = logicalReplication.createReplicationStream(connection, PostgreSQLPositionInitializer.getUniqueSlotName(connection), walPosition.getLogSequenceNumber())) {
+                PGReplicationStream stream = logicalReplication.createReplicationStream(connection, PostgreSQLPositionInitializer.getUniqueSlotName(connection),
+                        walPosition.getLogSequenceNumber(), decodingPluginName)) {
+            replicationConnection = connection;
             PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
+            DecodingPlugin decodingPlugin = PgOutputPlugin.NAME.equals(decodingPluginName) ? new PgOutputPlugin(utils, metaDataLoader) : new TestDecodingPlugin(utils);
             while (isRunning()) {
-                ByteBuffer message = stream.readPending();
-                if (null == message) {
-                    ThreadUtil.sleep(10L);
-                    continue;
-                }
+                ByteBuffer message = stream.read();
                 AbstractWalEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
                 Record record = walEventConverter.convert(event);
                 pushRecord(record);
+                eventCount++;
             }
         } catch (final SQLException ex) {
-            throw new IngestException(ex);
+            if (isRunning()) {
+                throw new IngestException(ex);
+            }
+        } finally {
+            long elapsedMillis = System.currentTimeMillis() - startMillis;
+            log.info("WAL dumper stopped, decodingPlugin={}, eventCount={}, eventsPerSecond={}", decodingPluginName, eventCount, 0L == elapsedMillis ? 0L : eventCount * 1000L / elapsedMillis);
         }
     }
     
@@ -103,5 +115,14 @@ public final class PostgreSQLWalDumper extends AbstractIncrementalDumper<WalPosi
     
     @Override
     protected void doStop() {
+        Connection connection = replicationConnection;
+        if (null == connection) {
+            return;
+        }
+        try {
+            connection.abort(Runnable::run);
+        } catch (final SQLException ex) {
+            log.warn("Abort replication connection failed", ex);
+        }
     }
 }
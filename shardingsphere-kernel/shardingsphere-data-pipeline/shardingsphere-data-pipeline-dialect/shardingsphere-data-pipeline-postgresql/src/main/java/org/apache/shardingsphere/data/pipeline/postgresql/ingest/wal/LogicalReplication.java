@@ -20,10 +20,12 @@ package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.yaml.YamlJdbcConfiguration;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.BaseLogSequenceNumber;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputPlugin;
 import org.postgresql.PGConnection;
 import org.postgresql.PGProperty;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.replication.PGReplicationStream;
+import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
@@ -60,17 +62,20 @@ public final class LogicalReplication {
      * @param connection connection
      * @param slotName slot name
      * @param startPosition start position
+     * @param decodingPlugin decoding plugin name
      * @return replication stream
      * @throws SQLException SQL exception
      */
-    public PGReplicationStream createReplicationStream(final Connection connection, final String slotName, final BaseLogSequenceNumber startPosition) throws SQLException {
-        return connection.unwrap(PGConnection.class).getReplicationAPI()
+    public PGReplicationStream createReplicationStream(final Connection connection, final String slotName, final BaseLogSequenceNumber startPosition,
+                                                       final String decodingPlugin) throws SQLException {
+        ChainedLogicalStreamBuilder streamBuilder = connection.unwrap(PGConnection.class).getReplicationAPI()
                 .replicationStream()
                 .logical()
                 .withStartPosition((LogSequenceNumber) startPosition.get())
-                .withSlotName(slotName)
-                .withSlotOption("include-xids", true)
-                .withSlotOption("skip-empty-xacts", true)
-                .start();
+                .withSlotName(slotName);
+        if (PgOutputPlugin.NAME.equals(decodingPlugin)) {
+            return streamBuilder.withSlotOption("proto_version", 1).withSlotOption("publication_names", slotName).start();
+        }
+        return streamBuilder.withSlotOption("include-xids", true).withSlotOption("skip-empty-xacts", true).start();
     }
 }
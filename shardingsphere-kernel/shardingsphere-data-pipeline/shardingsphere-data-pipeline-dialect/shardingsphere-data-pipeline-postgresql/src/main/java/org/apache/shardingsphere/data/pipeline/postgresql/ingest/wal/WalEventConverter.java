@@ -33,7 +33,10 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.Place
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Convert wal event to {@code Record}.
@@ -91,7 +94,7 @@ public final class WalEventConverter {
     private DataRecord handleWriteRowsEvent(final WriteRowEvent writeRowEvent) {
         DataRecord result = createDataRecord(writeRowEvent, writeRowEvent.getAfterRow().size());
         result.setType(IngestDataChangeType.INSERT);
-        putColumnsIntoDataRecord(result, getPipelineTableMetaData(writeRowEvent.getTableName()), writeRowEvent.getAfterRow());
+        putColumnsIntoDataRecord(result, getPipelineTableMetaData(writeRowEvent.getTableName()), writeRowEvent.getAfterRow(), Collections.emptySet(), Collections.emptyMap());
         return result;
     }
     
@@ -102,7 +105,7 @@ public final class WalEventConverter {
     private DataRecord handleUpdateRowsEvent(final UpdateRowEvent updateRowEvent) {
         DataRecord result = createDataRecord(updateRowEvent, updateRowEvent.getAfterRow().size());
         result.setType(IngestDataChangeType.UPDATE);
-        putColumnsIntoDataRecord(result, getPipelineTableMetaData(updateRowEvent.getTableName()), updateRowEvent.getAfterRow());
+        putColumnsIntoDataRecord(result, getPipelineTableMetaData(updateRowEvent.getTableName()), updateRowEvent.getAfterRow(), updateRowEvent.getUnchangedColumnIndexes(), updateRowEvent.getOldKeys());
         return result;
     }
     
@@ -124,11 +127,12 @@ public final class WalEventConverter {
         return result;
     }
     
-    private void putColumnsIntoDataRecord(final DataRecord dataRecord, final PipelineTableMetaData tableMetaData, final List<Object> values) {
+    private void putColumnsIntoDataRecord(final DataRecord dataRecord, final PipelineTableMetaData tableMetaData, final List<Object> values, final Set<Integer> unchangedColumnIndexes, final Map<String, Object> oldKeys) {
         for (int i = 0, count = values.size(); i < count; i++) {
             boolean isUniqueKey = tableMetaData.isUniqueKey(i);
-            Object uniqueKeyOldValue = isUniqueKey ? values.get(i) : null;
-            Column column = new Column(tableMetaData.getColumnMetaData(i).getName(), uniqueKeyOldValue, values.get(i), true, isUniqueKey);
+            String columnName = tableMetaData.getColumnMetaData(i).getName();
+            Object uniqueKeyOldValue = isUniqueKey ? oldKeys.getOrDefault(columnName, values.get(i)) : null;
+            Column column = new Column(columnName, uniqueKeyOldValue, values.get(i), !unchangedColumnIndexes.contains(i), isUniqueKey);
             dataRecord.addColumn(column);
         }
     }
@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineTableMetaData;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputRelation.PgOutputColumn;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pgoutput plugin, decodes the binary logical replication protocol of PostgreSQL built-in {@code pgoutput}.
+ */
+@RequiredArgsConstructor
+public final class PgOutputPlugin implements DecodingPlugin {
+    
+    public static final String NAME = "pgoutput";
+    
+    private static final Object UNCHANGED_TOAST_VALUE = new Object();
+    
+    private final Map<Integer, PgOutputRelation> relations = new HashMap<>();
+    
+    private final BaseTimestampUtils timestampUtils;
+    
+    private final PipelineTableMetaDataLoader metaDataLoader;
+    
+    @Override
+    public AbstractWalEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
+        AbstractWalEvent result;
+        char messageType = (char) data.get();
+        switch (messageType) {
+            case 'R':
+                readRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'I':
+                result = readWriteRowEvent(data);
+                break;
+            case 'U':
+                result = readUpdateRowEvent(data);
+                break;
+            case 'D':
+                result = readDeleteRowEvent(data);
+                break;
+            default:
+                result = new PlaceholderEvent();
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int oid = data.getInt();
+        String schemaName = readCString(data);
+        String tableName = readCString(data);
+        char replicaIdentity = (char) data.get();
+        short columnCount = data.getShort();
+        List<PgOutputColumn> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            boolean key = 0 != (data.get() & 1);
+            String columnName = readCString(data);
+            int typeOid = data.getInt();
+            data.getInt();
+            columns.add(new PgOutputColumn(columnName, typeOid, key));
+        }
+        relations.put(oid, new PgOutputRelation(oid, schemaName, tableName, replicaIdentity, columns));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        readTupleType(data, 'N');
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTupleData(data, relation));
+        return setTableName(result, relation);
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        char tupleType = (char) data.get();
+        List<Object> oldRow = null;
+        Map<String, Object> oldKeys = Collections.emptyMap();
+        if ('K' == tupleType || 'O' == tupleType) {
+            List<Object> row = readTupleData(data, relation);
+            oldRow = 'O' == tupleType ? row : null;
+            oldKeys = getOldKeys(relation, row, 'O' == tupleType);
+            tupleType = (char) data.get();
+        }
+        if ('N' != tupleType) {
+            throw new IngestException("Unknown tuple type of update: " + tupleType);
+        }
+        List<Object> afterRow = readTupleData(data, relation);
+        Set<Integer> unchangedColumnIndexes = new HashSet<>();
+        for (int i = 0; i < afterRow.size(); i++) {
+            if (UNCHANGED_TOAST_VALUE != afterRow.get(i)) {
+                continue;
+            }
+            if (null == oldRow || UNCHANGED_TOAST_VALUE == oldRow.get(i)) {
+                afterRow.set(i, null);
+                unchangedColumnIndexes.add(i);
+            } else {
+                afterRow.set(i, oldRow.get(i));
+            }
+        }
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setAfterRow(afterRow);
+        if (!unchangedColumnIndexes.isEmpty()) {
+            result.setUnchangedColumnIndexes(unchangedColumnIndexes);
+        }
+        result.setOldKeys(oldKeys);
+        return setTableName(result, relation);
+    }
+    
+    private Map<String, Object> getOldKeys(final PgOutputRelation relation, final List<Object> oldRow, final boolean fullRow) {
+        Map<String, Object> result = new HashMap<>();
+        for (int i = 0; i < oldRow.size(); i++) {
+            PgOutputColumn column = relation.getColumns().get(i);
+            if ((fullRow || column.isKey()) && UNCHANGED_TOAST_VALUE != oldRow.get(i)) {
+                result.put(column.getName(), oldRow.get(i));
+            }
+        }
+        return result;
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        char tupleType = (char) data.get();
+        if ('K' != tupleType && 'O' != tupleType) {
+            throw new IngestException("Unknown tuple type of delete: " + tupleType);
+        }
+        List<Object> oldRow = readTupleData(data, relation);
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setPrimaryKeys(relation.isReplicaIdentityFull() ? getPrimaryKeys(relation, oldRow) : getKeys(relation, oldRow));
+        return setTableName(result, relation);
+    }
+    
+    private List<Object> getKeys(final PgOutputRelation relation, final List<Object> oldRow) {
+        List<Object> result = new ArrayList<>(oldRow.size());
+        for (int i = 0; i < oldRow.size(); i++) {
+            if (relation.getColumns().get(i).isKey()) {
+                result.add(oldRow.get(i));
+            }
+        }
+        return result;
+    }
+    
+    private List<Object> getPrimaryKeys(final PgOutputRelation relation, final List<Object> oldRow) {
+        PipelineTableMetaData tableMetaData = metaDataLoader.getTableMetaData(relation.getSchemaName(), relation.getTableName());
+        if (null == tableMetaData) {
+            return Collections.emptyList();
+        }
+        List<Object> result = new ArrayList<>(tableMetaData.getPrimaryKeyColumns().size());
+        for (String each : tableMetaData.getPrimaryKeyColumns()) {
+            result.add(oldRow.get(getColumnIndex(relation, each)));
+        }
+        return result;
+    }
+    
+    private int getColumnIndex(final PgOutputRelation relation, final String columnName) {
+        for (int i = 0; i < relation.getColumns().size(); i++) {
+            if (relation.getColumns().get(i).getName().equals(columnName)) {
+                return i;
+            }
+        }
+        throw new IngestException(String.format("Primary key column `%s` is not found in relation of table `%s`", columnName, relation.getTableName()));
+    }
+    
+    private PgOutputRelation getRelation(final int oid) {
+        PgOutputRelation result = relations.get(oid);
+        if (null == result) {
+            throw new IngestException("Unknown relation oid: " + oid);
+        }
+        return result;
+    }
+    
+    private void readTupleType(final ByteBuffer data, final char expectedTupleType) {
+        char tupleType = (char) data.get();
+        if (expectedTupleType != tupleType) {
+            throw new IngestException(String.format("Unexpected tuple type: %s, expected: %s", tupleType, expectedTupleType));
+        }
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final PgOutputRelation relation) {
+        short columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            char valueType = (char) data.get();
+            switch (valueType) {
+                case 'n':
+                    result.add(null);
+                    break;
+                case 'u':
+                    result.add(UNCHANGED_TOAST_VALUE);
+                    break;
+                case 't':
+                    byte[] value = new byte[data.getInt()];
+                    data.get(value);
+                    result.add(readColumnData(new String(value, StandardCharsets.UTF_8), relation.getColumns().get(i).getTypeOid()));
+                    break;
+                default:
+                    throw new IngestException("Unknown tuple value type: " + valueType);
+            }
+        }
+        return result;
+    }
+    
+    private Object readColumnData(final String value, final int typeOid) {
+        switch (typeOid) {
+            case 16:
+                return "t".equals(value);
+            case 17:
+                return decodeHex(value.substring(2));
+            case 20:
+                return Long.parseLong(value);
+            case 21:
+                return Short.parseShort(value);
+            case 23:
+                return Integer.parseInt(value);
+            case 700:
+                return Float.parseFloat(value);
+            case 701:
+                return Double.parseDouble(value);
+            case 1700:
+                return "NaN".equals(value) ? value : new BigDecimal(value);
+            case 1082:
+                return Date.valueOf(value);
+            case 1083:
+                try {
+                    return timestampUtils.toTime(null, value);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case 1114:
+            case 1184:
+                try {
+                    return timestampUtils.toTimestamp(null, value);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            default:
+                return value;
+        }
+    }
+    
+    private AbstractRowEvent setTableName(final AbstractRowEvent rowEvent, final PgOutputRelation relation) {
+        rowEvent.setDatabaseName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+        return rowEvent;
+    }
+    
+    private String readCString(final ByteBuffer data) {
+        int end = data.position();
+        while (0 != data.get(end)) {
+            end++;
+        }
+        byte[] result = new byte[end - data.position()];
+        data.get(result);
+        data.get();
+        return new String(result, StandardCharsets.UTF_8);
+    }
+    
+    private byte[] decodeHex(final String hexString) {
+        int dataLength = hexString.length();
+        if (0 != (dataLength & 1)) {
+            throw new IllegalArgumentException(String.format("Illegal hex data %s", hexString));
+        }
+        byte[] result = new byte[dataLength >>> 1];
+        for (int i = 0; i < dataLength; i += 2) {
+            int firstHexChar = Character.digit(hexString.charAt(i), 16);
+            int secondHexChar = Character.digit(hexString.charAt(i + 1), 16);
+            if (-1 == firstHexChar || -1 == secondHexChar) {
+                throw new IllegalArgumentException(String.format("Illegal hex byte '%s' in index %d", hexString, i));
+            }
+            result[i >>> 1] = (byte) ((firstHexChar << 4) + secondHexChar);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Relation of pgoutput, which describes the columns of a table appearing in subsequent row messages.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class PgOutputRelation {
+    
+    private final int oid;
+    
+    private final String schemaName;
+    
+    private final String tableName;
+    
+    private final char replicaIdentity;
+    
+    private final List<PgOutputColumn> columns;
+    
+    /**
+     * Judge whether the replica identity is full, all columns are flagged as key then.
+     *
+     * @return replica identity is full or not
+     */
+    public boolean isReplicaIdentityFull() {
+        return 'f' == replicaIdentity;
+    }
+    
+    /**
+     * Pgoutput relation column.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    public static final class PgOutputColumn {
+        
+        private final String name;
+        
+        private final int typeOid;
+        
+        private final boolean key;
+    }
+}
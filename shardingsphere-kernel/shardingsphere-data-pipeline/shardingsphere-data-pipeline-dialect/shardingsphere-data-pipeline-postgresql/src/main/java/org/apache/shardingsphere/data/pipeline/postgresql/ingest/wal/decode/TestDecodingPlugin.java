@@ -31,8 +31,10 @@ import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.sql.Date;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Test decoding plugin.
@@ -40,6 +42,8 @@ import java.util.List;
 @AllArgsConstructor
 public final class TestDecodingPlugin implements DecodingPlugin {
     
+    public static final String NAME = "test_decoding";
+    
     private final BaseTimestampUtils timestampUtils;
     
     @Override
@@ -94,6 +98,9 @@ public final class TestDecodingPlugin implements DecodingPlugin {
     
     private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
         UpdateRowEvent result = new UpdateRowEvent();
+        if (skipSegment(data, "old-key:")) {
+            result.setOldKeys(readOldKeys(data));
+        }
         List<Object> afterColumns = new LinkedList<>();
         while (data.hasRemaining()) {
             afterColumns.add(readColumn(data));
@@ -102,6 +109,26 @@ public final class TestDecodingPlugin implements DecodingPlugin {
         return result;
     }
     
+    private Map<String, Object> readOldKeys(final ByteBuffer data) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        while (data.hasRemaining() && !skipSegment(data, "new-tuple:")) {
+            String columnName = readColumnName(data);
+            String columnType = readColumnType(data);
+            data.get();
+            result.put(columnName, readColumnData(data, columnType));
+        }
+        return result;
+    }
+    
+    private boolean skipSegment(final ByteBuffer data, final String expectedSegment) {
+        data.mark();
+        if (expectedSegment.equals(readNextSegment(data))) {
+            return true;
+        }
+        data.reset();
+        return false;
+    }
+    
     private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
         DeleteRowEvent result = new DeleteRowEvent();
         List<Object> afterColumns = new LinkedList<>();
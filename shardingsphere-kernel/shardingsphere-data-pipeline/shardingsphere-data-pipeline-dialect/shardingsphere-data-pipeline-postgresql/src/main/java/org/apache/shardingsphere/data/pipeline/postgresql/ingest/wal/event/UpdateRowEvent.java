@@ -21,7 +21,10 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Update row event.
@@ -32,4 +35,8 @@ import java.util.List;
 public final class UpdateRowEvent extends AbstractRowEvent {
     
     private List<Object> afterRow;
+    
+    private Set<Integer> unchangedColumnIndexes = Collections.emptySet();
+    
+    private Map<String, Object> oldKeys = Collections.emptyMap();
 }
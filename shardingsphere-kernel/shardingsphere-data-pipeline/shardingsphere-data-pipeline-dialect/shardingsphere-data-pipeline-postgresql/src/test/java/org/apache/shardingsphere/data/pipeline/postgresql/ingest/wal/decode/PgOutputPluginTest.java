@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineTableMetaData;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PgOutputPluginTest {
+    
+    private final PostgreSQLLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf("0/14EFDB8"));
+    
+    private final PipelineTableMetaDataLoader metaDataLoader = mock(PipelineTableMetaDataLoader.class);
+    
+    private PgOutputPlugin plugin;
+    
+    @Before
+    public void setUp() throws IOException {
+        plugin = new PgOutputPlugin(null, metaDataLoader);
+        assertThat(plugin.decode(createRelationMessage(16384, "t_order", 'd'), logSequenceNumber), instanceOf(PlaceholderEvent.class));
+        assertThat(plugin.decode(createRelationMessage(16385, "t_order_full", 'f'), logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEvent() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('I');
+        out.writeInt(16384);
+        out.writeByte('N');
+        writeTupleData(out, "1", "t", "1.50", null);
+        WriteRowEvent actual = (WriteRowEvent) plugin.decode(ByteBuffer.wrap(bytes.toByteArray()), logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getDatabaseName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(0), is(1L));
+        assertThat(actual.getAfterRow().get(1), is(true));
+        assertThat(actual.getAfterRow().get(2), is(new BigDecimal("1.50")));
+        assertThat(actual.getAfterRow().get(3), nullValue());
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastValue() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('U');
+        out.writeInt(16384);
+        out.writeByte('O');
+        writeTupleData(out, "1", "t", "1.50", "old");
+        out.writeByte('N');
+        out.writeShort(4);
+        writeTextValue(out, "1");
+        writeTextValue(out, "f");
+        writeTextValue(out, "2");
+        out.writeByte('u');
+        UpdateRowEvent actual = (UpdateRowEvent) plugin.decode(ByteBuffer.wrap(bytes.toByteArray()), logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(1), is(false));
+        assertThat(actual.getAfterRow().get(2), is(new BigDecimal("2")));
+        assertThat(actual.getAfterRow().get(3), is("old"));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastValueAndKeyTuple() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('U');
+        out.writeInt(16384);
+        out.writeByte('K');
+        writeTupleData(out, "1", null, null, null);
+        out.writeByte('N');
+        out.writeShort(4);
+        writeTextValue(out, "2");
+        writeTextValue(out, "f");
+        writeTextValue(out, "2");
+        out.writeByte('u');
+        UpdateRowEvent actual = (UpdateRowEvent) plugin.decode(ByteBuffer.wrap(bytes.toByteArray()), logSequenceNumber);
+        assertThat(actual.getAfterRow().get(0), is(2L));
+        assertThat(actual.getAfterRow().get(3), nullValue());
+        assertThat(actual.getUnchangedColumnIndexes(), is(Collections.singleton(3)));
+        assertThat(actual.getOldKeys(), is(Collections.singletonMap("order_id", 1L)));
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEvent() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('D');
+        out.writeInt(16384);
+        out.writeByte('K');
+        writeTupleData(out, "1", null, null, null);
+        DeleteRowEvent actual = (DeleteRowEvent) plugin.decode(ByteBuffer.wrap(bytes.toByteArray()), logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getPrimaryKeys().size(), is(1));
+        assertThat(actual.getPrimaryKeys().get(0), is(1L));
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEventWithReplicaIdentityFull() throws IOException {
+        PipelineTableMetaData tableMetaData = mock(PipelineTableMetaData.class);
+        when(tableMetaData.getPrimaryKeyColumns()).thenReturn(Collections.singletonList("order_id"));
+        when(metaDataLoader.getTableMetaData("public", "t_order_full")).thenReturn(tableMetaData);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('D');
+        out.writeInt(16385);
+        out.writeByte('O');
+        writeTupleData(out, "1", "t", "1.50", "old");
+        DeleteRowEvent actual = (DeleteRowEvent) plugin.decode(ByteBuffer.wrap(bytes.toByteArray()), logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order_full"));
+        assertThat(actual.getPrimaryKeys().size(), is(1));
+        assertThat(actual.getPrimaryKeys().get(0), is(1L));
+    }
+    
+    @Test
+    public void assertDecodeCommit() {
+        ByteBuffer data = ByteBuffer.allocate(26);
+        data.put((byte) 'C');
+        data.flip();
+        assertThat(plugin.decode(data, logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test(expected = IngestException.class)
+    public void assertDecodeUnknownRelation() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('I');
+        out.writeInt(1);
+        out.writeByte('N');
+        plugin.decode(ByteBuffer.wrap(bytes.toByteArray()), logSequenceNumber);
+    }
+    
+    private ByteBuffer createRelationMessage(final int oid, final String tableName, final char replicaIdentity) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('R');
+        out.writeInt(oid);
+        writeCString(out, "public");
+        writeCString(out, tableName);
+        out.writeByte(replicaIdentity);
+        out.writeShort(4);
+        boolean replicaIdentityFull = 'f' == replicaIdentity;
+        writeColumn(out, true, "order_id", 20);
+        writeColumn(out, replicaIdentityFull, "paid", 16);
+        writeColumn(out, replicaIdentityFull, "amount", 1700);
+        writeColumn(out, replicaIdentityFull, "remark", 25);
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+    
+    private void writeColumn(final DataOutputStream out, final boolean key, final String name, final int typeOid) throws IOException {
+        out.writeByte(key ? 1 : 0);
+        writeCString(out, name);
+        out.writeInt(typeOid);
+        out.writeInt(-1);
+    }
+    
+    private void writeCString(final DataOutputStream out, final String value) throws IOException {
+        out.write(value.getBytes(StandardCharsets.UTF_8));
+        out.writeByte(0);
+    }
+    
+    private void writeTupleData(final DataOutputStream out, final String... values) throws IOException {
+        out.writeShort(values.length);
+        for (String each : values) {
+            if (null == each) {
+                out.writeByte('n');
+            } else {
+                writeTextValue(out, each);
+            }
+        }
+    }
+    
+    private void writeTextValue(final DataOutputStream out, final String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeByte('t');
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -60,6 +60,17 @@ public final class TestDecodingPluginTest {
         assertThat(actual.getAfterRow().get(0), is("1 2 3'"));
     }
     
+    @Test
+    public void assertDecodeUpdateRowEventWithOldKey() {
+        ByteBuffer data = ByteBuffer.wrap("table public.test: UPDATE: old-key: id[integer]:1 new-tuple: id[integer]:2 data[character varying]:'1 2 3'''".getBytes());
+        UpdateRowEvent actual = (UpdateRowEvent) new TestDecodingPlugin(null).decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("test"));
+        assertThat(actual.getOldKeys().get("id"), is(1));
+        assertThat(actual.getAfterRow().size(), is(2));
+        assertThat(actual.getAfterRow().get(0), is(2));
+        assertThat(actual.getAfterRow().get(1), is("1 2 3'"));
+    }
+    
     @Test
     public void assertDecodeDeleteRowEvent() {
         ByteBuffer data = ByteBuffer.wrap("table public.test: DELETE: data[integer]:1".getBytes());
@@ -17,17 +17,15 @@
 
 package org.apache.shardingsphere.traffic.algorithm.traffic.segment;
 
-import com.google.common.base.CharMatcher;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import lombok.Getter;
-import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficAlgorithm;
 import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficValue;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Properties;
-import java.util.TreeSet;
 
 /**
  * SQL match traffic algorithm.
@@ -41,6 +39,7 @@ public final class SQLMatchTrafficAlgorithm implements SegmentTrafficAlgorithm {
     @Getter
     private Properties props;
     
+    @Getter
     private Collection<String> sql;
     
     @Override
@@ -52,16 +51,37 @@ public final class SQLMatchTrafficAlgorithm implements SegmentTrafficAlgorithm {
     
     private Collection<String> getExactlySQL(final String value) {
         Collection<String> values = Splitter.on(";").trimResults().omitEmptyStrings().splitToList(value);
-        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        Collection<String> result = new HashSet<>(values.size(), 1);
         for (String each : values) {
-            result.add(CharMatcher.anyOf(EXCLUDED_CHARACTERS).removeFrom(each));
+            result.add(normalizeSQL(each));
         }
         return result;
     }
     
     @Override
     public boolean match(final SegmentTrafficValue segmentTrafficValue) {
-        return sql.contains(SQLUtil.trimSemicolon(CharMatcher.anyOf(EXCLUDED_CHARACTERS).removeFrom(segmentTrafficValue.getSql())));
+        return sql.contains(normalizeSQL(segmentTrafficValue.getSql()));
+    }
+    
+    /**
+     * Normalize SQL for exactly match, excluded characters and last semicolon are removed and case is folded in one pass.
+     *
+     * @param sql SQL to be normalized
+     * @return normalized SQL
+     */
+    public static String normalizeSQL(final String sql) {
+        StringBuilder result = new StringBuilder(sql.length());
+        for (int i = 0; i < sql.length(); i++) {
+            char each = sql.charAt(i);
+            if (EXCLUDED_CHARACTERS.indexOf(each) < 0) {
+                result.append(Character.toLowerCase(Character.toUpperCase(each)));
+            }
+        }
+        int lastIndex = result.length() - 1;
+        if (lastIndex >= 0 && ';' == result.charAt(lastIndex)) {
+            result.setLength(lastIndex);
+        }
+        return result.toString();
     }
     
     @Override
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.traffic.rule;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.traffic.algorithm.traffic.segment.SQLMatchTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficValue;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Segment traffic strategy matcher.
+ * 
+ * <p>SQL match strategies are compiled into one exact SQL index, other segment strategies are only evaluated when declared before the exactly matched one.
+ * Matched strategy is memoized by SQL, because segment traffic only depends on SQL and the statement parsed from it.</p>
+ */
+public final class SegmentTrafficStrategyMatcher {
+    
+    private static final int NOT_MATCHED = -1;
+    
+    private static final long MAX_CACHED_SQL_SIZE = 2000L;
+    
+    private final List<TrafficStrategyRule> strategyRules;
+    
+    private final Map<String, Integer> exactlySQLIndexes;
+    
+    private final Cache<String, Integer> matchedIndexes = Caffeine.newBuilder().maximumSize(MAX_CACHED_SQL_SIZE).build();
+    
+    public SegmentTrafficStrategyMatcher(final Collection<TrafficStrategyRule> strategyRules) {
+        this.strategyRules = strategyRules.stream().filter(each -> each.getTrafficAlgorithm() instanceof SegmentTrafficAlgorithm).collect(Collectors.toList());
+        exactlySQLIndexes = createExactlySQLIndexes(this.strategyRules);
+    }
+    
+    private Map<String, Integer> createExactlySQLIndexes(final List<TrafficStrategyRule> strategyRules) {
+        Map<String, Integer> result = new HashMap<>();
+        for (int i = 0; i < strategyRules.size(); i++) {
+            if (strategyRules.get(i).getTrafficAlgorithm() instanceof SQLMatchTrafficAlgorithm) {
+                for (String each : ((SQLMatchTrafficAlgorithm) strategyRules.get(i).getTrafficAlgorithm()).getSql()) {
+                    result.putIfAbsent(each, i);
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Find matched segment strategy rule.
+     * 
+     * @param sql SQL
+     * @param sqlStatement SQL statement
+     * @return matched segment strategy rule
+     */
+    public Optional<TrafficStrategyRule> findMatchedStrategyRule(final String sql, final SQLStatement sqlStatement) {
+        if (strategyRules.isEmpty()) {
+            return Optional.empty();
+        }
+        int index = null == sql ? findMatchedIndex(null, sqlStatement) : matchedIndexes.get(sql, key -> findMatchedIndex(key, sqlStatement));
+        return NOT_MATCHED == index ? Optional.empty() : Optional.of(strategyRules.get(index));
+    }
+    
+    private int findMatchedIndex(final String sql, final SQLStatement sqlStatement) {
+        int exactlyMatchedIndex = null == sql || exactlySQLIndexes.isEmpty() ? NOT_MATCHED : exactlySQLIndexes.getOrDefault(SQLMatchTrafficAlgorithm.normalizeSQL(sql), NOT_MATCHED);
+        int bound = NOT_MATCHED == exactlyMatchedIndex ? strategyRules.size() : exactlyMatchedIndex;
+        SegmentTrafficValue segmentTrafficValue = new SegmentTrafficValue(sqlStatement, sql);
+        for (int i = 0; i < bound; i++) {
+            SegmentTrafficAlgorithm trafficAlgorithm = (SegmentTrafficAlgorithm) strategyRules.get(i).getTrafficAlgorithm();
+            if (!(trafficAlgorithm instanceof SQLMatchTrafficAlgorithm) && trafficAlgorithm.match(segmentTrafficValue)) {
+                return i;
+            }
+        }
+        return exactlyMatchedIndex;
+    }
+}
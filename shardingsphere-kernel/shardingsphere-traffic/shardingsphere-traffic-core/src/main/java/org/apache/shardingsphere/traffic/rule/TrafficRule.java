@@ -18,20 +18,19 @@
 package org.apache.shardingsphere.traffic.rule;
 
 import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
 import org.apache.shardingsphere.infra.hint.SQLHintProperties;
 import org.apache.shardingsphere.infra.rule.identifier.scope.GlobalRule;
-import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.traffic.api.config.TrafficRuleConfiguration;
 import org.apache.shardingsphere.traffic.api.config.TrafficStrategyConfiguration;
 import org.apache.shardingsphere.traffic.api.traffic.hint.HintTrafficAlgorithm;
 import org.apache.shardingsphere.traffic.api.traffic.hint.HintTrafficValue;
 import org.apache.shardingsphere.traffic.api.traffic.identifier.SimplifiedTrafficAlgorithm;
 import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficAlgorithm;
-import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficValue;
 import org.apache.shardingsphere.traffic.api.traffic.transaction.TransactionTrafficAlgorithm;
 import org.apache.shardingsphere.traffic.api.traffic.transaction.TransactionTrafficValue;
 import org.apache.shardingsphere.traffic.factory.TrafficAlgorithmFactory;
@@ -58,10 +57,14 @@ public final class TrafficRule implements GlobalRule {
     
     private final Collection<TrafficStrategyRule> strategyRules;
     
+    @Getter(AccessLevel.NONE)
+    private final SegmentTrafficStrategyMatcher segmentTrafficStrategyMatcher;
+    
     public TrafficRule(final TrafficRuleConfiguration config) {
         Map<String, TrafficAlgorithm> trafficAlgorithms = createTrafficAlgorithms(config.getTrafficAlgorithms());
         Map<String, TrafficLoadBalanceAlgorithm> loadBalancers = createTrafficLoadBalanceAlgorithms(config.getLoadBalancers());
         strategyRules = createTrafficStrategyRules(config.getTrafficStrategies(), trafficAlgorithms, loadBalancers);
+        segmentTrafficStrategyMatcher = new SegmentTrafficStrategyMatcher(strategyRules);
     }
     
     private Map<String, TrafficAlgorithm> createTrafficAlgorithms(final Map<String, ShardingSphereAlgorithmConfiguration> trafficAlgorithms) {
@@ -121,8 +124,18 @@ public final class TrafficRule implements GlobalRule {
      * @return matched strategy rule
      */
     public Optional<TrafficStrategyRule> findMatchedStrategyRule(final LogicSQL logicSQL, final boolean inTransaction) {
+        Optional<TrafficStrategyRule> segmentStrategyRule = Optional.empty();
+        boolean segmentEvaluated = false;
         for (TrafficStrategyRule each : strategyRules) {
-            if (match(each.getTrafficAlgorithm(), logicSQL, inTransaction)) {
+            if (each.getTrafficAlgorithm() instanceof SegmentTrafficAlgorithm) {
+                if (!segmentEvaluated) {
+                    segmentStrategyRule = segmentTrafficStrategyMatcher.findMatchedStrategyRule(logicSQL.getSql(), logicSQL.getSqlStatementContext().getSqlStatement());
+                    segmentEvaluated = true;
+                }
+                if (segmentStrategyRule.isPresent() && each == segmentStrategyRule.get()) {
+                    return segmentStrategyRule;
+                }
+            } else if (match(each.getTrafficAlgorithm(), logicSQL, inTransaction)) {
                 return Optional.of(each);
             }
         }
@@ -146,10 +159,6 @@ public final class TrafficRule implements GlobalRule {
                     : new SQLHintProperties(new Properties());
             return matchHintTraffic((HintTrafficAlgorithm) trafficAlgorithm, sqlHintProps);
         }
-        if (trafficAlgorithm instanceof SegmentTrafficAlgorithm) {
-            SQLStatement sqlStatement = logicSQL.getSqlStatementContext().getSqlStatement();
-            return matchSegmentTraffic((SegmentTrafficAlgorithm) trafficAlgorithm, logicSQL.getSql(), sqlStatement);
-        }
         return false;
     }
     
@@ -158,11 +167,6 @@ public final class TrafficRule implements GlobalRule {
         return trafficAlgorithm.match(hintTrafficValue);
     }
     
-    private boolean matchSegmentTraffic(final SegmentTrafficAlgorithm trafficAlgorithm, final String sql, final SQLStatement sqlStatement) {
-        SegmentTrafficValue segmentTrafficValue = new SegmentTrafficValue(sqlStatement, sql);
-        return trafficAlgorithm.match(segmentTrafficValue);
-    }
-    
     private boolean matchTransactionTraffic(final TransactionTrafficAlgorithm trafficAlgorithm, final boolean inTransaction) {
         TransactionTrafficValue transactionTrafficValue = new TransactionTrafficValue(inTransaction);
         return trafficAlgorithm.match(transactionTrafficValue);
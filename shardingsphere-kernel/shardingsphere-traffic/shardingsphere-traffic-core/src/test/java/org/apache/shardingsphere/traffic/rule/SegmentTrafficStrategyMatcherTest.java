@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.traffic.rule;
+
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficValue;
+import org.apache.shardingsphere.traffic.factory.TrafficAlgorithmFactory;
+import org.apache.shardingsphere.traffic.spi.TrafficAlgorithm;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SegmentTrafficStrategyMatcherTest {
+    
+    @Test
+    public void assertFindMatchedStrategyRuleByExactlySQLIndex() {
+        SegmentTrafficAlgorithm customAlgorithm = mock(SegmentTrafficAlgorithm.class);
+        SegmentTrafficStrategyMatcher matcher = new SegmentTrafficStrategyMatcher(Arrays.asList(
+                createStrategyRule("sql_match_traffic", createTrafficAlgorithm("SQL_MATCH", "sql", "SELECT * FROM t_order")), createStrategyRule("custom_traffic", customAlgorithm)));
+        Optional<TrafficStrategyRule> actual = matcher.findMatchedStrategyRule("select *  from `t_order`;", mock(SQLStatement.class));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getName(), is("sql_match_traffic"));
+        verify(customAlgorithm, never()).match(any(SegmentTrafficValue.class));
+    }
+    
+    @Test
+    public void assertFindMatchedStrategyRuleInDeclaredOrder() {
+        SegmentTrafficStrategyMatcher matcher = new SegmentTrafficStrategyMatcher(Arrays.asList(createStrategyRule("sql_regex_traffic", createTrafficAlgorithm("SQL_REGEX", "regex", "(?i)select .*")),
+                createStrategyRule("sql_match_traffic", createTrafficAlgorithm("SQL_MATCH", "sql", "SELECT * FROM t_order"))));
+        Optional<TrafficStrategyRule> actual = matcher.findMatchedStrategyRule("SELECT * FROM t_order", mock(SQLStatement.class));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getName(), is("sql_regex_traffic"));
+        assertFalse(matcher.findMatchedStrategyRule("UPDATE t_order SET status = ?", mock(SQLStatement.class)).isPresent());
+    }
+    
+    @Test
+    public void assertFindMatchedStrategyRuleMemoizedBySQL() {
+        SegmentTrafficAlgorithm customAlgorithm = mock(SegmentTrafficAlgorithm.class);
+        when(customAlgorithm.match(any(SegmentTrafficValue.class))).thenReturn(true);
+        SegmentTrafficStrategyMatcher matcher = new SegmentTrafficStrategyMatcher(Collections.singletonList(createStrategyRule("custom_traffic", customAlgorithm)));
+        assertTrue(matcher.findMatchedStrategyRule("SELECT * FROM t_order", mock(SQLStatement.class)).isPresent());
+        assertTrue(matcher.findMatchedStrategyRule("SELECT * FROM t_order", mock(SQLStatement.class)).isPresent());
+        verify(customAlgorithm, times(1)).match(any(SegmentTrafficValue.class));
+    }
+    
+    private TrafficStrategyRule createStrategyRule(final String name, final TrafficAlgorithm trafficAlgorithm) {
+        return new TrafficStrategyRule(name, Collections.singleton("OLTP"), trafficAlgorithm, null);
+    }
+    
+    private TrafficAlgorithm createTrafficAlgorithm(final String type, final String key, final String value) {
+        Properties props = new Properties();
+        props.setProperty(key, value);
+        return TrafficAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration(type, props));
+    }
+}
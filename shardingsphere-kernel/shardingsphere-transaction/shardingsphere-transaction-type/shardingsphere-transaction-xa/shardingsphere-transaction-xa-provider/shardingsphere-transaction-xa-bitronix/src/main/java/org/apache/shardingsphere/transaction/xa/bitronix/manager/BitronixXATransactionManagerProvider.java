@@ -40,6 +40,9 @@ public final class BitronixXATransactionManagerProvider implements XATransaction
     
     @Override
     public void init() {
+        if (!TransactionManagerServices.isTransactionManagerRunning()) {
+            TransactionManagerServices.getConfiguration().setAsynchronous2Pc(true);
+        }
         transactionManager = TransactionManagerServices.getTransactionManager();
     }
     
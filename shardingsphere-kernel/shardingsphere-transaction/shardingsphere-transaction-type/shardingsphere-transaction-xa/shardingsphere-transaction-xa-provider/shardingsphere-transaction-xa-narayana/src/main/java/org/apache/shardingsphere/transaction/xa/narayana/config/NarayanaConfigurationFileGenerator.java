@@ -66,6 +66,7 @@ public final class NarayanaConfigurationFileGenerator implements TransactionConf
     private NarayanaConfiguration createDefaultConfiguration(final String instanceId, final String recoveryId) {
         NarayanaConfiguration result = new NarayanaConfiguration();
         result.getEntries().add(createEntry("CoordinatorEnvironmentBean.commitOnePhase", "YES"));
+        result.getEntries().add(createEntry("CoordinatorEnvironmentBean.asyncPrepare", "YES"));
         result.getEntries().add(createEntry("ObjectStoreEnvironmentBean.transactionSync", "NO"));
         result.getEntries().add(createEntry("CoreEnvironmentBean.nodeIdentifier", instanceId));
         result.getEntries().add(createEntry("JTAEnvironmentBean.xaRecoveryNodes", recoveryId));
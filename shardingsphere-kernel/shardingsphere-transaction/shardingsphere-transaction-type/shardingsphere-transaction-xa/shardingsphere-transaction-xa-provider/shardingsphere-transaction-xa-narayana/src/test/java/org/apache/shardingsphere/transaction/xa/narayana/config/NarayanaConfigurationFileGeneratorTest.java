@@ -45,6 +45,7 @@ import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
@@ -86,8 +87,10 @@ public final class NarayanaConfigurationFileGeneratorTest {
         Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
         InputStream inputStream = new FileInputStream(new File(ClassLoader.getSystemResource("").getPath(), "jbossts-properties.xml"));
         NarayanaConfiguration narayanaConfig = (NarayanaConfiguration) unmarshaller.unmarshal(inputStream);
-        assertThat(narayanaConfig.getEntries().size(), is(27));
+        assertThat(narayanaConfig.getEntries().size(), is(28));
         assertCommitOnePhase(narayanaConfig);
+        assertAsyncPrepare(narayanaConfig);
+        assertSynchronousCommitAndRollback(narayanaConfig);
         assertTransactionSync(narayanaConfig);
         assertNodeIdentifier(narayanaConfig);
         assertXaRecoveryNodes(narayanaConfig);
@@ -120,6 +123,18 @@ public final class NarayanaConfigurationFileGeneratorTest {
         assertTrue(entry.get().getValue().contains("YES"));
     }
     
+    private void assertAsyncPrepare(final NarayanaConfiguration narayanaConfig) {
+        Optional<NarayanaConfigEntry> entry = narayanaConfig.getEntries().stream().filter(each -> "CoordinatorEnvironmentBean.asyncPrepare".equals(each.getKey())).findFirst();
+        assertTrue(entry.isPresent());
+        assertThat(entry.get().getValue().size(), is(1));
+        assertTrue(entry.get().getValue().contains("YES"));
+    }
+    
+    private void assertSynchronousCommitAndRollback(final NarayanaConfiguration narayanaConfig) {
+        assertFalse(narayanaConfig.getEntries().stream().anyMatch(each -> "CoordinatorEnvironmentBean.asyncCommit".equals(each.getKey())));
+        assertFalse(narayanaConfig.getEntries().stream().anyMatch(each -> "CoordinatorEnvironmentBean.asyncRollback".equals(each.getKey())));
+    }
+    
     private void assertTransactionSync(final NarayanaConfiguration narayanaConfig) {
         Optional<NarayanaConfigEntry> entry = narayanaConfig.getEntries().stream().filter(each -> "ObjectStoreEnvironmentBean.transactionSync".equals(each.getKey())).findFirst();
         assertTrue(entry.isPresent());
@@ -32,6 +32,8 @@ import org.apache.shardingsphere.infra.datasource.props.DataSourcePropertiesCrea
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContextFactory;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationDatabaseMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
@@ -43,6 +45,9 @@ import org.apache.shardingsphere.infra.metadata.schema.builder.TableMetaDataBuil
 import org.apache.shardingsphere.infra.metadata.schema.loader.SchemaLoader;
 import org.apache.shardingsphere.infra.metadata.schema.model.SchemaMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableStatistics;
+import org.apache.shardingsphere.infra.metadata.schema.statistics.TableStatisticsLoaderEngine;
+import org.apache.shardingsphere.infra.metrics.KernelMetricsRegistry;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
 import org.apache.shardingsphere.infra.rule.builder.schema.DatabaseRulesBuilder;
@@ -64,6 +69,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -92,6 +98,8 @@ public final class ContextManager implements AutoCloseable {
         this.transactionContexts = transactionContexts;
         this.instanceContext = instanceContext;
         executorEngine = ExecutorEngine.createExecutorEngineWithSize(metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        KernelMetricsRegistry.getInstance().setEnabled(metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_METRICS_ENABLED));
+        registerLazyLoadedTableListeners(metaDataContexts);
     }
     
     /**
@@ -100,7 +108,23 @@ public final class ContextManager implements AutoCloseable {
      * @param metaDataContexts meta data contexts
      */
     public synchronized void renewMetaDataContexts(final MetaDataContexts metaDataContexts) {
+        MetaDataContexts staleMetaDataContexts = this.metaDataContexts;
         this.metaDataContexts = metaDataContexts;
+        registerLazyLoadedTableListeners(metaDataContexts);
+        closeStaleRules(getRules(staleMetaDataContexts.getDatabaseMap().values()), getRules(metaDataContexts.getDatabaseMap().values()));
+    }
+    
+    private void registerLazyLoadedTableListeners(final MetaDataContexts metaDataContexts) {
+        metaDataContexts.getDatabaseMap().forEach((databaseName, database) -> database.getSchemas().forEach(
+            (schemaName, schema) -> schema.setLazyLoadedTableListener(tableMetaData -> putFederationTableMetaData(databaseName, schemaName, tableMetaData))));
+    }
+    
+    private void putFederationTableMetaData(final String databaseName, final String schemaName, final TableMetaData tableMetaData) {
+        FederationDatabaseMetaData federationDatabaseMetaData = metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases().get(databaseName);
+        if (null != federationDatabaseMetaData) {
+            federationDatabaseMetaData.putTableMetadata(schemaName, tableMetaData);
+            metaDataContexts.getOptimizerContext().getPlannerContexts().put(databaseName, OptimizerPlannerContextFactory.create(federationDatabaseMetaData));
+        }
     }
     
     /**
@@ -176,11 +200,23 @@ public final class ContextManager implements AutoCloseable {
         Map<String, ShardingSphereDatabase> alteredMetaDataMap = new HashMap<>(metaDataContexts.getDatabaseMap());
         alteredMetaDataMap.put(databaseName, alteredMetaData);
         FederationDatabaseMetaData alteredDatabaseMetaData = new FederationDatabaseMetaData(databaseName, schemas);
+        Optional.ofNullable(metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases().get(databaseName))
+                .ifPresent(optional -> copyTableStatistics(optional, alteredDatabaseMetaData));
         metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases().put(databaseName, alteredDatabaseMetaData);
         metaDataContexts.getOptimizerContext().getPlannerContexts().put(databaseName, OptimizerPlannerContextFactory.create(alteredDatabaseMetaData));
         renewMetaDataContexts(rebuildMetaDataContexts(alteredMetaDataMap));
     }
     
+    private void copyTableStatistics(final FederationDatabaseMetaData originalDatabaseMetaData, final FederationDatabaseMetaData alteredDatabaseMetaData) {
+        for (FederationSchemaMetaData each : originalDatabaseMetaData.getSchemas().values()) {
+            for (FederationTableMetaData tableMetaData : each.getTables().values()) {
+                if (null != tableMetaData.getStatistics()) {
+                    alteredDatabaseMetaData.putTableStatistics(each.getName(), tableMetaData.getStatistics());
+                }
+            }
+        }
+    }
+    
     /**
      * Alter schema.
      *
@@ -224,8 +260,10 @@ public final class ContextManager implements AutoCloseable {
     private void refreshRules(final String databaseName, final ShardingSphereDatabase database) {
         Collection<ShardingSphereRule> databaseRules = DatabaseRulesBuilder.build(databaseName, new DataSourceProvidedDatabaseConfiguration(database.getResource().getDataSources(),
                 database.getRuleMetaData().getConfigurations()), new ConfigurationProperties(metaDataContexts.getProps().getProps()));
+        Collection<ShardingSphereRule> staleRules = new LinkedList<>(database.getRuleMetaData().getRules());
         database.getRuleMetaData().getRules().clear();
         database.getRuleMetaData().getRules().addAll(databaseRules);
+        closeStaleRules(staleRules, databaseRules);
     }
     
     private void deleteTable(final String databaseName, final String schemaName, final String deletedTable) {
@@ -253,7 +291,9 @@ public final class ContextManager implements AutoCloseable {
             metaDataContexts.getOptimizerContext().getParserContexts().remove(databaseName);
             metaDataContexts.getOptimizerContext().getPlannerContexts().remove(databaseName);
             ShardingSphereDatabase removeMetaData = metaDataContexts.getDatabaseMap().remove(databaseName);
+            closeStaleRules(getRules(Collections.singletonList(removeMetaData)), Collections.emptyList());
             closeDataSources(removeMetaData);
+            KernelMetricsRegistry.getInstance().removeDatabase(databaseName);
             removeAndCloseTransactionEngine(databaseName);
             metaDataContexts.getPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().deleteDatabase(databaseName));
         }
@@ -307,6 +347,7 @@ public final class ContextManager implements AutoCloseable {
      */
     public void dropResource(final String databaseName, final Collection<String> toBeDroppedResourceNames) {
         toBeDroppedResourceNames.forEach(metaDataContexts.getDatabaseMetaData(databaseName).getResource().getDataSources()::remove);
+        KernelMetricsRegistry.getInstance().removeDataSources(databaseName, toBeDroppedResourceNames);
         metaDataContexts.getPersistService().ifPresent(optional -> optional.getDataSourceService().drop(databaseName, toBeDroppedResourceNames));
     }
     
@@ -389,6 +430,22 @@ public final class ContextManager implements AutoCloseable {
      */
     public void alterProperties(final Properties props) {
         renewMetaDataContexts(rebuildMetaDataContexts(new ConfigurationProperties(props)));
+        KernelMetricsRegistry.getInstance().setEnabled(metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_METRICS_ENABLED));
+    }
+    
+    /**
+     * Reload meta data of all schemas.
+     *
+     * @param databaseName database name to be reloaded
+     */
+    public void reloadMetaData(final String databaseName) {
+        try {
+            Map<String, ShardingSphereSchema> schemas = loadActualSchema(databaseName);
+            alterSchemas(databaseName, schemas);
+            schemas.forEach((schemaName, schema) -> metaDataContexts.getPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persistTables(databaseName, schemaName, schema)));
+        } catch (final SQLException ex) {
+            log.error("Reload database:{} meta data failed", databaseName, ex);
+        }
     }
     
     /**
@@ -447,6 +504,42 @@ public final class ContextManager implements AutoCloseable {
         }
     }
     
+    /**
+     * Reload table statistics.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableNames logic table names, all tables of schema will be reloaded if empty
+     */
+    public void reloadTableStatistics(final String databaseName, final String schemaName, final Collection<String> tableNames) {
+        ShardingSphereDatabase database = metaDataContexts.getDatabaseMetaData(databaseName);
+        Collection<String> toBeReloadedTableNames = tableNames.isEmpty() ? database.getSchemas().get(schemaName).getAllTableNames() : tableNames;
+        try {
+            Map<String, TableStatistics> tableStatistics = TableStatisticsLoaderEngine.load(toBeReloadedTableNames,
+                    database.getResource().getDatabaseType(), database.getResource().getDataSources(), database.getRuleMetaData().getRules());
+            for (TableStatistics each : tableStatistics.values()) {
+                alterTableStatistics(databaseName, schemaName, each);
+                metaDataContexts.getPersistService().ifPresent(optional -> optional.getTableStatisticsService().persist(databaseName, schemaName, each));
+            }
+        } catch (final SQLException ex) {
+            log.error("Reload table statistics of database:{} schema:{} failed", databaseName, schemaName, ex);
+        }
+    }
+    
+    /**
+     * Alter table statistics.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableStatistics table statistics
+     */
+    public void alterTableStatistics(final String databaseName, final String schemaName, final TableStatistics tableStatistics) {
+        FederationDatabaseMetaData federationDatabaseMetaData = metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases().get(databaseName);
+        if (null != federationDatabaseMetaData) {
+            federationDatabaseMetaData.putTableStatistics(schemaName, tableStatistics);
+        }
+    }
+    
     private void loadTableMetaData(final String databaseName, final String schemaName, final String tableName, final SchemaBuilderMaterials materials) throws SQLException {
         SchemaMetaData schemaMetaData = TableMetaDataBuilder.load(Collections.singletonList(tableName), materials).getOrDefault(schemaName, new SchemaMetaData("", Collections.emptyMap()));
         if (schemaMetaData.getTables().containsKey(tableName)) {
@@ -512,8 +605,10 @@ public final class ContextManager implements AutoCloseable {
     }
     
     private void refreshMetaDataContext(final String databaseName, final Map<String, DataSourceProperties> dataSourceProps) throws SQLException {
-        MetaDataContexts changedMetaDataContext = buildChangedMetaDataContextWithAddedDataSource(metaDataContexts.getDatabaseMap().get(databaseName), dataSourceProps);
+        ShardingSphereDatabase staleDatabase = metaDataContexts.getDatabaseMap().get(databaseName);
+        MetaDataContexts changedMetaDataContext = buildChangedMetaDataContextWithAddedDataSource(staleDatabase, dataSourceProps);
         metaDataContexts.getDatabaseMap().putAll(changedMetaDataContext.getDatabaseMap());
+        closeStaleRules(getRules(Collections.singletonList(staleDatabase)), getRules(changedMetaDataContext.getDatabaseMap().values()));
         metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases().putAll(changedMetaDataContext.getOptimizerContext().getFederationMetaData().getDatabases());
         metaDataContexts.getOptimizerContext().getParserContexts().putAll(changedMetaDataContext.getOptimizerContext().getParserContexts());
         metaDataContexts.getOptimizerContext().getPlannerContexts().putAll(changedMetaDataContext.getOptimizerContext().getPlannerContexts());
@@ -525,9 +620,11 @@ public final class ContextManager implements AutoCloseable {
         Map<String, ShardingSphereDatabase> databaseMap = new HashMap<>(metaDataContexts.getDatabaseMap());
         databaseMap.putAll(changedMetaDataContext.getDatabaseMap());
         Collection<DataSource> pendingClosedDataSources = getPendingClosedDataSources(databaseName, dataSourcePropsMap);
+        Collection<String> deletedDataSourceNames = getDeletedDataSources(metaDataContexts.getDatabaseMetaData(databaseName), dataSourcePropsMap).keySet();
         renewMetaDataContexts(rebuildMetaDataContexts(databaseMap));
         renewTransactionContext(databaseName, metaDataContexts.getDatabaseMetaData(databaseName).getResource());
         closeDataSources(databaseName, pendingClosedDataSources);
+        KernelMetricsRegistry.getInstance().removeDataSources(databaseName, deletedDataSourceNames);
     }
     
     private MetaDataContexts buildChangedMetaDataContextWithAddedDataSource(final ShardingSphereDatabase originalDatabase,
@@ -646,6 +743,36 @@ public final class ContextManager implements AutoCloseable {
         dataSources.forEach(resource::close);
     }
     
+    private Collection<ShardingSphereRule> getRules(final Collection<ShardingSphereDatabase> databases) {
+        Collection<ShardingSphereRule> result = new LinkedList<>();
+        for (ShardingSphereDatabase each : databases) {
+            if (null != each && null != each.getRuleMetaData()) {
+                result.addAll(each.getRuleMetaData().getRules());
+            }
+        }
+        return result;
+    }
+    
+    private void closeStaleRules(final Collection<ShardingSphereRule> staleRules, final Collection<ShardingSphereRule> rules) {
+        Collection<ShardingSphereRule> currentRules = Collections.newSetFromMap(new IdentityHashMap<>());
+        currentRules.addAll(rules);
+        for (ShardingSphereRule each : staleRules) {
+            if (each instanceof AutoCloseable && !currentRules.contains(each)) {
+                closeRule((AutoCloseable) each);
+            }
+        }
+    }
+    
+    private void closeRule(final AutoCloseable rule) {
+        try {
+            rule.close();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.error("Close rule failed", ex);
+        }
+    }
+    
     private void removeAndCloseTransactionEngine(final String databaseName) {
         ShardingSphereTransactionManagerEngine staleEngine = transactionContexts.getEngines().remove(databaseName);
         closeTransactionEngine(staleEngine);
@@ -666,6 +793,7 @@ public final class ContextManager implements AutoCloseable {
     @Override
     public void close() throws Exception {
         executorEngine.close();
+        closeStaleRules(getRules(metaDataContexts.getDatabaseMap().values()), Collections.emptyList());
         metaDataContexts.close();
     }
 }
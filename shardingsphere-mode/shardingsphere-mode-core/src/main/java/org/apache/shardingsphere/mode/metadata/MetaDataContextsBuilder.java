@@ -17,21 +17,29 @@
 
 package org.apache.shardingsphere.mode.metadata;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContextFactory;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationDatabaseMetaData;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -39,6 +47,7 @@ import java.util.Map.Entry;
  * Meta data contexts builder.
  */
 @RequiredArgsConstructor
+@Slf4j
 public final class MetaDataContextsBuilder {
     
     private final Map<String, DatabaseConfiguration> databaseConfigMap;
@@ -47,6 +56,9 @@ public final class MetaDataContextsBuilder {
     
     private final ConfigurationProperties props;
     
+    @Getter
+    private final Map<String, Long> snapshotLoadedDatabases = new LinkedHashMap<>();
+    
     /**
      * Build meta data contexts.
      * 
@@ -57,29 +69,64 @@ public final class MetaDataContextsBuilder {
     public MetaDataContexts build(final MetaDataPersistService metaDataPersistService) throws SQLException {
         DatabaseType protocolType = DatabaseTypeEngine.getProtocolType(databaseConfigMap, props);
         DatabaseType storageType = DatabaseTypeEngine.getStorageType(databaseConfigMap);
-        Map<String, ShardingSphereDatabase> databaseMap = getDatabaseMap(protocolType, storageType);
+        Map<String, ShardingSphereDatabase> databaseMap = getDatabaseMap(protocolType, storageType, metaDataPersistService);
         ShardingSphereRuleMetaData globalMetaData = new ShardingSphereRuleMetaData(globalRuleConfigs, GlobalRulesBuilder.buildRules(globalRuleConfigs, databaseMap));
-        return new MetaDataContexts(metaDataPersistService, databaseMap, globalMetaData, OptimizerContextFactory.create(databaseMap, globalMetaData), props);
+        OptimizerContext optimizerContext = OptimizerContextFactory.create(databaseMap, globalMetaData);
+        if (null != metaDataPersistService) {
+            loadTableStatistics(metaDataPersistService, databaseMap, optimizerContext);
+        }
+        return new MetaDataContexts(metaDataPersistService, databaseMap, globalMetaData, optimizerContext, props);
     }
     
-    private Map<String, ShardingSphereDatabase> getDatabaseMap(final DatabaseType protocolType, final DatabaseType storageType) throws SQLException {
+    private void loadTableStatistics(final MetaDataPersistService metaDataPersistService, final Map<String, ShardingSphereDatabase> databaseMap, final OptimizerContext optimizerContext) {
+        for (Entry<String, ShardingSphereDatabase> entry : databaseMap.entrySet()) {
+            FederationDatabaseMetaData federationDatabaseMetaData = optimizerContext.getFederationMetaData().getDatabases().get(entry.getKey().toLowerCase());
+            if (null == federationDatabaseMetaData) {
+                continue;
+            }
+            for (String schemaName : entry.getValue().getSchemas().keySet()) {
+                metaDataPersistService.getTableStatisticsService().load(entry.getKey(), schemaName).values().forEach(each -> federationDatabaseMetaData.putTableStatistics(schemaName, each));
+            }
+        }
+    }
+    
+    private Map<String, ShardingSphereDatabase> getDatabaseMap(final DatabaseType protocolType, final DatabaseType storageType,
+                                                               final MetaDataPersistService metaDataPersistService) throws SQLException {
         Map<String, ShardingSphereDatabase> result = new HashMap<>(databaseConfigMap.size() + protocolType.getSystemDatabaseSchemaMap().size(), 1);
-        result.putAll(getGenericDatabaseMap(protocolType, storageType));
+        result.putAll(getGenericDatabaseMap(protocolType, storageType, metaDataPersistService));
         result.putAll(getSystemDatabaseMap(protocolType));
         return result;
     }
     
-    private Map<String, ShardingSphereDatabase> getGenericDatabaseMap(final DatabaseType protocolType, final DatabaseType storageType) throws SQLException {
+    private Map<String, ShardingSphereDatabase> getGenericDatabaseMap(final DatabaseType protocolType, final DatabaseType storageType,
+                                                                      final MetaDataPersistService metaDataPersistService) throws SQLException {
         Map<String, ShardingSphereDatabase> result = new HashMap<>(databaseConfigMap.size(), 1);
         for (Entry<String, DatabaseConfiguration> entry : databaseConfigMap.entrySet()) {
             String databaseName = entry.getKey();
-            if (!protocolType.getSystemSchemas().contains(databaseName)) {
+            if (protocolType.getSystemSchemas().contains(databaseName)) {
+                continue;
+            }
+            long startMillis = System.currentTimeMillis();
+            Map<String, ShardingSphereSchema> snapshotSchemas = loadSnapshotSchemas(databaseName, metaDataPersistService);
+            if (snapshotSchemas.isEmpty()) {
                 result.put(databaseName, ShardingSphereDatabase.create(databaseName, protocolType, storageType, entry.getValue(), props));
+            } else {
+                result.put(databaseName, ShardingSphereDatabase.create(databaseName, protocolType, storageType, entry.getValue(), props, snapshotSchemas));
+                long elapsedMillis = System.currentTimeMillis() - startMillis;
+                snapshotLoadedDatabases.put(databaseName, elapsedMillis);
+                log.info("Meta data of database `{}` loaded from snapshot in {} ms", databaseName, elapsedMillis);
             }
         }
         return result;
     }
     
+    private Map<String, ShardingSphereSchema> loadSnapshotSchemas(final String databaseName, final MetaDataPersistService metaDataPersistService) {
+        if (null == metaDataPersistService || !props.<Boolean>getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_ENABLED)) {
+            return Collections.emptyMap();
+        }
+        return metaDataPersistService.getSchemaMetaDataService().loadSchemas(databaseName);
+    }
+    
     private Map<String, ShardingSphereDatabase> getSystemDatabaseMap(final DatabaseType protocolType) throws SQLException {
         Map<String, ShardingSphereDatabase> result = new HashMap<>(protocolType.getSystemDatabaseSchemaMap().size(), 1);
         for (String each : protocolType.getSystemDatabaseSchemaMap().keySet()) {
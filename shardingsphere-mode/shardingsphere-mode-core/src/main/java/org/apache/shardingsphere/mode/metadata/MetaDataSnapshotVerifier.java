@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Meta data snapshot verifier, which reloads actual meta data of databases loaded from snapshot in background.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class MetaDataSnapshotVerifier {
+    
+    private final ContextManager contextManager;
+    
+    /**
+     * Verify meta data in background.
+     *
+     * @param snapshotLoadedDatabases snapshot loaded databases, key is database name and value is elapsed milliseconds of loading snapshot
+     */
+    public void verifyInBackground(final Map<String, Long> snapshotLoadedDatabases) {
+        if (snapshotLoadedDatabases.isEmpty()) {
+            return;
+        }
+        ExecutorService executorService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-MetaDataSnapshotVerifier-%d").build());
+        executorService.execute(() -> verify(snapshotLoadedDatabases));
+        executorService.shutdown();
+    }
+    
+    /**
+     * Verify meta data.
+     *
+     * @param snapshotLoadedDatabases snapshot loaded databases, key is database name and value is elapsed milliseconds of loading snapshot
+     */
+    public void verify(final Map<String, Long> snapshotLoadedDatabases) {
+        for (Entry<String, Long> entry : snapshotLoadedDatabases.entrySet()) {
+            long startMillis = System.currentTimeMillis();
+            contextManager.reloadMetaData(entry.getKey());
+            long actualLoadedMillis = System.currentTimeMillis() - startMillis;
+            log.info("Meta data of database `{}` verified in background in {} ms, startup from snapshot took {} ms and saved {} ms",
+                    entry.getKey(), actualLoadedMillis, entry.getValue(), Math.max(0L, actualLoadedMillis - entry.getValue()));
+        }
+    }
+}
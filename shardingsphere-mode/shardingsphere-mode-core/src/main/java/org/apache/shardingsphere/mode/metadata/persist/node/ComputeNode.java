@@ -41,6 +41,8 @@ public final class ComputeNode {
     
     private static final String PROCESS_TRIGGER = "process_trigger";
     
+    private static final String PROCESS_KILL = "process_kill";
+    
     private static final String STATUS_NODE = "status";
     
     private static final String WORKER_ID = "worker_id";
@@ -98,6 +100,27 @@ public final class ComputeNode {
         return String.join("/", "", ROOT_NODE, COMPUTE_NODE, PROCESS_TRIGGER, instanceType.name().toLowerCase(), instanceId, showProcessListId);
     }
     
+    /**
+     * Get process kill node path.
+     *
+     * @return path of process kill node path
+     */
+    public static String getProcessKillNodePatch() {
+        return String.join("/", "", ROOT_NODE, COMPUTE_NODE, PROCESS_KILL);
+    }
+    
+    /**
+     * Get process kill instance process id node path.
+     *
+     * @param instanceId instance id
+     * @param instanceType instance type
+     * @param processId process id
+     * @return path of process kill instance node path
+     */
+    public static String getProcessKillInstanceIdNodePath(final String instanceId, final InstanceType instanceType, final String processId) {
+        return String.join("/", "", ROOT_NODE, COMPUTE_NODE, PROCESS_KILL, instanceType.name().toLowerCase(), instanceId, processId);
+    }
+    
     /**
      * Get compute node instance labels path.
      *
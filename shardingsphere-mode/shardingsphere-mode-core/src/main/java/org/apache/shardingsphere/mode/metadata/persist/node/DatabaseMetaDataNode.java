@@ -40,6 +40,8 @@ public final class DatabaseMetaDataNode {
     
     private static final String TABLES_NODE = "tables";
     
+    private static final String STATISTICS_NODE = "statistics";
+    
     private static final String ACTIVE_VERSION = "active_version";
     
     private static final String VERSIONS = "versions";
@@ -113,7 +115,7 @@ public final class DatabaseMetaDataNode {
      * @param databaseName database name
      * @return schemas path
      */
-    private static String getMetaDataSchemasPath(final String databaseName) {
+    public static String getMetaDataSchemasPath(final String databaseName) {
         return String.join("/", getDatabaseNamePath(databaseName), SCHEMAS_NODE);
     }
     
@@ -129,6 +131,29 @@ public final class DatabaseMetaDataNode {
         return String.join("/", getMetaDataTablesPath(databaseName, schemaName), table);
     }
     
+    /**
+     * Get meta data statistics path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return statistics path
+     */
+    public static String getMetaDataStatisticsPath(final String databaseName, final String schemaName) {
+        return String.join("/", getMetaDataSchemaPath(databaseName, schemaName), STATISTICS_NODE);
+    }
+    
+    /**
+     * Get table statistics path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param table table name
+     * @return table statistics path
+     */
+    public static String getTableStatisticsPath(final String databaseName, final String schemaName, final String table) {
+        return String.join("/", getMetaDataStatisticsPath(databaseName, schemaName), table);
+    }
+    
     private static String getFullMetaDataPath(final String databaseName, final String node) {
         return String.join("/", "", ROOT_NODE, databaseName, node);
     }
@@ -193,6 +218,18 @@ public final class DatabaseMetaDataNode {
         return matcher.find() ? Optional.of(matcher.group(4)) : Optional.empty();
     }
     
+    /**
+     * Get table name by table statistics path.
+     *
+     * @param tableStatisticsPath table statistics path
+     * @return table name
+     */
+    public static Optional<String> getTableNameByStatisticsPath(final String tableStatisticsPath) {
+        Pattern pattern = Pattern.compile(getMetaDataNodePath() + "/([\\w\\-]+)/schemas/([\\w\\-]+)/statistics/([\\w\\-]+)$", Pattern.CASE_INSENSITIVE);
+        Matcher matcher = pattern.matcher(tableStatisticsPath);
+        return matcher.find() ? Optional.of(matcher.group(3)) : Optional.empty();
+    }
+    
     /**
      * Get active version path.
      * 
@@ -163,6 +163,19 @@ public final class SchemaMetaDataPersistService {
         return Optional.of(schema);
     }
     
+    /**
+     * Load all schemas of database.
+     *
+     * @param databaseName database name to be loaded
+     * @return loaded schemas, key is schema name
+     */
+    public Map<String, ShardingSphereSchema> loadSchemas(final String databaseName) {
+        Collection<String> schemaNames = repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataSchemasPath(databaseName));
+        Map<String, ShardingSphereSchema> result = new LinkedHashMap<>(schemaNames.size(), 1);
+        schemaNames.forEach(each -> result.put(each, load(databaseName, each).orElseGet(ShardingSphereSchema::new)));
+        return result;
+    }
+    
     /**
      * Load all database names.
      *
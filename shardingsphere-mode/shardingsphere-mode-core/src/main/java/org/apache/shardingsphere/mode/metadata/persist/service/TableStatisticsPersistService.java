@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.service;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableStatistics;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlTableStatistics;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.TableStatisticsYamlSwapper;
+import org.apache.shardingsphere.mode.metadata.persist.node.DatabaseMetaDataNode;
+import org.apache.shardingsphere.mode.persist.PersistRepository;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Table statistics persist service.
+ */
+@RequiredArgsConstructor
+public final class TableStatisticsPersistService {
+    
+    private final PersistRepository repository;
+    
+    /**
+     * Persist table statistics.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableStatistics table statistics
+     */
+    public void persist(final String databaseName, final String schemaName, final TableStatistics tableStatistics) {
+        repository.persist(DatabaseMetaDataNode.getTableStatisticsPath(databaseName, schemaName, tableStatistics.getName().toLowerCase()),
+                YamlEngine.marshal(new TableStatisticsYamlSwapper().swapToYamlConfiguration(tableStatistics)));
+    }
+    
+    /**
+     * Load table statistics.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return table statistics
+     */
+    public Optional<TableStatistics> load(final String databaseName, final String schemaName, final String tableName) {
+        String content = repository.get(DatabaseMetaDataNode.getTableStatisticsPath(databaseName, schemaName, tableName.toLowerCase()));
+        return Strings.isNullOrEmpty(content) ? Optional.empty() : Optional.of(new TableStatisticsYamlSwapper().swapToObject(YamlEngine.unmarshal(content, YamlTableStatistics.class)));
+    }
+    
+    /**
+     * Load all table statistics of schema.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return table statistics map, key is table name
+     */
+    public Map<String, TableStatistics> load(final String databaseName, final String schemaName) {
+        Collection<String> tableNames = repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataStatisticsPath(databaseName, schemaName));
+        Map<String, TableStatistics> result = new LinkedHashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            load(databaseName, schemaName, each).ifPresent(optional -> result.put(each, optional));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Replication delay of replica observed by heartbeat.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ReplicationDelayObservation {
+    
+    private static final long REPLICATION_DELAY_PRECISION_MILLISECONDS = 1000L;
+    
+    private final long replicationDelayMilliseconds;
+    
+    private final long observedMillis;
+    
+    /**
+     * Judge whether replica has applied writes committed on primary before timestamp.
+     * 
+     * <p>Replication delay is reported in whole seconds and truncated, so the real delay may be up to one second more than reported.
+     * Replica is only known to have applied writes committed before the time of observation minus replication delay,
+     * later writes are taken as not applied until a later observation covers them, even if replica is not lagging.</p>
+     *
+     * @param timestampMillis timestamp milliseconds
+     * @return applied or not
+     */
+    public boolean isApplied(final long timestampMillis) {
+        return observedMillis - replicationDelayMilliseconds - REPLICATION_DELAY_PRECISION_MILLISECONDS >= timestampMillis;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.storage;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replication delay observation registry.
+ * 
+ * <p>Observations are renewed in memory by heartbeat on every probe of online replica without posting events,
+ * so the time of observation keeps moving on even if replication delay is unchanged between heartbeats.
+ * Observations are kept per logic database, because data source names are only unique inside one logic database.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReplicationDelayObservationRegistry {
+    
+    private static final ReplicationDelayObservationRegistry INSTANCE = new ReplicationDelayObservationRegistry();
+    
+    private final Map<String, Map<String, ReplicationDelayObservation>> observations = new ConcurrentHashMap<>();
+    
+    /**
+     * Get replication delay observation registry.
+     *
+     * @return replication delay observation registry
+     */
+    public static ReplicationDelayObservationRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Renew replication delay observation of online replica.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param observation replication delay observation
+     */
+    public void renew(final String databaseName, final String dataSourceName, final ReplicationDelayObservation observation) {
+        observations.computeIfAbsent(databaseName, unused -> new ConcurrentHashMap<>()).put(dataSourceName, observation);
+    }
+    
+    /**
+     * Remove replication delay observation of data source which is not online replica anymore.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     */
+    public void remove(final String databaseName, final String dataSourceName) {
+        Map<String, ReplicationDelayObservation> databaseObservations = observations.get(databaseName);
+        if (null != databaseObservations) {
+            databaseObservations.remove(dataSourceName);
+        }
+    }
+    
+    /**
+     * Find replication delay observation.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return replication delay observation
+     */
+    public Optional<ReplicationDelayObservation> findObservation(final String databaseName, final String dataSourceName) {
+        Map<String, ReplicationDelayObservation> databaseObservations = observations.get(databaseName);
+        return null == databaseObservations ? Optional.empty() : Optional.ofNullable(databaseObservations.get(dataSourceName));
+    }
+}
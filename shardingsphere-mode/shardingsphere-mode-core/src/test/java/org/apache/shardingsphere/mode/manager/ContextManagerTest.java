@@ -34,6 +34,7 @@ import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.metrics.KernelMetricsRegistry;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
 import org.apache.shardingsphere.mode.metadata.persist.service.SchemaMetaDataPersistService;
@@ -245,6 +246,16 @@ public final class ContextManagerTest {
         assertThat(contextManager.getMetaDataContexts().getProps().getProps().getProperty("foo"), is("foo_value"));
     }
     
+    @Test
+    public void assertAlterPropertiesWithKernelMetricsEnabled() {
+        Properties props = new Properties();
+        props.put(ConfigurationPropertyKey.KERNEL_METRICS_ENABLED.getKey(), Boolean.TRUE.toString());
+        contextManager.alterProperties(props);
+        assertTrue(KernelMetricsRegistry.getInstance().isEnabled());
+        contextManager.alterProperties(new Properties());
+        assertFalse(KernelMetricsRegistry.getInstance().isEnabled());
+    }
+    
     @Test
     public void assertReloadMetaData() {
         when(metaDataContexts.getDatabaseMetaData("foo_db").getResource().getDataSources()).thenReturn(Collections.singletonMap("foo_ds", new MockedDataSource()));
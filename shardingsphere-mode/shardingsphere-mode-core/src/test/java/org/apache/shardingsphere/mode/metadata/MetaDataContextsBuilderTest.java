@@ -24,6 +24,8 @@ import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.mode.metadata.fixture.FixtureRule;
@@ -44,7 +46,9 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class MetaDataContextsBuilderTest {
     
@@ -57,7 +61,8 @@ public final class MetaDataContextsBuilderTest {
                 new ShardingSphereAlgorithmConfiguration("ALL_PERMITTED", new Properties()));
         DatabaseConfiguration databaseConfig = new DataSourceProvidedDatabaseConfiguration(Collections.emptyMap(), Collections.singletonList(new FixtureRuleConfiguration()));
         MetaDataContexts actual = new MetaDataContextsBuilder(
-                Collections.singletonMap("logic_db", databaseConfig), Collections.singleton(authorityRuleConfig), new ConfigurationProperties(props)).build(mock(MetaDataPersistService.class));
+                Collections.singletonMap("logic_db", databaseConfig), Collections.singleton(authorityRuleConfig), new ConfigurationProperties(props))
+                        .build(mock(MetaDataPersistService.class, RETURNS_DEEP_STUBS));
         assertRules(actual);
         assertTrue(actual.getDatabaseMetaData("logic_db").getResource().getDataSources().isEmpty());
         assertThat(actual.getProps().getProps().size(), is(1));
@@ -73,7 +78,7 @@ public final class MetaDataContextsBuilderTest {
     @Test
     public void assertBuildWithoutGlobalRuleConfigurations() throws SQLException {
         MetaDataContexts actual = new MetaDataContextsBuilder(
-                Collections.emptyMap(), Collections.emptyList(), new ConfigurationProperties(new Properties())).build(mock(MetaDataPersistService.class));
+                Collections.emptyMap(), Collections.emptyList(), new ConfigurationProperties(new Properties())).build(mock(MetaDataPersistService.class, RETURNS_DEEP_STUBS));
         assertThat(actual.getGlobalRuleMetaData().getRules().size(), is(4));
         assertThat(actual.getGlobalRuleMetaData().getRules().stream().filter(each -> each instanceof AuthorityRule).count(), is(1L));
         assertThat(actual.getGlobalRuleMetaData().getRules().stream().filter(each -> each instanceof TransactionRule).count(), is(1L));
@@ -84,7 +89,7 @@ public final class MetaDataContextsBuilderTest {
     @Test
     public void assertBuildWithEmptyRuleConfigurations() throws SQLException {
         MetaDataContexts actual = new MetaDataContextsBuilder(
-                Collections.emptyMap(), Collections.emptyList(), new ConfigurationProperties(new Properties())).build(mock(MetaDataPersistService.class));
+                Collections.emptyMap(), Collections.emptyList(), new ConfigurationProperties(new Properties())).build(mock(MetaDataPersistService.class, RETURNS_DEEP_STUBS));
         assertThat(actual.getDatabaseMap().size(), is(4));
         assertTrue(actual.getDatabaseMap().containsKey("information_schema"));
         assertTrue(actual.getDatabaseMap().containsKey("performance_schema"));
@@ -95,4 +100,19 @@ public final class MetaDataContextsBuilderTest {
         assertThat(actual.getDatabaseMap().get("mysql").getRuleMetaData().getRules(), instanceOf(LinkedList.class));
         assertThat(actual.getDatabaseMap().get("sys").getRuleMetaData().getRules(), instanceOf(LinkedList.class));
     }
+    
+    @Test
+    public void assertBuildWithMetaDataSnapshot() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.METADATA_SNAPSHOT_ENABLED.getKey(), Boolean.TRUE.toString());
+        TableMetaData tableMetaData = new TableMetaData("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        MetaDataPersistService metaDataPersistService = mock(MetaDataPersistService.class, RETURNS_DEEP_STUBS);
+        when(metaDataPersistService.getSchemaMetaDataService().loadSchemas("logic_db"))
+                .thenReturn(Collections.singletonMap("logic_db", new ShardingSphereSchema(Collections.singletonMap("t_order", tableMetaData))));
+        DatabaseConfiguration databaseConfig = new DataSourceProvidedDatabaseConfiguration(Collections.emptyMap(), Collections.singletonList(new FixtureRuleConfiguration()));
+        MetaDataContextsBuilder builder = new MetaDataContextsBuilder(Collections.singletonMap("logic_db", databaseConfig), Collections.emptyList(), new ConfigurationProperties(props));
+        MetaDataContexts actual = builder.build(metaDataPersistService);
+        assertThat(actual.getDatabaseMetaData("logic_db").getSchemas().get("logic_db").get("t_order"), is(tableMetaData));
+        assertTrue(builder.getSnapshotLoadedDatabases().containsKey("logic_db"));
+    }
 }
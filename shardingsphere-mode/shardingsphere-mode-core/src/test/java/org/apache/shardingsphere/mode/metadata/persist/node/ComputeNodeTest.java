@@ -54,6 +54,17 @@ public final class ComputeNodeTest {
                 is("/nodes/compute_nodes/process_trigger/jdbc/127.0.0.1@3307/foo_process_id"));
     }
     
+    @Test
+    public void assertGetProcessKillNodePatch() {
+        assertThat(ComputeNode.getProcessKillNodePatch(), is("/nodes/compute_nodes/process_kill"));
+    }
+    
+    @Test
+    public void assertGetProcessKillInstanceIdNodePath() {
+        assertThat(ComputeNode.getProcessKillInstanceIdNodePath("127.0.0.1@3307", InstanceType.PROXY, "foo_process_id"),
+                is("/nodes/compute_nodes/process_kill/proxy/127.0.0.1@3307/foo_process_id"));
+    }
+    
     @Test
     public void assertGetInstanceLabelsNodePath() {
         assertThat(ComputeNode.getInstanceLabelsNodePath("127.0.0.1@3307"), is("/nodes/compute_nodes/attributes/127.0.0.1@3307/labels"));
@@ -34,7 +34,9 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -89,6 +91,17 @@ public final class SchemaMetaDataPersistServiceTest {
         assertThat(schema.get().get("t_order").getColumns().keySet(), is(Collections.singleton("id")));
     }
     
+    @Test
+    public void assertLoadSchemas() {
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas")).thenReturn(Arrays.asList("foo_schema", "empty_schema"));
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.get("/metadata/foo_db/schemas/foo_schema/tables/t_order")).thenReturn(readYAML());
+        Map<String, ShardingSphereSchema> actual = new SchemaMetaDataPersistService(repository).loadSchemas("foo_db");
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("foo_schema").getAllTableNames(), is(Collections.singleton("t_order")));
+        assertTrue(actual.get("empty_schema").getAllTableNames().isEmpty());
+    }
+    
     @Test
     public void assertLoadAllDatabaseNames() {
         when(repository.getChildrenKeys("/metadata")).thenReturn(Collections.singletonList("foo_db"));
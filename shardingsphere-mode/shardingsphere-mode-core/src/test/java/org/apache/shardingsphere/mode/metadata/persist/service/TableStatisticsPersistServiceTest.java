@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.service;
+
+import org.apache.shardingsphere.infra.metadata.schema.model.TableStatistics;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.TableStatisticsYamlSwapper;
+import org.apache.shardingsphere.mode.persist.PersistRepository;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class TableStatisticsPersistServiceTest {
+    
+    @Mock
+    private PersistRepository repository;
+    
+    @Test
+    public void assertPersist() {
+        TableStatistics tableStatistics = createTableStatistics();
+        new TableStatisticsPersistService(repository).persist("foo_db", "foo_schema", tableStatistics);
+        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/statistics/t_order", YamlEngine.marshal(new TableStatisticsYamlSwapper().swapToYamlConfiguration(tableStatistics)));
+    }
+    
+    @Test
+    public void assertLoad() {
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/statistics")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.get("/metadata/foo_db/schemas/foo_schema/statistics/t_order"))
+                .thenReturn(YamlEngine.marshal(new TableStatisticsYamlSwapper().swapToYamlConfiguration(createTableStatistics())));
+        Map<String, TableStatistics> actual = new TableStatisticsPersistService(repository).load("foo_db", "foo_schema");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("t_order"), is(createTableStatistics()));
+    }
+    
+    @Test
+    public void assertLoadWithoutStatistics() {
+        assertFalse(new TableStatisticsPersistService(repository).load("foo_db", "foo_schema", "t_order").isPresent());
+    }
+    
+    private TableStatistics createTableStatistics() {
+        return new TableStatistics("t_order", 100L, Collections.singletonMap("order_id", 100L), Collections.singleton("order_id"));
+    }
+}
@@ -21,6 +21,7 @@ import com.google.common.eventbus.Subscribe;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
 import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.BatchYamlExecuteProcessContext;
 import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
@@ -40,11 +41,14 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metad
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.DatabaseDeletedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.SchemaAddedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.SchemaDeletedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.TableStatisticsChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.ShowProcessListManager;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.lock.ShowProcessListSimpleLock;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.node.ProcessNode;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOfflineEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOnlineEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.KillProcessTriggerEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.KillProcessUnitCompleteEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.LabelsEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.ShowProcessListTriggerEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.ShowProcessListUnitCompleteEvent;
@@ -62,7 +66,6 @@ import org.apache.shardingsphere.mode.metadata.storage.event.PrimaryDataSourceCh
 
 import java.sql.SQLException;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -146,6 +149,16 @@ public final class ClusterContextManagerCoordinator {
         contextManager.alterSchema(event.getDatabaseName(), event.getSchemaName(), event.getChangedTableMetaData(), event.getDeletedTable());
     }
     
+    /**
+     * Renew table statistics.
+     *
+     * @param event table statistics changed event
+     */
+    @Subscribe
+    public synchronized void renew(final TableStatisticsChangedEvent event) {
+        contextManager.alterTableStatistics(event.getDatabaseName(), event.getSchemaName(), event.getTableStatistics());
+    }
+    
     /**
      * Renew rule configurations.
      *
@@ -299,11 +312,11 @@ public final class ClusterContextManagerCoordinator {
         if (!instanceDefinition.getInstanceId().getId().equals(contextManager.getInstanceContext().getInstance().getInstanceDefinition().getInstanceId().getId())) {
             return;
         }
-        Collection<YamlExecuteProcessContext> processContexts = ShowProcessListManager.getInstance().getAllProcessContext();
+        Collection<ExecuteProcessContext> processContexts = ShowProcessListManager.getInstance().getAllProcessContext();
         if (!processContexts.isEmpty()) {
             registryCenter.getRepository().persist(ProcessNode.getShowProcessListInstancePath(event.getShowProcessListId(),
                     instanceDefinition.getInstanceType().name().toLowerCase() + "_" + instanceDefinition.getInstanceId().getId()),
-                    YamlEngine.marshal(new BatchYamlExecuteProcessContext(new LinkedList<>(processContexts))));
+                    YamlEngine.marshal(new BatchYamlExecuteProcessContext(processContexts.stream().map(YamlExecuteProcessContext::new).collect(Collectors.toList()))));
         }
         registryCenter.getRepository().delete(ComputeNode
                 .getProcessTriggerInstanceIdNodePath(instanceDefinition.getInstanceId().getId(), instanceDefinition.getInstanceType(), event.getShowProcessListId()));
@@ -322,6 +335,38 @@ public final class ClusterContextManagerCoordinator {
         }
     }
     
+    /**
+     * Trigger kill process.
+     *
+     * @param event kill process trigger event
+     * @throws SQLException SQL exception
+     */
+    @Subscribe
+    public void triggerKillProcess(final KillProcessTriggerEvent event) throws SQLException {
+        InstanceDefinition instanceDefinition = event.getInstanceDefinition();
+        if (!instanceDefinition.getInstanceId().getId().equals(contextManager.getInstanceContext().getInstance().getInstanceDefinition().getInstanceId().getId())) {
+            return;
+        }
+        try {
+            ShowProcessListManager.getInstance().killProcess(event.getProcessId(), event.getUsername());
+        } finally {
+            registryCenter.getRepository().delete(ComputeNode.getProcessKillInstanceIdNodePath(instanceDefinition.getInstanceId().getId(), instanceDefinition.getInstanceType(), event.getProcessId()));
+        }
+    }
+    
+    /**
+     * Complete unit kill process.
+     *
+     * @param event kill process unit complete event
+     */
+    @Subscribe
+    public void completeUnitKillProcess(final KillProcessUnitCompleteEvent event) {
+        ShowProcessListSimpleLock simpleLock = ShowProcessListManager.getInstance().getLocks().get(event.getProcessId());
+        if (null != simpleLock) {
+            simpleLock.doNotify();
+        }
+    }
+    
     private void buildSpecialRules() {
         contextManager.getMetaDataContexts().getDatabaseMap().forEach((key, value) -> value.getRuleMetaData().getRules().forEach(each -> {
             if (each instanceof StatusContainedRule) {
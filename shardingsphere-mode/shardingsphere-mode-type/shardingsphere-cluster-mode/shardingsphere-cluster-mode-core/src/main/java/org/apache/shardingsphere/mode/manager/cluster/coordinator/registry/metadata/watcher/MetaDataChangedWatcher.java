@@ -27,7 +27,9 @@ import org.apache.shardingsphere.infra.yaml.config.swapper.YamlDataSourceConfigu
 import org.apache.shardingsphere.infra.yaml.config.swapper.YamlRuleConfigurationSwapperEngine;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlTableMetaData;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlTableStatistics;
 import org.apache.shardingsphere.infra.yaml.schema.swapper.TableMetaDataYamlSwapper;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.TableStatisticsYamlSwapper;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceWatcher;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.datasource.DataSourceChangedEvent;
@@ -38,6 +40,7 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metad
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.DatabaseDeletedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.SchemaAddedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.SchemaDeletedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.TableStatisticsChangedEvent;
 import org.apache.shardingsphere.mode.metadata.persist.node.DatabaseMetaDataNode;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
@@ -80,6 +83,9 @@ public final class MetaDataChangedWatcher implements GovernanceWatcher<Governanc
         if (isTableMetaDataChanged(event)) {
             return createSchemaChangedEvent(event);
         }
+        if (isTableStatisticsChanged(event)) {
+            return createTableStatisticsChangedEvent(event);
+        }
         if (Type.UPDATED == event.getType()) {
             return createUpdateGovernanceEvent(event);
         }
@@ -102,6 +108,10 @@ public final class MetaDataChangedWatcher implements GovernanceWatcher<Governanc
                 && !SystemSchemaBuilderRule.isSystemTable(databaseName.get(), tableName.get()) && !Strings.isNullOrEmpty(event.getValue());
     }
     
+    private boolean isTableStatisticsChanged(final DataChangedEvent event) {
+        return DatabaseMetaDataNode.getTableNameByStatisticsPath(event.getKey()).isPresent() && Type.DELETED != event.getType() && !Strings.isNullOrEmpty(event.getValue());
+    }
+    
     private Optional<GovernanceEvent> createLogicDatabaseChangedEvent(final DataChangedEvent event) {
         Optional<String> databaseName = DatabaseMetaDataNode.getDatabaseName(event.getKey());
         Preconditions.checkState(databaseName.isPresent());
@@ -174,4 +184,13 @@ public final class MetaDataChangedWatcher implements GovernanceWatcher<Governanc
                 ? new SchemaChangedEvent(databaseName, schemaName, null, tableName)
                 : new SchemaChangedEvent(databaseName, schemaName, new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(event.getValue(), YamlTableMetaData.class)), null);
     }
+    
+    private Optional<GovernanceEvent> createTableStatisticsChangedEvent(final DataChangedEvent event) {
+        Optional<String> databaseName = DatabaseMetaDataNode.getDatabaseNameByDatabasePath(event.getKey());
+        Preconditions.checkState(databaseName.isPresent());
+        Optional<String> schemaName = DatabaseMetaDataNode.getSchemaNameBySchemaPath(event.getKey());
+        Preconditions.checkState(schemaName.isPresent());
+        return Optional.of(new TableStatisticsChangedEvent(databaseName.get(), schemaName.get(),
+                new TableStatisticsYamlSwapper().swapToObject(YamlEngine.unmarshal(event.getValue(), YamlTableStatistics.class))));
+    }
 }
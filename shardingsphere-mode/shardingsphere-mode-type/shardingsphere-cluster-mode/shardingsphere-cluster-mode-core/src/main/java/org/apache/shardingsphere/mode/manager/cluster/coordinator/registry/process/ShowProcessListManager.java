@@ -20,9 +20,11 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.proc
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.lock.ShowProcessListSimpleLock;
 
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -35,7 +37,7 @@ public final class ShowProcessListManager {
     
     private static final ShowProcessListManager INSTANCE = new ShowProcessListManager();
     
-    private final Map<String, YamlExecuteProcessContext> processContextMap = new ConcurrentHashMap<>();
+    private final Map<String, ExecuteProcessContext> processContextMap = new ConcurrentHashMap<>();
     
     @Getter
     private final Map<String, ShowProcessListSimpleLock> locks = new ConcurrentHashMap<>();
@@ -55,7 +57,7 @@ public final class ShowProcessListManager {
      * @param executionId execution id
      * @param processContext process context
      */
-    public void putProcessContext(final String executionId, final YamlExecuteProcessContext processContext) {
+    public void putProcessContext(final String executionId, final ExecuteProcessContext processContext) {
         processContextMap.put(executionId, processContext);
     }
     
@@ -65,7 +67,7 @@ public final class ShowProcessListManager {
      * @param executionId execution id
      * @return execute process context
      */
-    public YamlExecuteProcessContext getProcessContext(final String executionId) {
+    public ExecuteProcessContext getProcessContext(final String executionId) {
         return processContextMap.get(executionId);
     }
     
@@ -83,7 +85,26 @@ public final class ShowProcessListManager {
      * 
      * @return collection execute process context
      */
-    public Collection<YamlExecuteProcessContext> getAllProcessContext() {
+    public Collection<ExecuteProcessContext> getAllProcessContext() {
         return processContextMap.values();
     }
+    
+    /**
+     * Kill execute process.
+     * 
+     * @param executionId execution id
+     * @param username username the process must belong to, null means process of any user
+     * @return killed or not
+     * @throws SQLException SQL exception
+     */
+    public boolean killProcess(final String executionId, final String username) throws SQLException {
+        ExecuteProcessContext processContext = processContextMap.get(executionId);
+        if (null == processContext || null != username && !username.equals(processContext.getUsername())) {
+            return false;
+        }
+        for (Statement each : processContext.getProcessStatements()) {
+            each.cancel();
+        }
+        return true;
+    }
 }
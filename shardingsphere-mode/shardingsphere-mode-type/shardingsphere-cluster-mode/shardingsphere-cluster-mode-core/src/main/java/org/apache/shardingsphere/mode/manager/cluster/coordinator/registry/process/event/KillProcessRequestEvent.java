@@ -21,11 +21,15 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 /**
- * Execute process report event.
+ * Kill process request event.
+ *
+ * <p>Username is the owner the process must belong to, or null if the requester may kill processes of any user.</p>
  */
 @RequiredArgsConstructor
 @Getter
-public final class ExecuteProcessReportEvent {
+public final class KillProcessRequestEvent {
+    
+    private final String processId;
     
-    private final String executionID;
+    private final String username;
 }
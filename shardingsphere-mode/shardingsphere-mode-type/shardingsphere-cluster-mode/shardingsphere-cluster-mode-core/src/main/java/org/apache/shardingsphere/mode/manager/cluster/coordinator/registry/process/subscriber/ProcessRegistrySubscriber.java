@@ -17,13 +17,11 @@
 
 package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.subscriber;
 
-import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.base.Strings;
 import com.google.common.eventbus.Subscribe;
 import org.apache.shardingsphere.infra.instance.definition.InstanceType;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.ShowProcessListManager;
-import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ExecuteProcessReportEvent;
-import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ExecuteProcessSummaryReportEvent;
-import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ExecuteProcessUnitReportEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.KillProcessRequestEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListRequestEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.ShowProcessListResponseEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.lock.ShowProcessListSimpleLock;
@@ -31,11 +29,6 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.proce
 import org.apache.shardingsphere.mode.metadata.persist.node.ComputeNode;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
-import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
-import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessUnit;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -69,7 +62,7 @@ public final class ProcessRegistrySubscriber {
         Collection<String> triggerPaths = getTriggerPaths(showProcessListId);
         try {
             triggerPaths.forEach(each -> repository.persist(each, ""));
-            triggerIsComplete = waitUntilShowProcessIsReady(showProcessListId, triggerPaths);
+            triggerIsComplete = waitUntilTriggersAreDone(showProcessListId, triggerPaths);
             sendShowProcessList(showProcessListId);
         } finally {
             repository.delete(ProcessNode.getShowProcessListIdPath(showProcessListId));
@@ -86,9 +79,36 @@ public final class ProcessRegistrySubscriber {
                 .collect(Collectors.toList());
     }
     
-    private boolean waitUntilShowProcessIsReady(final String showProcessListId, final Collection<String> triggerPaths) {
+    /**
+     * Kill process on all compute nodes.
+     *
+     * @param event kill process request event.
+     */
+    @Subscribe
+    public void killProcess(final KillProcessRequestEvent event) {
+        String processId = event.getProcessId();
+        boolean killIsComplete = false;
+        Collection<String> killPaths = getKillPaths(processId);
+        try {
+            killPaths.forEach(each -> repository.persist(each, Strings.nullToEmpty(event.getUsername())));
+            killIsComplete = waitUntilTriggersAreDone(processId, killPaths);
+        } finally {
+            if (!killIsComplete) {
+                killPaths.forEach(repository::delete);
+            }
+        }
+    }
+    
+    private Collection<String> getKillPaths(final String processId) {
+        return Arrays.stream(InstanceType.values())
+                .flatMap(each -> repository.getChildrenKeys(ComputeNode.getOnlineNodePath(each)).stream()
+                        .map(onlinePath -> ComputeNode.getProcessKillInstanceIdNodePath(onlinePath, each, processId)))
+                .collect(Collectors.toList());
+    }
+    
+    private boolean waitUntilTriggersAreDone(final String lockId, final Collection<String> triggerPaths) {
         ShowProcessListSimpleLock simpleLock = new ShowProcessListSimpleLock();
-        ShowProcessListManager.getInstance().getLocks().put(showProcessListId, simpleLock);
+        ShowProcessListManager.getInstance().getLocks().put(lockId, simpleLock);
         simpleLock.lock();
         try {
             while (!isReady(triggerPaths)) {
@@ -99,7 +119,7 @@ public final class ProcessRegistrySubscriber {
             return true;
         } finally {
             simpleLock.unlock();
-            ShowProcessListManager.getInstance().getLocks().remove(showProcessListId);
+            ShowProcessListManager.getInstance().getLocks().remove(lockId);
         }
     }
     
@@ -115,51 +135,4 @@ public final class ProcessRegistrySubscriber {
         }
         ShardingSphereEventBus.getInstance().post(new ShowProcessListResponseEvent(batchProcessContexts));
     }
-    
-    /**
-     * Report execute process summary.
-     *
-     * @param event execute process summary report event.
-     */
-    @Subscribe
-    @AllowConcurrentEvents
-    public void reportExecuteProcessSummary(final ExecuteProcessSummaryReportEvent event) {
-        ExecuteProcessContext executeProcessContext = event.getExecuteProcessContext();
-        ShowProcessListManager.getInstance().putProcessContext(executeProcessContext.getExecutionID(), new YamlExecuteProcessContext(executeProcessContext));
-    }
-    
-    /**
-     * Report execute process unit.
-     *
-     * @param event execute process unit report event.
-     */
-    @Subscribe
-    @AllowConcurrentEvents
-    public void reportExecuteProcessUnit(final ExecuteProcessUnitReportEvent event) {
-        String executionID = event.getExecutionID();
-        YamlExecuteProcessContext yamlExecuteProcessContext = ShowProcessListManager.getInstance().getProcessContext(executionID);
-        ExecuteProcessUnit executeProcessUnit = event.getExecuteProcessUnit();
-        for (YamlExecuteProcessUnit each : yamlExecuteProcessContext.getUnitStatuses()) {
-            if (each.getUnitID().equals(executeProcessUnit.getUnitID())) {
-                each.setStatus(executeProcessUnit.getStatus());
-            }
-        }
-    }
-    
-    /**
-     * Report execute process.
-     *
-     * @param event execute process report event.
-     */
-    @Subscribe
-    @AllowConcurrentEvents
-    public void reportExecuteProcess(final ExecuteProcessReportEvent event) {
-        YamlExecuteProcessContext yamlExecuteProcessContext = ShowProcessListManager.getInstance().getProcessContext(event.getExecutionID());
-        for (YamlExecuteProcessUnit each : yamlExecuteProcessContext.getUnitStatuses()) {
-            if (each.getStatus() != ExecuteProcessConstants.EXECUTE_STATUS_DONE) {
-                return;
-            }
-        }
-        ShowProcessListManager.getInstance().removeProcessContext(event.getExecutionID());
-    }
 }
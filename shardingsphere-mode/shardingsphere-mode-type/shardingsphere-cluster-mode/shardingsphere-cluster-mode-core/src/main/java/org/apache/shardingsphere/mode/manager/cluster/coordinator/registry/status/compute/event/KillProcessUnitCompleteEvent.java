@@ -15,20 +15,18 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event;
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 
 /**
- * Execute process unit report event.
+ * Kill process unit complete event.
  */
 @RequiredArgsConstructor
 @Getter
-public final class ExecuteProcessUnitReportEvent {
+public final class KillProcessUnitCompleteEvent implements GovernanceEvent {
     
-    private final String executionID;
-    
-    private final ExecuteProcessUnit executeProcessUnit;
+    private final String processId;
 }
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.infra.instance.definition.InstanceType;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOfflineEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOnlineEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.KillProcessTriggerEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.KillProcessUnitCompleteEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.ShowProcessListTriggerEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.LabelsEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.ShowProcessListUnitCompleteEvent;
@@ -77,6 +79,8 @@ public final class ComputeNodeStateChangedWatcher implements GovernanceWatcher<G
             return instanceDefinition.isPresent() ? createInstanceEvent(instanceDefinition.get(), event.getType()) : Optional.empty();
         } else if (event.getKey().startsWith(ComputeNode.getProcessTriggerNodePatch())) {
             return createShowProcessListTriggerEvent(event);
+        } else if (event.getKey().startsWith(ComputeNode.getProcessKillNodePatch())) {
+            return createKillProcessTriggerEvent(event);
         }
         return Optional.empty();
     }
@@ -95,6 +99,25 @@ public final class ComputeNodeStateChangedWatcher implements GovernanceWatcher<G
         return Optional.empty();
     }
     
+    private Optional<GovernanceEvent> createKillProcessTriggerEvent(final DataChangedEvent event) {
+        Matcher matcher = getKillProcessTriggerMatcher(event);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        if (Type.ADDED == event.getType()) {
+            return Optional.of(new KillProcessTriggerEvent(new InstanceDefinition(InstanceType.PROXY.name().equalsIgnoreCase(matcher.group(1)) ? InstanceType.PROXY : InstanceType.JDBC, matcher.group(2)),
+                    matcher.group(3), Strings.emptyToNull(event.getValue())));
+        } else if (Type.DELETED == event.getType()) {
+            return Optional.of(new KillProcessUnitCompleteEvent(matcher.group(3)));
+        }
+        return Optional.empty();
+    }
+    
+    private static Matcher getKillProcessTriggerMatcher(final DataChangedEvent event) {
+        Pattern pattern = Pattern.compile(ComputeNode.getProcessKillNodePatch() + "/" + "(proxy|jdbc)" + "/([0-9.@]+)" + "/([\\S]+)$", Pattern.CASE_INSENSITIVE);
+        return pattern.matcher(event.getKey());
+    }
+    
     private static Matcher getShowProcessTriggerMatcher(final DataChangedEvent event) {
         Pattern pattern = Pattern.compile(ComputeNode.getProcessTriggerNodePatch() + "/" + "(proxy|jdbc)" + "/([0-9.@]+)" + "/([\\S]+)$", Pattern.CASE_INSENSITIVE);
         return pattern.matcher(event.getKey());
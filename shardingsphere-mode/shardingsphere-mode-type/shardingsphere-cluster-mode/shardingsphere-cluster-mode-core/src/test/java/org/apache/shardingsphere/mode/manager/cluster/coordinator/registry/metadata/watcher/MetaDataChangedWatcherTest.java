@@ -19,6 +19,7 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.meta
 
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.SchemaChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.TableStatisticsChangedEvent;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
 import org.junit.Test;
@@ -103,6 +104,18 @@ public final class MetaDataChangedWatcherTest {
         assertThat(((SchemaChangedEvent) actual.get()).getDeletedTable(), is("t_order"));
     }
     
+    @Test
+    public void assertCreateTableStatisticsChangedEvent() {
+        String key = "/metadata/sharding_db/schemas/sharding_schema/statistics/t_order";
+        Optional<GovernanceEvent> actual = createEvent(key, "name: t_order\nrowCount: 100\n", Type.UPDATED);
+        assertTrue(actual.isPresent());
+        TableStatisticsChangedEvent event = (TableStatisticsChangedEvent) actual.get();
+        assertThat(event.getDatabaseName(), is("sharding_db"));
+        assertThat(event.getSchemaName(), is("sharding_schema"));
+        assertThat(event.getTableStatistics().getName(), is("t_order"));
+        assertThat(event.getTableStatistics().getRowCount(), is(100L));
+    }
+    
     private Optional<GovernanceEvent> createEvent(final String key, final String value, final Type type) {
         DataChangedEvent dataChangedEvent = new DataChangedEvent(key, value, type);
         return new MetaDataChangedWatcher().createGovernanceEvent(dataChangedEvent);
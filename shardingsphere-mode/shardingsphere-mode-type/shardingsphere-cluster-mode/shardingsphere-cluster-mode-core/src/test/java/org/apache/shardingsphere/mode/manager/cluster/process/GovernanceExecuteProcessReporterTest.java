@@ -18,36 +18,108 @@
 package org.apache.shardingsphere.mode.manager.cluster.process;
 
 import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
-import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.ShowProcessListManager;
+import org.junit.After;
 import org.junit.Test;
 
-import java.util.UUID;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public final class GovernanceExecuteProcessReporterTest {
     
+    private final GovernanceExecuteProcessReporter reporter = new GovernanceExecuteProcessReporter();
+    
+    private final JDBCExecutionUnit executionUnit0 = new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit("sql1_0", Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, mock(Statement.class));
+    
+    private final JDBCExecutionUnit executionUnit1 = new JDBCExecutionUnit(new ExecutionUnit("ds_1", new SQLUnit("sql1_1", Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, mock(Statement.class));
+    
+    private final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext();
+    
+    private ExecutionGroupContext<JDBCExecutionUnit> createExecutionGroupContext() {
+        ExecutionGroupContext<JDBCExecutionUnit> result = new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(Arrays.asList(executionUnit0, executionUnit1))));
+        result.setDatabaseName("sharding_db");
+        result.setGrantee(new Grantee("sharding", "127.0.0.1"));
+        return result;
+    }
+    
+    @After
+    public void tearDown() {
+        ShowProcessListManager.getInstance().removeProcessContext(executionGroupContext.getExecutionID());
+    }
+    
     @Test
     public void assertReport() {
-        GovernanceExecuteProcessReporterSubscriberFixture subscriber = new GovernanceExecuteProcessReporterSubscriberFixture();
-        LogicSQL logicSQL = new LogicSQL(null, null, null);
-        ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext = mockExecutionGroupContext();
-        ExecuteProcessContext executeProcessContext = new ExecuteProcessContext(logicSQL.getSql(), executionGroupContext, ExecuteProcessConstants.EXECUTE_ID);
-        GovernanceExecuteProcessReporter reporter = new GovernanceExecuteProcessReporter();
-        reporter.report(logicSQL, executionGroupContext, ExecuteProcessConstants.EXECUTE_ID);
-        assertThat(subscriber.getValue(), is(executeProcessContext.getExecutionID()));
+        reporter.report(new LogicSQL(null, "sql1", null), executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
+        ExecuteProcessContext actual = ShowProcessListManager.getInstance().getProcessContext(executionGroupContext.getExecutionID());
+        assertThat(actual.getExecutionID(), is(executionGroupContext.getExecutionID()));
+        assertThat(actual.getDatabaseName(), is("sharding_db"));
+        assertThat(actual.getUsername(), is("sharding"));
+        assertThat(actual.getHostname(), is("127.0.0.1"));
+        assertThat(actual.getSql(), is("sql1"));
+        assertThat(actual.getUnitStatuses().size(), is(2));
+        assertThat(actual.getProcessStatements().size(), is(2));
+        assertFalse(actual.isDone());
     }
     
-    @SuppressWarnings("unchecked")
-    private ExecutionGroupContext<? extends SQLExecutionUnit> mockExecutionGroupContext() {
-        ExecutionGroupContext<? extends SQLExecutionUnit> result = mock(ExecutionGroupContext.class);
-        when(result.getExecutionID()).thenReturn(UUID.randomUUID().toString());
-        return result;
+    @Test
+    public void assertReportWholeProcessDone() {
+        String executionID = executionGroupContext.getExecutionID();
+        reporter.report(new LogicSQL(null, "sql1", null), executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
+        reporter.report(executionID, executionUnit0, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+        reporter.report(executionID, executionUnit0, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+        reporter.report(executionID, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+        ExecuteProcessContext actual = ShowProcessListManager.getInstance().getProcessContext(executionID);
+        assertThat(actual.getUnitStatuses().get(String.valueOf(executionUnit0.getExecutionUnit().hashCode())).getStatus(), is(ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        assertThat(actual.getUnitStatuses().get(String.valueOf(executionUnit1.getExecutionUnit().hashCode())).getStatus(), is(ExecuteProcessConstants.EXECUTE_STATUS_START));
+        assertFalse(actual.isDone());
+        reporter.report(executionID, executionUnit1, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+        assertTrue(actual.isDone());
+        reporter.report(executionID, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+        assertNull(ShowProcessListManager.getInstance().getProcessContext(executionID));
+    }
+    
+    @Test
+    public void assertReportClean() {
+        reporter.report(new LogicSQL(null, "sql1", null), executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
+        reporter.reportClean(executionGroupContext.getExecutionID());
+        assertNull(ShowProcessListManager.getInstance().getProcessContext(executionGroupContext.getExecutionID()));
+    }
+    
+    @Test
+    public void assertKillProcess() throws SQLException {
+        reporter.report(new LogicSQL(null, "sql1", null), executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
+        assertTrue(ShowProcessListManager.getInstance().killProcess(executionGroupContext.getExecutionID(), null));
+        verify(executionUnit0.getStorageResource()).cancel();
+        verify(executionUnit1.getStorageResource()).cancel();
+        assertFalse(ShowProcessListManager.getInstance().killProcess("foo_execution_id", null));
+    }
+    
+    @Test
+    public void assertKillProcessOfOwner() throws SQLException {
+        reporter.report(new LogicSQL(null, "sql1", null), executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
+        assertFalse(ShowProcessListManager.getInstance().killProcess(executionGroupContext.getExecutionID(), "foo_user"));
+        verify(executionUnit0.getStorageResource(), never()).cancel();
+        assertTrue(ShowProcessListManager.getInstance().killProcess(executionGroupContext.getExecutionID(), "sharding"));
+        verify(executionUnit0.getStorageResource()).cancel();
     }
 }
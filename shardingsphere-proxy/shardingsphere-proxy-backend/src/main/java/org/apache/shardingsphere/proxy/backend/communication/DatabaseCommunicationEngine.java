@@ -46,6 +46,7 @@ import org.apache.shardingsphere.proxy.backend.response.data.impl.BinaryQueryRes
 import org.apache.shardingsphere.proxy.backend.response.data.impl.TextQueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderCache;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -116,6 +117,20 @@ public abstract class DatabaseCommunicationEngine<T> {
     
     protected List<QueryHeader> createQueryHeaders(final ExecutionContext executionContext, final QueryResult queryResultSample) throws SQLException {
         int columnCount = getColumnCount(executionContext, queryResultSample);
+        if (!isBinary()) {
+            return createQueryHeaders(executionContext, queryResultSample, columnCount);
+        }
+        long metaDataVersion = database.getMetaDataVersion();
+        Optional<List<QueryHeader>> cachedQueryHeaders = QueryHeaderCache.getInstance().find(database.getName(), logicSQL.getSql(), logicSQL.getParameters(), metaDataVersion, columnCount);
+        if (cachedQueryHeaders.isPresent()) {
+            return cachedQueryHeaders.get();
+        }
+        List<QueryHeader> result = createQueryHeaders(executionContext, queryResultSample, columnCount);
+        QueryHeaderCache.getInstance().put(database.getName(), logicSQL.getSql(), logicSQL.getParameters(), metaDataVersion, result);
+        return result;
+    }
+    
+    private List<QueryHeader> createQueryHeaders(final ExecutionContext executionContext, final QueryResult queryResultSample, final int columnCount) throws SQLException {
         List<QueryHeader> result = new ArrayList<>(columnCount);
         LazyInitializer<DataNodeContainedRule> dataNodeContainedRule = getDataNodeContainedRuleLazyInitializer(database);
         QueryHeaderBuilderEngine queryHeaderBuilderEngine = new QueryHeaderBuilderEngine(database.getProtocolType());
@@ -61,7 +61,7 @@ public final class DatabaseCommunicationEngineFactory {
      */
     public <T extends DatabaseCommunicationEngine> T newTextProtocolInstance(final SQLStatementContext<?> sqlStatementContext, final String sql, final BackendConnection<?> backendConnection) {
         ShardingSphereDatabase database = ProxyContext.getInstance().getDatabase(backendConnection.getConnectionSession().getDatabaseName());
-        LogicSQL logicSQL = new LogicSQL(sqlStatementContext, sql, Collections.emptyList());
+        LogicSQL logicSQL = new LogicSQL(sqlStatementContext, sql, Collections.emptyList(), backendConnection.getConnectionSession().getConnectionContext());
         T result;
         if (backendConnection instanceof JDBCBackendConnection) {
             JDBCBackendConnection jdbcBackendConnection = (JDBCBackendConnection) backendConnection;
@@ -87,7 +87,7 @@ public final class DatabaseCommunicationEngineFactory {
     public <T extends DatabaseCommunicationEngine> T newBinaryProtocolInstance(final SQLStatementContext<?> sqlStatementContext,
                                                                                final String sql, final List<Object> parameters, final BackendConnection<?> backendConnection) {
         ShardingSphereDatabase database = ProxyContext.getInstance().getDatabase(backendConnection.getConnectionSession().getDatabaseName());
-        LogicSQL logicSQL = new LogicSQL(sqlStatementContext, sql, parameters);
+        LogicSQL logicSQL = new LogicSQL(sqlStatementContext, sql, parameters, backendConnection.getConnectionSession().getConnectionContext());
         T result;
         if (backendConnection instanceof JDBCBackendConnection) {
             JDBCBackendConnection jdbcBackendConnection = (JDBCBackendConnection) backendConnection;
@@ -80,6 +80,7 @@ public final class JDBCBackendTransactionManager implements TransactionManager<V
             } finally {
                 connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
                 connection.getConnectionSession().getTransactionStatus().setRollbackOnly(false);
+                connection.getConnectionSession().getConnectionContext().endTransaction();
                 TransactionHolder.clear();
             }
         }
@@ -98,6 +99,7 @@ public final class JDBCBackendTransactionManager implements TransactionManager<V
             } finally {
                 connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
                 connection.getConnectionSession().getTransactionStatus().setRollbackOnly(false);
+                connection.getConnectionSession().getConnectionContext().endTransaction();
                 TransactionHolder.clear();
             }
         }
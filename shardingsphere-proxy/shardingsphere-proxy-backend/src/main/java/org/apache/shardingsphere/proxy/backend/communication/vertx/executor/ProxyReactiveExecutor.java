@@ -52,13 +52,19 @@ public final class ProxyReactiveExecutor {
      */
     public Future<List<ExecuteResult>> execute(final LogicSQL logicSQL, final ExecutionGroupContext<VertxExecutionUnit> executionGroupContext) throws SQLException {
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
-        ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, metaDataContexts.getProps());
-        List<Future<ExecuteResult>> futures = vertxExecutor.execute(executionGroupContext, new VertxExecutorCallback());
-        return CompositeFuture.all(new ArrayList<>(futures)).compose(compositeFuture -> {
-            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
-            return Future.succeededFuture(compositeFuture.<ExecuteResult>list());
-        }).eventually(unused -> {
+        List<Future<ExecuteResult>> futures;
+        try {
+            ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, metaDataContexts.getProps());
+            futures = vertxExecutor.execute(executionGroupContext, new VertxExecutorCallback());
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
             ExecuteProcessEngine.clean();
+            throw ex;
+        }
+        String executionID = executionGroupContext.getExecutionID();
+        return CompositeFuture.all(new ArrayList<>(futures)).map(compositeFuture -> compositeFuture.<ExecuteResult>list()).eventually(unused -> {
+            ExecuteProcessEngine.clean(executionID);
             return Future.succeededFuture();
         });
     }
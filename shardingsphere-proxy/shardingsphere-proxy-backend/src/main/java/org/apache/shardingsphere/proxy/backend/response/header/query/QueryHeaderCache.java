@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.response.header.query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Query header cache.
+ * 
+ * <p>Query headers of a prepared statement only depend on its SQL, types of its parameters and the meta data of database,
+ * so they are compiled once and reused until meta data version changed.
+ * Parameter types are part of the key because projections may contain parameter markers whose column types follow the bound parameters.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QueryHeaderCache {
+    
+    private static final long MAX_CACHED_SQL_SIZE = 2000L;
+    
+    private static final QueryHeaderCache INSTANCE = new QueryHeaderCache();
+    
+    private final Cache<CacheKey, CachedQueryHeaders> cachedQueryHeaders = Caffeine.newBuilder().maximumSize(MAX_CACHED_SQL_SIZE).build();
+    
+    /**
+     * Get query header cache instance.
+     * 
+     * @return query header cache instance
+     */
+    public static QueryHeaderCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Find cached query headers.
+     * 
+     * @param databaseName database name
+     * @param sql SQL
+     * @param parameters parameters
+     * @param metaDataVersion meta data version
+     * @param columnCount column count
+     * @return cached query headers
+     */
+    public Optional<List<QueryHeader>> find(final String databaseName, final String sql, final List<Object> parameters, final long metaDataVersion, final int columnCount) {
+        CachedQueryHeaders result = cachedQueryHeaders.getIfPresent(new CacheKey(databaseName, sql, getParameterTypes(parameters)));
+        return null != result && metaDataVersion == result.metaDataVersion && columnCount == result.queryHeaders.size() ? Optional.of(result.queryHeaders) : Optional.empty();
+    }
+    
+    /**
+     * Cache query headers.
+     * 
+     * @param databaseName database name
+     * @param sql SQL
+     * @param parameters parameters which query headers compiled with
+     * @param metaDataVersion meta data version which query headers compiled with
+     * @param queryHeaders query headers
+     */
+    public void put(final String databaseName, final String sql, final List<Object> parameters, final long metaDataVersion, final List<QueryHeader> queryHeaders) {
+        cachedQueryHeaders.put(new CacheKey(databaseName, sql, getParameterTypes(parameters)), new CachedQueryHeaders(metaDataVersion, queryHeaders));
+    }
+    
+    private List<Class<?>> getParameterTypes(final List<Object> parameters) {
+        List<Class<?>> result = new ArrayList<>(parameters.size());
+        for (Object each : parameters) {
+            result.add(null == each ? null : each.getClass());
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final String databaseName;
+        
+        private final String sql;
+        
+        private final List<Class<?>> parameterTypes;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CachedQueryHeaders {
+        
+        private final long metaDataVersion;
+        
+        private final List<QueryHeader> queryHeaders;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.authority.model.PrivilegeType;
+import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.ShowProcessListManager;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.KillProcessRequestEvent;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.text.admin.executor.DatabaseAdminExecutor;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLKillStatement;
+
+import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.Optional;
+
+/**
+ * Kill process executor, cancels in-flight statements of the execution.
+ * 
+ * <p>
+ * Users without PROCESS privilege can only kill their own processes. In cluster mode the execution is killed on all compute nodes, otherwise on current compute node only.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class KillProcessExecutor implements DatabaseAdminExecutor {
+    
+    private final MySQLKillStatement killStatement;
+    
+    @Override
+    public void execute(final ConnectionSession connectionSession) throws SQLException {
+        ContextManager contextManager = ProxyContext.getInstance().getContextManager();
+        String processId = killStatement.getProcesslistId();
+        String username = hasProcessPrivilege(contextManager, connectionSession.getGrantee()) ? null : connectionSession.getGrantee().getUsername();
+        if ("Cluster".equals(contextManager.getInstanceContext().getModeConfiguration().getType())) {
+            ShardingSphereEventBus.getInstance().post(new KillProcessRequestEvent(processId, username));
+            return;
+        }
+        if (null == ShowProcessListManager.getInstance().getProcessContext(processId)) {
+            throw new SQLException(String.format("Unknown thread id: %s", processId), "HY000", 1094);
+        }
+        if (!ShowProcessListManager.getInstance().killProcess(processId, username)) {
+            throw new SQLException(String.format("You are not owner of thread %s", processId), "HY000", 1095);
+        }
+    }
+    
+    private boolean hasProcessPrivilege(final ContextManager contextManager, final Grantee grantee) {
+        if (null == grantee) {
+            return true;
+        }
+        Optional<AuthorityRule> authorityRule = contextManager.getMetaDataContexts().getGlobalRuleMetaData().findSingleRule(AuthorityRule.class);
+        return !authorityRule.isPresent() || authorityRule.get().findPrivileges(grantee).map(optional -> optional.hasPrivileges(EnumSet.of(PrivilegeType.PROCESS))).orElse(false);
+    }
+}
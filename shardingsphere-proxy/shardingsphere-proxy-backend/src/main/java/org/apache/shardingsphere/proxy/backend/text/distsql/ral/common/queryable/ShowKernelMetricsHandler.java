@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.queryable;
+
+import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowKernelMetricsStatement;
+import org.apache.shardingsphere.infra.metrics.KernelMetricsRegistry;
+import org.apache.shardingsphere.infra.metrics.KernelStage;
+import org.apache.shardingsphere.infra.metrics.LatencyHistogram;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.text.distsql.ral.QueryableRALBackendHandler;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Show kernel metrics handler.
+ */
+public final class ShowKernelMetricsHandler extends QueryableRALBackendHandler<ShowKernelMetricsStatement, ShowKernelMetricsHandler> {
+    
+    private static final String TYPE = "type";
+    
+    private static final String NAME = "name";
+    
+    private static final String COUNT = "count";
+    
+    private static final String MEAN = "mean_us";
+    
+    private static final String P50 = "p50_us";
+    
+    private static final String P99 = "p99_us";
+    
+    @Override
+    protected Collection<String> getColumnNames() {
+        return Arrays.asList(TYPE, NAME, COUNT, MEAN, P50, P99);
+    }
+    
+    @Override
+    protected Collection<List<Object>> getRows(final ContextManager contextManager) {
+        Collection<List<Object>> result = new LinkedList<>();
+        KernelMetricsRegistry registry = KernelMetricsRegistry.getInstance();
+        for (KernelStage each : KernelStage.values()) {
+            result.add(createRow("stage", each.name(), registry.getStageHistogram(each)));
+        }
+        for (Entry<String, Map<String, LatencyHistogram>> entry : new TreeMap<>(registry.getDataSourceHistograms()).entrySet()) {
+            for (Entry<String, LatencyHistogram> each : new TreeMap<>(entry.getValue()).entrySet()) {
+                result.add(createRow("data_source", String.join(".", entry.getKey(), each.getKey()), each.getValue()));
+            }
+        }
+        return result;
+    }
+    
+    private List<Object> createRow(final String type, final String name, final LatencyHistogram histogram) {
+        return Arrays.asList(type, name, histogram.getCount(),
+                TimeUnit.NANOSECONDS.toMicros(histogram.getMeanNanos()), TimeUnit.NANOSECONDS.toMicros(histogram.getPercentileNanos(0.5D)),
+                TimeUnit.NANOSECONDS.toMicros(histogram.getPercentileNanos(0.99D)));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.queryable;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowTableStatisticsStatement;
+import org.apache.shardingsphere.infra.exception.DatabaseNotExistedException;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationDatabaseMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableStatistics;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.exception.NoDatabaseSelectedException;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.text.distsql.ral.QueryableRALBackendHandler;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Show table statistics handler.
+ */
+public final class ShowTableStatisticsHandler extends QueryableRALBackendHandler<ShowTableStatisticsStatement, ShowTableStatisticsHandler> {
+    
+    private static final String SCHEMA_NAME = "schema_name";
+    
+    private static final String TABLE_NAME = "table_name";
+    
+    private static final String ROW_COUNT = "row_count";
+    
+    private static final String COLUMN_DISTINCT_COUNTS = "column_distinct_counts";
+    
+    private static final String UNIQUE_COLUMNS = "unique_columns";
+    
+    private ConnectionSession connectionSession;
+    
+    @Override
+    public ShowTableStatisticsHandler init(final HandlerParameter<ShowTableStatisticsStatement> parameter) {
+        connectionSession = parameter.getConnectionSession();
+        return super.init(parameter);
+    }
+    
+    @Override
+    protected Collection<String> getColumnNames() {
+        return Arrays.asList(SCHEMA_NAME, TABLE_NAME, ROW_COUNT, COLUMN_DISTINCT_COUNTS, UNIQUE_COLUMNS);
+    }
+    
+    @Override
+    protected Collection<List<Object>> getRows(final ContextManager contextManager) {
+        String databaseName = getDatabaseName();
+        String defaultSchema = connectionSession.getDatabaseType().getDefaultSchema(databaseName);
+        FederationDatabaseMetaData databaseMetaData = contextManager.getMetaDataContexts().getOptimizerContext().getFederationMetaData().getDatabases().get(databaseName);
+        FederationSchemaMetaData schemaMetaData = null == databaseMetaData ? null : databaseMetaData.getSchemas().get(defaultSchema.toLowerCase());
+        if (null == schemaMetaData) {
+            return Collections.emptyList();
+        }
+        Collection<String> tableNames = sqlStatement.getTableNames().stream().map(String::toLowerCase).collect(Collectors.toSet());
+        Collection<List<Object>> result = new LinkedList<>();
+        for (FederationTableMetaData each : schemaMetaData.getTables().values()) {
+            TableStatistics statistics = each.getStatistics();
+            if (null != statistics && (tableNames.isEmpty() || tableNames.contains(each.getName().toLowerCase()))) {
+                result.add(buildRow(databaseName, each.getName(), statistics));
+            }
+        }
+        return result;
+    }
+    
+    private String getDatabaseName() {
+        String result = sqlStatement.getSchema().isPresent() ? sqlStatement.getSchema().get().getIdentifier().getValue() : connectionSession.getDatabaseName();
+        if (Strings.isNullOrEmpty(result)) {
+            throw new NoDatabaseSelectedException();
+        }
+        if (!ProxyContext.getInstance().getAllDatabaseNames().contains(result)) {
+            throw new DatabaseNotExistedException(result);
+        }
+        return result;
+    }
+    
+    private List<Object> buildRow(final String databaseName, final String tableName, final TableStatistics statistics) {
+        String columnDistinctCounts = statistics.getColumnDistinctCounts().entrySet().stream().map(entry -> entry.getKey() + "=" + entry.getValue()).collect(Collectors.joining(","));
+        return Arrays.asList(databaseName, tableName, statistics.getRowCount(), columnDistinctCounts, String.join(",", statistics.getUniqueColumns()));
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.session.ConnectionContext;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -60,6 +61,9 @@ public final class JDBCBackendTransactionManagerTest {
     @Mock
     private ShardingSphereTransactionManager shardingSphereTransactionManager;
     
+    @Mock
+    private ConnectionContext connectionContext;
+    
     private JDBCBackendTransactionManager backendTransactionManager;
     
     @Before
@@ -110,17 +114,21 @@ public final class JDBCBackendTransactionManagerTest {
     @Test
     public void assertCommitForLocalTransaction() throws SQLException {
         newBackendTransactionManager(TransactionType.LOCAL, true);
+        when(connectionSession.getConnectionContext()).thenReturn(connectionContext);
         backendTransactionManager.commit();
         verify(transactionStatus).setInTransaction(false);
         verify(localTransactionManager).commit();
+        verify(connectionContext).endTransaction();
     }
     
     @Test
     public void assertCommitForDistributedTransaction() throws SQLException {
         newBackendTransactionManager(TransactionType.XA, true);
+        when(connectionSession.getConnectionContext()).thenReturn(connectionContext);
         backendTransactionManager.commit();
         verify(transactionStatus).setInTransaction(false);
         verify(shardingSphereTransactionManager).commit(false);
+        verify(connectionContext).endTransaction();
     }
     
     @Test
@@ -135,17 +143,21 @@ public final class JDBCBackendTransactionManagerTest {
     @Test
     public void assertRollbackForLocalTransaction() throws SQLException {
         newBackendTransactionManager(TransactionType.LOCAL, true);
+        when(connectionSession.getConnectionContext()).thenReturn(connectionContext);
         backendTransactionManager.rollback();
         verify(transactionStatus).setInTransaction(false);
         verify(localTransactionManager).rollback();
+        verify(connectionContext).endTransaction();
     }
     
     @Test
     public void assertRollbackForDistributedTransaction() throws SQLException {
         newBackendTransactionManager(TransactionType.XA, true);
+        when(connectionSession.getConnectionContext()).thenReturn(connectionContext);
         backendTransactionManager.rollback();
         verify(transactionStatus).setInTransaction(false);
         verify(shardingSphereTransactionManager).rollback();
+        verify(connectionContext).endTransaction();
     }
     
     @Test
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.response.header.query;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class QueryHeaderCacheTest {
+    
+    @Test
+    public void assertFind() {
+        List<QueryHeader> queryHeaders = Collections.singletonList(mock(QueryHeader.class));
+        QueryHeaderCache.getInstance().put("foo_db", "SELECT id FROM t_order WHERE id = ?", Collections.singletonList(1), 1L, queryHeaders);
+        Optional<List<QueryHeader>> actual = QueryHeaderCache.getInstance().find("foo_db", "SELECT id FROM t_order WHERE id = ?", Collections.singletonList(1), 1L, 1);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(queryHeaders));
+    }
+    
+    @Test
+    public void assertFindWithChangedMetaDataVersion() {
+        QueryHeaderCache.getInstance().put("foo_db", "SELECT status FROM t_order WHERE id = ?", Collections.singletonList(1), 1L, Collections.singletonList(mock(QueryHeader.class)));
+        assertFalse(QueryHeaderCache.getInstance().find("foo_db", "SELECT status FROM t_order WHERE id = ?", Collections.singletonList(1), 2L, 1).isPresent());
+    }
+    
+    @Test
+    public void assertFindWithDifferentColumnCount() {
+        QueryHeaderCache.getInstance().put("foo_db", "SELECT * FROM t_order WHERE id = ?", Collections.singletonList(1), 1L, Collections.singletonList(mock(QueryHeader.class)));
+        assertFalse(QueryHeaderCache.getInstance().find("foo_db", "SELECT * FROM t_order WHERE id = ?", Collections.singletonList(1), 1L, 2).isPresent());
+    }
+    
+    @Test
+    public void assertFindWithDifferentDatabase() {
+        QueryHeaderCache.getInstance().put("foo_db", "SELECT user_id FROM t_order WHERE id = ?", Collections.singletonList(1), 1L, Collections.singletonList(mock(QueryHeader.class)));
+        assertFalse(QueryHeaderCache.getInstance().find("bar_db", "SELECT user_id FROM t_order WHERE id = ?", Collections.singletonList(1), 1L, 1).isPresent());
+    }
+    
+    @Test
+    public void assertFindWithDifferentParameterTypes() {
+        QueryHeaderCache.getInstance().put("foo_db", "SELECT order_id, ? FROM t_order WHERE id = ?", Arrays.asList(1, 1), 1L, Arrays.asList(mock(QueryHeader.class), mock(QueryHeader.class)));
+        assertFalse(QueryHeaderCache.getInstance().find("foo_db", "SELECT order_id, ? FROM t_order WHERE id = ?", Arrays.asList("foo", 1), 1L, 2).isPresent());
+        assertTrue(QueryHeaderCache.getInstance().find("foo_db", "SELECT order_id, ? FROM t_order WHERE id = ?", Arrays.asList(2, 1), 1L, 2).isPresent());
+    }
+}
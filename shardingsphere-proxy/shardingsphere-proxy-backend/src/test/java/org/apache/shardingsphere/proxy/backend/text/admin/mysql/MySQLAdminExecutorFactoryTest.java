@@ -19,9 +19,11 @@ package org.apache.shardingsphere.proxy.backend.text.admin.mysql;
 
 import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.proxy.backend.text.admin.executor.DatabaseAdminExecutor;
+import org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor.KillProcessExecutor;
 import org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor.ShowFunctionStatusExecutor;
 import org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor.ShowProcedureStatusExecutor;
 import org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor.ShowTablesExecutor;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLKillStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowFunctionStatusStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowProcedureStatusStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowTablesStatement;
@@ -69,4 +71,17 @@ public final class MySQLAdminExecutorFactoryTest {
         assertTrue(executor.isPresent());
         assertThat(executor.get(), instanceOf(ShowTablesExecutor.class));
     }
+    
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void assertNewInstanceWithMySQLKillQueryStatement() {
+        MySQLKillStatement statement = new MySQLKillStatement();
+        statement.setProcesslistId("foo_execution_id");
+        statement.setScope("QUERY");
+        CommonSQLStatementContext statementContext = mock(CommonSQLStatementContext.class);
+        when(statementContext.getSqlStatement()).thenReturn(statement);
+        Optional<DatabaseAdminExecutor> executor = new MySQLAdminExecutorCreator().create(statementContext, "KILL QUERY 'foo_execution_id'", "");
+        assertTrue(executor.isPresent());
+        assertThat(executor.get(), instanceOf(KillProcessExecutor.class));
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.authority.model.PrivilegeType;
+import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
+import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.ShowProcessListManager;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event.KillProcessRequestEvent;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLKillStatement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class KillProcessExecutorTest {
+    
+    private final ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+    
+    private final ShardingSpherePrivileges privileges = mock(ShardingSpherePrivileges.class);
+    
+    private KillProcessRequestEvent actualEvent;
+    
+    @Before
+    public void setUp() throws IllegalAccessException, NoSuchFieldException {
+        Field contextManagerField = ProxyContext.getInstance().getClass().getDeclaredField("contextManager");
+        contextManagerField.setAccessible(true);
+        AuthorityRule authorityRule = mock(AuthorityRule.class);
+        when(authorityRule.findPrivileges(new Grantee("foo_user", ""))).thenReturn(Optional.of(privileges));
+        when(contextManager.getMetaDataContexts().getGlobalRuleMetaData().findSingleRule(AuthorityRule.class)).thenReturn(Optional.of(authorityRule));
+        contextManagerField.set(ProxyContext.getInstance(), contextManager);
+    }
+    
+    @After
+    public void tearDown() {
+        ShowProcessListManager.getInstance().removeProcessContext("foo_execution_id");
+    }
+    
+    @Test
+    public void assertExecuteInClusterMode() throws SQLException {
+        when(contextManager.getInstanceContext().getModeConfiguration().getType()).thenReturn("Cluster");
+        ShardingSphereEventBus.getInstance().register(this);
+        try {
+            new KillProcessExecutor(createKillStatement()).execute(mockConnectionSession());
+        } finally {
+            ShardingSphereEventBus.getInstance().unregister(this);
+        }
+        assertThat(actualEvent.getProcessId(), is("foo_execution_id"));
+        assertThat(actualEvent.getUsername(), is("foo_user"));
+    }
+    
+    @Test
+    public void assertExecuteInClusterModeWithProcessPrivilege() throws SQLException {
+        when(contextManager.getInstanceContext().getModeConfiguration().getType()).thenReturn("Cluster");
+        when(privileges.hasPrivileges(EnumSet.of(PrivilegeType.PROCESS))).thenReturn(true);
+        ShardingSphereEventBus.getInstance().register(this);
+        try {
+            new KillProcessExecutor(createKillStatement()).execute(mockConnectionSession());
+        } finally {
+            ShardingSphereEventBus.getInstance().unregister(this);
+        }
+        assertThat(actualEvent.getUsername(), nullValue());
+    }
+    
+    @Test
+    public void assertExecuteInStandaloneMode() throws SQLException {
+        when(contextManager.getInstanceContext().getModeConfiguration().getType()).thenReturn("Standalone");
+        Statement statement = mock(Statement.class);
+        ShowProcessListManager.getInstance().putProcessContext("foo_execution_id", mockExecuteProcessContext("foo_user", statement));
+        new KillProcessExecutor(createKillStatement()).execute(mockConnectionSession());
+        verify(statement).cancel();
+    }
+    
+    @Test
+    public void assertExecuteInStandaloneModeWithUnknownProcess() {
+        when(contextManager.getInstanceContext().getModeConfiguration().getType()).thenReturn("Standalone");
+        try {
+            new KillProcessExecutor(createKillStatement()).execute(mockConnectionSession());
+            fail("Expected SQLException");
+        } catch (final SQLException ex) {
+            assertThat(ex.getErrorCode(), is(1094));
+        }
+    }
+    
+    @Test
+    public void assertExecuteInStandaloneModeWithProcessOfOtherUser() throws SQLException {
+        when(contextManager.getInstanceContext().getModeConfiguration().getType()).thenReturn("Standalone");
+        Statement statement = mock(Statement.class);
+        ShowProcessListManager.getInstance().putProcessContext("foo_execution_id", mockExecuteProcessContext("bar_user", statement));
+        try {
+            new KillProcessExecutor(createKillStatement()).execute(mockConnectionSession());
+            fail("Expected SQLException");
+        } catch (final SQLException ex) {
+            assertThat(ex.getErrorCode(), is(1095));
+        }
+        verify(statement, never()).cancel();
+    }
+    
+    private MySQLKillStatement createKillStatement() {
+        MySQLKillStatement result = new MySQLKillStatement();
+        result.setProcesslistId("foo_execution_id");
+        result.setScope("QUERY");
+        return result;
+    }
+    
+    private ConnectionSession mockConnectionSession() {
+        ConnectionSession result = mock(ConnectionSession.class);
+        when(result.getGrantee()).thenReturn(new Grantee("foo_user", ""));
+        return result;
+    }
+    
+    private ExecuteProcessContext mockExecuteProcessContext(final String username, final Statement statement) {
+        ExecuteProcessContext result = mock(ExecuteProcessContext.class);
+        when(result.getUsername()).thenReturn(username);
+        when(result.getProcessStatements()).thenReturn(Collections.singletonList(statement));
+        return result;
+    }
+    
+    /**
+     * Receive kill process request event.
+     *
+     * @param event kill process request event
+     */
+    @Subscribe
+    public void receiveKillProcessRequest(final KillProcessRequestEvent event) {
+        actualEvent = event;
+    }
+}
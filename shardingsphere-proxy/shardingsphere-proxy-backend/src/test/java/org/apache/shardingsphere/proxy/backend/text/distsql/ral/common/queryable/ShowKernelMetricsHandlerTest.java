@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.queryable;
+
+import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowKernelMetricsStatement;
+import org.apache.shardingsphere.infra.metrics.KernelMetricsRegistry;
+import org.apache.shardingsphere.infra.metrics.KernelStage;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.util.ProxyContextRestorer;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+public final class ShowKernelMetricsHandlerTest extends ProxyContextRestorer {
+    
+    @After
+    public void tearDown() {
+        KernelMetricsRegistry.getInstance().setEnabled(false);
+        KernelMetricsRegistry.getInstance().reset();
+    }
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        KernelMetricsRegistry.getInstance().reset();
+        KernelMetricsRegistry.getInstance().setEnabled(true);
+        KernelMetricsRegistry.getInstance().recordStage(KernelStage.PARSE, System.nanoTime());
+        KernelMetricsRegistry.getInstance().recordExecution("foo_db", "ds_0", System.nanoTime());
+        ProxyContext.init(mock(ContextManager.class, RETURNS_DEEP_STUBS));
+        ShowKernelMetricsHandler handler = new ShowKernelMetricsHandler().initStatement(new ShowKernelMetricsStatement());
+        handler.execute();
+        handler.next();
+        List<Object> data = new ArrayList<>(handler.getRowData());
+        assertThat(data.size(), is(6));
+        assertThat(data.get(0), is("stage"));
+        assertThat(data.get(1), is("PARSE"));
+        assertThat(data.get(2), is(1L));
+        for (int i = 1; i < KernelStage.values().length; i++) {
+            handler.next();
+        }
+        handler.next();
+        data = new ArrayList<>(handler.getRowData());
+        assertThat(data.get(0), is("data_source"));
+        assertThat(data.get(1), is("foo_db.ds_0"));
+        assertThat(data.get(2), is(1L));
+        assertFalse(handler.next());
+    }
+}
@@ -104,6 +104,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     
     private void closeAllResources() {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionSession.getConnectionId());
+        connectionSession.getConnectionContext().clear();
         try {
             connectionSession.getBackendConnection().closeAllResources();
         } catch (final BackendConnectionException ex) {
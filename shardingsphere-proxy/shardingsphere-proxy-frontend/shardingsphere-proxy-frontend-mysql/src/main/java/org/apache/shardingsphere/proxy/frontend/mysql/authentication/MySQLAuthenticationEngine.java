@@ -91,6 +91,9 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         MySQLCharacterSet mySQLCharacterSet = MySQLCharacterSet.findById(packet.getCharacterSet());
         context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(mySQLCharacterSet.getCharset());
         context.channel().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).set(mySQLCharacterSet);
+        if (isClientOptionalResultSetMetadata(packet)) {
+            context.channel().attr(MySQLConstants.MYSQL_OPTIONAL_RESULTSET_METADATA).set(true);
+        }
         if (!Strings.isNullOrEmpty(packet.getDatabase()) && !ProxyContext.getInstance().databaseExists(packet.getDatabase())) {
             context.writeAndFlush(new MySQLErrPacket(++sequenceId, MySQLServerErrorCode.ER_BAD_DB_ERROR, packet.getDatabase()));
             return AuthenticationResultBuilder.continued();
@@ -108,6 +111,10 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         return 0 != (packet.getCapabilityFlags() & MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH.getValue());
     }
     
+    private boolean isClientOptionalResultSetMetadata(final MySQLHandshakeResponse41Packet packet) {
+        return 0 != (packet.getCapabilityFlags() & MySQLCapabilityFlag.CLIENT_OPTIONAL_RESULTSET_METADATA.getValue());
+    }
+    
     private void authenticationMethodMismatch(final MySQLPacketPayload payload) {
         MySQLAuthSwitchResponsePacket packet = new MySQLAuthSwitchResponsePacket(payload);
         sequenceId = packet.getSequenceId();
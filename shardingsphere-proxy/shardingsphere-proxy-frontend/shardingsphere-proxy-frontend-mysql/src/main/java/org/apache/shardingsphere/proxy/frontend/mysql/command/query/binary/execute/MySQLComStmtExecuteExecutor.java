@@ -23,7 +23,10 @@ import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatement;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
@@ -45,6 +48,7 @@ import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.data.impl.BinaryQueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
@@ -73,8 +77,12 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     private final TextProtocolBackendHandler textProtocolBackendHandler;
     
+    private final MySQLPreparedStatement preparedStatement;
+    
     private final int characterSet;
     
+    private final boolean optionalResultSetMetadata;
+    
     @Getter
     private volatile ResponseType responseType;
     
@@ -94,8 +102,11 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
         if (sqlStatementContext instanceof TableAvailable) {
             ((TableAvailable) sqlStatementContext).getTablesContext().getDatabaseName().ifPresent(SQLStatementDatabaseHolder::set);
         }
-        SQLCheckEngine.check(sqlStatement, Collections.emptyList(), getRules(databaseName), databaseName, metaDataContexts.getDatabaseMap(), connectionSession.getGrantee());
+        SQLCheckEngine.check(sqlStatementContext, Collections.emptyList(), getRules(databaseName), databaseName, metaDataContexts.getDatabaseMap(), connectionSession.getGrantee());
+        preparedStatement = packet.getPreparedStatement();
         characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
+        optionalResultSetMetadata = connectionSession.getAttributeMap().hasAttr(MySQLConstants.MYSQL_OPTIONAL_RESULTSET_METADATA)
+                && connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_OPTIONAL_RESULTSET_METADATA).get();
         // TODO Refactor the following branch
         if (sqlStatement instanceof TCLStatement) {
             databaseCommunicationEngine = null;
@@ -123,11 +134,27 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     private Collection<DatabasePacket<?>> processQuery(final QueryResponseHeader queryResponseHeader) {
         responseType = ResponseType.QUERY;
-        Collection<DatabasePacket<?>> result = ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet);
+        Collection<DatabasePacket<?>> result = null == databaseCommunicationEngine
+                ? ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet, optionalResultSetMetadata)
+                : buildPreparedQueryResponsePackets(queryResponseHeader);
         currentSequenceId = result.size();
         return result;
     }
     
+    private Collection<DatabasePacket<?>> buildPreparedQueryResponsePackets(final QueryResponseHeader queryResponseHeader) {
+        List<QueryHeader> queryHeaders = queryResponseHeader.getQueryHeaders();
+        Optional<List<MySQLColumnDefinition41Packet>> cachedColumnDefinitions = preparedStatement.findColumnDefinitions(queryHeaders, characterSet);
+        List<MySQLColumnDefinition41Packet> columnDefinitions;
+        if (cachedColumnDefinitions.isPresent()) {
+            columnDefinitions = cachedColumnDefinitions.get();
+        } else {
+            columnDefinitions = ResponsePacketBuilder.buildColumnDefinitionPackets(queryHeaders, characterSet);
+            preparedStatement.cacheColumnDefinitions(queryHeaders, characterSet, columnDefinitions);
+        }
+        // Column definitions are always sent, client may fall back to placeholder projection columns of COM_STMT_PREPARE_OK otherwise
+        return ResponsePacketBuilder.buildQueryResponsePackets(columnDefinitions, optionalResultSetMetadata ? MySQLResultSetMetadata.RESULTSET_METADATA_FULL : null);
+    }
+    
     private Collection<DatabasePacket<?>> processUpdate(final UpdateResponseHeader updateResponseHeader) {
         responseType = ResponseType.UPDATE;
         return ResponsePacketBuilder.buildUpdateResponsePackets(updateResponseHeader);
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.prep
 import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.MySQLComSetOptionPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatementRegistry;
@@ -57,12 +58,16 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
     
     private final int characterSet;
     
+    private final boolean optionalResultSetMetadata;
+    
     private int currentSequenceId;
     
     public MySQLComStmtPrepareExecutor(final MySQLComStmtPreparePacket packet, final ConnectionSession connectionSession) {
         this.packet = packet;
         this.connectionSession = connectionSession;
         characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
+        optionalResultSetMetadata = connectionSession.getAttributeMap().hasAttr(MySQLConstants.MYSQL_OPTIONAL_RESULTSET_METADATA)
+                && connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_OPTIONAL_RESULTSET_METADATA).get();
     }
     
     @Override
@@ -104,7 +109,8 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
     
     private Collection<DatabasePacket<?>> createPackets(final int statementId, final int projectionCount, final int parameterCount) {
         Collection<DatabasePacket<?>> result = new LinkedList<>();
-        result.add(new MySQLComStmtPrepareOKPacket(++currentSequenceId, statementId, projectionCount, parameterCount, 0));
+        result.add(new MySQLComStmtPrepareOKPacket(++currentSequenceId, statementId, projectionCount, parameterCount, 0,
+                optionalResultSetMetadata ? MySQLResultSetMetadata.RESULTSET_METADATA_FULL : null));
         if (parameterCount > 0) {
             result.addAll(createParameterColumnDefinition41Packets(parameterCount));
         }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnFieldDetailFlag;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
@@ -30,6 +31,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -46,18 +48,48 @@ public final class ResponsePacketBuilder {
      * 
      * @param queryResponseHeader query response header
      * @param characterSet MySQL character set id
+     * @param optionalResultSetMetadata whether optional result set metadata is negotiated with client
      * @return query response packets
      */
-    public static Collection<DatabasePacket<?>> buildQueryResponsePackets(final QueryResponseHeader queryResponseHeader, final int characterSet) {
+    public static Collection<DatabasePacket<?>> buildQueryResponsePackets(final QueryResponseHeader queryResponseHeader, final int characterSet, final boolean optionalResultSetMetadata) {
+        return buildQueryResponsePackets(buildColumnDefinitionPackets(queryResponseHeader.getQueryHeaders(), characterSet),
+                optionalResultSetMetadata ? MySQLResultSetMetadata.RESULTSET_METADATA_FULL : null);
+    }
+    
+    /**
+     * Build query response packets with built column definition packets.
+     * 
+     * @param columnDefinitions column definition packets
+     * @param resultSetMetadata result set metadata, null if optional result set metadata is not negotiated with client
+     * @return query response packets
+     */
+    public static Collection<DatabasePacket<?>> buildQueryResponsePackets(final List<MySQLColumnDefinition41Packet> columnDefinitions, final MySQLResultSetMetadata resultSetMetadata) {
         Collection<DatabasePacket<?>> result = new LinkedList<>();
         int sequenceId = 0;
-        List<QueryHeader> queryHeaders = queryResponseHeader.getQueryHeaders();
-        result.add(new MySQLFieldCountPacket(++sequenceId, queryHeaders.size()));
+        result.add(new MySQLFieldCountPacket(++sequenceId, columnDefinitions.size(), resultSetMetadata));
+        if (MySQLResultSetMetadata.RESULTSET_METADATA_NONE == resultSetMetadata) {
+            return result;
+        }
+        result.addAll(columnDefinitions);
+        sequenceId += columnDefinitions.size();
+        result.add(new MySQLEofPacket(++sequenceId));
+        return result;
+    }
+    
+    /**
+     * Build column definition packets.
+     * 
+     * @param queryHeaders query headers
+     * @param characterSet MySQL character set id
+     * @return column definition packets
+     */
+    public static List<MySQLColumnDefinition41Packet> buildColumnDefinitionPackets(final List<QueryHeader> queryHeaders, final int characterSet) {
+        List<MySQLColumnDefinition41Packet> result = new ArrayList<>(queryHeaders.size());
+        int sequenceId = 1;
         for (QueryHeader each : queryHeaders) {
             result.add(new MySQLColumnDefinition41Packet(++sequenceId, characterSet, getColumnFieldDetailFlag(each), each.getSchema(), each.getTable(), each.getTable(),
                     each.getColumnLabel(), each.getColumnName(), each.getColumnLength(), MySQLBinaryColumnType.valueOfJDBCType(each.getColumnType()), each.getDecimals(), false));
         }
-        result.add(new MySQLEofPacket(++sequenceId));
         return result;
     }
     
@@ -62,6 +62,8 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     private final int characterSet;
     
+    private final boolean optionalResultSetMetadata;
+    
     @Getter
     private volatile ResponseType responseType;
     
@@ -73,6 +75,8 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         textProtocolBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSql()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSql())
                 : TextProtocolBackendHandlerFactory.newInstance(databaseType, packet.getSql(), () -> Optional.of(sqlStatement), connectionSession);
         characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
+        optionalResultSetMetadata = connectionSession.getAttributeMap().hasAttr(MySQLConstants.MYSQL_OPTIONAL_RESULTSET_METADATA)
+                && connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_OPTIONAL_RESULTSET_METADATA).get();
     }
     
     private SQLStatement parseSql(final String sql, final DatabaseType databaseType) {
@@ -104,7 +108,7 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     private Collection<DatabasePacket<?>> processQuery(final QueryResponseHeader queryResponseHeader) {
         responseType = ResponseType.QUERY;
-        Collection<DatabasePacket<?>> result = ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet);
+        Collection<DatabasePacket<?>> result = ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet, optionalResultSetMetadata);
         currentSequenceId = result.size();
         return result;
     }
@@ -106,6 +106,27 @@ public final class MySQLAuthenticationEngineTest {
         assertThat(getConnectionPhase(), is(MySQLConnectionPhase.AUTHENTICATION_METHOD_MISMATCH));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertAuthenticationWithOptionalResultSetMetadata() {
+        setConnectionPhase(MySQLConnectionPhase.AUTH_PHASE_FAST_PATH);
+        MySQLPacketPayload payload = mock(MySQLPacketPayload.class);
+        ChannelHandlerContext channelHandlerContext = mock(ChannelHandlerContext.class);
+        Channel channel = mock(Channel.class);
+        Attribute<Boolean> optionalResultSetMetadataAttribute = mock(Attribute.class);
+        when(payload.readStringNulByBytes()).thenReturn("root".getBytes());
+        when(channel.remoteAddress()).thenReturn(new InetSocketAddress("localhost", 3307));
+        when(channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY)).thenReturn(mock(Attribute.class));
+        when(channel.attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY)).thenReturn(mock(Attribute.class));
+        when(channel.attr(MySQLConstants.MYSQL_OPTIONAL_RESULTSET_METADATA)).thenReturn(optionalResultSetMetadataAttribute);
+        when(channelHandlerContext.channel()).thenReturn(channel);
+        when(payload.readInt1()).thenReturn(1);
+        when(payload.readInt4()).thenReturn(MySQLCapabilityFlag.calculateCapabilityFlags(MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH, MySQLCapabilityFlag.CLIENT_OPTIONAL_RESULTSET_METADATA));
+        when(authenticationHandler.getAuthenticator(any(), any())).thenReturn(new MySQLNativePasswordAuthenticator(mock(MySQLAuthPluginData.class)));
+        authenticationEngine.authenticate(channelHandlerContext, payload);
+        verify(optionalResultSetMetadataAttribute).set(true);
+    }
+    
     @Test
     public void assertAuthSwitchResponse() {
         setConnectionPhase(MySQLConnectionPhase.AUTHENTICATION_METHOD_MISMATCH);
@@ -17,9 +17,15 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.execute;
 
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatement;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
@@ -52,7 +58,10 @@ import org.mockito.plugins.MemberAccessor;
 
 import java.lang.reflect.Field;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
 
@@ -106,6 +115,7 @@ public final class MySQLComStmtExecuteExecutorTest {
         when(connectionSession.getDefaultDatabaseName()).thenReturn("logic_db");
         MySQLComStmtExecutePacket packet = mock(MySQLComStmtExecutePacket.class);
         when(packet.getSql()).thenReturn("SELECT 1");
+        when(packet.getPreparedStatement()).thenReturn(new MySQLPreparedStatement("SELECT 1", 0));
         MySQLComStmtExecuteExecutor mysqlComStmtExecuteExecutor = new MySQLComStmtExecuteExecutor(packet, connectionSession);
         MemberAccessor accessor = Plugins.getMemberAccessor();
         accessor.set(MySQLComStmtExecuteExecutor.class.getDeclaredField("databaseCommunicationEngine"), mysqlComStmtExecuteExecutor, databaseCommunicationEngine);
@@ -114,6 +124,56 @@ public final class MySQLComStmtExecuteExecutorTest {
         assertThat(mysqlComStmtExecuteExecutor.getResponseType(), is(ResponseType.QUERY));
     }
     
+    @Test
+    public void assertReuseColumnDefinitionsWithSameQueryHeaders() throws NoSuchFieldException, SQLException, IllegalAccessException {
+        when(connectionSession.getDatabaseName()).thenReturn("logic_db");
+        when(connectionSession.getDefaultDatabaseName()).thenReturn("logic_db");
+        when(connectionSession.getAttributeMap().hasAttr(MySQLConstants.MYSQL_OPTIONAL_RESULTSET_METADATA)).thenReturn(true);
+        when(connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_OPTIONAL_RESULTSET_METADATA).get()).thenReturn(true);
+        MySQLComStmtExecutePacket packet = mock(MySQLComStmtExecutePacket.class);
+        when(packet.getSql()).thenReturn("SELECT 1");
+        when(packet.getPreparedStatement()).thenReturn(new MySQLPreparedStatement("SELECT 1", 0));
+        when(databaseCommunicationEngine.execute()).thenReturn(new QueryResponseHeader(Collections.singletonList(createQueryHeader(Types.INTEGER))));
+        List<DatabasePacket<?>> actualFirstPackets = new ArrayList<>(createExecutor(packet).execute());
+        assertThat(actualFirstPackets.size(), is(3));
+        assertThat(((MySQLFieldCountPacket) actualFirstPackets.get(0)).getResultSetMetadata(), is(MySQLResultSetMetadata.RESULTSET_METADATA_FULL));
+        List<DatabasePacket<?>> actualSecondPackets = new ArrayList<>(createExecutor(packet).execute());
+        assertThat(actualSecondPackets.size(), is(3));
+        assertThat(((MySQLFieldCountPacket) actualSecondPackets.get(0)).getResultSetMetadata(), is(MySQLResultSetMetadata.RESULTSET_METADATA_FULL));
+        assertThat(actualSecondPackets.get(1), is(actualFirstPackets.get(1)));
+    }
+    
+    @Test
+    public void assertExecuteWithDifferentParameterTypes() throws NoSuchFieldException, SQLException, IllegalAccessException {
+        when(connectionSession.getDatabaseName()).thenReturn("logic_db");
+        when(connectionSession.getDefaultDatabaseName()).thenReturn("logic_db");
+        MySQLComStmtExecutePacket packet = mock(MySQLComStmtExecutePacket.class);
+        when(packet.getSql()).thenReturn("SELECT ?");
+        when(packet.getParameters()).thenReturn(Collections.singletonList(1));
+        when(packet.getPreparedStatement()).thenReturn(new MySQLPreparedStatement("SELECT ?", 1));
+        when(databaseCommunicationEngine.execute()).thenReturn(new QueryResponseHeader(Collections.singletonList(createQueryHeader(Types.INTEGER))),
+                new QueryResponseHeader(Collections.singletonList(createQueryHeader(Types.VARCHAR))));
+        List<DatabasePacket<?>> actualFirstPackets = new ArrayList<>(createExecutor(packet).execute());
+        assertThat(getColumnType(actualFirstPackets.get(1)), is(MySQLBinaryColumnType.MYSQL_TYPE_LONG));
+        List<DatabasePacket<?>> actualSecondPackets = new ArrayList<>(createExecutor(packet).execute());
+        assertThat(actualSecondPackets.size(), is(3));
+        assertThat(getColumnType(actualSecondPackets.get(1)), is(MySQLBinaryColumnType.MYSQL_TYPE_VAR_STRING));
+    }
+    
+    private QueryHeader createQueryHeader(final int columnType) {
+        return new QueryHeader("logic_db", "", "c", "c", columnType, "", 11, 0, true, false, false, false);
+    }
+    
+    private Object getColumnType(final DatabasePacket<?> columnDefinition) throws NoSuchFieldException, IllegalAccessException {
+        return Plugins.getMemberAccessor().get(MySQLColumnDefinition41Packet.class.getDeclaredField("columnType"), columnDefinition);
+    }
+    
+    private MySQLComStmtExecuteExecutor createExecutor(final MySQLComStmtExecutePacket packet) throws NoSuchFieldException, SQLException, IllegalAccessException {
+        MySQLComStmtExecuteExecutor result = new MySQLComStmtExecuteExecutor(packet, connectionSession);
+        Plugins.getMemberAccessor().set(MySQLComStmtExecuteExecutor.class.getDeclaredField("databaseCommunicationEngine"), result, databaseCommunicationEngine);
+        return result;
+    }
+    
     @Test
     public void assertIsUpdateResponse() throws NoSuchFieldException, SQLException, IllegalAccessException {
         when(connectionSession.getDatabaseName()).thenReturn("logic_db");
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder;
 
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
@@ -27,8 +28,10 @@ import org.apache.shardingsphere.proxy.backend.response.header.query.QueryRespon
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.anyOf;
@@ -47,11 +50,32 @@ public final class ResponsePacketBuilderTest {
         QueryHeader queryHeader2 = new QueryHeader("schema2", "table2", "columnLabel2", "columnName2", 8, "VARCHAR", 7, 9, false, true, true, true);
         List<QueryHeader> queryHeaders = Arrays.asList(queryHeader1, queryHeader2);
         QueryResponseHeader queryResponseHeader = new QueryResponseHeader(queryHeaders);
-        Collection<DatabasePacket<?>> actual = ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, 255);
+        Collection<DatabasePacket<?>> actual = ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, 255, false);
         assertTrue(actual.stream().findAny().isPresent());
         assertThat(actual.stream().findAny().get(), anyOf(instanceOf(MySQLFieldCountPacket.class), instanceOf(MySQLColumnDefinition41Packet.class), instanceOf(MySQLEofPacket.class)));
     }
     
+    @Test
+    public void assertBuildQueryResponsePacketsWithFullResultSetMetadata() {
+        QueryHeader queryHeader = new QueryHeader("schema1", "table1", "columnLabel1", "columnName1", 5, "VARCHAR", 4, 6, false, true, false, true);
+        List<DatabasePacket<?>> actual = new ArrayList<>(ResponsePacketBuilder.buildQueryResponsePackets(new QueryResponseHeader(Collections.singletonList(queryHeader)), 255, true));
+        assertThat(actual.size(), is(3));
+        assertThat(((MySQLFieldCountPacket) actual.get(0)).getResultSetMetadata(), is(MySQLResultSetMetadata.RESULTSET_METADATA_FULL));
+        assertThat(((MySQLColumnDefinition41Packet) actual.get(1)).getSequenceId(), is(2));
+        assertThat(((MySQLEofPacket) actual.get(2)).getSequenceId(), is(3));
+    }
+    
+    @Test
+    public void assertBuildQueryResponsePacketsWithoutResultSetMetadata() {
+        QueryHeader queryHeader = new QueryHeader("schema1", "table1", "columnLabel1", "columnName1", 5, "VARCHAR", 4, 6, false, true, false, true);
+        List<MySQLColumnDefinition41Packet> columnDefinitions = ResponsePacketBuilder.buildColumnDefinitionPackets(Collections.singletonList(queryHeader), 255);
+        Collection<DatabasePacket<?>> actual = ResponsePacketBuilder.buildQueryResponsePackets(columnDefinitions, MySQLResultSetMetadata.RESULTSET_METADATA_NONE);
+        assertThat(actual.size(), is(1));
+        MySQLFieldCountPacket fieldCountPacket = (MySQLFieldCountPacket) actual.iterator().next();
+        assertThat(fieldCountPacket.getColumnCount(), is(1));
+        assertThat(fieldCountPacket.getResultSetMetadata(), is(MySQLResultSetMetadata.RESULTSET_METADATA_NONE));
+    }
+    
     @Test
     public void assertBuildUpdateResponsePackets() {
         UpdateResponseHeader updateResponseHeader = mock(UpdateResponseHeader.class);
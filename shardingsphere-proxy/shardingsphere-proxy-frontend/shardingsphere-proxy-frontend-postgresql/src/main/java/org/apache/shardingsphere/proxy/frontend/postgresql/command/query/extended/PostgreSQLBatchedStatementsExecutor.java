@@ -120,11 +120,11 @@ public final class PostgreSQLBatchedStatementsExecutor {
     }
     
     private LogicSQL createLogicSQL(final SQLStatementContext<?> sqlStatementContext, final List<Object> parameters) {
-        return new LogicSQL(sqlStatementContext, preparedStatement.getSql(), parameters);
+        return new LogicSQL(sqlStatementContext, preparedStatement.getSql(), parameters, connectionSession.getConnectionContext());
     }
     
     private ExecutionContext createExecutionContext(final LogicSQL logicSQL) {
-        SQLCheckEngine.check(logicSQL.getSqlStatementContext().getSqlStatement(), logicSQL.getParameters(),
+        SQLCheckEngine.check(logicSQL.getSqlStatementContext(), logicSQL.getParameters(),
                 metaDataContexts.getDatabaseMetaData(connectionSession.getDatabaseName()).getRuleMetaData().getRules(),
                 connectionSession.getDatabaseName(), metaDataContexts.getDatabaseMap(), null);
         return kernelProcessor.generateExecutionContext(logicSQL, metaDataContexts.getDatabaseMetaData(connectionSession.getDatabaseName()), metaDataContexts.getProps());
@@ -76,6 +76,8 @@ public final class ReactiveMySQLComStmtExecuteExecutor implements ReactiveComman
     
     private final int characterSet;
     
+    private final boolean optionalResultSetMetadata;
+    
     @Getter
     private volatile ResponseType responseType;
     
@@ -95,8 +97,10 @@ public final class ReactiveMySQLComStmtExecuteExecutor implements ReactiveComman
         if (sqlStatementContext instanceof TableAvailable) {
             ((TableAvailable) sqlStatementContext).getTablesContext().getDatabaseName().ifPresent(SQLStatementDatabaseHolder::set);
         }
-        SQLCheckEngine.check(sqlStatement, Collections.emptyList(), getRules(databaseName), databaseName, metaDataContexts.getDatabaseMap(), connectionSession.getGrantee());
+        SQLCheckEngine.check(sqlStatementContext, Collections.emptyList(), getRules(databaseName), databaseName, metaDataContexts.getDatabaseMap(), connectionSession.getGrantee());
         characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
+        optionalResultSetMetadata = connectionSession.getAttributeMap().hasAttr(MySQLConstants.MYSQL_OPTIONAL_RESULTSET_METADATA)
+                && connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_OPTIONAL_RESULTSET_METADATA).get();
         // TODO Refactor the following branch
         if (sqlStatement instanceof TCLStatement) {
             databaseCommunicationEngine = null;
@@ -139,7 +143,7 @@ public final class ReactiveMySQLComStmtExecuteExecutor implements ReactiveComman
     
     private Collection<DatabasePacket<?>> processQuery(final QueryResponseHeader queryResponseHeader) {
         responseType = ResponseType.QUERY;
-        Collection<DatabasePacket<?>> result = ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet);
+        Collection<DatabasePacket<?>> result = ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet, optionalResultSetMetadata);
         currentSequenceId = result.size();
         return result;
     }
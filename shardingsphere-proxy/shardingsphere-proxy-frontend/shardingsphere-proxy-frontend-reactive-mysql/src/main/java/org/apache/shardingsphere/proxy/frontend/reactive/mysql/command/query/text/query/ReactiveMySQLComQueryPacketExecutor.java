@@ -48,6 +48,8 @@ public final class ReactiveMySQLComQueryPacketExecutor implements ReactiveComman
     
     private final int characterSet;
     
+    private final boolean optionalResultSetMetadata;
+    
     private ResponseType responseType;
     
     private int currentSequenceId;
@@ -55,6 +57,8 @@ public final class ReactiveMySQLComQueryPacketExecutor implements ReactiveComman
     public ReactiveMySQLComQueryPacketExecutor(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
         textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(DatabaseTypeFactory.getInstance("MySQL"), packet.getSql(), Optional::empty, connectionSession);
         characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
+        optionalResultSetMetadata = connectionSession.getAttributeMap().hasAttr(MySQLConstants.MYSQL_OPTIONAL_RESULTSET_METADATA)
+                && connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_OPTIONAL_RESULTSET_METADATA).get();
     }
     
     @Override
@@ -78,7 +82,7 @@ public final class ReactiveMySQLComQueryPacketExecutor implements ReactiveComman
     
     private Collection<DatabasePacket<?>> processQuery(final QueryResponseHeader queryResponseHeader) {
         responseType = ResponseType.QUERY;
-        Collection<DatabasePacket<?>> result = ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet);
+        Collection<DatabasePacket<?>> result = ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet, optionalResultSetMetadata);
         currentSequenceId = result.size();
         return result;
     }
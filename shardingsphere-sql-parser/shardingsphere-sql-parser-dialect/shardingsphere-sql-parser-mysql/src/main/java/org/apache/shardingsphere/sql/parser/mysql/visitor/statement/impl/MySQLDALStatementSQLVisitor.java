@@ -487,7 +487,12 @@ public final class MySQLDALStatementSQLVisitor extends MySQLStatementSQLVisitor
     @Override
     public ASTNode visitKill(final KillContext ctx) {
         MySQLKillStatement result = new MySQLKillStatement();
-        result.setProcesslistId(ctx.NUMBER_().getText());
+        result.setProcesslistId(null != ctx.NUMBER_() ? ctx.NUMBER_().getText() : ((StringLiteralValue) visit(ctx.string_())).getValue());
+        if (null != ctx.QUERY()) {
+            result.setScope(ctx.QUERY().getText());
+        } else if (null != ctx.CONNECTION()) {
+            result.setScope(ctx.CONNECTION().getText());
+        }
         return result;
     }
     
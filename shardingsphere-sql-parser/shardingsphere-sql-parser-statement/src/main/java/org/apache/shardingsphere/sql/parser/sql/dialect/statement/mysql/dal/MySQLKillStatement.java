@@ -33,4 +33,6 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.MySQLSta
 public final class MySQLKillStatement extends AbstractSQLStatement implements DALStatement, MySQLStatement {
     
     private String processlistId;
+    
+    private String scope;
 }
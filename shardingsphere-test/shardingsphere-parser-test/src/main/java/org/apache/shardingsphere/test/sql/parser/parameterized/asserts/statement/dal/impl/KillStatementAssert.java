@@ -41,5 +41,6 @@ public final class KillStatementAssert {
      */
     public static void assertIs(final SQLCaseAssertContext assertContext, final MySQLKillStatement actual, final KillStatementTestCase expected) {
         assertThat(assertContext.getText("Kill statement context does not match: "), actual.getProcesslistId(), is(expected.getProcesslistId()));
+        assertThat(assertContext.getText("Kill statement scope does not match: "), actual.getScope(), is(expected.getScope()));
     }
 }
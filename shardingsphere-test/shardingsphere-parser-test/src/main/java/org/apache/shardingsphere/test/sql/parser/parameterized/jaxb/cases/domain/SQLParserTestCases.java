@@ -229,6 +229,7 @@ import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.PrepareDistSQLStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.PreviewStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.RefreshTableMetadataStatementTestCase;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.RefreshTableStatisticsStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.SetReadwriteSplittingHintStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.SetShardingHintDatabaseValueStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.SetVariableStatementTestCase;
@@ -240,6 +241,7 @@ import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowScalingListStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowShardingHintStatusStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowTableMetadataStatementTestCase;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowTableStatisticsStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowTrafficRulesStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowTransactionRuleStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowVariableStatementTestCase;
@@ -1129,6 +1131,9 @@ public final class SQLParserTestCases {
     @XmlElement(name = "refresh-table-metadata")
     private final List<RefreshTableMetadataStatementTestCase> refreshTableMetadataTestCases = new LinkedList<>();
     
+    @XmlElement(name = "refresh-table-statistics")
+    private final List<RefreshTableStatisticsStatementTestCase> refreshTableStatisticsTestCases = new LinkedList<>();
+    
     @XmlElement(name = "show-events")
     private final List<ShowEventsStatementTestCase> showEventsTestCases = new LinkedList<>();
     
@@ -1195,6 +1200,9 @@ public final class SQLParserTestCases {
     @XmlElement(name = "show-table-metadata")
     private final List<ShowTableMetadataStatementTestCase> showTableMetadataTestCases = new LinkedList<>();
     
+    @XmlElement(name = "show-table-statistics")
+    private final List<ShowTableStatisticsStatementTestCase> showTableStatisticsTestCases = new LinkedList<>();
+    
     @XmlElement(name = "create-conversion")
     private final List<CreateConversionStatementTestCase> createConversionTestCases = new LinkedList<>();
     
@@ -1599,6 +1607,7 @@ public final class SQLParserTestCases {
         putAll(checkTableTestCases, result);
         putAll(checksumTableTestCases, result);
         putAll(refreshTableMetadataTestCases, result);
+        putAll(refreshTableStatisticsTestCases, result);
         putAll(showEventsTestCases, result);
         putAll(showCharacterSetTestCases, result);
         putAll(showCollationTestCases, result);
@@ -1637,6 +1646,7 @@ public final class SQLParserTestCases {
         putAll(alterLanguageTestCases, result);
         putAll(dropLanguageTestCases, result);
         putAll(showTableMetadataTestCases, result);
+        putAll(showTableStatisticsTestCases, result);
         putAll(dropTrafficRuleTestCases, result);
         putAll(labelTestCases, result);
         putAll(unlabelTestCases, result);
@@ -32,4 +32,7 @@ public final class KillStatementTestCase extends SQLParserTestCase {
     
     @XmlAttribute(name = "processlist-id")
     private String processlistId;
+    
+    @XmlAttribute
+    private String scope;
 }
@@ -82,6 +82,23 @@ public final class DataRecordMergerTest {
         assertThat(dataRecord.getColumn(2).getValue(), is(2));
     }
     
+    @Test
+    public void assertInsertBeforeUpdateWithUnchangedColumn() {
+        beforeDataRecord = mockInsertDataRecord(1, 1, 1);
+        afterDataRecord = new DataRecord(new PlaceholderPosition(), 3);
+        afterDataRecord.setType(IngestDataChangeType.UPDATE);
+        afterDataRecord.setTableName("order");
+        afterDataRecord.addColumn(new Column("id", 1, false, true));
+        afterDataRecord.addColumn(new Column("user_id", 2, true, false));
+        afterDataRecord.addColumn(new Column("total_price", null, false, false));
+        actual = dataRecordMerger.merge(Arrays.asList(beforeDataRecord, afterDataRecord));
+        assertThat(actual.size(), is(1));
+        DataRecord dataRecord = actual.iterator().next();
+        assertThat(dataRecord.getType(), is(IngestDataChangeType.INSERT));
+        assertThat(dataRecord.getColumn(1).getValue(), is(2));
+        assertThat(dataRecord.getColumn(2).getValue(), is(1));
+    }
+    
     @Test
     public void assertInsertBeforeUpdatePrimaryKey() {
         beforeDataRecord = mockInsertDataRecord(1, 1, 1);
@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
@@ -32,7 +33,11 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -62,6 +67,43 @@ public final class MultiplexMemoryPipelineChannelTest {
         execute(records -> assertThat(records.size(), is(1)), 2, new FinishedRecord(new PlaceholderPosition()));
     }
     
+    @Test
+    public void assertAckCallbackAfterAllPreviousRecordsAcknowledged() throws InterruptedException, ExecutionException {
+        List<Record> acknowledgedRecords = new CopyOnWriteArrayList<>();
+        MultiplexMemoryPipelineChannel memoryChannel = new MultiplexMemoryPipelineChannel(CHANNEL_NUMBER, 10000, acknowledgedRecords::addAll);
+        DataRecord firstRecord = createDataRecord(1);
+        int firstChannelIndex = Math.abs(firstRecord.hashCode() % CHANNEL_NUMBER);
+        DataRecord secondRecord = createDataRecord(2);
+        for (int i = 3; firstChannelIndex == Math.abs(secondRecord.hashCode() % CHANNEL_NUMBER); i++) {
+            secondRecord = createDataRecord(i);
+        }
+        memoryChannel.pushRecord(firstRecord);
+        memoryChannel.pushRecord(secondRecord);
+        ExecutorService[] importerExecutors = {Executors.newSingleThreadExecutor(), Executors.newSingleThreadExecutor()};
+        try {
+            List<Record> channel0Records = importerExecutors[0].submit(() -> memoryChannel.fetchRecords(100, 0)).get();
+            List<Record> channel1Records = importerExecutors[1].submit(() -> memoryChannel.fetchRecords(100, 0)).get();
+            List<List<Record>> fetchedRecords = Arrays.asList(channel0Records, channel1Records);
+            int secondChannelIndex = 1 - firstChannelIndex;
+            importerExecutors[secondChannelIndex].submit(() -> memoryChannel.ack(fetchedRecords.get(secondChannelIndex))).get();
+            assertTrue(acknowledgedRecords.isEmpty());
+            importerExecutors[firstChannelIndex].submit(() -> memoryChannel.ack(fetchedRecords.get(firstChannelIndex))).get();
+            assertThat(acknowledgedRecords, is(Arrays.<Record>asList(firstRecord, secondRecord)));
+        } finally {
+            for (ExecutorService each : importerExecutors) {
+                each.shutdown();
+            }
+            memoryChannel.close();
+        }
+    }
+    
+    private DataRecord createDataRecord(final int id) {
+        DataRecord result = new DataRecord(new IntPosition(id), 1);
+        result.setTableName("t_order");
+        result.addColumn(new Column("order_id", id, true, true));
+        return result;
+    }
+    
     @SneakyThrows(InterruptedException.class)
     private void execute(final AckCallback ackCallback, final int recordCount, final Record... records) {
         CountDownLatch countDownLatch = new CountDownLatch(recordCount);